@@ -1,84 +1,28 @@
 package com.softserve.academy;
 
-import com.softserve.academy.model.Course;
-import com.softserve.academy.model.Student;
-import com.softserve.academy.model.Teacher;
-import com.softserve.academy.service.CourseService;
-import com.softserve.academy.service.StudentService;
-import com.softserve.academy.service.TeacherService;
-import jakarta.annotation.PostConstruct;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.softserve.academy.config.TrainingRunExit;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 /**
  * Main application class for the Student-Course-Teacher Management System.
  * This class serves as the entry point for the Spring Boot application.
+ * Startup steps are buffered and published through the actuator {@code startup} endpoint,
+ * which lists the time spent on every bean, configuration class and startup phase.
  */
 @SpringBootApplication
 public class Application {
 
-
-    private final StudentService studentService;
-    private final TeacherService teacherService;
-    private final CourseService courseService;
-
-    public Application(StudentService studentService,
-                       TeacherService teacherService,
-                       CourseService courseService) {
-        this.studentService = studentService;
-        this.teacherService = teacherService;
-        this.courseService = courseService;
-    }
-
-
-    public static void main(String[] args) {
-        SpringApplication.run(Application.class, args);
-    }
-
     /**
-     * Initialize test data for the application.
-     * Creates a test teacher, course, and student, and establishes relationships between them.
+     * Number of startup steps kept for the actuator {@code startup} endpoint.
      */
-    @PostConstruct
-    public void initTestData() {
-        // Create a test teacher
-        Teacher teacher = Teacher.builder()
-                .firstName("John")
-                .lastName("Smith")
-                .email("john.smith@example.com")
-                .build();
+    private static final int STARTUP_STEP_CAPACITY = 4096;
 
-        teacher = teacherService.saveTeacher(teacher);
-
-        // Create a test course
-        Course course = Course.builder()
-                .name("Java Programming")
-                .description("Introduction to Java programming language")
-                .teacher(teacher)
-                .build();
-
-        course = courseService.saveCourse(course);
-
-        // Assign teacher to course
-        courseService.assignTeacherToCourse(course.getId(), teacher.getId());
-
-        // Create a test student
-        Student student =
-                Student.builder()
-                        .firstName("Jane")
-                        .lastName("Doe")
-                        .email("jane.doe@example.com")
-                        .build();
-
-        student = studentService.saveStudent(student);
-
-        // Enroll student in course
-        studentService.enrollStudentInCourse(student.getId(), course.getId());
-
-        System.out.println("Test data initialized successfully!");
-        System.out.println("Teacher: " + teacher.getName() + " (ID: " + teacher.getId() + ")");
-        System.out.println("Course: " + course.getName() + " (ID: " + course.getId() + ")");
-        System.out.println("Student: " + student.getFirstName() + " " + student.getLastName() + " (ID: " + student.getId() + ")");
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(Application.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.addListeners(new TrainingRunExit());
+        application.run(args);
     }
 }
@@ -0,0 +1,31 @@
+package com.softserve.academy.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.academy.security.AuthenticationFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Servlet filter registrations.
+ */
+@Configuration
+public class FilterConfig {
+
+    /**
+     * Register the authentication filter for the protected paths.
+     * It runs right after the character encoding filter, ahead of every other filter.
+     *
+     * @param objectMapper the mapper for the 401 problem details
+     * @return the filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<AuthenticationFilter> authenticationFilter(ObjectMapper objectMapper) {
+        FilterRegistrationBean<AuthenticationFilter> registration =
+                new FilterRegistrationBean<>(new AuthenticationFilter(objectMapper));
+        registration.addUrlPatterns(AuthenticationFilter.URL_PATTERNS);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
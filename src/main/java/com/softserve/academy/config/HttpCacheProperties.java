@@ -0,0 +1,54 @@
+package com.softserve.academy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the conditional GETs of the list and details pages.
+ * Bound from the {@code app.http-cache.*} keys in application.properties.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.http-cache")
+public class HttpCacheProperties {
+
+    /**
+     * Whether the list and details pages send ETags and answer matching requests with 304 Not Modified.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Prefix of every page ETag. Set to the application version, so pages rendered by the
+     * views of an earlier release are not reused after a deploy.
+     */
+    private String revision = "1";
+
+    /**
+     * Number of rows each table's change counter is spread over. Every writing transaction
+     * increments one of them at random, so writers of a table rarely wait on the same row.
+     */
+    private int changeCounterShards = 64;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getRevision() {
+        return revision;
+    }
+
+    public void setRevision(String revision) {
+        this.revision = revision;
+    }
+
+    public int getChangeCounterShards() {
+        return changeCounterShards;
+    }
+
+    public void setChangeCounterShards(int changeCounterShards) {
+        this.changeCounterShards = changeCounterShards;
+    }
+}
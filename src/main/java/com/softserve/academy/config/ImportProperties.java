@@ -0,0 +1,39 @@
+package com.softserve.academy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the bulk roster import.
+ * Bound from the {@code app.import.*} keys in application.properties.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.import")
+public class ImportProperties {
+
+    /**
+     * Number of rows written per transaction.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Maximum number of row errors kept for the import report; further errors are only counted.
+     */
+    private int maxErrors = 1000;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    public void setMaxErrors(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+}
@@ -0,0 +1,95 @@
+package com.softserve.academy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the paginated list views.
+ * Bound from the {@code app.pagination.*} keys in application.properties.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.pagination")
+public class PaginationProperties {
+
+    /**
+     * Page size used when the request does not specify one.
+     */
+    private int defaultSize = 20;
+
+    /**
+     * Upper bound for the page size a request may ask for.
+     */
+    private int maxSize = 100;
+
+    /**
+     * Maximum number of rows offered in the "available" selections of the details pages.
+     */
+    private int availableLimit = 50;
+
+    /**
+     * Maximum number of entries held in a cached dropdown option list.
+     */
+    private int optionLimit = 1000;
+
+    /**
+     * How long a cached dropdown option list is served before it is reloaded. Invalidation
+     * only reaches the instance that made the change; the others see it after this delay.
+     */
+    private Duration optionTtl = Duration.ofSeconds(30);
+
+    /**
+     * Resolve the page size for a request, falling back to the default
+     * and clamping to the configured maximum.
+     *
+     * @param requested the page size requested by the client, may be null
+     * @return the page size to use
+     */
+    public int resolveSize(Integer requested) {
+        if (requested == null || requested < 1) {
+            return defaultSize;
+        }
+        return Math.min(requested, maxSize);
+    }
+
+    public int getDefaultSize() {
+        return defaultSize;
+    }
+
+    public void setDefaultSize(int defaultSize) {
+        this.defaultSize = defaultSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public int getAvailableLimit() {
+        return availableLimit;
+    }
+
+    public void setAvailableLimit(int availableLimit) {
+        this.availableLimit = availableLimit;
+    }
+
+    public int getOptionLimit() {
+        return optionLimit;
+    }
+
+    public void setOptionLimit(int optionLimit) {
+        this.optionLimit = optionLimit;
+    }
+
+    public Duration getOptionTtl() {
+        return optionTtl;
+    }
+
+    public void setOptionTtl(Duration optionTtl) {
+        this.optionTtl = optionTtl;
+    }
+}
@@ -0,0 +1,81 @@
+package com.softserve.academy.config;
+
+import jakarta.servlet.ServletRegistration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.servlet.ServletContextInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registration of the JSP views precompiled at build time.
+ * The build compiles every view into a servlet class and lists them, with the view path each
+ * one serves, in {@value #MAPPINGS}. Registering each servlet under its exact view path gives it
+ * precedence over the {@code *.jsp} mapping of Jasper's JSP servlet, so a forward to a view runs
+ * the compiled class directly and nothing is compiled or checked for changes at runtime.
+ * When the mappings are missing, as in a build that skipped the precompile step, the views are
+ * compiled on demand as before.
+ */
+@Configuration
+public class PrecompiledJspConfig {
+
+    static final String MAPPINGS = "META-INF/precompiled-jsp/web-fragment.xml";
+
+    private static final Logger logger = LoggerFactory.getLogger(PrecompiledJspConfig.class);
+
+    /**
+     * Register the precompiled view servlets with the servlet context.
+     *
+     * @return the servlet context initializer
+     */
+    @Bean
+    public ServletContextInitializer precompiledJspInitializer() {
+        return servletContext -> {
+            ClassPathResource resource = new ClassPathResource(MAPPINGS);
+            if (!resource.exists()) {
+                logger.info("No precompiled JSP views found, views are compiled on first use");
+                return;
+            }
+
+            Document fragment;
+            try (InputStream in = resource.getInputStream()) {
+                DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+                factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+                fragment = factory.newDocumentBuilder().parse(in);
+            } catch (Exception e) {
+                throw new IllegalStateException("Cannot read " + MAPPINGS, e);
+            }
+
+            Map<String, String> servletClasses = new HashMap<>();
+            NodeList servlets = fragment.getElementsByTagName("servlet");
+            for (int i = 0; i < servlets.getLength(); i++) {
+                Element servlet = (Element) servlets.item(i);
+                servletClasses.put(text(servlet, "servlet-name"), text(servlet, "servlet-class"));
+            }
+
+            NodeList mappings = fragment.getElementsByTagName("servlet-mapping");
+            for (int i = 0; i < mappings.getLength(); i++) {
+                Element mapping = (Element) mappings.item(i);
+                String servletName = text(mapping, "servlet-name");
+                ServletRegistration.Dynamic registration =
+                        servletContext.addServlet(servletName, servletClasses.get(servletName));
+                registration.addMapping(text(mapping, "url-pattern"));
+            }
+            logger.info("Registered {} precompiled JSP views", mappings.getLength());
+        };
+    }
+
+    private static String text(Element parent, String tagName) {
+        return parent.getElementsByTagName(tagName).item(0).getTextContent().trim();
+    }
+}
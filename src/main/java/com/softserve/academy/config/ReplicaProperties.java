@@ -0,0 +1,125 @@
+package com.softserve.academy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the read replica.
+ * Bound from the {@code app.datasource.replica.*} keys in application.properties; the pool
+ * itself is tuned with the {@code app.datasource.replica.hikari.*} keys.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaProperties {
+
+    /**
+     * Whether read-only transactions are sent to the replica. When off, the replica
+     * settings are ignored and every transaction uses the primary.
+     */
+    private boolean enabled = false;
+
+    /**
+     * JDBC URL of the replica.
+     */
+    private String url;
+
+    /**
+     * Login username of the replica.
+     */
+    private String username;
+
+    /**
+     * Login password of the replica.
+     */
+    private String password;
+
+    /**
+     * JDBC driver class name of the replica, derived from the URL when not set.
+     */
+    private String driverClassName;
+
+    /**
+     * Replication lag beyond which reads go to the primary until the replica catches up.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * Delay between two replication lag checks.
+     */
+    private Duration checkInterval = Duration.ofSeconds(1);
+
+    /**
+     * Query run on the replica that returns its replication lag in seconds, or NULL when the
+     * lag is unknown. The default reports a PostgreSQL standby as caught up while it has
+     * replayed everything it received, so an idle primary does not look like growing lag.
+     */
+    private String lagQuery = "SELECT CASE WHEN NOT pg_is_in_recovery() "
+            + "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public String getDriverClassName() {
+        return driverClassName;
+    }
+
+    public void setDriverClassName(String driverClassName) {
+        this.driverClassName = driverClassName;
+    }
+
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    public void setMaxLag(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    public Duration getCheckInterval() {
+        return checkInterval;
+    }
+
+    public void setCheckInterval(Duration checkInterval) {
+        this.checkInterval = checkInterval;
+    }
+
+    public String getLagQuery() {
+        return lagQuery;
+    }
+
+    public void setLagQuery(String lagQuery) {
+        this.lagQuery = lagQuery;
+    }
+}
@@ -0,0 +1,159 @@
+package com.softserve.academy.config;
+
+import com.softserve.academy.datasource.ReadOnlyCacheModeJpaDialect;
+import com.softserve.academy.datasource.ReplicaLagMonitor;
+import com.softserve.academy.datasource.ReplicaRoutingDataSource;
+import com.softserve.academy.datasource.ReplicaRoutingMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+
+/**
+ * Read replica routing, enabled with {@code app.datasource.replica.enabled=true}.
+ * The primary pool is configured from {@code spring.datasource.*} and the replica pool from
+ * {@code app.datasource.replica.*}. Transactions marked {@code @Transactional(readOnly = true)}
+ * take their connection from the replica while it is within the maximum replication lag;
+ * everything else, including the Flyway migrations, uses the primary. Reads may therefore
+ * trail writes by up to {@code app.datasource.replica.max-lag}. Read-only transactions reading from
+ * the replica do not add to the second-level or query cache, so a stale replica row is never cached
+ * beyond that; those falling back to the primary use the caches as usual.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    /**
+     * Create the connection pool of the primary database.
+     *
+     * @param properties the {@code spring.datasource.*} settings
+     * @return the primary pool
+     */
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Create the connection pool of the read replica.
+     *
+     * @param properties the replica settings
+     * @return the replica pool
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(ReplicaProperties properties) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .driverClassName(properties.getDriverClassName())
+                .build();
+    }
+
+    /**
+     * Create the monitor that takes the replica out of rotation while it lags behind.
+     *
+     * @param replicaDataSource the replica pool
+     * @param properties the replica settings
+     * @return the lag monitor, checking in the background while the context runs
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               ReplicaProperties properties) {
+        return new ReplicaLagMonitor(replicaDataSource, properties);
+    }
+
+    /**
+     * Create the data source choosing between the two pools.
+     *
+     * @param primaryDataSource the primary pool
+     * @param replicaDataSource the replica pool
+     * @param replicaLagMonitor the lag monitor
+     * @return the routing data source
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                             @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                             ReplicaLagMonitor replicaLagMonitor) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor);
+    }
+
+    /**
+     * The data source used by JPA. The proxy defers taking a connection until the first
+     * statement, by which time the transaction has been marked read-only or not.
+     *
+     * @param replicaRoutingDataSource the routing data source
+     * @return the application data source
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * Release the connection of a Hibernate session at the end of every transaction instead of
+     * holding it until the session closes. With open-in-view the session lives for the whole
+     * request, and each transaction in it must be able to go to a different pool.
+     *
+     * @return the Hibernate properties customizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer replicaConnectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    /**
+     * Install the dialect that stops replica reads from filling the second-level cache.
+     * Set on the entity manager factory, which hands its dialect to the transaction manager.
+     *
+     * @param routingDataSource the routing data source, looked up when the first transaction begins
+     * @return the bean post processor
+     */
+    @Bean
+    public static BeanPostProcessor readOnlyCacheModeJpaDialectPostProcessor(
+            ObjectProvider<ReplicaRoutingDataSource> routingDataSource) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean entityManagerFactory) {
+                    entityManagerFactory.setJpaDialect(new ReadOnlyCacheModeJpaDialect(routingDataSource::getObject));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Publish the routing counters and the replication lag as actuator metrics.
+     *
+     * @param replicaRoutingDataSource the routing data source
+     * @param replicaLagMonitor the lag monitor
+     * @return the meter binder
+     */
+    @Bean
+    public ReplicaRoutingMetrics replicaRoutingMetrics(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                                       ReplicaLagMonitor replicaLagMonitor) {
+        return new ReplicaRoutingMetrics(replicaRoutingDataSource, replicaLagMonitor);
+    }
+}
@@ -0,0 +1,53 @@
+package com.softserve.academy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the course search.
+ * Bound from the {@code app.search.*} keys in application.properties.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.search")
+public class SearchProperties {
+
+    /**
+     * Whether to use the PostgreSQL pg_trgm query, which is served by the trigram GIN
+     * indexes and ranks by similarity. When off, a portable LIKE query is used instead.
+     */
+    private boolean trigram = false;
+
+    /**
+     * Maximum number of search results returned.
+     */
+    private int limit = 50;
+
+    /**
+     * Maximum number of typeahead suggestions returned by /search/suggest.
+     */
+    private int suggestLimit = 10;
+
+    public boolean isTrigram() {
+        return trigram;
+    }
+
+    public void setTrigram(boolean trigram) {
+        this.trigram = trigram;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    public int getSuggestLimit() {
+        return suggestLimit;
+    }
+
+    public void setSuggestLimit(int suggestLimit) {
+        this.suggestLimit = suggestLimit;
+    }
+}
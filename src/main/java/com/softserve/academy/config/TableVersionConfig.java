@@ -0,0 +1,54 @@
+package com.softserve.academy.config;
+
+import com.softserve.academy.repository.TableVersionTracker;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Change counters for the list page versions, see {@link TableVersionTracker}.
+ */
+@Configuration
+public class TableVersionConfig {
+
+    /**
+     * Create the tracker counting the changes of the versioned tables.
+     *
+     * @param entityManagerFactory the entity manager factory whose events are tracked
+     * @param entityManager the shared entity manager
+     * @param httpCacheProperties the properties holding the number of counter shards
+     * @return the tracker
+     */
+    @Bean
+    public TableVersionTracker tableVersionTracker(EntityManagerFactory entityManagerFactory, EntityManager entityManager,
+                                                   HttpCacheProperties httpCacheProperties) {
+        return new TableVersionTracker(entityManagerFactory, entityManager, httpCacheProperties.getChangeCounterShards());
+    }
+
+    /**
+     * Add the tracker to every repository, so native updates count as changes to the tables
+     * they name. Set on the repository factory before it creates the repository.
+     *
+     * @param tableVersionTracker the tracker, looked up on first use
+     * @return the bean post processor
+     */
+    @Bean
+    public static BeanPostProcessor tableVersionRepositoryPostProcessor(ObjectProvider<TableVersionTracker> tableVersionTracker) {
+        MethodInterceptor interceptor = invocation -> tableVersionTracker.getObject().invoke(invocation);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactory) {
+                    repositoryFactory.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(interceptor)));
+                }
+                return bean;
+            }
+        };
+    }
+}
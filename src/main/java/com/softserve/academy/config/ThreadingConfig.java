@@ -0,0 +1,53 @@
+package com.softserve.academy.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Thread configuration for request handling and {@code @Async} work.
+ * With {@code app.threads.virtual=true} Tomcat runs every request, and Spring every
+ * {@code @Async} method, on a virtual thread of its own. Requests then no longer queue for one
+ * of Tomcat's platform threads while others are blocked on JDBC; the HikariCP pool size is the
+ * limit on concurrent database work instead, and requests that cannot get a connection within
+ * {@code spring.datasource.hikari.connection-timeout} are answered with 503 Service Unavailable.
+ * Without the property both keep Spring Boot's platform thread pools.
+ */
+@Configuration
+@EnableAsync
+public class ThreadingConfig {
+
+    /**
+     * Replace Tomcat's request thread pool with a virtual thread per request.
+     *
+     * @return the protocol handler customizer
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.threads", name = "virtual", havingValue = "true")
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-vt-", 0).factory()));
+    }
+
+    /**
+     * Run {@code @Async} methods on a virtual thread per task.
+     * Takes the place of the platform thread pool Spring Boot would otherwise configure.
+     *
+     * @return the task executor
+     */
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    @ConditionalOnProperty(prefix = "app.threads", name = "virtual", havingValue = "true")
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-vt-", 0).factory()));
+    }
+}
@@ -0,0 +1,26 @@
+package com.softserve.academy.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Ends a class data sharing training run.
+ * With {@code app.startup.training-run=true} the application shuts down as soon as the context
+ * is refreshed and the web server is started, before the application is ready and seeding
+ * begins, so the JVM can write the classes loaded so far to the archive given by
+ * {@code -XX:ArchiveClassesAtExit}. The optimized build profile in pom.xml uses it.
+ * Added to the application in {@code main} rather than as a bean, so it is also present in an
+ * ahead-of-time processed application, whose bean definitions are fixed at build time.
+ */
+public class TrainingRunExit implements ApplicationListener<ApplicationStartedEvent> {
+
+    @Override
+    public void onApplicationEvent(ApplicationStartedEvent event) {
+        ConfigurableApplicationContext context = event.getApplicationContext();
+        if (context.getEnvironment().getProperty("app.startup.training-run", Boolean.class, false)) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.softserve.academy.controller;
+
+import com.softserve.academy.config.HttpCacheProperties;
+import com.softserve.academy.dto.ContentVersion;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.ui.Model;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+/**
+ * Answers conditional GETs for the pages rendered from the database.
+ * A page's ETag is built from the versions of the data it shows, which the services read
+ * with cheap aggregate queries. When the browser already holds that version, the request
+ * is answered with 304 Not Modified before the page's own queries run or its view renders.
+ */
+@Component
+public class ConditionalRequests {
+
+    private final HttpCacheProperties httpCacheProperties;
+
+    @Autowired
+    public ConditionalRequests(HttpCacheProperties httpCacheProperties) {
+        this.httpCacheProperties = httpCacheProperties;
+    }
+
+    /**
+     * Set the page's ETag and check it against the request.
+     * Pages carrying a flash message are neither validated nor tagged, as the message must
+     * only be shown once.
+     *
+     * @param request the current request
+     * @param model the model for the view, holding any flash attributes
+     * @param versions the versions of the data shown on the page, empty if it does not exist
+     * @return true if the response was set to 304 Not Modified and the handler must return without a view
+     */
+    public boolean checkNotModified(ServletWebRequest request, Model model, List<ContentVersion> versions) {
+        if (!httpCacheProperties.isEnabled() || versions.isEmpty()
+                || model.containsAttribute("success") || model.containsAttribute("error")) {
+            return false;
+        }
+
+        StringBuilder etag = new StringBuilder("W/\"").append(httpCacheProperties.getRevision());
+        for (ContentVersion version : versions) {
+            etag.append('-').append(version);
+        }
+        etag.append('"');
+
+        // Pages are per user and must be revalidated on every visit
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        }
+        return request.checkNotModified(etag.toString());
+    }
+}
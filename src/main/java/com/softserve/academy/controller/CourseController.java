@@ -1,18 +1,22 @@
 package com.softserve.academy.controller;
 
+import com.softserve.academy.config.PaginationProperties;
+import com.softserve.academy.dto.CourseDTO;
+import com.softserve.academy.dto.EnrollmentChangeResult;
+import com.softserve.academy.dto.KeysetPage;
 import com.softserve.academy.model.Course;
 import com.softserve.academy.model.Student;
-import com.softserve.academy.model.Teacher;
 import com.softserve.academy.service.CourseService;
+import com.softserve.academy.service.OptionListService;
 import com.softserve.academy.service.StudentService;
-import com.softserve.academy.service.TeacherService;
-import jakarta.servlet.http.HttpSession;
+import com.softserve.academy.service.WaitlistService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.List;
@@ -26,33 +30,46 @@ import java.util.Set;
 public class CourseController {
 
     private final CourseService courseService;
-    private final TeacherService teacherService;
+    private final OptionListService optionListService;
     private final StudentService studentService;
+    private final WaitlistService waitlistService;
+    private final PaginationProperties paginationProperties;
+    private final ConditionalRequests conditionalRequests;
 
     @Autowired
-    public CourseController(CourseService courseService, TeacherService teacherService, StudentService studentService) {
+    public CourseController(CourseService courseService, OptionListService optionListService, StudentService studentService,
+                            WaitlistService waitlistService, PaginationProperties paginationProperties,
+                            ConditionalRequests conditionalRequests) {
         this.courseService = courseService;
-        this.teacherService = teacherService;
+        this.optionListService = optionListService;
         this.studentService = studentService;
+        this.waitlistService = waitlistService;
+        this.paginationProperties = paginationProperties;
+        this.conditionalRequests = conditionalRequests;
     }
 
     /**
-     * Display list of all courses.
+     * Display one page of courses.
      *
+     * @param after the course ID to start after, for the next page
+     * @param before the course ID to end before, for the previous page
+     * @param size the requested page size
      * @param model the model for the view
-     * @param session the HTTP session
-     * @return the courses list view or redirect to login if not authenticated
+     * @param webRequest the current request, for the conditional GET
+     * @return the courses list view or null if not modified
      */
     @GetMapping
-    public String listCourses(Model model, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
+    public String listCourses(@RequestParam(required = false) Long after,
+                              @RequestParam(required = false) Long before,
+                              @RequestParam(required = false) Integer size,
+                              Model model, ServletWebRequest webRequest) {
+        if (conditionalRequests.checkNotModified(webRequest, model, courseService.getCourseListVersions())) {
+            return null;
         }
 
-        List<Course> courses = courseService.getAllCourses();
-        model.addAttribute("courses", courses);
+        KeysetPage<CourseDTO> page = courseService.getCoursesPage(after, before, paginationProperties.resolveSize(size));
+        model.addAttribute("courses", page.getContent());
+        model.addAttribute("page", page);
         return "courses/list";
     }
 
@@ -60,19 +77,12 @@ public class CourseController {
      * Display form to add a new course.
      *
      * @param model the model for the view
-     * @param session the HTTP session
-     * @return the course form view or redirect to login if not authenticated
+     * @return the course form view
      */
     @GetMapping("/add")
-    public String showAddForm(Model model, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
-        }
-
+    public String showAddForm(Model model) {
         model.addAttribute("course", new Course());
-        model.addAttribute("teachers", teacherService.getAllTeachers());
+        model.addAttribute("teacherOptions", optionListService.getTeacherOptions());
         return "courses/form";
     }
 
@@ -81,21 +91,14 @@ public class CourseController {
      *
      * @param id the course ID
      * @param model the model for the view
-     * @param session the HTTP session
-     * @return the course form view or redirect to login if not authenticated
+     * @return the course form view
      */
     @GetMapping("/edit/{id}")
-    public String showEditForm(@PathVariable Long id, Model model, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
-        }
-
+    public String showEditForm(@PathVariable Long id, Model model) {
         Course course = courseService.getCourseById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid course ID: " + id));
         model.addAttribute("course", course);
-        model.addAttribute("teachers", teacherService.getAllTeachers());
+        model.addAttribute("teacherOptions", optionListService.getTeacherOptions());
         return "courses/form";
     }
 
@@ -106,20 +109,15 @@ public class CourseController {
      * @param result the binding result for validation
      * @param teacherId the selected teacher ID
      * @param redirectAttributes for flash attributes
-     * @param session the HTTP session
+     * @param model the model for the view
      * @return redirect to courses list if successful
      */
     @PostMapping("/save")
     public String saveCourse(@Valid Course course, BindingResult result, 
                             @RequestParam(required = false) Long teacherId,
-                            RedirectAttributes redirectAttributes, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
-        }
-
+                            RedirectAttributes redirectAttributes, Model model) {
         if (result.hasErrors()) {
+            model.addAttribute("teacherOptions", optionListService.getTeacherOptions());
             return "courses/form";
         }
 
@@ -139,18 +137,11 @@ public class CourseController {
      *
      * @param id the course ID to delete
      * @param redirectAttributes for flash attributes
-     * @param session the HTTP session
      * @return redirect to courses list
      */
     @GetMapping("/delete/{id}")
     public String deleteCourse(@PathVariable Long id, 
-                              RedirectAttributes redirectAttributes, HttpSession session) {
-        // Check if the user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
-        }
-
+                              RedirectAttributes redirectAttributes) {
         courseService.deleteCourse(id);
         redirectAttributes.addFlashAttribute("success", "Course deleted successfully!");
         return "redirect:/courses";
@@ -160,31 +151,33 @@ public class CourseController {
      * Display course details including enrolled students and assigned teacher.
      *
      * @param id the course ID
+     * @param q optional name or email prefix narrowing the available students
      * @param model the model for the view
-     * @param session the HTTP session
-     * @return the course details view
+     * @param webRequest the current request, for the conditional GET
+     * @return the course details view, or null if not modified
      */
     @GetMapping("/details/{id}")
-    public String showCourseDetails(@PathVariable Long id, Model model, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
+    public String showCourseDetails(@PathVariable Long id,
+                                    @RequestParam(required = false) String q,
+                                    Model model, ServletWebRequest webRequest) {
+        if (conditionalRequests.checkNotModified(webRequest, model, courseService.getCourseDetailsVersions(id))) {
+            return null;
         }
 
         Course course = courseService.getCourseById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid course ID: " + id));
         
         Set<Student> enrolledStudents = courseService.getEnrolledStudents(id);
-        List<Student> availableStudents = studentService.getAllStudents();
-        availableStudents.removeAll(enrolledStudents);
-        
-        List<Teacher> availableTeachers = teacherService.getAllTeachers();
+        List<Student> availableStudents = studentService.getStudentsNotEnrolledInCourse(
+                id, q, paginationProperties.getAvailableLimit());
         
         model.addAttribute("course", course);
         model.addAttribute("enrolledStudents", enrolledStudents);
         model.addAttribute("availableStudents", availableStudents);
-        model.addAttribute("availableTeachers", availableTeachers);
+        model.addAttribute("teacherOptions", optionListService.getTeacherOptions());
+        model.addAttribute("waitlist", waitlistService.getWaitlist(id));
+        model.addAttribute("availableLimit", paginationProperties.getAvailableLimit());
+        model.addAttribute("q", q);
         
         return "courses/details";
     }
@@ -195,19 +188,12 @@ public class CourseController {
      * @param courseId the course ID
      * @param teacherId the teacher ID
      * @param redirectAttributes for flash attributes
-     * @param session the HTTP session
      * @return redirect to course details
      */
     @PostMapping("/{courseId}/assign-teacher")
     public String assignTeacher(@PathVariable Long courseId, 
                                @RequestParam Long teacherId,
-                               RedirectAttributes redirectAttributes, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
-        }
-
+                               RedirectAttributes redirectAttributes) {
         courseService.assignTeacherToCourse(courseId, teacherId);
         redirectAttributes.addFlashAttribute("success", "Teacher assigned to course successfully!");
         return "redirect:/courses/details/" + courseId;
@@ -219,21 +205,17 @@ public class CourseController {
      * @param courseId the course ID
      * @param studentId the student ID
      * @param redirectAttributes for flash attributes
-     * @param session the HTTP session
      * @return redirect to course details
      */
     @PostMapping("/{courseId}/add-student")
     public String addStudent(@PathVariable Long courseId, 
                             @RequestParam Long studentId,
-                            RedirectAttributes redirectAttributes, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
+                            RedirectAttributes redirectAttributes) {
+        if (courseService.addStudentToCourse(courseId, studentId)) {
+            redirectAttributes.addFlashAttribute("success", "Student added to course successfully!");
+        } else {
+            redirectAttributes.addFlashAttribute("error", "Student is already enrolled in this course.");
         }
-
-        courseService.addStudentToCourse(courseId, studentId);
-        redirectAttributes.addFlashAttribute("success", "Student added to course successfully!");
         return "redirect:/courses/details/" + courseId;
     }
 
@@ -243,21 +225,105 @@ public class CourseController {
      * @param courseId the course ID
      * @param studentId the student ID
      * @param redirectAttributes for flash attributes
-     * @param session the HTTP session
      * @return redirect to course details
      */
     @PostMapping("/{courseId}/remove-student")
     public String removeStudent(@PathVariable Long courseId, 
                                @RequestParam Long studentId,
-                               RedirectAttributes redirectAttributes, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
+                               RedirectAttributes redirectAttributes) {
+        if (courseService.removeStudentFromCourse(courseId, studentId)) {
+            redirectAttributes.addFlashAttribute("success", "Student removed from course successfully!");
+        } else {
+            redirectAttributes.addFlashAttribute("error", "Student is not enrolled in this course.");
+        }
+        return "redirect:/courses/details/" + courseId;
+    }
+
+    /**
+     * Put a student on the waitlist of a course, or into a free seat if it has one.
+     *
+     * @param courseId the course ID
+     * @param studentId the student ID
+     * @param redirectAttributes for flash attributes
+     * @return redirect to course details
+     */
+    @PostMapping("/{courseId}/waitlist")
+    public String joinWaitlist(@PathVariable Long courseId,
+                               @RequestParam Long studentId,
+                               RedirectAttributes redirectAttributes) {
+        switch (waitlistService.joinWaitlist(courseId, studentId)) {
+            case WAITING -> redirectAttributes.addFlashAttribute("success", "Student added to the waitlist successfully!");
+            case ENROLLED -> redirectAttributes.addFlashAttribute("success", "The course had a free seat, so the student was added to the course!");
+            case ALREADY_LISTED -> redirectAttributes.addFlashAttribute("error", "Student is already enrolled or on the waitlist.");
+        }
+        return "redirect:/courses/details/" + courseId;
+    }
+
+    /**
+     * Take a student off the waitlist of a course.
+     *
+     * @param courseId the course ID
+     * @param studentId the student ID
+     * @param redirectAttributes for flash attributes
+     * @return redirect to course details
+     */
+    @PostMapping("/{courseId}/waitlist/remove")
+    public String leaveWaitlist(@PathVariable Long courseId,
+                                @RequestParam Long studentId,
+                                RedirectAttributes redirectAttributes) {
+        if (waitlistService.leaveWaitlist(courseId, studentId)) {
+            redirectAttributes.addFlashAttribute("success", "Student removed from the waitlist successfully!");
+        } else {
+            redirectAttributes.addFlashAttribute("error", "Student is not on the waitlist.");
+        }
+        return "redirect:/courses/details/" + courseId;
+    }
+
+    /**
+     * Enroll the selected students in a course in one batch.
+     *
+     * @param courseId the course ID
+     * @param studentIds the student IDs
+     * @param redirectAttributes for flash attributes
+     * @return redirect to course details
+     */
+    @PostMapping("/{courseId}/add-students")
+    public String addStudents(@PathVariable Long courseId,
+                              @RequestParam(required = false) List<Long> studentIds,
+                              RedirectAttributes redirectAttributes) {
+        if (studentIds == null || studentIds.isEmpty()) {
+            redirectAttributes.addFlashAttribute("error", "Please select at least one student.");
+            return "redirect:/courses/details/" + courseId;
         }
 
-        courseService.removeStudentFromCourse(courseId, studentId);
-        redirectAttributes.addFlashAttribute("success", "Student removed from course successfully!");
+        EnrollmentChangeResult result = courseService.addStudentsToCourse(courseId, studentIds);
+        redirectAttributes.addFlashAttribute("success", String.format(
+                "%d student(s) added to course, %d already enrolled, %d not found.",
+                result.getChanged().size(), result.getUnchanged().size(), result.getNotFound().size()));
+        return "redirect:/courses/details/" + courseId;
+    }
+
+    /**
+     * Remove the selected students from a course in one batch.
+     *
+     * @param courseId the course ID
+     * @param studentIds the student IDs
+     * @param redirectAttributes for flash attributes
+     * @return redirect to course details
+     */
+    @PostMapping("/{courseId}/remove-students")
+    public String removeStudents(@PathVariable Long courseId,
+                                 @RequestParam(required = false) List<Long> studentIds,
+                                 RedirectAttributes redirectAttributes) {
+        if (studentIds == null || studentIds.isEmpty()) {
+            redirectAttributes.addFlashAttribute("error", "Please select at least one student.");
+            return "redirect:/courses/details/" + courseId;
+        }
+
+        EnrollmentChangeResult result = courseService.removeStudentsFromCourse(courseId, studentIds);
+        redirectAttributes.addFlashAttribute("success", String.format(
+                "%d student(s) removed from course, %d were not enrolled, %d not found.",
+                result.getChanged().size(), result.getUnchanged().size(), result.getNotFound().size()));
         return "redirect:/courses/details/" + courseId;
     }
 
@@ -266,18 +332,11 @@ public class CourseController {
      *
      * @param searchText the text to search for
      * @param model the model for the view
-     * @param session the HTTP session
      * @return the courses list view with search results
      */
     @GetMapping("/search")
-    public String searchCourses(@RequestParam String searchText, Model model, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
-        }
-
-        List<Course> courses = courseService.searchCourses(searchText);
+    public String searchCourses(@RequestParam String searchText, Model model) {
+        List<CourseDTO> courses = courseService.searchCourseSummaries(searchText);
         model.addAttribute("courses", courses);
         model.addAttribute("searchText", searchText);
         return "courses/list";
@@ -0,0 +1,64 @@
+package com.softserve.academy.controller;
+
+import com.softserve.academy.exporter.ExportFormat;
+import com.softserve.academy.exporter.ExportType;
+import com.softserve.academy.service.RosterExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Controller for full roster extracts as CSV or NDJSON downloads.
+ */
+@Controller
+@RequestMapping("/export")
+public class ExportController {
+
+    private final RosterExportService rosterExportService;
+
+    @Autowired
+    public ExportController(RosterExportService rosterExportService) {
+        this.rosterExportService = rosterExportService;
+    }
+
+    /**
+     * Stream an export straight to the response body.
+     *
+     * @param type the kind of rows to export (students, courses or enrollments)
+     * @param format the output format (csv or ndjson)
+     * @param gzip whether to gzip the download
+     * @param response the HTTP response to write to
+     * @throws IOException if the response cannot be written
+     */
+    @GetMapping("/{type}")
+    public void exportRecords(@PathVariable String type,
+                              @RequestParam(defaultValue = "csv") String format,
+                              @RequestParam(defaultValue = "false") boolean gzip,
+                              HttpServletResponse response) throws IOException {
+        ExportType exportType = ExportType.fromPath(type);
+        ExportFormat exportFormat = ExportFormat.fromName(format);
+
+        String filename = exportType.getPath() + "." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+
+        if (gzip) {
+            response.setContentType("application/gzip");
+            GZIPOutputStream output = new GZIPOutputStream(response.getOutputStream(), 8192);
+            rosterExportService.export(exportType, exportFormat, output);
+            output.finish();
+        } else {
+            response.setContentType(exportFormat.getContentType());
+            response.setCharacterEncoding("UTF-8");
+            OutputStream output = response.getOutputStream();
+            rosterExportService.export(exportType, exportFormat, output);
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.softserve.academy.controller;
 
+import com.softserve.academy.exception.CourseFullException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -89,6 +92,63 @@ public class GlobalExceptionHandler {
         return modelAndView;
     }
 
+    /**
+     * Handle enrollments into a full course and return 409 Conflict status code.
+     *
+     * @param ex the exception
+     * @return the model and view
+     */
+    @ExceptionHandler(CourseFullException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ModelAndView handleCourseFullException(CourseFullException ex) {
+        logger.warn("Course full: {}", ex.getMessage());
+
+        ModelAndView modelAndView = new ModelAndView("error/error");
+        modelAndView.addObject("status", HttpStatus.CONFLICT.value());
+        modelAndView.addObject("error", "Course Full");
+        modelAndView.addObject("message", "The course has no free seats left. No enrollments were made.");
+        return modelAndView;
+    }
+
+    /**
+     * Handle saving a form that was opened before someone else changed the same record
+     * and return 409 Conflict status code.
+     *
+     * @param ex the exception
+     * @return the model and view
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ModelAndView handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        logger.warn("Stale update: {}", ex.getMessage());
+
+        ModelAndView modelAndView = new ModelAndView("error/error");
+        modelAndView.addObject("status", HttpStatus.CONFLICT.value());
+        modelAndView.addObject("error", "Conflict");
+        modelAndView.addObject("message", "The record was changed by someone else after you opened it. Please reload it and apply your changes again.");
+        return modelAndView;
+    }
+
+    /**
+     * Handle requests that timed out waiting for a database connection and return
+     * 503 Service Unavailable status code. The connection pool is the limit on concurrent
+     * database work, so this is overload rather than a failure.
+     *
+     * @param ex the exception
+     * @return the model and view
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ModelAndView handleCannotCreateTransactionException(CannotCreateTransactionException ex) {
+        logger.warn("No database connection available: {}", ex.getMessage());
+
+        ModelAndView modelAndView = new ModelAndView("error/error");
+        modelAndView.addObject("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        modelAndView.addObject("error", "Service Unavailable");
+        modelAndView.addObject("message", "The server is busy right now. Please try again in a moment.");
+        return modelAndView;
+    }
+
     /**
      * Handle database access exceptions and return 500 Internal Server Error status code.
      * This is used when there's an issue with database access.
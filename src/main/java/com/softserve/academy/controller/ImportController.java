@@ -0,0 +1,78 @@
+package com.softserve.academy.controller;
+
+import com.softserve.academy.dto.ImportResult;
+import com.softserve.academy.importer.ImportFormat;
+import com.softserve.academy.importer.ImportType;
+import com.softserve.academy.service.RosterImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Controller for bulk roster imports from CSV or NDJSON files.
+ */
+@Controller
+@RequestMapping("/import")
+public class ImportController {
+
+    private final RosterImportService rosterImportService;
+
+    @Autowired
+    public ImportController(RosterImportService rosterImportService) {
+        this.rosterImportService = rosterImportService;
+    }
+
+    /**
+     * Display the import page.
+     *
+     * @param model the model for the view
+     * @return the import view
+     */
+    @GetMapping
+    public String showImportForm(Model model) {
+        model.addAttribute("importTypes", ImportType.values());
+        return "import/form";
+    }
+
+    /**
+     * Import an uploaded roster file. The file is streamed record by record, so its size
+     * is limited only by the multipart settings.
+     *
+     * @param type the kind of records in the file (students, teachers, courses or enrollments)
+     * @param file the uploaded file
+     * @param format optional format (csv or ndjson), detected from the file extension when absent
+     * @param model the model for the view
+     * @return the import view showing the result
+     * @throws IOException if the uploaded file cannot be read
+     */
+    @PostMapping("/{type}")
+    public String importFile(@PathVariable String type,
+                             @RequestParam("file") MultipartFile file,
+                             @RequestParam(required = false) String format,
+                             Model model) throws IOException {
+        ImportType importType = ImportType.fromPath(type);
+        model.addAttribute("importTypes", ImportType.values());
+
+        if (file.isEmpty()) {
+            model.addAttribute("error", "Please choose a file to import.");
+            return "import/form";
+        }
+        ImportFormat importFormat = ImportFormat.resolve(format, file.getOriginalFilename());
+        if (importFormat == null) {
+            model.addAttribute("error", "Unsupported file format. Upload a .csv or .ndjson file.");
+            return "import/form";
+        }
+
+        ImportResult result;
+        try (InputStream input = file.getInputStream()) {
+            result = rosterImportService.importRecords(importType, importFormat, input);
+        }
+        model.addAttribute("result", result);
+        return "import/form";
+    }
+}
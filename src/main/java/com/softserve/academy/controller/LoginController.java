@@ -1,8 +1,9 @@
 package com.softserve.academy.controller;
 
-import com.softserve.academy.model.Role;
 import com.softserve.academy.model.User;
+import com.softserve.academy.security.SessionPrincipal;
 import com.softserve.academy.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.SessionAttribute;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.Optional;
@@ -28,12 +30,6 @@ public class LoginController {
     @Autowired
     public LoginController(UserService userService) {
         this.userService = userService;
-
-        // Create admin user if it doesn't exist
-        if (!userService.usernameExists("admin")) {
-            User adminUser = new User("admin", "admin123", "admin@example.com", "Admin", Role.ADMIN);
-            userService.registerUser(adminUser);
-        }
     }
 
     /**
@@ -92,24 +88,24 @@ public class LoginController {
      *
      * @param username the username from the form
      * @param password the password from the form
-     * @param session the HTTP session
+     * @param request the HTTP request, for the session
      * @param redirectAttributes for flash attributes
      * @return redirect to dashboard if successful, otherwise back to login
      */
     @PostMapping("/login")
     public String processLogin(@RequestParam String username,
                               @RequestParam String password,
-                              HttpSession session,
+                              HttpServletRequest request,
                               RedirectAttributes redirectAttributes) {
 
         Optional<User> userOpt = userService.authenticate(username, password);
 
         if (userOpt.isPresent()) {
-            User user = userOpt.get();
-            // Store user information in session
-            session.setAttribute("username", user.getUsername());
-            session.setAttribute("authenticated", true);
-            session.setAttribute("userId", user.getId());
+            // Store the principal in the session, under a new session ID so a session ID
+            // handed out before login cannot be used to ride on it
+            HttpSession session = request.getSession();
+            request.changeSessionId();
+            session.setAttribute(SessionPrincipal.ATTRIBUTE, SessionPrincipal.of(userOpt.get()));
 
             return "redirect:/dashboard";
         } else {
@@ -122,23 +118,14 @@ public class LoginController {
     /**
      * Display the dashboard/welcome page.
      *
+     * @param principal the signed-in user
      * @param model the model for the view
-     * @param session the HTTP session
-     * @return the dashboard view or redirect to login if not authenticated
+     * @return the dashboard view
      */
     @GetMapping("/dashboard")
-    public String showDashboard(Model model, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-
-        if (authenticated != null && authenticated) {
-            String username = (String) session.getAttribute("username");
-            model.addAttribute("username", username);
-            return "dashboard";
-        } else {
-            // Redirect to login if not authenticated
-            return "redirect:/login";
-        }
+    public String showDashboard(@SessionAttribute(SessionPrincipal.ATTRIBUTE) SessionPrincipal principal, Model model) {
+        model.addAttribute("username", principal.getUsername());
+        return "dashboard";
     }
 
     /**
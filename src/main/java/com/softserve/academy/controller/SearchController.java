@@ -0,0 +1,45 @@
+package com.softserve.academy.controller;
+
+import com.softserve.academy.config.SearchProperties;
+import com.softserve.academy.search.Suggestion;
+import com.softserve.academy.search.SuggestionIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller for the typeahead suggestions shown while typing a name.
+ */
+@Controller
+@RequestMapping("/search")
+public class SearchController {
+
+    private final SuggestionIndex suggestionIndex;
+    private final SearchProperties searchProperties;
+
+    @Autowired
+    public SearchController(SuggestionIndex suggestionIndex, SearchProperties searchProperties) {
+        this.suggestionIndex = suggestionIndex;
+        this.searchProperties = searchProperties;
+    }
+
+    /**
+     * Suggest students, teachers and courses with words starting with the typed text.
+     * Answered from the in-memory index without touching the database.
+     *
+     * @param q the text typed so far
+     * @param limit the requested number of suggestions, capped by the configured maximum
+     * @return the suggestions as JSON
+     */
+    @GetMapping("/suggest")
+    @ResponseBody
+    public ResponseEntity<List<Suggestion>> suggest(@RequestParam(defaultValue = "") String q,
+                                                    @RequestParam(required = false) Integer limit) {
+        int maxLimit = searchProperties.getSuggestLimit();
+        int resolvedLimit = limit == null ? maxLimit : Math.max(1, Math.min(limit, maxLimit));
+        return ResponseEntity.ok(suggestionIndex.suggest(q, resolvedLimit));
+    }
+}
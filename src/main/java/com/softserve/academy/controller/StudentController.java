@@ -1,6 +1,9 @@
 package com.softserve.academy.controller;
 
+import com.softserve.academy.config.PaginationProperties;
 import com.softserve.academy.dto.CourseDTO;
+import com.softserve.academy.dto.EnrollmentChangeResult;
+import com.softserve.academy.dto.KeysetPage;
 import com.softserve.academy.dto.StudentDTO;
 import com.softserve.academy.mapper.CourseMapper;
 import com.softserve.academy.mapper.StudentMapper;
@@ -8,13 +11,13 @@ import com.softserve.academy.model.Course;
 import com.softserve.academy.model.Student;
 import com.softserve.academy.service.CourseService;
 import com.softserve.academy.service.StudentService;
-import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.List;
@@ -30,34 +33,44 @@ public class StudentController {
     private final CourseService courseService;
     private final StudentMapper studentMapper;
     private final CourseMapper courseMapper;
+    private final PaginationProperties paginationProperties;
+    private final ConditionalRequests conditionalRequests;
 
     @Autowired
     public StudentController(StudentService studentService, CourseService courseService,
-                            StudentMapper studentMapper, CourseMapper courseMapper) {
+                            StudentMapper studentMapper, CourseMapper courseMapper,
+                            PaginationProperties paginationProperties, ConditionalRequests conditionalRequests) {
         this.studentService = studentService;
         this.courseService = courseService;
         this.studentMapper = studentMapper;
         this.courseMapper = courseMapper;
+        this.paginationProperties = paginationProperties;
+        this.conditionalRequests = conditionalRequests;
     }
 
     /**
-     * Display a list of all students.
+     * Display one page of students.
      *
+     * @param after the student ID to start after, for the next page
+     * @param before the student ID to end before, for the previous page
+     * @param size the requested page size
      * @param model the model for the view
-     * @param session the HTTP session
-     * @return the students list view or redirect to login if not authenticated
+     * @param webRequest the current request, for the conditional GET
+     * @return the students list view or null if not modified
      */
     @GetMapping
-    public String listStudents(Model model, HttpSession session) {
-        // Check if the user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
+    public String listStudents(@RequestParam(required = false) Long after,
+                               @RequestParam(required = false) Long before,
+                               @RequestParam(required = false) Integer size,
+                               Model model, ServletWebRequest webRequest) {
+        if (conditionalRequests.checkNotModified(webRequest, model, studentService.getStudentListVersions())) {
+            return null;
         }
 
-        List<Student> students = studentService.getAllStudents();
-        List<StudentDTO> studentDTOs = studentMapper.toDTOList(students);
+        KeysetPage<Student> page = studentService.getStudentsPage(after, before, paginationProperties.resolveSize(size));
+        List<StudentDTO> studentDTOs = studentMapper.toDTOList(page.getContent());
         model.addAttribute("students", studentDTOs);
+        model.addAttribute("page", page);
         return "students/list";
     }
 
@@ -65,17 +78,10 @@ public class StudentController {
      * Display form to add a new student.
      *
      * @param model the model for the view
-     * @param session the HTTP session
-     * @return the student form view or redirect to login if not authenticated
+     * @return the student form view
      */
     @GetMapping("/add")
-    public String showAddForm(Model model, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
-        }
-
+    public String showAddForm(Model model) {
         model.addAttribute("student", new StudentDTO());
         return "students/form";
     }
@@ -85,17 +91,10 @@ public class StudentController {
      *
      * @param id the student ID
      * @param model the model for the view
-     * @param session the HTTP session
-     * @return the student form view or redirect to login if not authenticated
+     * @return the student form view
      */
     @GetMapping("/edit/{id}")
-    public String showEditForm(@PathVariable Long id, Model model, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
-        }
-
+    public String showEditForm(@PathVariable Long id, Model model) {
         Student student = studentService.getStudentById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid student ID: " + id));
         StudentDTO studentDTO = studentMapper.toDTO(student);
@@ -109,18 +108,11 @@ public class StudentController {
      * @param studentDTO the student DTO from the form
      * @param result the binding result for validation
      * @param redirectAttributes for flash attributes
-     * @param session the HTTP session
      * @return redirect to students list if successful
      */
     @PostMapping("/save")
     public String saveStudent(@Valid StudentDTO studentDTO, BindingResult result, 
-                             RedirectAttributes redirectAttributes, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
-        }
-
+                             RedirectAttributes redirectAttributes) {
         if (result.hasErrors()) {
             return "students/form";
         }
@@ -136,18 +128,11 @@ public class StudentController {
      *
      * @param id the student ID to delete
      * @param redirectAttributes for flash attributes
-     * @param session the HTTP session
      * @return redirect to students list
      */
     @GetMapping("/delete/{id}")
     public String deleteStudent(@PathVariable Long id, 
-                               RedirectAttributes redirectAttributes, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
-        }
-
+                               RedirectAttributes redirectAttributes) {
         studentService.deleteStudent(id);
         redirectAttributes.addFlashAttribute("success", "Student deleted successfully!");
         return "redirect:/students";
@@ -157,16 +142,17 @@ public class StudentController {
      * Display student details including enrolled courses.
      *
      * @param id the student ID
+     * @param q optional name prefix narrowing the available courses
      * @param model the model for the view
-     * @param session the HTTP session
-     * @return the student details view
+     * @param webRequest the current request, for the conditional GET
+     * @return the student details view, or null if not modified
      */
     @GetMapping("/details/{id}")
-    public String showStudentDetails(@PathVariable Long id, Model model, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
+    public String showStudentDetails(@PathVariable Long id,
+                                     @RequestParam(required = false) String q,
+                                     Model model, ServletWebRequest webRequest) {
+        if (conditionalRequests.checkNotModified(webRequest, model, studentService.getStudentDetailsVersions(id))) {
+            return null;
         }
 
         Student student = studentService.getStudentById(id)
@@ -176,13 +162,14 @@ public class StudentController {
         List<Course> enrolledCourses = studentService.getStudentCourses(id);
         List<CourseDTO> enrolledCourseDTOs = courseMapper.toDTOList(enrolledCourses);
 
-        List<Course> availableCourses = courseService.getAllCourses();
-        availableCourses.removeAll(enrolledCourses);
-        List<CourseDTO> availableCourseDTOs = courseMapper.toDTOList(availableCourses);
+        List<CourseDTO> availableCourseDTOs = courseService.getCoursesNotEnrolledByStudent(
+                id, q, paginationProperties.getAvailableLimit());
 
         model.addAttribute("student", studentDTO);
         model.addAttribute("enrolledCourses", enrolledCourseDTOs);
         model.addAttribute("availableCourses", availableCourseDTOs);
+        model.addAttribute("availableLimit", paginationProperties.getAvailableLimit());
+        model.addAttribute("q", q);
 
         return "students/details";
     }
@@ -193,21 +180,17 @@ public class StudentController {
      * @param studentId the student ID
      * @param courseId the course ID
      * @param redirectAttributes for flash attributes
-     * @param session the HTTP session
      * @return redirect to student details
      */
     @PostMapping("/{studentId}/enroll")
     public String enrollInCourse(@PathVariable Long studentId, 
                                 @RequestParam Long courseId,
-                                RedirectAttributes redirectAttributes, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
+                                RedirectAttributes redirectAttributes) {
+        if (studentService.enrollStudentInCourse(studentId, courseId)) {
+            redirectAttributes.addFlashAttribute("success", "Student enrolled in course successfully!");
+        } else {
+            redirectAttributes.addFlashAttribute("error", "Student is already enrolled in this course.");
         }
-
-        studentService.enrollStudentInCourse(studentId, courseId);
-        redirectAttributes.addFlashAttribute("success", "Student enrolled in course successfully!");
         return "redirect:/students/details/" + studentId;
     }
 
@@ -217,21 +200,65 @@ public class StudentController {
      * @param studentId the student ID
      * @param courseId the course ID
      * @param redirectAttributes for flash attributes
-     * @param session the HTTP session
      * @return redirect to student details
      */
     @PostMapping("/{studentId}/withdraw")
     public String withdrawFromCourse(@PathVariable Long studentId, 
                                     @RequestParam Long courseId,
-                                    RedirectAttributes redirectAttributes, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
+                                    RedirectAttributes redirectAttributes) {
+        if (studentService.withdrawStudentFromCourse(studentId, courseId)) {
+            redirectAttributes.addFlashAttribute("success", "Student withdrawn from course successfully!");
+        } else {
+            redirectAttributes.addFlashAttribute("error", "Student is not enrolled in this course.");
+        }
+        return "redirect:/students/details/" + studentId;
+    }
+
+    /**
+     * Enroll a student in the selected courses in one batch.
+     *
+     * @param studentId the student ID
+     * @param courseIds the course IDs
+     * @param redirectAttributes for flash attributes
+     * @return redirect to student details
+     */
+    @PostMapping("/{studentId}/enroll-courses")
+    public String enrollInCourses(@PathVariable Long studentId,
+                                  @RequestParam(required = false) List<Long> courseIds,
+                                  RedirectAttributes redirectAttributes) {
+        if (courseIds == null || courseIds.isEmpty()) {
+            redirectAttributes.addFlashAttribute("error", "Please select at least one course.");
+            return "redirect:/students/details/" + studentId;
+        }
+
+        EnrollmentChangeResult result = studentService.enrollStudentInCourses(studentId, courseIds);
+        redirectAttributes.addFlashAttribute("success", String.format(
+                "Student enrolled in %d course(s), %d already enrolled, %d not found.",
+                result.getChanged().size(), result.getUnchanged().size(), result.getNotFound().size()));
+        return "redirect:/students/details/" + studentId;
+    }
+
+    /**
+     * Withdraw a student from the selected courses in one batch.
+     *
+     * @param studentId the student ID
+     * @param courseIds the course IDs
+     * @param redirectAttributes for flash attributes
+     * @return redirect to student details
+     */
+    @PostMapping("/{studentId}/withdraw-courses")
+    public String withdrawFromCourses(@PathVariable Long studentId,
+                                      @RequestParam(required = false) List<Long> courseIds,
+                                      RedirectAttributes redirectAttributes) {
+        if (courseIds == null || courseIds.isEmpty()) {
+            redirectAttributes.addFlashAttribute("error", "Please select at least one course.");
+            return "redirect:/students/details/" + studentId;
         }
 
-        studentService.withdrawStudentFromCourse(studentId, courseId);
-        redirectAttributes.addFlashAttribute("success", "Student withdrawn from course successfully!");
+        EnrollmentChangeResult result = studentService.withdrawStudentFromCourses(studentId, courseIds);
+        redirectAttributes.addFlashAttribute("success", String.format(
+                "Student withdrawn from %d course(s), %d were not enrolled, %d not found.",
+                result.getChanged().size(), result.getUnchanged().size(), result.getNotFound().size()));
         return "redirect:/students/details/" + studentId;
     }
 }
@@ -1,16 +1,20 @@
 package com.softserve.academy.controller;
 
+import com.softserve.academy.config.PaginationProperties;
+import com.softserve.academy.dto.CourseDTO;
+import com.softserve.academy.dto.KeysetPage;
+import com.softserve.academy.dto.TeacherDTO;
 import com.softserve.academy.model.Course;
 import com.softserve.academy.model.Teacher;
 import com.softserve.academy.service.CourseService;
 import com.softserve.academy.service.TeacherService;
-import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.List;
@@ -24,30 +28,40 @@ public class TeacherController {
 
     private final TeacherService teacherService;
     private final CourseService courseService;
+    private final PaginationProperties paginationProperties;
+    private final ConditionalRequests conditionalRequests;
 
     @Autowired
-    public TeacherController(TeacherService teacherService, CourseService courseService) {
+    public TeacherController(TeacherService teacherService, CourseService courseService,
+                             PaginationProperties paginationProperties, ConditionalRequests conditionalRequests) {
         this.teacherService = teacherService;
         this.courseService = courseService;
+        this.paginationProperties = paginationProperties;
+        this.conditionalRequests = conditionalRequests;
     }
 
     /**
-     * Display list of all teachers.
+     * Display one page of teachers.
      *
+     * @param after the teacher ID to start after, for the next page
+     * @param before the teacher ID to end before, for the previous page
+     * @param size the requested page size
      * @param model the model for the view
-     * @param session the HTTP session
-     * @return the teachers list view or redirect to login if not authenticated
+     * @param webRequest the current request, for the conditional GET
+     * @return the teachers list view or null if not modified
      */
     @GetMapping
-    public String listTeachers(Model model, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
+    public String listTeachers(@RequestParam(required = false) Long after,
+                               @RequestParam(required = false) Long before,
+                               @RequestParam(required = false) Integer size,
+                               Model model, ServletWebRequest webRequest) {
+        if (conditionalRequests.checkNotModified(webRequest, model, teacherService.getTeacherListVersions())) {
+            return null;
         }
 
-        List<Teacher> teachers = teacherService.getAllTeachers();
-        model.addAttribute("teachers", teachers);
+        KeysetPage<TeacherDTO> page = teacherService.getTeachersPage(after, before, paginationProperties.resolveSize(size));
+        model.addAttribute("teachers", page.getContent());
+        model.addAttribute("page", page);
         return "teachers/list";
     }
 
@@ -55,17 +69,10 @@ public class TeacherController {
      * Display form to add a new teacher.
      *
      * @param model the model for the view
-     * @param session the HTTP session
-     * @return the teacher form view or redirect to login if not authenticated
+     * @return the teacher form view
      */
     @GetMapping("/add")
-    public String showAddForm(Model model, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
-        }
-
+    public String showAddForm(Model model) {
         model.addAttribute("teacher", new Teacher());
         return "teachers/form";
     }
@@ -75,17 +82,10 @@ public class TeacherController {
      *
      * @param id the teacher ID
      * @param model the model for the view
-     * @param session the HTTP session
-     * @return the teacher form view or redirect to login if not authenticated
+     * @return the teacher form view
      */
     @GetMapping("/edit/{id}")
-    public String showEditForm(@PathVariable Long id, Model model, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
-        }
-
+    public String showEditForm(@PathVariable Long id, Model model) {
         Teacher teacher = teacherService.getTeacherById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid teacher ID: " + id));
         model.addAttribute("teacher", teacher);
@@ -98,18 +98,11 @@ public class TeacherController {
      * @param teacher the teacher from the form
      * @param result the binding result for validation
      * @param redirectAttributes for flash attributes
-     * @param session the HTTP session
      * @return redirect to teachers list if successful
      */
     @PostMapping("/save")
     public String saveTeacher(@Valid Teacher teacher, BindingResult result, 
-                             RedirectAttributes redirectAttributes, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
-        }
-
+                             RedirectAttributes redirectAttributes) {
         if (result.hasErrors()) {
             return "teachers/form";
         }
@@ -124,18 +117,11 @@ public class TeacherController {
      *
      * @param id the teacher ID to delete
      * @param redirectAttributes for flash attributes
-     * @param session the HTTP session
      * @return redirect to teachers list
      */
     @GetMapping("/delete/{id}")
     public String deleteTeacher(@PathVariable Long id, 
-                               RedirectAttributes redirectAttributes, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
-        }
-
+                               RedirectAttributes redirectAttributes) {
         teacherService.deleteTeacher(id);
         redirectAttributes.addFlashAttribute("success", "Teacher deleted successfully!");
         return "redirect:/teachers";
@@ -145,29 +131,32 @@ public class TeacherController {
      * Display teacher details including assigned courses.
      *
      * @param id the teacher ID
+     * @param q optional name prefix narrowing the available courses
      * @param model the model for the view
-     * @param session the HTTP session
-     * @return the teacher details view
+     * @param webRequest the current request, for the conditional GET
+     * @return the teacher details view, or null if not modified
      */
     @GetMapping("/details/{id}")
-    public String showTeacherDetails(@PathVariable Long id, Model model, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
+    public String showTeacherDetails(@PathVariable Long id,
+                                     @RequestParam(required = false) String q,
+                                     Model model, ServletWebRequest webRequest) {
+        if (conditionalRequests.checkNotModified(webRequest, model, teacherService.getTeacherDetailsVersions(id))) {
+            return null;
         }
 
         Teacher teacher = teacherService.getTeacherById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid teacher ID: " + id));
         
         List<Course> assignedCourses = teacherService.getTeacherCourses(id);
-        List<Course> availableCourses = courseService.getAllCourses();
-        availableCourses.removeAll(assignedCourses);
+        List<CourseDTO> availableCourses = courseService.getCoursesNotTaughtBy(
+                id, q, paginationProperties.getAvailableLimit());
         
         model.addAttribute("teacher", teacher);
         model.addAttribute("assignedCourses", assignedCourses);
         model.addAttribute("availableCourses", availableCourses);
         model.addAttribute("courseCount", teacherService.countCoursesByTeacher(id));
+        model.addAttribute("availableLimit", paginationProperties.getAvailableLimit());
+        model.addAttribute("q", q);
         
         return "teachers/details";
     }
@@ -178,19 +167,12 @@ public class TeacherController {
      * @param teacherId the teacher ID
      * @param courseId the course ID
      * @param redirectAttributes for flash attributes
-     * @param session the HTTP session
      * @return redirect to teacher details
      */
     @PostMapping("/{teacherId}/assign-course")
     public String assignCourse(@PathVariable Long teacherId, 
                               @RequestParam Long courseId,
-                              RedirectAttributes redirectAttributes, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
-        }
-
+                              RedirectAttributes redirectAttributes) {
         teacherService.assignCourseToTeacher(teacherId, courseId);
         redirectAttributes.addFlashAttribute("success", "Course assigned to teacher successfully!");
         return "redirect:/teachers/details/" + teacherId;
@@ -202,19 +184,12 @@ public class TeacherController {
      * @param teacherId the teacher ID
      * @param courseId the course ID
      * @param redirectAttributes for flash attributes
-     * @param session the HTTP session
      * @return redirect to teacher details
      */
     @PostMapping("/{teacherId}/remove-course")
     public String removeCourse(@PathVariable Long teacherId, 
                               @RequestParam Long courseId,
-                              RedirectAttributes redirectAttributes, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
-        }
-
+                              RedirectAttributes redirectAttributes) {
         teacherService.removeCourseFromTeacher(teacherId, courseId);
         redirectAttributes.addFlashAttribute("success", "Course removed from teacher successfully!");
         return "redirect:/teachers/details/" + teacherId;
@@ -224,21 +199,20 @@ public class TeacherController {
      * Search for teachers by name.
      *
      * @param name the name to search for
+     * @param prefix whether to match only names starting with the text
      * @param model the model for the view
-     * @param session the HTTP session
      * @return the teachers list view with search results
      */
     @GetMapping("/search")
-    public String searchTeachers(@RequestParam String name, Model model, HttpSession session) {
-        // Check if user is authenticated
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        if (authenticated == null || !authenticated) {
-            return "redirect:/login";
-        }
-
-        List<Teacher> teachers = teacherService.findByName(name);
+    public String searchTeachers(@RequestParam String name,
+                                 @RequestParam(defaultValue = "false") boolean prefix,
+                                 Model model) {
+        List<TeacherDTO> teachers = prefix
+                ? teacherService.findSummariesByNamePrefix(name)
+                : teacherService.findSummariesByName(name);
         model.addAttribute("teachers", teachers);
         model.addAttribute("searchName", name);
+        model.addAttribute("searchPrefix", prefix);
         return "teachers/list";
     }
 }
\ No newline at end of file
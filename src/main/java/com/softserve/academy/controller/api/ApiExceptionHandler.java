@@ -0,0 +1,86 @@
+package com.softserve.academy.controller.api;
+
+import com.softserve.academy.exception.CourseFullException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+/**
+ * Exception handler for the REST API.
+ * Takes precedence over {@link com.softserve.academy.controller.GlobalExceptionHandler} for the
+ * API controllers and answers with RFC 7807 problem details instead of error pages. Spring MVC's
+ * own exceptions, such as missing parameters or unreadable bodies, are handled by the base class.
+ */
+@RestControllerAdvice(basePackageClasses = ApiExceptionHandler.class)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiExceptionHandler.class);
+
+    /**
+     * Handle IllegalArgumentException, thrown by the services for unknown IDs, with 404 Not Found.
+     *
+     * @param ex the exception
+     * @return the problem details
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail handleIllegalArgumentException(IllegalArgumentException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    /**
+     * Handle enrollments into a full course with 409 Conflict.
+     *
+     * @param ex the exception
+     * @return the problem details
+     */
+    @ExceptionHandler(CourseFullException.class)
+    public ProblemDetail handleCourseFullException(CourseFullException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, "The course has no free seats left.");
+    }
+
+    /**
+     * Handle constraint violations and concurrent updates with 409 Conflict.
+     *
+     * @param ex the exception
+     * @return the problem details
+     */
+    @ExceptionHandler({DataIntegrityViolationException.class, OptimisticLockingFailureException.class})
+    public ProblemDetail handleConflict(RuntimeException ex) {
+        log.warn("API conflict: {}", ex.getMessage());
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, "The request conflicts with the current data.");
+    }
+
+    /**
+     * Handle requests that timed out waiting for a database connection with 503 Service Unavailable.
+     *
+     * @param ex the exception
+     * @return the problem details
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ProblemDetail handleCannotCreateTransactionException(CannotCreateTransactionException ex) {
+        log.warn("No database connection available: {}", ex.getMessage());
+        return ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, "The server is busy right now. Please try again in a moment.");
+    }
+
+    /**
+     * Handle any other exception with 500 Internal Server Error.
+     *
+     * @param ex the exception
+     * @return the problem details
+     */
+    @ExceptionHandler(Exception.class)
+    public ProblemDetail handleUnexpectedException(Exception ex) {
+        log.error("Unhandled API exception: {}", ex.getMessage(), ex);
+        return ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, "Something went wrong on our servers.");
+    }
+}
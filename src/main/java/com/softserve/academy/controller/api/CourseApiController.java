@@ -0,0 +1,68 @@
+package com.softserve.academy.controller.api;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.softserve.academy.config.PaginationProperties;
+import com.softserve.academy.dto.KeysetPage;
+import com.softserve.academy.service.CourseService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller exposing courses as JSON.
+ * Every response is built from a single projection query with the teacher name and the
+ * enrollment count, so no entity graph is loaded.
+ */
+@RestController
+@RequestMapping("/api/v1/courses")
+public class CourseApiController {
+
+    static final List<String> FIELDS = List.of("id", "name", "description", "teacherId", "teacherName", "enrollmentCount");
+
+    private final CourseService courseService;
+    private final FieldSelector fieldSelector;
+    private final PaginationProperties paginationProperties;
+
+    @Autowired
+    public CourseApiController(CourseService courseService, FieldSelector fieldSelector,
+                               PaginationProperties paginationProperties) {
+        this.courseService = courseService;
+        this.fieldSelector = fieldSelector;
+        this.paginationProperties = paginationProperties;
+    }
+
+    /**
+     * List one page of courses in ID order.
+     *
+     * @param after the course ID to start after, for the next page
+     * @param size the requested page size
+     * @param fields comma-separated fields to return, all when absent
+     * @return the page of courses
+     */
+    @GetMapping
+    public ResponseEntity<KeysetPage<ObjectNode>> listCourses(@RequestParam(required = false) Long after,
+                                                              @RequestParam(required = false) Integer size,
+                                                              @RequestParam(required = false) String fields) {
+        List<String> selected = fieldSelector.resolve(fields, FIELDS);
+        return ResponseEntity.ok(fieldSelector.select(
+                courseService.getCoursesPage(after, null, paginationProperties.resolveSize(size)), selected));
+    }
+
+    /**
+     * Get one course.
+     *
+     * @param id the course ID
+     * @param fields comma-separated fields to return, all when absent
+     * @return the course or 404 if it does not exist
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ObjectNode> getCourse(@PathVariable Long id,
+                                                @RequestParam(required = false) String fields) {
+        List<String> selected = fieldSelector.resolve(fields, FIELDS);
+        return courseService.getCourseSummary(id)
+                .map(course -> ResponseEntity.ok(fieldSelector.select(course, selected)))
+                .orElseThrow(() -> new IllegalArgumentException("Invalid course ID: " + id));
+    }
+}
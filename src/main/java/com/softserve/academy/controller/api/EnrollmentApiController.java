@@ -0,0 +1,99 @@
+package com.softserve.academy.controller.api;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.softserve.academy.config.PaginationProperties;
+import com.softserve.academy.dto.EnrollmentDTO;
+import com.softserve.academy.dto.KeysetPage;
+import com.softserve.academy.service.CourseService;
+import com.softserve.academy.service.StudentService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+/**
+ * REST controller exposing enrollments, the links between students and courses, as JSON.
+ * Enrollments are listed per course or per student from a single join over the
+ * enrollment table, and written through the same set-based updates as the web pages,
+ * so seat limits and waitlist promotion apply.
+ */
+@RestController
+@RequestMapping("/api/v1/enrollments")
+public class EnrollmentApiController {
+
+    static final List<String> FIELDS = List.of("studentId", "studentEmail", "courseId", "courseName");
+
+    private final CourseService courseService;
+    private final StudentService studentService;
+    private final FieldSelector fieldSelector;
+    private final PaginationProperties paginationProperties;
+
+    @Autowired
+    public EnrollmentApiController(CourseService courseService, StudentService studentService,
+                                   FieldSelector fieldSelector, PaginationProperties paginationProperties) {
+        this.courseService = courseService;
+        this.studentService = studentService;
+        this.fieldSelector = fieldSelector;
+        this.paginationProperties = paginationProperties;
+    }
+
+    /**
+     * List one page of the enrollments of a course, in student ID order, or of a student,
+     * in course ID order. Exactly one of the two must be given.
+     *
+     * @param courseId the course whose students to list
+     * @param studentId the student whose courses to list
+     * @param after the student or course ID to start after, for the next page
+     * @param size the requested page size
+     * @param fields comma-separated fields to return, all when absent
+     * @return the page of enrollments
+     */
+    @GetMapping
+    public ResponseEntity<KeysetPage<ObjectNode>> listEnrollments(@RequestParam(required = false) Long courseId,
+                                                                  @RequestParam(required = false) Long studentId,
+                                                                  @RequestParam(required = false) Long after,
+                                                                  @RequestParam(required = false) Integer size,
+                                                                  @RequestParam(required = false) String fields) {
+        if ((courseId == null) == (studentId == null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Exactly one of courseId and studentId is required");
+        }
+        List<String> selected = fieldSelector.resolve(fields, FIELDS);
+        int resolvedSize = paginationProperties.resolveSize(size);
+        KeysetPage<EnrollmentDTO> page = courseId != null
+                ? courseService.getEnrollmentsPage(courseId, after, resolvedSize)
+                : studentService.getEnrollmentsPage(studentId, after, resolvedSize);
+        return ResponseEntity.ok(fieldSelector.select(page, selected));
+    }
+
+    /**
+     * Enroll a student in a course.
+     *
+     * @param enrollment the course and student IDs
+     * @return 201 if the student was enrolled, 200 if already enrolled, or 409 if the course is full
+     */
+    @PostMapping
+    public ResponseEntity<Void> enroll(@RequestBody EnrollmentDTO enrollment) {
+        if (enrollment.getCourseId() == null || enrollment.getStudentId() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "courseId and studentId are required");
+        }
+        boolean added = courseService.addStudentToCourse(enrollment.getCourseId(), enrollment.getStudentId());
+        return ResponseEntity.status(added ? HttpStatus.CREATED : HttpStatus.OK).build();
+    }
+
+    /**
+     * Withdraw a student from a course; the freed seat goes to the course's waitlist.
+     *
+     * @param courseId the course ID
+     * @param studentId the student ID
+     * @return 204 if the student was withdrawn or 404 if not enrolled
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> withdraw(@RequestParam Long courseId, @RequestParam Long studentId) {
+        return courseService.removeStudentFromCourse(courseId, studentId)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+}
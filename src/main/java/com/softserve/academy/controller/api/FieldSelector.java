@@ -0,0 +1,88 @@
+package com.softserve.academy.controller.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.softserve.academy.dto.KeysetPage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Trims REST API payloads to the fields a client asked for.
+ * Each resource declares the DTO fields it exposes, which are the ones filled by its
+ * projection query. The {@code fields} request parameter selects a subset of them;
+ * all of them are returned when it is absent.
+ */
+@Component
+public class FieldSelector {
+
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public FieldSelector(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Resolve the {@code fields} request parameter against the fields a resource exposes.
+     * Called before the data is loaded, so an invalid request costs no query.
+     *
+     * @param fields the comma-separated field names, or null for all
+     * @param available the fields the resource exposes, in output order
+     * @return the selected fields
+     * @throws ResponseStatusException with 400 Bad Request for a field the resource does not expose
+     */
+    public List<String> resolve(String fields, List<String> available) {
+        if (fields == null || fields.isBlank()) {
+            return available;
+        }
+        List<String> selected = new ArrayList<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty() || selected.contains(name)) {
+                continue;
+            }
+            if (!available.contains(name)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Unknown field '" + name + "', expected any of " + available);
+            }
+            selected.add(name);
+        }
+        return selected.isEmpty() ? available : selected;
+    }
+
+    /**
+     * Copy the selected fields of a DTO into a JSON object.
+     *
+     * @param row the DTO
+     * @param fields the selected fields
+     * @return the JSON object with only those fields
+     */
+    public ObjectNode select(Object row, List<String> fields) {
+        ObjectNode source = objectMapper.valueToTree(row);
+        ObjectNode selected = objectMapper.createObjectNode();
+        for (String field : fields) {
+            selected.set(field, source.get(field));
+        }
+        return selected;
+    }
+
+    /**
+     * Copy the selected fields of every row of a page, keeping its cursors.
+     *
+     * @param page the page of DTOs
+     * @param fields the selected fields
+     * @return the page of JSON objects
+     */
+    public KeysetPage<ObjectNode> select(KeysetPage<?> page, List<String> fields) {
+        List<ObjectNode> content = new ArrayList<>(page.getContent().size());
+        for (Object row : page.getContent()) {
+            content.add(select(row, fields));
+        }
+        return new KeysetPage<>(content, page.getSize(), page.getNextCursor(), page.getPrevCursor());
+    }
+}
@@ -0,0 +1,68 @@
+package com.softserve.academy.controller.api;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.softserve.academy.config.PaginationProperties;
+import com.softserve.academy.dto.KeysetPage;
+import com.softserve.academy.service.StudentService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller exposing students as JSON.
+ * Every response is built from a single projection query over the student columns, so
+ * the enrolled courses are never loaded; they are listed under /api/v1/enrollments.
+ */
+@RestController
+@RequestMapping("/api/v1/students")
+public class StudentApiController {
+
+    static final List<String> FIELDS = List.of("id", "firstName", "lastName", "email");
+
+    private final StudentService studentService;
+    private final FieldSelector fieldSelector;
+    private final PaginationProperties paginationProperties;
+
+    @Autowired
+    public StudentApiController(StudentService studentService, FieldSelector fieldSelector,
+                               PaginationProperties paginationProperties) {
+        this.studentService = studentService;
+        this.fieldSelector = fieldSelector;
+        this.paginationProperties = paginationProperties;
+    }
+
+    /**
+     * List one page of students in ID order.
+     *
+     * @param after the student ID to start after, for the next page
+     * @param size the requested page size
+     * @param fields comma-separated fields to return, all when absent
+     * @return the page of students
+     */
+    @GetMapping
+    public ResponseEntity<KeysetPage<ObjectNode>> listStudents(@RequestParam(required = false) Long after,
+                                                              @RequestParam(required = false) Integer size,
+                                                              @RequestParam(required = false) String fields) {
+        List<String> selected = fieldSelector.resolve(fields, FIELDS);
+        return ResponseEntity.ok(fieldSelector.select(
+                studentService.getStudentSummariesPage(after, paginationProperties.resolveSize(size)), selected));
+    }
+
+    /**
+     * Get one student.
+     *
+     * @param id the student ID
+     * @param fields comma-separated fields to return, all when absent
+     * @return the student or 404 if it does not exist
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ObjectNode> getStudent(@PathVariable Long id,
+                                                @RequestParam(required = false) String fields) {
+        List<String> selected = fieldSelector.resolve(fields, FIELDS);
+        return studentService.getStudentSummary(id)
+                .map(student -> ResponseEntity.ok(fieldSelector.select(student, selected)))
+                .orElseThrow(() -> new IllegalArgumentException("Invalid student ID: " + id));
+    }
+}
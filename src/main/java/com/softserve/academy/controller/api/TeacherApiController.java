@@ -0,0 +1,68 @@
+package com.softserve.academy.controller.api;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.softserve.academy.config.PaginationProperties;
+import com.softserve.academy.dto.KeysetPage;
+import com.softserve.academy.service.TeacherService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller exposing teachers as JSON.
+ * Every response is built from a single projection query with the number of courses of
+ * each teacher, so the course lists are never loaded.
+ */
+@RestController
+@RequestMapping("/api/v1/teachers")
+public class TeacherApiController {
+
+    static final List<String> FIELDS = List.of("id", "firstName", "lastName", "name", "email", "courseCount");
+
+    private final TeacherService teacherService;
+    private final FieldSelector fieldSelector;
+    private final PaginationProperties paginationProperties;
+
+    @Autowired
+    public TeacherApiController(TeacherService teacherService, FieldSelector fieldSelector,
+                               PaginationProperties paginationProperties) {
+        this.teacherService = teacherService;
+        this.fieldSelector = fieldSelector;
+        this.paginationProperties = paginationProperties;
+    }
+
+    /**
+     * List one page of teachers in ID order.
+     *
+     * @param after the teacher ID to start after, for the next page
+     * @param size the requested page size
+     * @param fields comma-separated fields to return, all when absent
+     * @return the page of teachers
+     */
+    @GetMapping
+    public ResponseEntity<KeysetPage<ObjectNode>> listTeachers(@RequestParam(required = false) Long after,
+                                                              @RequestParam(required = false) Integer size,
+                                                              @RequestParam(required = false) String fields) {
+        List<String> selected = fieldSelector.resolve(fields, FIELDS);
+        return ResponseEntity.ok(fieldSelector.select(
+                teacherService.getTeachersPage(after, null, paginationProperties.resolveSize(size)), selected));
+    }
+
+    /**
+     * Get one teacher.
+     *
+     * @param id the teacher ID
+     * @param fields comma-separated fields to return, all when absent
+     * @return the teacher or 404 if it does not exist
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ObjectNode> getTeacher(@PathVariable Long id,
+                                                @RequestParam(required = false) String fields) {
+        List<String> selected = fieldSelector.resolve(fields, FIELDS);
+        return teacherService.getTeacherSummary(id)
+                .map(teacher -> ResponseEntity.ok(fieldSelector.select(teacher, selected)))
+                .orElseThrow(() -> new IllegalArgumentException("Invalid teacher ID: " + id));
+    }
+}
@@ -0,0 +1,81 @@
+package com.softserve.academy.datasource;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+/**
+ * Hibernate dialect that keeps transactions reading from the replica from adding entities or
+ * query results to the second-level cache. A row the replica returns after a write on the
+ * primary evicted the cached one may predate that write; cached, it would outlive the
+ * replication lag until the next eviction.
+ * Each read-only transaction picks its pool when it begins and keeps it to the end, so the
+ * cache mode always matches the database read. Those reading from the primary, while the
+ * replica lags or is down, use both caches like read-write transactions. Those reading from
+ * the replica still look up entities in the cache but store nothing, and bypass the query
+ * cache altogether: Hibernate puts the result of a query cache miss even in {@link CacheMode#GET}.
+ * The cache mode is set when the transaction begins, before the first query runs.
+ */
+public class ReadOnlyCacheModeJpaDialect extends HibernateJpaDialect {
+
+    private final Supplier<ReplicaRoutingDataSource> routingDataSource;
+
+    public ReadOnlyCacheModeJpaDialect(Supplier<ReplicaRoutingDataSource> routingDataSource) {
+        this.routingDataSource = routingDataSource;
+    }
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly()) {
+            setCacheMode(entityManager, true);
+            return transactionData;
+        }
+        ReplicaRoutingDataSource routing = routingDataSource.get();
+        ReplicaRoutingDataSource.Pool pool = routing.choosePool();
+        setCacheMode(entityManager, pool == ReplicaRoutingDataSource.Pool.PRIMARY);
+        // a read-only transaction started inside another one replaces its pool until it ends
+        Object outerPool = TransactionSynchronizationManager.unbindResourceIfPossible(routing);
+        TransactionSynchronizationManager.bindResource(routing, pool);
+        return new PinnedTransactionData(transactionData, routing, outerPool);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof PinnedTransactionData pinned) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(pinned.routing());
+            if (pinned.outerPool() != null) {
+                TransactionSynchronizationManager.bindResource(pinned.routing(), pinned.outerPool());
+            }
+            transactionData = pinned.transactionData();
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private static void setCacheMode(EntityManager entityManager, boolean cache) {
+        // find() derives its cache mode from the JPA store mode property, queries from the session cache mode
+        entityManager.setProperty(AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE,
+                cache ? CacheStoreMode.USE : CacheStoreMode.BYPASS);
+        entityManager.unwrap(Session.class).setCacheMode(cache ? CacheMode.NORMAL : CacheMode.IGNORE);
+    }
+
+    /**
+     * The Hibernate transaction data of a read-only transaction, with the pool it was pinned to.
+     *
+     * @param transactionData the data returned by {@link HibernateJpaDialect}
+     * @param routing the routing data source the pool is bound to
+     * @param outerPool the pool of the enclosing read-only transaction, or null
+     */
+    private record PinnedTransactionData(Object transactionData, ReplicaRoutingDataSource routing, Object outerPool) {
+    }
+}
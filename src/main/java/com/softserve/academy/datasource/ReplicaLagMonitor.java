@@ -0,0 +1,125 @@
+package com.softserve.academy.datasource;
+
+import com.softserve.academy.config.ReplicaProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks whether the read replica is fit to serve reads.
+ * The replication lag is queried on a background thread every check interval; the replica
+ * is available while the last check succeeded and reported a lag within the configured
+ * maximum. It starts out unavailable, so reads use the primary until the first check passes.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final DataSource replica;
+    private final ReplicaProperties properties;
+
+    private ScheduledExecutorService scheduler;
+    private volatile double lagSeconds = Double.NaN;
+    private volatile boolean available;
+
+    public ReplicaLagMonitor(DataSource replica, ReplicaProperties properties) {
+        this.replica = replica;
+        this.properties = properties;
+    }
+
+    /**
+     * Start checking the replication lag in the background.
+     */
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-lag-monitor").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::check, 0,
+                properties.getCheckInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop the background checks.
+     */
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Query the replication lag once and update the availability of the replica.
+     * A failed query counts as unknown lag.
+     */
+    public void check() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1, properties.getCheckInterval().toSeconds()));
+            try (ResultSet resultSet = statement.executeQuery(properties.getLagQuery())) {
+                double lag = Double.NaN;
+                if (resultSet.next()) {
+                    lag = resultSet.getDouble(1);
+                    if (resultSet.wasNull()) {
+                        lag = Double.NaN;
+                    }
+                }
+                update(lag);
+            }
+        } catch (SQLException | RuntimeException ex) {
+            markUnavailable(ex);
+        }
+    }
+
+    /**
+     * Take the replica out of rotation until the next successful check, for example after
+     * it refused a connection.
+     *
+     * @param cause the failure that made the replica unusable
+     */
+    public void markUnavailable(Exception cause) {
+        lagSeconds = Double.NaN;
+        if (available) {
+            logger.warn("Read replica unavailable, reading from the primary: {}", cause.getMessage());
+        }
+        available = false;
+    }
+
+    /**
+     * Whether reads may currently be sent to the replica.
+     *
+     * @return true if the last check reported a lag within the maximum
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Get the replication lag reported by the last check.
+     *
+     * @return the lag in seconds, or NaN if it is unknown
+     */
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    private void update(double lag) {
+        double maxLag = properties.getMaxLag().toMillis() / 1000.0;
+        boolean usable = !Double.isNaN(lag) && lag <= maxLag;
+        if (usable != available) {
+            if (usable) {
+                logger.info("Read replica available, lag {}s", lag);
+            } else {
+                logger.warn("Read replica lag {}s exceeds {}s, reading from the primary", lag, maxLag);
+            }
+        }
+        lagSeconds = lag;
+        available = usable;
+    }
+}
@@ -0,0 +1,113 @@
+package com.softserve.academy.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Data source that sends the connections of read-only transactions to the read replica
+ * and all others to the primary.
+ * Reads fall back to the primary while the {@link ReplicaLagMonitor} reports the replica
+ * as lagging or down, and when the replica refuses a connection. The transaction must be
+ * marked read-only before the first statement runs, so this data source is used behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}. A read-only
+ * transaction that chose its pool when it began, through {@link #choosePool()}, binds it as a
+ * transaction resource under this data source and keeps it even if the replica's state changes.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * The pools a connection can be taken from.
+     */
+    public enum Pool {
+        PRIMARY, REPLICA
+    }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final LongAdder primaryConnections = new LongAdder();
+    private final LongAdder replicaConnections = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Pool.PRIMARY, primary, Pool.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Pool.PRIMARY;
+        }
+        Object pinned = TransactionSynchronizationManager.getResource(this);
+        return pinned != null ? pinned : choosePool();
+    }
+
+    /**
+     * Choose the pool a read-only transaction reads from: the replica while the lag monitor
+     * reports it available, the primary otherwise.
+     *
+     * @return the pool to read from
+     */
+    public Pool choosePool() {
+        if (lagMonitor.isAvailable()) {
+            return Pool.REPLICA;
+        }
+        fallbacks.increment();
+        return Pool.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineTargetDataSource() == primary) {
+            return primaryConnection();
+        }
+        try {
+            Connection connection = replica.getConnection();
+            replicaConnections.increment();
+            return connection;
+        } catch (SQLException ex) {
+            lagMonitor.markUnavailable(ex);
+            fallbacks.increment();
+            return primaryConnection();
+        }
+    }
+
+    /**
+     * Get the number of connections handed out by the given pool.
+     *
+     * @param pool the pool
+     * @return the number of connections taken from it
+     */
+    public long getConnectionCount(Pool pool) {
+        return (pool == Pool.REPLICA ? replicaConnections : primaryConnections).sum();
+    }
+
+    /**
+     * Get the number of read-only transactions that were sent to the primary because the
+     * replica was lagging or down.
+     *
+     * @return the number of fallbacks
+     */
+    public long getFallbackCount() {
+        return fallbacks.sum();
+    }
+
+    private Connection primaryConnection() throws SQLException {
+        Connection connection = primary.getConnection();
+        primaryConnections.increment();
+        return connection;
+    }
+}
@@ -0,0 +1,46 @@
+package com.softserve.academy.datasource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the routing between the primary and the read replica as actuator metrics
+ * ({@code /actuator/metrics/datasource.*}). The state of each connection pool is published
+ * by Spring Boot as {@code hikaricp.connections.*}, tagged with the pool name.
+ */
+public class ReplicaRoutingMetrics implements MeterBinder {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaRoutingMetrics(ReplicaRoutingDataSource routingDataSource, ReplicaLagMonitor lagMonitor) {
+        this.routingDataSource = routingDataSource;
+        this.lagMonitor = lagMonitor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ReplicaRoutingDataSource.Pool pool : ReplicaRoutingDataSource.Pool.values()) {
+            FunctionCounter.builder("datasource.routing.connections", routingDataSource,
+                            routing -> routing.getConnectionCount(pool))
+                    .description("Connections handed out by each pool")
+                    .tag("pool", pool.name().toLowerCase())
+                    .baseUnit(BaseUnits.CONNECTIONS)
+                    .register(registry);
+        }
+        FunctionCounter.builder("datasource.replica.fallbacks", routingDataSource,
+                        ReplicaRoutingDataSource::getFallbackCount)
+                .description("Read-only transactions sent to the primary because the replica was lagging or down")
+                .register(registry);
+        Gauge.builder("datasource.replica.lag", lagMonitor, ReplicaLagMonitor::getLagSeconds)
+                .description("Replication lag reported by the last check, NaN when unknown")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("datasource.replica.available", lagMonitor, monitor -> monitor.isAvailable() ? 1 : 0)
+                .description("Whether read-only transactions are sent to the replica")
+                .register(registry);
+    }
+}
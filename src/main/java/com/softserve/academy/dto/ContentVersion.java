@@ -0,0 +1,51 @@
+package com.softserve.academy.dto;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Data Transfer Object for the version of the data behind a page.
+ * For a table it holds the table's change counter, the sum of its rows in {@code table_versions},
+ * which every committed write advances, and the newest updated_at; for a single row it holds the
+ * optimistic lock version and the row's updated_at.
+ */
+public class ContentVersion {
+
+    private long revision;
+    private Instant lastModified;
+
+    // Default constructor
+    public ContentVersion() {
+    }
+
+    // Constructor with fields
+    public ContentVersion(Long revision, Instant lastModified) {
+        this.revision = revision != null ? revision : 0;
+        this.lastModified = lastModified;
+    }
+
+    // Getters and Setters
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    public void setLastModified(Instant lastModified) {
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * @return the revision and the last change in microseconds, used as a part of an ETag
+     */
+    @Override
+    public String toString() {
+        return revision + "." + (lastModified != null ? ChronoUnit.MICROS.between(Instant.EPOCH, lastModified) : 0);
+    }
+}
@@ -1,6 +1,8 @@
 package com.softserve.academy.dto;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -15,14 +17,20 @@ public class CourseDTO {
     @NotBlank(message = "Course name is required")
     private String name;
 
+    @Size(max = 300, message = "Description must be at most 300 characters")
     private String description;
 
+    @Min(value = 1, message = "Capacity must be at least 1")
+    private Integer capacity;
+
     private Long teacherId;
     
     private String teacherName;
 
     private Set<Long> studentIds = new HashSet<>();
 
+    private Long enrollmentCount;
+
     // Default constructor
     public CourseDTO() {
     }
@@ -43,6 +51,17 @@ public class CourseDTO {
         this.teacherName = teacherName;
     }
 
+    // Constructor used by the course summary query projection
+    public CourseDTO(Long id, String name, String description, Long teacherId,
+                     String teacherFirstName, String teacherLastName, Long enrollmentCount) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.teacherId = teacherId;
+        this.teacherName = teacherId != null ? teacherFirstName + " " + teacherLastName : null;
+        this.enrollmentCount = enrollmentCount;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -68,6 +87,14 @@ public class CourseDTO {
         this.description = description;
     }
 
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
     public Long getTeacherId() {
         return teacherId;
     }
@@ -91,4 +118,12 @@ public class CourseDTO {
     public void setStudentIds(Set<Long> studentIds) {
         this.studentIds = studentIds;
     }
+
+    public Long getEnrollmentCount() {
+        return enrollmentCount;
+    }
+
+    public void setEnrollmentCount(Long enrollmentCount) {
+        this.enrollmentCount = enrollmentCount;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.softserve.academy.dto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Outcome of a bulk enrollment or withdrawal.
+ * Splits the requested IDs into those that were changed, those that already had
+ * the requested state and those that do not exist.
+ */
+public class EnrollmentChangeResult {
+
+    private final List<Long> changed;
+    private final List<Long> unchanged;
+    private final List<Long> notFound;
+
+    public EnrollmentChangeResult(List<Long> changed, List<Long> unchanged, List<Long> notFound) {
+        this.changed = changed;
+        this.unchanged = unchanged;
+        this.notFound = notFound;
+    }
+
+    /**
+     * Partition the requested IDs, keeping their request order.
+     *
+     * @param requested the requested IDs
+     * @param existing the IDs that exist
+     * @param unchanged the existing IDs that already had the requested state
+     * @return the result
+     */
+    public static EnrollmentChangeResult partition(Collection<Long> requested, Set<Long> existing, Set<Long> unchanged) {
+        List<Long> changedIds = new ArrayList<>();
+        List<Long> unchangedIds = new ArrayList<>();
+        List<Long> notFoundIds = new ArrayList<>();
+        for (Long id : requested) {
+            if (!existing.contains(id)) {
+                notFoundIds.add(id);
+            } else if (unchanged.contains(id)) {
+                unchangedIds.add(id);
+            } else {
+                changedIds.add(id);
+            }
+        }
+        return new EnrollmentChangeResult(changedIds, unchangedIds, notFoundIds);
+    }
+
+    public List<Long> getChanged() {
+        return Collections.unmodifiableList(changed);
+    }
+
+    public List<Long> getUnchanged() {
+        return Collections.unmodifiableList(unchanged);
+    }
+
+    public List<Long> getNotFound() {
+        return Collections.unmodifiableList(notFound);
+    }
+}
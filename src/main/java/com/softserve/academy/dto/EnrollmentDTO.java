@@ -0,0 +1,68 @@
+package com.softserve.academy.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Data Transfer Object for a student's enrollment in a course.
+ * Identifies both sides by their natural keys so rosters can be exchanged
+ * with systems that do not know our IDs.
+ */
+public class EnrollmentDTO {
+
+    private Long studentId;
+
+    @NotBlank(message = "Student email is required")
+    @Email(message = "Student email should be valid")
+    private String studentEmail;
+
+    private Long courseId;
+
+    @NotBlank(message = "Course name is required")
+    private String courseName;
+
+    // Default constructor
+    public EnrollmentDTO() {
+    }
+
+    // Constructor with fields
+    public EnrollmentDTO(Long studentId, String studentEmail, Long courseId, String courseName) {
+        this.studentId = studentId;
+        this.studentEmail = studentEmail;
+        this.courseId = courseId;
+        this.courseName = courseName;
+    }
+
+    // Getters and Setters
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getStudentEmail() {
+        return studentEmail;
+    }
+
+    public void setStudentEmail(String studentEmail) {
+        this.studentEmail = studentEmail;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public String getCourseName() {
+        return courseName;
+    }
+
+    public void setCourseName(String courseName) {
+        this.courseName = courseName;
+    }
+}
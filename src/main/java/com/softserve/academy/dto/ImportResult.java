@@ -0,0 +1,114 @@
+package com.softserve.academy.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import.
+ * Used to report row counts and per-row errors back to the view. Only the first
+ * {@code maxErrors} errors are kept so the report stays small for any file size.
+ */
+public class ImportResult {
+
+    private final String type;
+    private final int maxErrors;
+    private long processed;
+    private long imported;
+    private long skipped;
+    private long failed;
+    private final List<RowError> errors = new ArrayList<>();
+
+    public ImportResult(String type, int maxErrors) {
+        this.type = type;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Count a record read from the file.
+     */
+    public void recordProcessed() {
+        processed++;
+    }
+
+    /**
+     * Count rows written to the database.
+     *
+     * @param count the number of rows written
+     */
+    public void addImported(long count) {
+        imported += count;
+    }
+
+    /**
+     * Count rows that were already present and left unchanged.
+     *
+     * @param count the number of rows skipped
+     */
+    public void addSkipped(long count) {
+        skipped += count;
+    }
+
+    /**
+     * Record a rejected row.
+     *
+     * @param line the line number of the row
+     * @param message the reason the row was rejected
+     */
+    public void addError(long line, String message) {
+        failed++;
+        if (errors.size() < maxErrors) {
+            errors.add(new RowError(line, message));
+        }
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public List<RowError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    public boolean isErrorsTruncated() {
+        return failed > errors.size();
+    }
+
+    /**
+     * A single rejected row.
+     */
+    public static class RowError {
+
+        private final long line;
+        private final String message;
+
+        public RowError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
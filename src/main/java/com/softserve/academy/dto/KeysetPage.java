@@ -0,0 +1,97 @@
+package com.softserve.academy.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A single page of a listing paginated by keyset (cursor) on the entity ID.
+ * Used to transfer one page of rows together with the cursors needed to
+ * navigate to the neighbouring pages.
+ *
+ * @param <T> the type of the rows on the page
+ */
+public class KeysetPage<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final Long nextCursor;
+    private final Long prevCursor;
+
+    public KeysetPage(List<T> content, int size, Long nextCursor, Long prevCursor) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.prevCursor = prevCursor;
+    }
+
+    /**
+     * Build a page from rows fetched in ascending ID order after a cursor.
+     * The rows are expected to contain up to {@code size + 1} elements; the extra
+     * element only signals that a next page exists and is not returned.
+     *
+     * @param rows the rows fetched in ascending ID order
+     * @param after the cursor the rows were fetched after, or null for the first page
+     * @param size the page size
+     * @param idOf function extracting the ID of a row
+     * @return the page
+     */
+    public static <T> KeysetPage<T> forward(List<T> rows, Long after, int size, Function<T, Long> idOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+
+        Long nextCursor = hasNext ? idOf.apply(content.get(content.size() - 1)) : null;
+        Long prevCursor = null;
+        if (after != null) {
+            // An empty page past the end still links back to the rows before the cursor
+            prevCursor = content.isEmpty() ? after + 1 : idOf.apply(content.get(0));
+        }
+        return new KeysetPage<>(content, size, nextCursor, prevCursor);
+    }
+
+    /**
+     * Build a page from rows fetched in descending ID order before a cursor.
+     * The rows are expected to contain up to {@code size + 1} elements; the extra
+     * element only signals that a previous page exists and is not returned.
+     *
+     * @param rows the rows fetched in descending ID order
+     * @param before the cursor the rows were fetched before
+     * @param size the page size
+     * @param idOf function extracting the ID of a row
+     * @return the page, with its rows in ascending ID order
+     */
+    public static <T> KeysetPage<T> backward(List<T> rows, Long before, int size, Function<T, Long> idOf) {
+        boolean hasPrev = rows.size() > size;
+        List<T> content = new ArrayList<>(hasPrev ? rows.subList(0, size) : rows);
+        Collections.reverse(content);
+
+        Long prevCursor = hasPrev ? idOf.apply(content.get(0)) : null;
+        Long nextCursor = content.isEmpty() ? before - 1 : idOf.apply(content.get(content.size() - 1));
+        return new KeysetPage<>(content, size, nextCursor, prevCursor);
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public Long getPrevCursor() {
+        return prevCursor;
+    }
+
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean isHasPrevious() {
+        return prevCursor != null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.softserve.academy.dto;
+
+/**
+ * Data Transfer Object for one entry of a dropdown: the ID submitted by the form
+ * and the text shown to the user.
+ */
+public class OptionDTO {
+
+    private Long id;
+    private String label;
+
+    // Default constructor
+    public OptionDTO() {
+    }
+
+    // Constructor with fields
+    public OptionDTO(Long id, String label) {
+        this.id = id;
+        this.label = label;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,37 @@
+package com.softserve.academy.dto;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable, precomputed list of dropdown options.
+ * The version changes whenever the underlying rows change, so a view can tell two
+ * snapshots apart without comparing their contents.
+ */
+public class OptionList {
+
+    private final long version;
+    private final List<OptionDTO> options;
+    private final boolean truncated;
+
+    public OptionList(long version, List<OptionDTO> options, boolean truncated) {
+        this.version = version;
+        this.options = Collections.unmodifiableList(options);
+        this.truncated = truncated;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<OptionDTO> getOptions() {
+        return options;
+    }
+
+    /**
+     * @return true if there were more rows than the configured option limit
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -23,6 +23,11 @@ public class StudentDTO {
     @Email(message = "Email should be valid")
     private String email;
 
+    /**
+     * Optimistic lock version of the student, carried through the edit form.
+     */
+    private Long version;
+
     private Set<Long> enrolledCourseIds = new HashSet<>();
 
     // Default constructor
@@ -70,6 +75,14 @@ public class StudentDTO {
         this.email = email;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Set<Long> getEnrolledCourseIds() {
         return enrolledCourseIds;
     }
@@ -25,6 +25,8 @@ public class TeacherDTO {
 
     private List<Long> courseIds = new ArrayList<>();
 
+    private Long courseCount;
+
     // Default constructor
     public TeacherDTO() {
     }
@@ -37,6 +39,12 @@ public class TeacherDTO {
         this.email = email;
     }
 
+    // Constructor used by the teacher summary query projection
+    public TeacherDTO(Long id, String firstName, String lastName, String email, Long courseCount) {
+        this(id, firstName, lastName, email);
+        this.courseCount = courseCount;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -93,4 +101,12 @@ public class TeacherDTO {
     public void setCourseIds(List<Long> courseIds) {
         this.courseIds = courseIds;
     }
+
+    public Long getCourseCount() {
+        return courseCount;
+    }
+
+    public void setCourseCount(Long courseCount) {
+        this.courseCount = courseCount;
+    }
 }
@@ -0,0 +1,19 @@
+package com.softserve.academy.dto;
+
+/**
+ * Outcome of asking to join a course's waitlist.
+ */
+public enum WaitlistJoinResult {
+    /**
+     * The course was full and the student was put at the end of its waitlist.
+     */
+    WAITING,
+    /**
+     * The course had a free seat, so the student was enrolled instead of waiting.
+     */
+    ENROLLED,
+    /**
+     * The student was already enrolled or waiting; nothing changed.
+     */
+    ALREADY_LISTED
+}
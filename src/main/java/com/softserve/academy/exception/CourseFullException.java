@@ -0,0 +1,18 @@
+package com.softserve.academy.exception;
+
+/**
+ * Thrown when an enrollment would take a course past its capacity.
+ */
+public class CourseFullException extends RuntimeException {
+
+    private final Long courseId;
+
+    public CourseFullException(Long courseId) {
+        super("Course with ID " + courseId + " has no free seats");
+        this.courseId = courseId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+}
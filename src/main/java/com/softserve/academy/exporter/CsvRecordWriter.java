@@ -0,0 +1,53 @@
+package com.softserve.academy.exporter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes rows as comma-separated values with a header row.
+ * Fields containing commas, quotes or line breaks are quoted (RFC 4180); nulls are written as empty fields.
+ */
+public class CsvRecordWriter implements RecordWriter {
+
+    private final Writer writer;
+
+    public CsvRecordWriter(OutputStream output) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeHeader(List<String> columns) throws IOException {
+        writeRow(columns);
+    }
+
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value != null) {
+                writer.write(escape(value.toString()));
+            }
+        }
+        writer.write('\n');
+    }
+
+    static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+}
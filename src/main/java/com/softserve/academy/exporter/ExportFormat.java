@@ -0,0 +1,43 @@
+package com.softserve.academy.exporter;
+
+import java.util.Locale;
+
+/**
+ * Supported export file formats.
+ */
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Resolve an export format from its name.
+     *
+     * @param name the format name, case-insensitive
+     * @return the export format
+     * @throws IllegalArgumentException if the name does not match a format
+     */
+    public static ExportFormat fromName(String name) {
+        for (ExportFormat format : values()) {
+            if (format.name().equals(name.toUpperCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Invalid export format: " + name);
+    }
+}
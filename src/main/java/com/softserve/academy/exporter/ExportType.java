@@ -0,0 +1,49 @@
+package com.softserve.academy.exporter;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Kinds of roster data that can be exported, with their columns.
+ * Column names match the ones accepted by the import, so an export can be re-imported.
+ */
+public enum ExportType {
+    STUDENTS(List.of("id", "firstName", "lastName", "email")),
+    COURSES(List.of("id", "name", "description", "teacherId", "teacherName", "enrollmentCount")),
+    ENROLLMENTS(List.of("studentId", "studentEmail", "courseId", "courseName"));
+
+    private final List<String> columns;
+
+    ExportType(List<String> columns) {
+        this.columns = columns;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Get the lowercase name used in URLs and file names.
+     *
+     * @return the path segment for this type
+     */
+    public String getPath() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Resolve an export type from its URL path segment.
+     *
+     * @param path the path segment
+     * @return the export type
+     * @throws IllegalArgumentException if the path does not name an export type
+     */
+    public static ExportType fromPath(String path) {
+        for (ExportType type : values()) {
+            if (type.getPath().equals(path)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Invalid export type: " + path);
+    }
+}
@@ -0,0 +1,43 @@
+package com.softserve.academy.exporter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes rows as newline-delimited JSON, one object per line keyed by column name.
+ */
+public class NdjsonRecordWriter implements RecordWriter {
+
+    private final JsonGenerator generator;
+    private List<String> columns = List.of();
+
+    public NdjsonRecordWriter(OutputStream output, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(output);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void writeHeader(List<String> columns) {
+        this.columns = columns;
+    }
+
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < columns.size(); i++) {
+            generator.writeObjectField(columns.get(i), values.get(i));
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
@@ -0,0 +1,28 @@
+package com.softserve.academy.exporter;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes export rows one at a time to an output stream.
+ * Implementations buffer only what they need for the current row.
+ */
+public interface RecordWriter extends Flushable {
+
+    /**
+     * Write the column header, if the format has one.
+     *
+     * @param columns the column names
+     * @throws IOException if the output cannot be written
+     */
+    void writeHeader(List<String> columns) throws IOException;
+
+    /**
+     * Write one row.
+     *
+     * @param values the values in column order, may contain nulls
+     * @throws IOException if the output cannot be written
+     */
+    void writeRow(List<?> values) throws IOException;
+}
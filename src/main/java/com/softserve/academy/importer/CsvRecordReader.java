@@ -0,0 +1,137 @@
+package com.softserve.academy.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming reader for comma-separated files with a header row.
+ * Supports quoted fields containing commas, line breaks and doubled quotes (RFC 4180).
+ * Only one record is held in memory at a time, and records are capped in their number
+ * of fields and fields in length.
+ */
+public class CsvRecordReader implements RecordReader {
+
+    static final int MAX_FIELD_LENGTH = 4096;
+    static final int MAX_FIELDS = 256;
+
+    private final BufferedReader reader;
+    private final List<String> header;
+    private long lineNumber;
+    private long recordLine;
+    private String recordError;
+
+    public CsvRecordReader(Reader reader) throws IOException {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        List<String> headerFields = readFields();
+        this.header = new ArrayList<>();
+        if (headerFields != null) {
+            for (String column : headerFields) {
+                header.add(ImportRecord.normalize(column.replace("\uFEFF", "")));
+            }
+        }
+    }
+
+    @Override
+    public ImportRecord read() throws IOException {
+        List<String> fields;
+        do {
+            fields = readFields();
+            if (fields == null) {
+                return null;
+            }
+        } while (recordError == null && fields.size() == 1 && fields.get(0).isBlank());
+
+        if (recordError != null) {
+            return ImportRecord.invalid(recordLine, recordError);
+        }
+        if (fields.size() != header.size()) {
+            return ImportRecord.invalid(recordLine,
+                    "Expected " + header.size() + " columns but found " + fields.size());
+        }
+
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            values.put(header.get(i), fields.get(i));
+        }
+        return ImportRecord.of(recordLine, values);
+    }
+
+    /**
+     * Read the fields of the next record, or null at the end of the input.
+     */
+    private List<String> readFields() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        lineNumber++;
+        recordLine = lineNumber;
+        recordError = null;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    recordError = "Unterminated quoted field";
+                    addField(fields, field);
+                    return fields;
+                }
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next == '"') {
+                        append(field, '"');
+                        c = reader.read();
+                    } else {
+                        quoted = false;
+                        c = next;
+                    }
+                    continue;
+                }
+                if (c == '\n') {
+                    lineNumber++;
+                }
+                append(field, (char) c);
+            } else if (c == -1 || c == '\n') {
+                addField(fields, field);
+                return fields;
+            } else if (c == ',') {
+                addField(fields, field);
+                field.setLength(0);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c != '\r') {
+                append(field, (char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private void addField(List<String> fields, StringBuilder field) {
+        if (fields.size() < MAX_FIELDS) {
+            fields.add(field.toString());
+        } else if (recordError == null) {
+            recordError = "Record exceeds " + MAX_FIELDS + " fields";
+        }
+    }
+
+    private void append(StringBuilder field, char c) {
+        if (field.length() < MAX_FIELD_LENGTH) {
+            field.append(c);
+        } else if (recordError == null) {
+            recordError = "Field exceeds " + MAX_FIELD_LENGTH + " characters";
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
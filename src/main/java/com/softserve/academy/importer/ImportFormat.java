@@ -0,0 +1,38 @@
+package com.softserve.academy.importer;
+
+import java.util.Locale;
+
+/**
+ * Supported import file formats.
+ */
+public enum ImportFormat {
+    CSV, NDJSON;
+
+    /**
+     * Resolve the format from an explicit format name or, failing that, the file extension.
+     *
+     * @param format the requested format name, may be null
+     * @param filename the uploaded file name, may be null
+     * @return the format, or null if it cannot be determined
+     */
+    public static ImportFormat resolve(String format, String filename) {
+        if (format != null && !format.isBlank()) {
+            for (ImportFormat candidate : values()) {
+                if (candidate.name().equalsIgnoreCase(format.trim())) {
+                    return candidate;
+                }
+            }
+            return null;
+        }
+        if (filename != null) {
+            String lower = filename.toLowerCase(Locale.ROOT);
+            if (lower.endsWith(".csv")) {
+                return CSV;
+            }
+            if (lower.endsWith(".ndjson") || lower.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,81 @@
+package com.softserve.academy.importer;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A single record read from an import file.
+ * Column names are matched case-insensitively and ignore underscores, dashes and spaces,
+ * so "firstName", "first_name" and "First Name" all refer to the same column.
+ */
+public class ImportRecord {
+
+    private final long line;
+    private final Map<String, String> values;
+    private final String error;
+
+    private ImportRecord(long line, Map<String, String> values, String error) {
+        this.line = line;
+        this.values = values;
+        this.error = error;
+    }
+
+    /**
+     * Create a record that was parsed successfully.
+     *
+     * @param line the line number the record starts on
+     * @param values the values keyed by normalized column name
+     * @return the record
+     */
+    public static ImportRecord of(long line, Map<String, String> values) {
+        return new ImportRecord(line, values, null);
+    }
+
+    /**
+     * Create a record that could not be parsed.
+     *
+     * @param line the line number the record starts on
+     * @param error the parse error
+     * @return the record
+     */
+    public static ImportRecord invalid(long line, String error) {
+        return new ImportRecord(line, Map.of(), error);
+    }
+
+    /**
+     * Normalize a column name for lookup.
+     *
+     * @param column the column name
+     * @return the normalized column name
+     */
+    public static String normalize(String column) {
+        return column.replaceAll("[\\s_\\-]", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Get the trimmed value of a column.
+     *
+     * @param column the column name
+     * @return the value, or null if the column is missing or blank
+     */
+    public String get(String column) {
+        String value = values.get(normalize(column));
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
@@ -0,0 +1,48 @@
+package com.softserve.academy.importer;
+
+import java.util.Locale;
+
+/**
+ * Kinds of roster data that can be imported, with the columns each expects.
+ */
+public enum ImportType {
+    STUDENTS("firstName, lastName, email"),
+    TEACHERS("firstName, lastName, email"),
+    COURSES("name, description, teacherEmail (optional)"),
+    ENROLLMENTS("studentEmail, courseName");
+
+    private final String columns;
+
+    ImportType(String columns) {
+        this.columns = columns;
+    }
+
+    public String getColumns() {
+        return columns;
+    }
+
+    /**
+     * Get the lowercase name used in URLs.
+     *
+     * @return the path segment for this type
+     */
+    public String getPath() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Resolve an import type from its URL path segment.
+     *
+     * @param path the path segment
+     * @return the import type
+     * @throws IllegalArgumentException if the path does not name an import type
+     */
+    public static ImportType fromPath(String path) {
+        for (ImportType type : values()) {
+            if (type.getPath().equals(path)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Invalid import type: " + path);
+    }
+}
@@ -0,0 +1,102 @@
+package com.softserve.academy.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Streaming reader for newline-delimited JSON, one object per line.
+ * Each line is parsed on its own, so a malformed line is reported as an invalid
+ * record without affecting the lines around it. Lines are capped in length; the rest
+ * of an overlong line is skipped without being held in memory.
+ */
+public class NdjsonRecordReader implements RecordReader {
+
+    static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final StringBuilder line = new StringBuilder();
+    private long lineNumber;
+    private boolean lineTooLong;
+
+    public NdjsonRecordReader(Reader reader, ObjectMapper objectMapper) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportRecord read() throws IOException {
+        do {
+            if (!readLine()) {
+                return null;
+            }
+            lineNumber++;
+        } while (!lineTooLong && line.toString().isBlank());
+
+        if (lineTooLong) {
+            return ImportRecord.invalid(lineNumber, "Line exceeds " + MAX_LINE_LENGTH + " characters");
+        }
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line.toString());
+        } catch (JsonProcessingException ex) {
+            return ImportRecord.invalid(lineNumber, "Malformed JSON: " + ex.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return ImportRecord.invalid(lineNumber, "Expected a JSON object");
+        }
+
+        Map<String, String> values = new HashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            values.put(ImportRecord.normalize(field.getKey()),
+                    value.isNull() ? null : value.isValueNode() ? value.asText() : value.toString());
+        }
+        return ImportRecord.of(lineNumber, values);
+    }
+
+    /**
+     * Read the next line into the buffer, keeping at most {@link #MAX_LINE_LENGTH} characters.
+     * Lines end with LF, CR or CRLF.
+     *
+     * @return false at the end of the input
+     */
+    private boolean readLine() throws IOException {
+        line.setLength(0);
+        lineTooLong = false;
+        int c = reader.read();
+        if (c == -1) {
+            return false;
+        }
+        while (c != -1 && c != '\n' && c != '\r') {
+            if (line.length() < MAX_LINE_LENGTH) {
+                line.append((char) c);
+            } else {
+                lineTooLong = true;
+            }
+            c = reader.read();
+        }
+        if (c == '\r') {
+            reader.mark(1);
+            if (reader.read() != '\n') {
+                reader.reset();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,19 @@
+package com.softserve.academy.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads import records one at a time so that files of any size can be processed
+ * without holding them in memory.
+ */
+public interface RecordReader extends Closeable {
+
+    /**
+     * Read the next record.
+     *
+     * @return the next record, or null at the end of the input
+     * @throws IOException if the input cannot be read
+     */
+    ImportRecord read() throws IOException;
+}
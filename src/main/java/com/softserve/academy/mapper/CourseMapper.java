@@ -31,6 +31,7 @@ public class CourseMapper {
                 course.getName(),
                 course.getDescription()
         );
+        dto.setCapacity(course.getCapacity());
 
         // Set teacher information if available
         if (course.getTeacher() != null) {
@@ -66,6 +67,7 @@ public class CourseMapper {
         course.setId(dto.getId());
         course.setName(dto.getName());
         course.setDescription(dto.getDescription());
+        course.setCapacity(dto.getCapacity());
 
         return course;
     }
@@ -32,6 +32,7 @@ public class StudentMapper {
                 student.getLastName(),
                 student.getEmail()
         );
+        dto.setVersion(student.getVersion());
 
         // Map enrolled courses to their IDs
         if (student.getEnrolledCourses() != null) {
@@ -62,6 +63,7 @@ public class StudentMapper {
         student.setFirstName(dto.getFirstName());
         student.setLastName(dto.getLastName());
         student.setEmail(dto.getEmail());
+        student.setVersion(dto.getVersion());
 
         return student;
     }
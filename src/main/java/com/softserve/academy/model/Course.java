@@ -1,16 +1,28 @@
 package com.softserve.academy.model;
 
 import jakarta.persistence.*;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
 
 /**
  * Entity representing a course in the educational system.
+ * Kept in the second-level cache; the seat counter updates in {@link com.softserve.academy.repository.CourseRepository}
+ * declare the courses table as their query space, so they evict the cached courses.
  */
 @Entity
-@Table(name = "courses")
+@Table(name = "courses",
+       indexes = {@Index(name = "idx_courses_teacher_id", columnList = "teacher_id"),
+                  @Index(name = "idx_courses_name", columnList = "name, id")})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,7 +31,8 @@ import java.util.Set;
 public class Course {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "courses_seq")
+    @SequenceGenerator(name = "courses_seq", sequenceName = "courses_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Course name is required")
@@ -29,6 +42,36 @@ public class Course {
     @Column(length = 300)
     private String description;
 
+    /**
+     * Maximum number of enrolled students, or null for no limit.
+     */
+    @Min(value = 1, message = "Capacity must be at least 1")
+    private Integer capacity;
+
+    /**
+     * Seats taken, maintained by conditional updates in {@link com.softserve.academy.repository.CourseRepository}.
+     * Never written from the entity so a stale or form-bound copy cannot overwrite it.
+     */
+    @Column(name = "enrolled_count", nullable = false, updatable = false)
+    private int enrolledCount;
+
+    /**
+     * Optimistic lock version, incremented by Hibernate on every entity update.
+     * The native seat and waitlist updates leave it alone, so enrollments do not
+     * make an open edit form stale.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Time of the last change, including enrollments and waitlist changes, which the
+     * native updates in {@link com.softserve.academy.repository.CourseRepository} record here.
+     */
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "teacher_id")
     private Teacher teacher;
@@ -48,20 +91,27 @@ public class Course {
 
     /**
      * Adds a student to the course and sets the course for the student.
+     * The roster is the inverse side, so it is only updated when already loaded.
      *
      * @param student the student to add
      */
     public void addStudent(Student student) {
-        this.students.add(student);
+        if (Hibernate.isInitialized(this.students)) {
+            this.students.add(student);
+        }
         student.getEnrolledCourses().add(this);
     }
 
     /**
      * Removes a student from the course and clears the course for the student.
+     * The roster is the inverse side, so it is only updated when already loaded.
+     *
      * @param student
      */
     public void removeStudent(Student student) {
-        this.students.remove(student);
+        if (Hibernate.isInitialized(this.students)) {
+            this.students.remove(student);
+        }
         student.getEnrolledCourses().remove(this);
     }
 
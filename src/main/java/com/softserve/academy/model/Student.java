@@ -4,6 +4,9 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.UpdateTimestamp;
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -11,7 +14,8 @@ import java.util.Set;
  * Entity representing a student in the educational system.
  */
 @Entity
-@Table(name = "students")
+@Table(name = "students",
+       indexes = @Index(name = "idx_students_name", columnList = "last_name, first_name, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,7 +25,8 @@ import java.util.Set;
 public class Student {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_seq")
+    @SequenceGenerator(name = "students_seq", sequenceName = "students_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "First name is required")
@@ -37,11 +42,26 @@ public class Student {
     @Column(nullable = false, unique = true)
     private String email;
 
+    /**
+     * Optimistic lock version, incremented by Hibernate on every entity update.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Time of the last change; the newest value in the table versions the list pages.
+     */
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "student_course",
         joinColumns = @JoinColumn(name = "student_id"),
-        inverseJoinColumns = @JoinColumn(name = "course_id")
+        inverseJoinColumns = @JoinColumn(name = "course_id"),
+        indexes = @Index(name = "idx_student_course_course_id", columnList = "course_id, student_id")
     )
     @Builder.Default
     private Set<Course> enrolledCourses = new HashSet<>();
@@ -55,14 +75,20 @@ public class Student {
     }
 
     // Helper methods
+    // The course side is inverse, so it is only kept in sync when already loaded;
+    // initializing it here would fetch the whole roster just to add one entry.
     public void enrollInCourse(Course course) {
         this.enrolledCourses.add(course);
-        course.getStudents().add(this);
+        if (Hibernate.isInitialized(course.getStudents())) {
+            course.getStudents().add(this);
+        }
     }
 
     public void withdrawFromCourse(Course course) {
         this.enrolledCourses.remove(course);
-        course.getStudents().remove(this);
+        if (Hibernate.isInitialized(course.getStudents())) {
+            course.getStudents().remove(this);
+        }
     }
 
 }
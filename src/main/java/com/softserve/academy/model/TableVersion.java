@@ -0,0 +1,44 @@
+package com.softserve.academy.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Entity holding one shard of the change counter of a table, used to version the list pages.
+ * The table's version is the sum of its shards. Each transaction that writes to the table
+ * increments one shard, picked at random by
+ * {@link com.softserve.academy.repository.TableVersionTracker}, so concurrent writers rarely
+ * wait for each other.
+ */
+@Entity
+@Table(name = "table_versions")
+@IdClass(TableVersion.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TableVersion {
+
+    @Id
+    @Column(name = "table_name", length = 64)
+    private String tableName;
+
+    @Id
+    private int shard;
+
+    @Column(nullable = false)
+    private long revision;
+
+    /**
+     * Primary key of a counter shard.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String tableName;
+        private int shard;
+    }
+}
@@ -4,14 +4,22 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Entity representing a teacher in the educational system.
+ * Teachers and their course lists are kept in the second-level cache.
  */
 @Entity
-@Table(name = "teachers")
+@Table(name = "teachers",
+       indexes = @Index(name = "idx_teachers_name", columnList = "last_name, first_name, id"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,7 +29,8 @@ import java.util.List;
 public class Teacher {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "teachers_seq")
+    @SequenceGenerator(name = "teachers_seq", sequenceName = "teachers_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "First name is required")
@@ -37,7 +46,22 @@ public class Teacher {
     @Column(nullable = false, unique = true)
     private String email;
 
+    /**
+     * Optimistic lock version, incremented by Hibernate on every entity update.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Time of the last change; the newest value in the table versions the list pages.
+     */
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
     @OneToMany(mappedBy = "teacher", cascade = {CascadeType.PERSIST, CascadeType.MERGE}, orphanRemoval = false)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @Builder.Default
     private List<Course> courses = new ArrayList<>();
 
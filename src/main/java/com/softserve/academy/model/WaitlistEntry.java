@@ -0,0 +1,45 @@
+package com.softserve.academy.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Entity representing a student's place in the waitlist of a full course.
+ * Entries are served in ID order; the sequence is not pooled so IDs follow join order.
+ */
+@Entity
+@Table(name = "waitlist_entries",
+       uniqueConstraints = @UniqueConstraint(name = "uk_waitlist_course_student", columnNames = {"course_id", "student_id"}),
+       indexes = {@Index(name = "idx_waitlist_course_id", columnList = "course_id, id"),
+                  @Index(name = "idx_waitlist_student_id", columnList = "student_id")})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = {"course", "student"})
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "waitlist_entries_seq")
+    @SequenceGenerator(name = "waitlist_entries_seq", sequenceName = "waitlist_entries_seq", allocationSize = 1)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "course_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Course course;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "student_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Student student;
+
+    // Constructor with fields
+    public WaitlistEntry(Course course, Student student) {
+        this.course = course;
+        this.student = student;
+    }
+}
@@ -1,16 +1,27 @@
 package com.softserve.academy.repository;
 
+import com.softserve.academy.dto.ContentVersion;
+import com.softserve.academy.dto.CourseDTO;
 import com.softserve.academy.model.Course;
 import com.softserve.academy.model.Teacher;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Course entity operations.
+ * Native updates name the tables they write as query spaces, so Hibernate evicts only the
+ * second-level cache regions backed by those tables instead of the whole cache.
  */
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
@@ -47,4 +58,250 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
      */
     @Query("SELECT c FROM Course c WHERE LOWER(c.name) LIKE LOWER(CONCAT('%', :searchText, '%')) OR LOWER(c.description) LIKE LOWER(CONCAT('%', :searchText, '%'))")
     List<Course> searchCourses(String searchText);
-}
\ No newline at end of file
+
+    /**
+     * Find course summaries with an ID greater than the given cursor, in ascending ID order.
+     * Teacher name and enrollment count are resolved in the same statement, so no
+     * association is loaded per row.
+     *
+     * @param after the cursor to start after
+     * @param pageable the page request limiting the number of rows
+     * @return a list of course summaries following the cursor
+     */
+    @Query("SELECT new com.softserve.academy.dto.CourseDTO(c.id, c.name, c.description, t.id, t.firstName, t.lastName, COUNT(s)) " +
+           "FROM Course c LEFT JOIN c.teacher t LEFT JOIN c.students s " +
+           "WHERE c.id > :after " +
+           "GROUP BY c.id, c.name, c.description, t.id, t.firstName, t.lastName " +
+           "ORDER BY c.id ASC")
+    List<CourseDTO> findSummariesAfter(Long after, Pageable pageable);
+
+    /**
+     * Find course summaries with an ID less than the given cursor, in descending ID order.
+     *
+     * @param before the cursor to start before
+     * @param pageable the page request limiting the number of rows
+     * @return a list of course summaries preceding the cursor
+     */
+    @Query("SELECT new com.softserve.academy.dto.CourseDTO(c.id, c.name, c.description, t.id, t.firstName, t.lastName, COUNT(s)) " +
+           "FROM Course c LEFT JOIN c.teacher t LEFT JOIN c.students s " +
+           "WHERE c.id < :before " +
+           "GROUP BY c.id, c.name, c.description, t.id, t.firstName, t.lastName " +
+           "ORDER BY c.id DESC")
+    List<CourseDTO> findSummariesBefore(Long before, Pageable pageable);
+
+    /**
+     * Find the IDs of the courses containing the given text, best matches first.
+     * PostgreSQL only: the ILIKE filters are served by the pg_trgm GIN indexes on name and
+     * description, and matches are ranked by trigram word similarity, name first.
+     *
+     * @param pattern the text to search for, with its LIKE wildcards escaped
+     * @param searchText the text to search for as typed, for the ranking
+     * @param limit the maximum number of IDs to return
+     * @return the matching course IDs in relevance order
+     */
+    @Query(value = "SELECT c.id FROM courses c " +
+                   "WHERE c.name ILIKE ('%' || :pattern || '%') ESCAPE '\\' " +
+                   "OR c.description ILIKE ('%' || :pattern || '%') ESCAPE '\\' " +
+                   "ORDER BY word_similarity(:searchText, c.name) DESC, " +
+                   "word_similarity(:searchText, COALESCE(c.description, '')) DESC, c.id " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<Long> searchRankedIdsByTrigram(String pattern, String searchText, int limit);
+
+    /**
+     * Find the IDs of the courses containing the given text, best matches first.
+     * Portable fallback for databases without pg_trgm: name prefix matches rank above
+     * other name matches, which rank above description-only matches.
+     *
+     * @param pattern the text to search for, with its LIKE wildcards escaped
+     * @param pageable carries the maximum number of IDs to return
+     * @return the matching course IDs in relevance order
+     */
+    @Query("SELECT c.id FROM Course c " +
+           "WHERE LOWER(c.name) LIKE LOWER(CONCAT('%', :pattern, '%')) ESCAPE '\\' " +
+           "OR LOWER(c.description) LIKE LOWER(CONCAT('%', :pattern, '%')) ESCAPE '\\' " +
+           "ORDER BY CASE WHEN LOWER(c.name) LIKE LOWER(CONCAT(:pattern, '%')) ESCAPE '\\' THEN 0 " +
+           "WHEN LOWER(c.name) LIKE LOWER(CONCAT('%', :pattern, '%')) ESCAPE '\\' THEN 1 ELSE 2 END, c.name, c.id")
+    List<Long> searchRankedIds(String pattern, Pageable pageable);
+
+    /**
+     * Find summaries of the given courses.
+     *
+     * @param ids the course IDs
+     * @return the course summaries, in no particular order
+     */
+    @Query("SELECT new com.softserve.academy.dto.CourseDTO(c.id, c.name, c.description, t.id, t.firstName, t.lastName, COUNT(s)) " +
+           "FROM Course c LEFT JOIN c.teacher t LEFT JOIN c.students s " +
+           "WHERE c.id IN :ids " +
+           "GROUP BY c.id, c.name, c.description, t.id, t.firstName, t.lastName")
+    List<CourseDTO> findSummariesByIdIn(Collection<Long> ids);
+
+    /**
+     * Find summaries of the courses the given student is not enrolled in and whose
+     * name starts with the given text, ordered by name.
+     * The prefix must have its LIKE wildcards escaped.
+     *
+     * @param studentId the student ID
+     * @param query the escaped name prefix to match, empty to match all
+     * @param pageable the page request limiting the number of rows
+     * @return a list of course summaries the student is not enrolled in
+     */
+    @Query("SELECT new com.softserve.academy.dto.CourseDTO(c.id, c.name, c.description, t.id, t.firstName, t.lastName, COUNT(s)) " +
+           "FROM Course c LEFT JOIN c.teacher t LEFT JOIN c.students s " +
+           "WHERE NOT EXISTS (SELECT 1 FROM Student e JOIN e.enrolledCourses ec WHERE e.id = :studentId AND ec.id = c.id) " +
+           "AND LOWER(c.name) LIKE LOWER(CONCAT(:query, '%')) ESCAPE '\\' " +
+           "GROUP BY c.id, c.name, c.description, t.id, t.firstName, t.lastName " +
+           "ORDER BY c.name, c.id")
+    List<CourseDTO> findSummariesNotEnrolledByStudent(Long studentId, String query, Pageable pageable);
+
+    /**
+     * Find summaries of the courses not taught by the given teacher and whose
+     * name starts with the given text, ordered by name.
+     * The prefix must have its LIKE wildcards escaped.
+     *
+     * @param teacherId the teacher ID
+     * @param query the escaped name prefix to match, empty to match all
+     * @param pageable the page request limiting the number of rows
+     * @return a list of course summaries not taught by the teacher
+     */
+    @Query("SELECT new com.softserve.academy.dto.CourseDTO(c.id, c.name, c.description, t.id, t.firstName, t.lastName, COUNT(s)) " +
+           "FROM Course c LEFT JOIN c.teacher t LEFT JOIN c.students s " +
+           "WHERE (t IS NULL OR t.id <> :teacherId) " +
+           "AND LOWER(c.name) LIKE LOWER(CONCAT(:query, '%')) ESCAPE '\\' " +
+           "GROUP BY c.id, c.name, c.description, t.id, t.firstName, t.lastName " +
+           "ORDER BY c.name, c.id")
+    List<CourseDTO> findSummariesNotTaughtBy(Long teacherId, String query, Pageable pageable);
+
+    /**
+     * Find which of the given names already belong to a course.
+     *
+     * @param names the names to check
+     * @return the names already in use
+     */
+    @Query("SELECT c.name FROM Course c WHERE c.name IN :names")
+    List<String> findExistingNames(Collection<String> names);
+
+    /**
+     * Find courses by a set of names.
+     *
+     * @param names the names to look up
+     * @return the courses with those names
+     */
+    List<Course> findByNameIn(Collection<String> names);
+
+    /**
+     * Stream summaries of all courses in ID order for export.
+     * Must be consumed inside a read-only transaction; rows are fetched from a
+     * forward-only cursor in batches of the fetch size.
+     *
+     * @return a stream of course summaries, to be closed by the caller
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.softserve.academy.dto.CourseDTO(c.id, c.name, c.description, t.id, t.firstName, t.lastName, COUNT(s)) " +
+           "FROM Course c LEFT JOIN c.teacher t LEFT JOIN c.students s " +
+           "GROUP BY c.id, c.name, c.description, t.id, t.firstName, t.lastName " +
+           "ORDER BY c.id")
+    Stream<CourseDTO> streamAllSummaries();
+
+    /**
+     * Find which of the given IDs belong to a course.
+     *
+     * @param ids the IDs to check
+     * @return the IDs of existing courses
+     */
+    @Query("SELECT c.id FROM Course c WHERE c.id IN :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    /**
+     * Find the IDs of the courses a student is enrolled in.
+     *
+     * @param studentId the student ID
+     * @return the course IDs
+     */
+    @Query("SELECT c.id FROM Student s JOIN s.enrolledCourses c WHERE s.id = :studentId")
+    List<Long> findIdsByStudentId(Long studentId);
+
+    /**
+     * Take seats in a course if enough are free.
+     * The check and the increment are one conditional update, so the row lock taken by the
+     * update serializes concurrent enrollers and the course can never be oversubscribed.
+     *
+     * @param courseId the course ID
+     * @param seats the number of seats to take
+     * @return 1 if the seats were taken, 0 if the course is full or does not exist
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "courses"))
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE courses SET enrolled_count = enrolled_count + :seats, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id = :courseId AND (capacity IS NULL OR enrolled_count + :seats <= capacity)",
+           nativeQuery = true)
+    int reserveSeats(Long courseId, int seats);
+
+    /**
+     * Give back seats in a course.
+     *
+     * @param courseId the course ID
+     * @param seats the number of seats to give back
+     * @return the number of courses updated
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "courses"))
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE courses SET enrolled_count = enrolled_count - :seats, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id = :courseId",
+           nativeQuery = true)
+    int releaseSeats(Long courseId, int seats);
+
+    /**
+     * Give back the seats held by a student, before the student is deleted.
+     *
+     * @param studentId the student ID
+     * @return the number of courses updated
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "courses"))
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE courses SET enrolled_count = enrolled_count - 1, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id IN (SELECT course_id FROM student_course WHERE student_id = :studentId)",
+           nativeQuery = true)
+    int releaseSeatsHeldBy(Long studentId);
+
+    /**
+     * Record a change to a course that is not stored in its row, such as its waitlist,
+     * so that the course's details page gets a new version.
+     *
+     * @param courseId the course ID
+     * @return the number of courses updated
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "courses"))
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE courses SET updated_at = CURRENT_TIMESTAMP WHERE id = :courseId",
+           nativeQuery = true)
+    int touch(Long courseId);
+
+    /**
+     * Get the version of the courses table: its change counter and the latest change.
+     * Enrollments advance both, as the seat updates write the course rows.
+     *
+     * @return the table version
+     */
+    @Query("SELECT new com.softserve.academy.dto.ContentVersion(" +
+           "(SELECT SUM(v.revision) FROM TableVersion v WHERE v.tableName = 'courses'), MAX(c.updatedAt)) FROM Course c")
+    ContentVersion findTableVersion();
+
+    /**
+     * Get the version of one course.
+     *
+     * @param id the course ID
+     * @return the course's lock version and latest change, empty if the course does not exist
+     */
+    @Query("SELECT new com.softserve.academy.dto.ContentVersion(c.version, c.updatedAt) FROM Course c WHERE c.id = :id")
+    Optional<ContentVersion> findVersionById(Long id);
+
+    /**
+     * Find all courses, answered from the query cache until the courses table changes.
+     *
+     * @return all courses
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Course> findAll();
+}
@@ -1,14 +1,27 @@
 package com.softserve.academy.repository;
 
+import com.softserve.academy.dto.ContentVersion;
+import com.softserve.academy.dto.EnrollmentDTO;
+import com.softserve.academy.dto.StudentDTO;
 import com.softserve.academy.model.Student;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Student entity operations.
+ * Native updates name the tables they write as query spaces, so Hibernate evicts only the
+ * second-level cache regions backed by those tables instead of the whole cache.
  */
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
@@ -37,4 +50,231 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      * @return a list of students with the given first and last name
      */
     List<Student> findByFirstNameAndLastName(String firstName, String lastName);
-}
\ No newline at end of file
+
+    /**
+     * Find the students with an ID greater than the given cursor, in ascending ID order.
+     *
+     * @param id the cursor to start after
+     * @param pageable the page request limiting the number of rows
+     * @return a list of students following the cursor
+     */
+    List<Student> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * Find the students with an ID less than the given cursor, in descending ID order.
+     *
+     * @param id the cursor to start before
+     * @param pageable the page request limiting the number of rows
+     * @return a list of students preceding the cursor
+     */
+    List<Student> findByIdLessThanOrderByIdDesc(Long id, Pageable pageable);
+
+    /**
+     * Find flat student summaries with an ID greater than the given cursor, in ascending ID order.
+     * Only the student columns are selected, so no association is loaded.
+     *
+     * @param after the cursor to start after
+     * @param pageable the page request limiting the number of rows
+     * @return a list of student summaries following the cursor
+     */
+    @Query("SELECT new com.softserve.academy.dto.StudentDTO(s.id, s.firstName, s.lastName, s.email) " +
+           "FROM Student s WHERE s.id > :after ORDER BY s.id ASC")
+    List<StudentDTO> findSummariesAfter(Long after, Pageable pageable);
+
+    /**
+     * Find the flat summary of one student.
+     *
+     * @param id the student ID
+     * @return the student summary, empty if the student does not exist
+     */
+    @Query("SELECT new com.softserve.academy.dto.StudentDTO(s.id, s.firstName, s.lastName, s.email) " +
+           "FROM Student s WHERE s.id = :id")
+    Optional<StudentDTO> findSummaryById(Long id);
+
+    /**
+     * Find the enrollments of a course with a student ID greater than the given cursor,
+     * in ascending student ID order.
+     *
+     * @param courseId the course ID
+     * @param after the student ID to start after
+     * @param pageable the page request limiting the number of rows
+     * @return a list of enrollments following the cursor
+     */
+    @Query("SELECT new com.softserve.academy.dto.EnrollmentDTO(s.id, s.email, c.id, c.name) " +
+           "FROM Student s JOIN s.enrolledCourses c " +
+           "WHERE c.id = :courseId AND s.id > :after ORDER BY s.id ASC")
+    List<EnrollmentDTO> findEnrollmentsByCourseAfter(Long courseId, Long after, Pageable pageable);
+
+    /**
+     * Find the enrollments of a student with a course ID greater than the given cursor,
+     * in ascending course ID order.
+     *
+     * @param studentId the student ID
+     * @param after the course ID to start after
+     * @param pageable the page request limiting the number of rows
+     * @return a list of enrollments following the cursor
+     */
+    @Query("SELECT new com.softserve.academy.dto.EnrollmentDTO(s.id, s.email, c.id, c.name) " +
+           "FROM Student s JOIN s.enrolledCourses c " +
+           "WHERE s.id = :studentId AND c.id > :after ORDER BY c.id ASC")
+    List<EnrollmentDTO> findEnrollmentsByStudentAfter(Long studentId, Long after, Pageable pageable);
+
+    /**
+     * Find students who are not enrolled in the given course and whose name or email
+     * starts with the given text, ordered by name.
+     * The prefix must have its LIKE wildcards escaped.
+     *
+     * @param courseId the course ID
+     * @param query the escaped name or email prefix to match, empty to match all
+     * @param pageable the page request limiting the number of rows
+     * @return a list of students not enrolled in the course
+     */
+    @Query("SELECT s FROM Student s " +
+           "WHERE NOT EXISTS (SELECT 1 FROM Student e JOIN e.enrolledCourses ec WHERE e.id = s.id AND ec.id = :courseId) " +
+           "AND (LOWER(s.firstName) LIKE LOWER(CONCAT(:query, '%')) ESCAPE '\\' " +
+           "OR LOWER(s.lastName) LIKE LOWER(CONCAT(:query, '%')) ESCAPE '\\' " +
+           "OR LOWER(s.email) LIKE LOWER(CONCAT(:query, '%')) ESCAPE '\\') " +
+           "ORDER BY s.lastName, s.firstName, s.id")
+    List<Student> findNotEnrolledInCourse(Long courseId, String query, Pageable pageable);
+
+    /**
+     * Find which of the given emails already belong to a student.
+     *
+     * @param emails the emails to check
+     * @return the emails already in use
+     */
+    @Query("SELECT s.email FROM Student s WHERE s.email IN :emails")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Find students by a set of emails.
+     *
+     * @param emails the emails to look up
+     * @return the students with those emails
+     */
+    List<Student> findByEmailIn(Collection<String> emails);
+
+    /**
+     * Enroll a student in a course unless the enrollment already exists.
+     * Writes the join table directly so neither side's collection has to be loaded.
+     * The existence check skips known enrollments cheaply; {@code ON CONFLICT DO NOTHING}
+     * covers an enrollment committed concurrently, which would otherwise fail on the primary key.
+     *
+     * @param studentId the student ID
+     * @param courseId the course ID
+     * @return 1 if the enrollment was created, 0 if it already existed or either side does not exist
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "student_course"))
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO student_course (student_id, course_id) " +
+                   "SELECT s.id, c.id FROM students s JOIN courses c ON c.id = :courseId WHERE s.id = :studentId " +
+                   "AND NOT EXISTS (SELECT 1 FROM student_course sc WHERE sc.student_id = s.id AND sc.course_id = c.id) " +
+                   "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertEnrollment(Long studentId, Long courseId);
+
+    /**
+     * Withdraw a student from a course.
+     * Deletes the join row directly so neither side's collection has to be loaded.
+     *
+     * @param studentId the student ID
+     * @param courseId the course ID
+     * @return 1 if the enrollment was removed, 0 if it did not exist
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "student_course"))
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM student_course WHERE student_id = :studentId AND course_id = :courseId",
+           nativeQuery = true)
+    int deleteEnrollment(Long studentId, Long courseId);
+
+    /**
+     * Stream flat summaries of all students in ID order for export.
+     * Must be consumed inside a read-only transaction; rows are fetched from a
+     * forward-only cursor in batches of the fetch size.
+     *
+     * @return a stream of student summaries, to be closed by the caller
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.softserve.academy.dto.StudentDTO(s.id, s.firstName, s.lastName, s.email) " +
+           "FROM Student s ORDER BY s.id")
+    Stream<StudentDTO> streamAllSummaries();
+
+    /**
+     * Stream all enrollments as flat rows ordered by student and course ID for export.
+     * Must be consumed inside a read-only transaction.
+     *
+     * @return a stream of enrollments, to be closed by the caller
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.softserve.academy.dto.EnrollmentDTO(s.id, s.email, c.id, c.name) " +
+           "FROM Student s JOIN s.enrolledCourses c ORDER BY s.id, c.id")
+    Stream<EnrollmentDTO> streamAllEnrollments();
+
+    /**
+     * Find which of the given IDs belong to a student.
+     *
+     * @param ids the IDs to check
+     * @return the IDs of existing students
+     */
+    @Query("SELECT s.id FROM Student s WHERE s.id IN :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    /**
+     * Find which of the given students are enrolled in a course.
+     *
+     * @param courseId the course ID
+     * @param studentIds the student IDs to check
+     * @return the IDs of the students enrolled in the course
+     */
+    @Query("SELECT s.id FROM Student s JOIN s.enrolledCourses c WHERE c.id = :courseId AND s.id IN :studentIds")
+    List<Long> findEnrolledStudentIds(Long courseId, Collection<Long> studentIds);
+
+    /**
+     * Enroll many students in a course with a single statement.
+     * Unknown student IDs and existing enrollments are skipped, including enrollments
+     * committed concurrently, as in {@link #insertEnrollment}.
+     *
+     * @param courseId the course ID
+     * @param studentIds the student IDs
+     * @return the number of enrollments created
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "student_course"))
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO student_course (student_id, course_id) " +
+                   "SELECT s.id, :courseId FROM students s WHERE s.id IN (:studentIds) " +
+                   "AND NOT EXISTS (SELECT 1 FROM student_course sc WHERE sc.student_id = s.id AND sc.course_id = :courseId) " +
+                   "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertEnrollmentsForCourse(Long courseId, Collection<Long> studentIds);
+
+    /**
+     * Withdraw many students from a course with a single statement.
+     *
+     * @param courseId the course ID
+     * @param studentIds the student IDs
+     * @return the number of enrollments removed
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "student_course"))
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM student_course WHERE course_id = :courseId AND student_id IN (:studentIds)",
+           nativeQuery = true)
+    int deleteEnrollmentsForCourse(Long courseId, Collection<Long> studentIds);
+
+    /**
+     * Get the version of the students table: its change counter and the latest change.
+     *
+     * @return the table version
+     */
+    @Query("SELECT new com.softserve.academy.dto.ContentVersion(" +
+           "(SELECT SUM(v.revision) FROM TableVersion v WHERE v.tableName = 'students'), MAX(s.updatedAt)) FROM Student s")
+    ContentVersion findTableVersion();
+
+    /**
+     * Get the version of one student.
+     *
+     * @param id the student ID
+     * @return the student's lock version and latest change, empty if the student does not exist
+     */
+    @Query("SELECT new com.softserve.academy.dto.ContentVersion(s.version, s.updatedAt) FROM Student s WHERE s.id = :id")
+    Optional<ContentVersion> findVersionById(Long id);
+}
@@ -0,0 +1,218 @@
+package com.softserve.academy.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.QueryHint;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.Joinable;
+import org.hibernate.type.EntityType;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Keeps the change counters in {@code table_versions} that version the list pages.
+ * Every transaction that writes to a versioned table increments the table's counter once,
+ * just before it commits. Entity changes are picked up from Hibernate's events, native
+ * updates from the query spaces declared on the {@link Modifying} repository method, which
+ * this class intercepts. Each counter is spread over several rows and a transaction
+ * increments one picked at random, so writers, such as enrollments in different courses,
+ * rarely wait for each other. Every commit adds to the sum of the rows, so the counters
+ * advance in commit order, unlike timestamps taken while the transaction ran.
+ */
+public class TableVersionTracker implements MethodInterceptor, PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener, PostCollectionRecreateEventListener, PostCollectionUpdateEventListener,
+        PostCollectionRemoveEventListener {
+
+    /**
+     * The tables whose changes are counted.
+     */
+    public static final Set<String> VERSIONED_TABLES = Set.of("courses", "students", "teachers");
+
+    private static final String INCREMENT_SQL =
+            "UPDATE table_versions SET revision = revision + 1 WHERE table_name = ? AND shard = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO table_versions (table_name, shard, revision) VALUES (?, ?, 1) ON CONFLICT DO NOTHING";
+
+    private final EntityManager entityManager;
+    private final int shards;
+
+    // Tables written in the current transaction of each session, counted when it commits
+    private final Map<SharedSessionContractImplementor, Set<String>> pending = new ConcurrentHashMap<>();
+    private final Map<Method, List<String>> modifiedTables = new ConcurrentHashMap<>();
+
+    public TableVersionTracker(EntityManagerFactory entityManagerFactory, EntityManager entityManager, int shards) {
+        this.entityManager = entityManager;
+        this.shards = shards;
+        EventListenerRegistry listeners = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_INSERT, this);
+        listeners.appendListeners(EventType.POST_UPDATE, this);
+        listeners.appendListeners(EventType.POST_DELETE, this);
+        listeners.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        listeners.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        listeners.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+    }
+
+    /**
+     * Count a change to a table in the current transaction.
+     *
+     * @param table the table name; tables that are not versioned are ignored
+     */
+    public void touch(String table) {
+        touch(entityManager.unwrap(SharedSessionContractImplementor.class), table);
+    }
+
+    /**
+     * Run a repository method and count the versioned tables it names as native query spaces
+     * if it is a modifying query.
+     */
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        for (String table : modifiedTables.computeIfAbsent(invocation.getMethod(), TableVersionTracker::modifiedTables)) {
+            touch(table);
+        }
+        return result;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        touch(event.getSession(), event.getPersister());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        touch(event.getSession(), event.getPersister());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        touch(event.getSession(), event.getPersister());
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        touchCollection(event);
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        touchCollection(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        touchCollection(event);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private static List<String> modifiedTables(Method method) {
+        QueryHints hints = method.getAnnotation(QueryHints.class);
+        if (hints == null || !method.isAnnotationPresent(Modifying.class)) {
+            return List.of();
+        }
+        return Arrays.stream(hints.value())
+                .filter(hint -> hint.name().equals(HibernateHints.HINT_NATIVE_SPACES))
+                .map(QueryHint::value)
+                .filter(VERSIONED_TABLES::contains)
+                .toList();
+    }
+
+    // A join table row changes what both sides show; the inverse side writes no rows
+    private void touchCollection(AbstractCollectionEvent event) {
+        CollectionEntry entry = event.getSession().getPersistenceContextInternal().getCollectionEntry(event.getCollection());
+        CollectionPersister persister = entry.getCurrentPersister() != null ? entry.getCurrentPersister() : entry.getLoadedPersister();
+        if (persister == null || persister.isInverse()) {
+            return;
+        }
+        SessionFactoryImplementor factory = event.getSession().getFactory();
+        touch(event.getSession(), persister.getOwnerEntityPersister());
+        if (persister.getElementType() instanceof EntityType elementType) {
+            touch(event.getSession(), elementType.getAssociatedJoinable(factory).getTableName());
+        }
+    }
+
+    private void touch(SharedSessionContractImplementor session, EntityPersister persister) {
+        if (persister instanceof Joinable joinable) {
+            touch(session, joinable.getTableName());
+        }
+    }
+
+    private void touch(SharedSessionContractImplementor session, String table) {
+        if (VERSIONED_TABLES.contains(table)) {
+            pending.computeIfAbsent(session, this::registerCompletion).add(table);
+        }
+    }
+
+    private Set<String> registerCompletion(SharedSessionContractImplementor session) {
+        session.asEventSource().getActionQueue().registerProcess(
+                (BeforeTransactionCompletionProcess) completing -> increment(completing, pending.remove(completing)));
+        session.asEventSource().getActionQueue().registerProcess(
+                (AfterTransactionCompletionProcess) (success, completed) -> pending.remove(completed));
+        return new TreeSet<>();
+    }
+
+    // Tables are incremented in name order, so two transactions cannot wait on each other
+    private void increment(SharedSessionContractImplementor session, Set<String> tables) {
+        if (tables == null) {
+            return;
+        }
+        int shard = ThreadLocalRandom.current().nextInt(shards);
+        session.doWork(connection -> {
+            try (PreparedStatement increment = connection.prepareStatement(INCREMENT_SQL);
+                 PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+                for (String table : tables) {
+                    increment.setString(1, table);
+                    increment.setInt(2, shard);
+                    if (increment.executeUpdate() > 0) {
+                        continue;
+                    }
+                    insert.setString(1, table);
+                    insert.setInt(2, shard);
+                    // A shard created concurrently is incremented once that transaction commits
+                    if (insert.executeUpdate() == 0) {
+                        increment.executeUpdate();
+                    }
+                }
+            }
+        });
+    }
+}
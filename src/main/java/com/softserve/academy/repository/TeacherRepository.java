@@ -1,12 +1,21 @@
 package com.softserve.academy.repository;
 
+import com.softserve.academy.dto.ContentVersion;
+import com.softserve.academy.dto.OptionDTO;
+import com.softserve.academy.dto.TeacherDTO;
 import com.softserve.academy.model.Teacher;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TeacherRepository extends JpaRepository<Teacher, Long> {
@@ -33,4 +42,139 @@ public interface TeacherRepository extends JpaRepository<Teacher, Long> {
 
     @Query("SELECT COUNT(c) FROM Course c WHERE c.teacher.id = :teacherId")
     Long countCoursesByTeacherId(Long teacherId);
+
+    /**
+     * Find teacher summaries with an ID greater than the given cursor, in ascending ID order.
+     * The number of courses of each teacher is counted in the same statement.
+     *
+     * @param after the cursor to start after
+     * @param pageable the page request limiting the number of rows
+     * @return a list of teacher summaries following the cursor
+     */
+    @Query("SELECT new com.softserve.academy.dto.TeacherDTO(t.id, t.firstName, t.lastName, t.email, COUNT(c)) " +
+           "FROM Teacher t LEFT JOIN t.courses c " +
+           "WHERE t.id > :after " +
+           "GROUP BY t.id, t.firstName, t.lastName, t.email " +
+           "ORDER BY t.id ASC")
+    List<TeacherDTO> findSummariesAfter(Long after, Pageable pageable);
+
+    /**
+     * Find teacher summaries with an ID less than the given cursor, in descending ID order.
+     *
+     * @param before the cursor to start before
+     * @param pageable the page request limiting the number of rows
+     * @return a list of teacher summaries preceding the cursor
+     */
+    @Query("SELECT new com.softserve.academy.dto.TeacherDTO(t.id, t.firstName, t.lastName, t.email, COUNT(c)) " +
+           "FROM Teacher t LEFT JOIN t.courses c " +
+           "WHERE t.id < :before " +
+           "GROUP BY t.id, t.firstName, t.lastName, t.email " +
+           "ORDER BY t.id DESC")
+    List<TeacherDTO> findSummariesBefore(Long before, Pageable pageable);
+
+    /**
+     * Find the summary of one teacher, with the number of courses.
+     *
+     * @param id the teacher ID
+     * @return the teacher summary, empty if the teacher does not exist
+     */
+    @Query("SELECT new com.softserve.academy.dto.TeacherDTO(t.id, t.firstName, t.lastName, t.email, COUNT(c)) " +
+           "FROM Teacher t LEFT JOIN t.courses c " +
+           "WHERE t.id = :id " +
+           "GROUP BY t.id, t.firstName, t.lastName, t.email")
+    Optional<TeacherDTO> findSummaryById(Long id);
+
+    /**
+     * Find summaries of the teachers whose first or last name contains the given text.
+     *
+     * @param name the name to search for
+     * @return a list of teacher summaries with matching name
+     */
+    @Query("SELECT new com.softserve.academy.dto.TeacherDTO(t.id, t.firstName, t.lastName, t.email, COUNT(c)) " +
+           "FROM Teacher t LEFT JOIN t.courses c " +
+           "WHERE LOWER(t.firstName) LIKE LOWER(CONCAT('%', :name, '%')) OR LOWER(t.lastName) LIKE LOWER(CONCAT('%', :name, '%')) " +
+           "GROUP BY t.id, t.firstName, t.lastName, t.email " +
+           "ORDER BY t.id ASC")
+    List<TeacherDTO> findSummariesByName(String name);
+
+    /**
+     * Find summaries of the teachers whose first or last name starts with the given prefix.
+     * The prefix must already be lower-cased with LIKE wildcards escaped, so the comparison
+     * can be served by the lower-cased prefix indexes.
+     *
+     * @param prefix the lower-cased, escaped prefix
+     * @return a list of teacher summaries with matching name
+     */
+    @Query("SELECT new com.softserve.academy.dto.TeacherDTO(t.id, t.firstName, t.lastName, t.email, COUNT(c)) " +
+           "FROM Teacher t LEFT JOIN t.courses c " +
+           "WHERE LOWER(t.firstName) LIKE CONCAT(:prefix, '%') ESCAPE '\\' OR LOWER(t.lastName) LIKE CONCAT(:prefix, '%') ESCAPE '\\' " +
+           "GROUP BY t.id, t.firstName, t.lastName, t.email " +
+           "ORDER BY t.id ASC")
+    List<TeacherDTO> findSummariesByNamePrefix(String prefix);
+
+    /**
+     * Find which of the given emails already belong to a teacher.
+     *
+     * @param emails the emails to check
+     * @return the emails already in use
+     */
+    @Query("SELECT t.email FROM Teacher t WHERE t.email IN :emails")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Find teachers by a set of emails.
+     *
+     * @param emails the emails to look up
+     * @return the teachers with those emails
+     */
+    List<Teacher> findByEmailIn(Collection<String> emails);
+
+    /**
+     * Stream flat summaries of all teachers in ID order.
+     * Must be consumed inside a read-only transaction; rows are fetched from a
+     * forward-only cursor in batches of the fetch size.
+     *
+     * @return a stream of teacher summaries, to be closed by the caller
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.softserve.academy.dto.TeacherDTO(t.id, t.firstName, t.lastName, t.email) " +
+           "FROM Teacher t ORDER BY t.id")
+    Stream<TeacherDTO> streamAllSummaries();
+
+    /**
+     * Find teachers as dropdown options labelled with name and email, ordered by name.
+     *
+     * @param pageable the page request limiting the number of rows
+     * @return a list of teacher options
+     */
+    @Query("SELECT new com.softserve.academy.dto.OptionDTO(t.id, CONCAT(t.firstName, ' ', t.lastName, ' (', t.email, ')')) " +
+           "FROM Teacher t ORDER BY t.lastName, t.firstName, t.id")
+    List<OptionDTO> findOptions(Pageable pageable);
+
+    /**
+     * Find all teachers, answered from the query cache until the teachers table changes.
+     *
+     * @return all teachers
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Teacher> findAll();
+
+    /**
+     * Get the version of the teachers table: its change counter and the latest change.
+     *
+     * @return the table version
+     */
+    @Query("SELECT new com.softserve.academy.dto.ContentVersion(" +
+           "(SELECT SUM(v.revision) FROM TableVersion v WHERE v.tableName = 'teachers'), MAX(t.updatedAt)) FROM Teacher t")
+    ContentVersion findTableVersion();
+
+    /**
+     * Get the version of one teacher.
+     *
+     * @param id the teacher ID
+     * @return the teacher's lock version and latest change, empty if the teacher does not exist
+     */
+    @Query("SELECT new com.softserve.academy.dto.ContentVersion(t.version, t.updatedAt) FROM Teacher t WHERE t.id = :id")
+    Optional<ContentVersion> findVersionById(Long id);
 }
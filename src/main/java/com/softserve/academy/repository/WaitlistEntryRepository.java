@@ -0,0 +1,65 @@
+package com.softserve.academy.repository;
+
+import com.softserve.academy.model.WaitlistEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for WaitlistEntry entity operations.
+ */
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    /**
+     * Find the head of a course's waitlist.
+     * Served by the (course_id, id) index, so the cost does not grow with the list.
+     *
+     * @param courseId the course ID
+     * @return an Optional containing the oldest entry if the waitlist is not empty
+     */
+    Optional<WaitlistEntry> findFirstByCourseIdOrderByIdAsc(Long courseId);
+
+    /**
+     * Find a course's waitlist in serving order, with the students fetched.
+     *
+     * @param courseId the course ID
+     * @return the entries, oldest first
+     */
+    @Query("SELECT w FROM WaitlistEntry w JOIN FETCH w.student WHERE w.course.id = :courseId ORDER BY w.id")
+    List<WaitlistEntry> findByCourseIdWithStudent(Long courseId);
+
+    /**
+     * Check whether a student is on a course's waitlist.
+     *
+     * @param courseId the course ID
+     * @param studentId the student ID
+     * @return true if the student is waiting for the course
+     */
+    boolean existsByCourseIdAndStudentId(Long courseId, Long studentId);
+
+    /**
+     * Claim an entry by deleting it. Only one of several concurrent callers sees a row deleted.
+     *
+     * @param id the entry ID
+     * @return 1 if this caller removed the entry, 0 if it was already gone
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM WaitlistEntry w WHERE w.id = :id")
+    int deleteEntry(Long id);
+
+    /**
+     * Remove a student from a course's waitlist.
+     *
+     * @param courseId the course ID
+     * @param studentId the student ID
+     * @return the number of entries removed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM WaitlistEntry w WHERE w.course.id = :courseId AND w.student.id = :studentId")
+    int deleteByCourseIdAndStudentId(Long courseId, Long studentId);
+}
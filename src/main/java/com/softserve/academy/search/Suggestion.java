@@ -0,0 +1,55 @@
+package com.softserve.academy.search;
+
+import java.util.Objects;
+
+/**
+ * A typeahead suggestion pointing at a student, teacher or course.
+ * Two suggestions are equal when they point at the same record.
+ */
+public class Suggestion {
+
+    private final SuggestionType type;
+    private final Long id;
+    private final String label;
+    private final String detail;
+
+    // Constructor with fields
+    public Suggestion(SuggestionType type, Long id, String label, String detail) {
+        this.type = type;
+        this.id = id;
+        this.label = label;
+        this.detail = detail;
+    }
+
+    public SuggestionType getType() {
+        return type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public String getUrl() {
+        return type.getDetailsPath() + id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Suggestion that)) return false;
+        return type == that.type && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, id);
+    }
+}
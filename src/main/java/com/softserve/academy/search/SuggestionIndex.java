@@ -0,0 +1,367 @@
+package com.softserve.academy.search;
+
+import com.softserve.academy.dto.CourseDTO;
+import com.softserve.academy.dto.StudentDTO;
+import com.softserve.academy.dto.TeacherDTO;
+import com.softserve.academy.model.Course;
+import com.softserve.academy.model.Student;
+import com.softserve.academy.model.Teacher;
+import com.softserve.academy.repository.CourseRepository;
+import com.softserve.academy.repository.StudentRepository;
+import com.softserve.academy.repository.TeacherRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-memory prefix index over student, teacher and course names for typeahead.
+ * Every indexed record is split into lower-case word tokens, kept in a sorted map
+ * so that all tokens starting with a prefix form one contiguous key range. Reads are
+ * lock-free; writes are serialized and, when made inside a transaction, applied only
+ * once that transaction commits. The index is kept current by the services that save and
+ * delete the indexed records, and rebuilt from the database in the background once the
+ * application is ready. The rebuild fills a new generation of the index while the current one
+ * keeps serving; writes made in the meantime are applied to both, the new generation
+ * replaying them after the scan, and the new generation then replaces the current one at once.
+ */
+@Component
+public class SuggestionIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SuggestionIndex.class);
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Rough 64-bit JVM object sizes (compressed oops) used for the footprint estimate
+    private static final long STRING_OVERHEAD = 40;
+    private static final long TOKEN_OVERHEAD = 120;
+    private static final long POSTING_OVERHEAD = 40;
+    private static final long ENTRY_OVERHEAD = 144;
+
+    private final StudentRepository studentRepository;
+    private final TeacherRepository teacherRepository;
+    private final CourseRepository courseRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile Generation current = new Generation();
+
+    // Writes made while a rebuild is running, replayed on the new generation; null when idle
+    private List<Consumer<Generation>> replay;
+
+    @Autowired
+    public SuggestionIndex(StudentRepository studentRepository,
+                           TeacherRepository teacherRepository,
+                           CourseRepository courseRepository,
+                           PlatformTransactionManager transactionManager) {
+        this.studentRepository = studentRepository;
+        this.teacherRepository = teacherRepository;
+        this.courseRepository = courseRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Rebuild the whole index from the database, streaming each table once.
+     * Runs asynchronously once the application is ready, so the scan holds up neither readiness
+     * nor the writes of request threads. Failures are logged and leave the current index in place.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.nanoTime();
+        synchronized (this) {
+            if (replay != null) {
+                logger.debug("Suggestion index rebuild already running");
+                return;
+            }
+            replay = new ArrayList<>();
+        }
+        Generation built = new Generation();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<StudentDTO> students = studentRepository.streamAllSummaries()) {
+                    students.forEach(s -> built.put(person(SuggestionType.STUDENT, s.getId(), s.getFirstName(), s.getLastName(), s.getEmail()),
+                            s.getFirstName(), s.getLastName(), localPart(s.getEmail())));
+                }
+                try (Stream<TeacherDTO> teachers = teacherRepository.streamAllSummaries()) {
+                    teachers.forEach(t -> built.put(person(SuggestionType.TEACHER, t.getId(), t.getFirstName(), t.getLastName(), t.getEmail()),
+                            t.getFirstName(), t.getLastName(), localPart(t.getEmail())));
+                }
+                try (Stream<CourseDTO> courses = courseRepository.streamAllSummaries()) {
+                    courses.forEach(c -> built.put(new Suggestion(SuggestionType.COURSE, c.getId(), c.getName(), null), c.getName()));
+                }
+            });
+        } catch (RuntimeException ex) {
+            synchronized (this) {
+                replay = null;
+            }
+            logger.error("Suggestion index rebuild failed, keeping the current index", ex);
+            return;
+        }
+        int replayed;
+        synchronized (this) {
+            replayed = replay.size();
+            replay.forEach(write -> write.accept(built));
+            replay = null;
+            current = built;
+        }
+        logger.info("Suggestion index built with {} entries and {} tokens in {} ms ({} writes replayed)",
+                built.entries.size(), built.tokens.size(), (System.nanoTime() - started) / 1_000_000, replayed);
+    }
+
+    /**
+     * Add or refresh a student.
+     *
+     * @param student the saved student
+     */
+    public void index(Student student) {
+        Suggestion suggestion = person(SuggestionType.STUDENT, student.getId(),
+                student.getFirstName(), student.getLastName(), student.getEmail());
+        String[] texts = {student.getFirstName(), student.getLastName(), localPart(student.getEmail())};
+        afterCommit(() -> apply(generation -> generation.put(suggestion, texts)));
+    }
+
+    /**
+     * Add or refresh a teacher.
+     *
+     * @param teacher the saved teacher
+     */
+    public void index(Teacher teacher) {
+        Suggestion suggestion = person(SuggestionType.TEACHER, teacher.getId(),
+                teacher.getFirstName(), teacher.getLastName(), teacher.getEmail());
+        String[] texts = {teacher.getFirstName(), teacher.getLastName(), localPart(teacher.getEmail())};
+        afterCommit(() -> apply(generation -> generation.put(suggestion, texts)));
+    }
+
+    /**
+     * Add or refresh a course.
+     *
+     * @param course the saved course
+     */
+    public void index(Course course) {
+        Suggestion suggestion = new Suggestion(SuggestionType.COURSE, course.getId(), course.getName(), null);
+        String name = course.getName();
+        afterCommit(() -> apply(generation -> generation.put(suggestion, name)));
+    }
+
+    /**
+     * Drop a record from the index.
+     *
+     * @param type the kind of record
+     * @param id the record ID
+     */
+    public void remove(SuggestionType type, Long id) {
+        Suggestion key = new Suggestion(type, id, null, null);
+        afterCommit(() -> apply(generation -> generation.delete(key)));
+    }
+
+    /**
+     * Find the records with a word starting with each word of the query.
+     * Records matching the first query word exactly come before longer matches.
+     *
+     * @param query the text typed so far
+     * @param limit the maximum number of suggestions
+     * @return the matching suggestions, at most {@code limit}
+     */
+    public List<Suggestion> suggest(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        String first = terms.get(0);
+        Generation generation = current;
+        Set<Suggestion> found = new LinkedHashSet<>();
+        for (Set<Suggestion> postings : generation.tokens.subMap(first, true, first + Character.MAX_VALUE, false).values()) {
+            for (Suggestion suggestion : postings) {
+                Entry entry = generation.entries.get(suggestion);
+                if (entry != null && matchesAll(entry.tokens(), terms) && found.add(suggestion) && found.size() == limit) {
+                    return new ArrayList<>(found);
+                }
+            }
+        }
+        return new ArrayList<>(found);
+    }
+
+    /**
+     * @return the number of indexed records
+     */
+    public int size() {
+        return current.entries.size();
+    }
+
+    /**
+     * @return the number of distinct tokens
+     */
+    public int tokenCount() {
+        return current.tokens.size();
+    }
+
+    /**
+     * Estimate the heap held by the index from its token, posting and entry counts.
+     * The figure assumes a 64-bit JVM with compressed pointers and compact strings. It is kept
+     * up to date by every write, so reading it does not walk the index.
+     *
+     * @return the estimated size in bytes
+     */
+    public long estimatedBytes() {
+        return current.bytes;
+    }
+
+    // Apply a write to the current generation and, while a rebuild runs, queue it for the new one
+    private synchronized void apply(Consumer<Generation> write) {
+        write.accept(current);
+        if (replay != null) {
+            replay.add(write);
+        }
+    }
+
+    private static boolean matchesAll(String[] entryTokens, List<String> terms) {
+        for (int i = 1; i < terms.size(); i++) {
+            boolean matched = false;
+            for (String token : entryTokens) {
+                if (token.startsWith(terms.get(i))) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> result = new ArrayList<>();
+        if (text == null) {
+            return result;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                result.add(token);
+            }
+        }
+        return result;
+    }
+
+    private static Suggestion person(SuggestionType type, Long id, String firstName, String lastName, String email) {
+        return new Suggestion(type, id, firstName + " " + lastName, email);
+    }
+
+    // Only the mailbox name is indexed; the domain is shared by most people and would match every record
+    private static String localPart(String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.indexOf('@');
+        return at < 0 ? email : email.substring(0, at);
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : STRING_OVERHEAD + value.length();
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    /**
+     * The tokens of an indexed record and its share of the estimated footprint.
+     */
+    private record Entry(String[] tokens, long bytes) {
+    }
+
+    /**
+     * One generation of the index: the token map, the tokens of every entry and the estimated
+     * footprint of both. A generation is written by one thread at a time: the rebuild while it
+     * fills a new one, {@link #apply} under the index lock once it is published.
+     */
+    private static final class Generation {
+
+        private final ConcurrentSkipListMap<String, Set<Suggestion>> tokens = new ConcurrentSkipListMap<>();
+        private final Map<Suggestion, Entry> entries = new ConcurrentHashMap<>();
+        private volatile long bytes;
+
+        void put(Suggestion suggestion, String... texts) {
+            delete(suggestion);
+            List<String> entryTokens = new ArrayList<>();
+            for (String text : texts) {
+                for (String token : tokenize(text)) {
+                    if (!entryTokens.contains(token)) {
+                        entryTokens.add(intern(token));
+                    }
+                }
+            }
+            long added = 0;
+            for (String token : entryTokens) {
+                Set<Suggestion> postings = tokens.get(token);
+                if (postings == null) {
+                    postings = ConcurrentHashMap.newKeySet();
+                    tokens.put(token, postings);
+                    added += TOKEN_OVERHEAD + STRING_OVERHEAD + token.length();
+                }
+                if (postings.add(suggestion)) {
+                    added += POSTING_OVERHEAD;
+                }
+            }
+            long entryBytes = ENTRY_OVERHEAD + 4L * entryTokens.size()
+                    + stringBytes(suggestion.getLabel()) + stringBytes(suggestion.getDetail());
+            entries.put(suggestion, new Entry(entryTokens.toArray(new String[0]), entryBytes));
+            bytes += added + entryBytes;
+        }
+
+        void delete(Suggestion suggestion) {
+            Entry entry = entries.remove(suggestion);
+            if (entry == null) {
+                return;
+            }
+            long removed = entry.bytes();
+            for (String token : entry.tokens()) {
+                Set<Suggestion> postings = tokens.get(token);
+                if (postings != null && postings.remove(suggestion)) {
+                    removed += POSTING_OVERHEAD;
+                    if (postings.isEmpty()) {
+                        tokens.remove(token);
+                        removed += TOKEN_OVERHEAD + STRING_OVERHEAD + token.length();
+                    }
+                }
+            }
+            bytes -= removed;
+        }
+
+        // Share one String instance per distinct token between all entries carrying it
+        String intern(String token) {
+            String existing = tokens.ceilingKey(token);
+            return token.equals(existing) ? existing : token;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.softserve.academy.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the size and estimated heap footprint of the suggestion index as
+ * actuator metrics ({@code /actuator/metrics/search.suggest.index.*}).
+ */
+@Component
+public class SuggestionIndexMetrics implements MeterBinder {
+
+    private final SuggestionIndex suggestionIndex;
+
+    @Autowired
+    public SuggestionIndexMetrics(SuggestionIndex suggestionIndex) {
+        this.suggestionIndex = suggestionIndex;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("search.suggest.index.entries", suggestionIndex, SuggestionIndex::size)
+                .description("Number of students, teachers and courses in the suggestion index")
+                .register(registry);
+        Gauge.builder("search.suggest.index.tokens", suggestionIndex, SuggestionIndex::tokenCount)
+                .description("Number of distinct tokens in the suggestion index")
+                .register(registry);
+        Gauge.builder("search.suggest.index.memory", suggestionIndex, SuggestionIndex::estimatedBytes)
+                .description("Estimated heap held by the suggestion index")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+    }
+}
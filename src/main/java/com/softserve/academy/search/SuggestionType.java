@@ -0,0 +1,20 @@
+package com.softserve.academy.search;
+
+/**
+ * Kinds of records offered as typeahead suggestions.
+ */
+public enum SuggestionType {
+    STUDENT("/students/details/"),
+    TEACHER("/teachers/details/"),
+    COURSE("/courses/details/");
+
+    private final String detailsPath;
+
+    SuggestionType(String detailsPath) {
+        this.detailsPath = detailsPath;
+    }
+
+    public String getDetailsPath() {
+        return detailsPath;
+    }
+}
@@ -0,0 +1,69 @@
+package com.softserve.academy.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Servlet filter rejecting unauthenticated requests to the protected paths before they reach
+ * the dispatcher, so no handler lookup, multipart parsing, data binding or validation is done
+ * for them. The session is only looked up, never created; a request is let through when its
+ * session holds a {@link SessionPrincipal}. Rejected page requests are redirected to the login
+ * page, rejected JSON requests get 401 Unauthorized with problem details.
+ */
+public class AuthenticationFilter extends OncePerRequestFilter {
+
+    /**
+     * Servlet URL patterns of the paths that need a signed-in user.
+     */
+    public static final String[] URL_PATTERNS = {
+            "/dashboard", "/courses/*", "/students/*", "/teachers/*",
+            "/import/*", "/export/*", "/search/*", "/api/*"
+    };
+
+    private static final String[] JSON_PATHS = {"/api/", "/search/"};
+
+    private final ObjectMapper objectMapper;
+
+    public AuthenticationFilter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        HttpSession session = request.getSession(false);
+        if (session != null && session.getAttribute(SessionPrincipal.ATTRIBUTE) instanceof SessionPrincipal) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (expectsJson(request)) {
+            ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.UNAUTHORIZED, "Please log in first.");
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), problem);
+        } else {
+            response.sendRedirect(request.getContextPath() + "/login");
+        }
+    }
+
+    private boolean expectsJson(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String prefix : JSON_PATHS) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,60 @@
+package com.softserve.academy.security;
+
+import com.softserve.academy.model.Role;
+import com.softserve.academy.model.User;
+
+import java.io.Serializable;
+
+/**
+ * The signed-in user, stored in the HTTP session under {@link #ATTRIBUTE} at login.
+ * Holds only the ID, username and role rather than the {@link User} entity, so the session stays
+ * small, serializes without touching Hibernate state, and answers "who is this" with one lookup.
+ */
+public final class SessionPrincipal implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Name of the session attribute holding the principal.
+     */
+    public static final String ATTRIBUTE = "principal";
+
+    private final Long userId;
+    private final String username;
+    private final Role role;
+
+    // Constructor with fields
+    public SessionPrincipal(Long userId, String username, Role role) {
+        this.userId = userId;
+        this.username = username;
+        this.role = role;
+    }
+
+    /**
+     * Create the principal for a user who has just logged in.
+     *
+     * @param user the authenticated user
+     * @return the principal
+     */
+    public static SessionPrincipal of(User user) {
+        return new SessionPrincipal(user.getId(), user.getUsername(), user.getRole());
+    }
+
+    // Getters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    @Override
+    public String toString() {
+        return username + " (" + role + ")";
+    }
+}
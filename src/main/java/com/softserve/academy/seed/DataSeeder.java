@@ -0,0 +1,119 @@
+package com.softserve.academy.seed;
+
+import com.softserve.academy.model.Course;
+import com.softserve.academy.model.Role;
+import com.softserve.academy.model.Student;
+import com.softserve.academy.model.Teacher;
+import com.softserve.academy.model.User;
+import com.softserve.academy.service.CourseService;
+import com.softserve.academy.service.StudentService;
+import com.softserve.academy.service.TeacherService;
+import com.softserve.academy.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seeds the admin account and a small set of demo data: a teacher, a course taught by them
+ * and a student enrolled in it.
+ * Runs asynchronously once the application is ready, so it does not hold up startup, and only
+ * outside the prod and test profiles when {@code app.seed.enabled} is set. The flag is off by
+ * default, so a jar built or started with the wrong profile still never creates the known admin
+ * password. Every record is looked up before it is created, so
+ * restarting against an existing database adds nothing. The run is recorded as the
+ * {@code app.seed} step of the actuator {@code startup} endpoint.
+ */
+@Component
+@Profile("!prod & !test")
+@ConditionalOnProperty(prefix = "app.seed", name = "enabled", havingValue = "true")
+public class DataSeeder {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSeeder.class);
+
+    private final UserService userService;
+    private final TeacherService teacherService;
+    private final CourseService courseService;
+    private final StudentService studentService;
+    private final ApplicationStartup applicationStartup;
+
+    @Autowired
+    public DataSeeder(UserService userService, TeacherService teacherService, CourseService courseService,
+                      StudentService studentService, ApplicationStartup applicationStartup) {
+        this.userService = userService;
+        this.teacherService = teacherService;
+        this.courseService = courseService;
+        this.studentService = studentService;
+        this.applicationStartup = applicationStartup;
+    }
+
+    /**
+     * Seed the admin account and the demo data.
+     * Failures are logged rather than thrown, as nobody is waiting for the result.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        StartupStep step = applicationStartup.start("app.seed");
+        long begin = System.nanoTime();
+        try {
+            seedAdmin();
+            seedDemoData();
+            logger.info("Seed data ready in {} ms", (System.nanoTime() - begin) / 1_000_000);
+        } catch (RuntimeException e) {
+            step.tag("failure", String.valueOf(e.getMessage()));
+            logger.error("Seeding failed: {}", e.getMessage(), e);
+        } finally {
+            step.end();
+        }
+    }
+
+    /**
+     * Create the admin user if it doesn't exist.
+     */
+    void seedAdmin() {
+        if (!userService.usernameExists("admin")) {
+            userService.registerUser(new User("admin", "admin123", "admin@example.com", "Admin", Role.ADMIN));
+            logger.info("Created admin user");
+        }
+    }
+
+    /**
+     * Create the demo teacher, course and student if they don't exist, and link them.
+     */
+    void seedDemoData() {
+        Teacher teacher = teacherService.findByEmail("john.smith@example.com")
+                .orElseGet(() -> teacherService.saveTeacher(Teacher.builder()
+                        .firstName("John")
+                        .lastName("Smith")
+                        .email("john.smith@example.com")
+                        .build()));
+
+        Course course = courseService.findByName("Java Programming")
+                .orElseGet(() -> courseService.saveCourse(Course.builder()
+                        .name("Java Programming")
+                        .description("Introduction to Java programming language")
+                        .build()));
+        if (course.getTeacher() == null) {
+            courseService.assignTeacherToCourse(course.getId(), teacher.getId());
+        }
+
+        Student student = studentService.findByEmail("jane.doe@example.com")
+                .orElseGet(() -> studentService.saveStudent(Student.builder()
+                        .firstName("Jane")
+                        .lastName("Doe")
+                        .email("jane.doe@example.com")
+                        .build()));
+        if (studentService.enrollStudentInCourse(student.getId(), course.getId())) {
+            logger.info("Seeded demo data: teacher {}, course {}, student {}",
+                    teacher.getId(), course.getId(), student.getId());
+        }
+    }
+}
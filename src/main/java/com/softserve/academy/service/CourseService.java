@@ -1,18 +1,35 @@
 package com.softserve.academy.service;
 
+import com.softserve.academy.config.SearchProperties;
+import com.softserve.academy.dto.ContentVersion;
+import com.softserve.academy.dto.CourseDTO;
+import com.softserve.academy.dto.EnrollmentChangeResult;
+import com.softserve.academy.dto.EnrollmentDTO;
+import com.softserve.academy.dto.KeysetPage;
+import com.softserve.academy.exception.CourseFullException;
 import com.softserve.academy.model.Course;
 import com.softserve.academy.model.Student;
 import com.softserve.academy.model.Teacher;
 import com.softserve.academy.repository.CourseRepository;
 import com.softserve.academy.repository.StudentRepository;
 import com.softserve.academy.repository.TeacherRepository;
+import com.softserve.academy.search.SuggestionIndex;
+import com.softserve.academy.search.SuggestionType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service class for handling Course-related business logic.
@@ -23,14 +40,23 @@ public class CourseService {
     private final CourseRepository courseRepository;
     private final TeacherRepository teacherRepository;
     private final StudentRepository studentRepository;
+    private final WaitlistService waitlistService;
+    private final SearchProperties searchProperties;
+    private final SuggestionIndex suggestionIndex;
 
     @Autowired
     public CourseService(CourseRepository courseRepository, 
                          TeacherRepository teacherRepository,
-                         StudentRepository studentRepository) {
+                         StudentRepository studentRepository,
+                         WaitlistService waitlistService,
+                         SearchProperties searchProperties,
+                         SuggestionIndex suggestionIndex) {
         this.courseRepository = courseRepository;
         this.teacherRepository = teacherRepository;
         this.studentRepository = studentRepository;
+        this.waitlistService = waitlistService;
+        this.searchProperties = searchProperties;
+        this.suggestionIndex = suggestionIndex;
     }
 
     /**
@@ -38,28 +64,116 @@ public class CourseService {
      *
      * @return list of all courses
      */
+    @Transactional(readOnly = true)
     public List<Course> getAllCourses() {
         return courseRepository.findAll();
     }
 
+    /**
+     * Get one page of course summaries using keyset pagination on the course ID.
+     * When {@code before} is given the page preceding that cursor is returned,
+     * otherwise the page following {@code after} (or the first page).
+     * Each page is read with a single query, including teacher names and enrollment counts.
+     *
+     * @param after the ID to start after, or null
+     * @param before the ID to end before, or null
+     * @param size the page size
+     * @return the page of course summaries
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<CourseDTO> getCoursesPage(Long after, Long before, int size) {
+        PageRequest limit = PageRequest.ofSize(size + 1);
+        if (before != null) {
+            return KeysetPage.backward(courseRepository.findSummariesBefore(before, limit),
+                    before, size, CourseDTO::getId);
+        }
+        return KeysetPage.forward(courseRepository.findSummariesAfter(after != null ? after : 0L, limit),
+                after, size, CourseDTO::getId);
+    }
+
+    /**
+     * Get the summary of a course with its teacher name and enrollment count.
+     *
+     * @param id the course ID
+     * @return the course summary if found, otherwise empty Optional
+     */
+    @Transactional(readOnly = true)
+    public Optional<CourseDTO> getCourseSummary(Long id) {
+        return courseRepository.findSummariesByIdIn(List.of(id)).stream().findFirst();
+    }
+
+    /**
+     * Get one page of a course's enrollments following a student ID cursor.
+     *
+     * @param courseId the course ID
+     * @param after the student ID to start after, or null for the first page
+     * @param size the page size
+     * @return the page of enrollments
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<EnrollmentDTO> getEnrollmentsPage(Long courseId, Long after, int size) {
+        requireCourse(courseId);
+        return KeysetPage.forward(studentRepository.findEnrollmentsByCourseAfter(courseId, after != null ? after : 0L,
+                PageRequest.ofSize(size + 1)), after, size, EnrollmentDTO::getStudentId);
+    }
+
+    /**
+     * Get the versions of the data shown on the course list: the courses, including
+     * their enrollment counts, and the teachers whose names are listed.
+     *
+     * @return the versions to build the list's ETag from
+     */
+    @Transactional(readOnly = true)
+    public List<ContentVersion> getCourseListVersions() {
+        return List.of(courseRepository.findTableVersion(), teacherRepository.findTableVersion());
+    }
+
+    /**
+     * Get the versions of the data shown on a course's details page: the course with its
+     * enrollments and waitlist, the students offered for enrollment and the teacher options.
+     *
+     * @param id the course ID
+     * @return the versions to build the page's ETag from, empty if the course does not exist
+     */
+    @Transactional(readOnly = true)
+    public List<ContentVersion> getCourseDetailsVersions(Long id) {
+        return courseRepository.findVersionById(id)
+                .map(course -> List.of(course, studentRepository.findTableVersion(), teacherRepository.findTableVersion()))
+                .orElse(List.of());
+    }
+
     /**
      * Get course by ID.
      *
      * @param id the course ID
      * @return the course if found, otherwise empty Optional
      */
+    @Transactional(readOnly = true)
     public Optional<Course> getCourseById(Long id) {
         return courseRepository.findById(id);
     }
 
     /**
      * Save a course.
+     * Seats added by raising or removing the capacity go to the course's waitlist
+     * in the same transaction.
      *
      * @param course the course to save
      * @return the saved course
      */
+    @Transactional
     public Course saveCourse(Course course) {
-        return courseRepository.save(course);
+        int addedSeats = course.getId() == null ? 0 : courseRepository.findById(course.getId())
+                .map(existing -> addedSeats(existing.getCapacity(), course.getCapacity()))
+                .orElse(0);
+        Course saved = courseRepository.save(course);
+        for (int seat = 0; seat < addedSeats; seat++) {
+            if (waitlistService.promoteNext(saved.getId()).isEmpty()) {
+                break;
+            }
+        }
+        suggestionIndex.index(saved);
+        return saved;
     }
 
     /**
@@ -69,6 +183,7 @@ public class CourseService {
      */
     public void deleteCourse(Long id) {
         courseRepository.deleteById(id);
+        suggestionIndex.remove(SuggestionType.COURSE, id);
     }
 
     /**
@@ -77,6 +192,7 @@ public class CourseService {
      * @param name the name to search for
      * @return the course if found, otherwise empty Optional
      */
+    @Transactional(readOnly = true)
     public Optional<Course> findByName(String name) {
         return courseRepository.findByName(name);
     }
@@ -108,6 +224,7 @@ public class CourseService {
      * @param courseId the course ID
      * @return set of students enrolled in the course
      */
+    @Transactional(readOnly = true)
     public Set<Student> getEnrolledStudents(Long courseId) {
         Course course = courseRepository.findById(courseId)
                 .orElseThrow(() -> new IllegalArgumentException("Course not found with ID: " + courseId));
@@ -121,55 +238,201 @@ public class CourseService {
      * @param searchText the text to search for
      * @return list of courses matching the search criteria
      */
+    @Transactional(readOnly = true)
     public List<Course> searchCourses(String searchText) {
         return courseRepository.searchCourses(searchText);
     }
 
+    /**
+     * Search course summaries by text in name or description, best matches first.
+     * Uses the trigram-indexed query when enabled and the portable LIKE query otherwise;
+     * either way the result is capped at the configured limit. The text matches literally,
+     * wildcards included, and blank text matches nothing.
+     *
+     * @param searchText the text to search for
+     * @return list of course summaries matching the search criteria
+     */
+    @Transactional(readOnly = true)
+    public List<CourseDTO> searchCourseSummaries(String searchText) {
+        String text = searchText != null ? searchText.trim() : "";
+        if (text.isEmpty()) {
+            return List.of();
+        }
+        String pattern = LikePatterns.escape(text);
+        List<Long> ids = searchProperties.isTrigram()
+                ? courseRepository.searchRankedIdsByTrigram(pattern, text, searchProperties.getLimit())
+                : courseRepository.searchRankedIds(pattern, PageRequest.ofSize(searchProperties.getLimit()));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, CourseDTO> summaries = courseRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(CourseDTO::getId, Function.identity()));
+        return ids.stream().map(summaries::get).filter(Objects::nonNull).toList();
+    }
+
     /**
      * Get courses taught by a specific teacher.
      *
      * @param teacherId the teacher ID
      * @return list of courses taught by the teacher
      */
+    @Transactional(readOnly = true)
     public List<Course> getCoursesByTeacher(Long teacherId) {
         return courseRepository.findByTeacherId(teacherId);
     }
 
+    /**
+     * Get summaries of the courses a student is not enrolled in, filtered by a name prefix.
+     * The set difference is computed by the database and capped at the given limit.
+     *
+     * @param studentId the student ID
+     * @param query the course name prefix to match, may be null
+     * @param limit the maximum number of courses to return
+     * @return list of course summaries the student is not enrolled in
+     */
+    @Transactional(readOnly = true)
+    public List<CourseDTO> getCoursesNotEnrolledByStudent(Long studentId, String query, int limit) {
+        String prefix = query != null ? LikePatterns.escape(query.trim()) : "";
+        return courseRepository.findSummariesNotEnrolledByStudent(studentId, prefix, PageRequest.ofSize(limit));
+    }
+
+    /**
+     * Get summaries of the courses not taught by a teacher, filtered by a name prefix.
+     *
+     * @param teacherId the teacher ID
+     * @param query the course name prefix to match, may be null
+     * @param limit the maximum number of courses to return
+     * @return list of course summaries not taught by the teacher
+     */
+    @Transactional(readOnly = true)
+    public List<CourseDTO> getCoursesNotTaughtBy(Long teacherId, String query, int limit) {
+        String prefix = query != null ? LikePatterns.escape(query.trim()) : "";
+        return courseRepository.findSummariesNotTaughtBy(teacherId, prefix, PageRequest.ofSize(limit));
+    }
+
     /**
      * Add a student to a course.
+     * The join row is written directly, so the course's roster is never loaded.
      *
      * @param courseId the course ID
      * @param studentId the student ID
-     * @return the updated course
+     * @return true if the student was added, false if already enrolled
+     * @throws CourseFullException if the course has no free seat
      */
     @Transactional
-    public Course addStudentToCourse(Long courseId, Long studentId) {
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new IllegalArgumentException("Course not found with ID: " + courseId));
-        
-        Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new IllegalArgumentException("Student not found with ID: " + studentId));
-        
-        course.addStudent(student);
-        return courseRepository.save(course);
+    public boolean addStudentToCourse(Long courseId, Long studentId) {
+        if (studentRepository.insertEnrollment(studentId, courseId) > 0) {
+            if (courseRepository.reserveSeats(courseId, 1) == 0) {
+                throw new CourseFullException(courseId);
+            }
+            return true;
+        }
+        requireCourse(courseId);
+        requireStudent(studentId);
+        return false;
     }
 
     /**
      * Remove a student from a course.
+     * The join row is deleted directly, so the course's roster is never loaded.
+     * The freed seat goes to the head of the course's waitlist in the same transaction.
      *
      * @param courseId the course ID
      * @param studentId the student ID
-     * @return the updated course
+     * @return true if the student was removed, false if not enrolled
      */
     @Transactional
-    public Course removeStudentFromCourse(Long courseId, Long studentId) {
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new IllegalArgumentException("Course not found with ID: " + courseId));
-        
-        Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new IllegalArgumentException("Student not found with ID: " + studentId));
-        
-        course.removeStudent(student);
-        return courseRepository.save(course);
+    public boolean removeStudentFromCourse(Long courseId, Long studentId) {
+        if (studentRepository.deleteEnrollment(studentId, courseId) > 0) {
+            courseRepository.releaseSeats(courseId, 1);
+            waitlistService.promoteNext(courseId);
+            return true;
+        }
+        requireCourse(courseId);
+        requireStudent(studentId);
+        return false;
+    }
+
+    /**
+     * Enroll many students in a course in one transaction.
+     * The join rows are inserted with a single set-based statement; students that are
+     * already enrolled or do not exist are skipped and reported. The batch is rejected
+     * as a whole if the course does not have a seat for every new student.
+     *
+     * @param courseId the course ID
+     * @param studentIds the student IDs
+     * @return which students were enrolled, already enrolled or not found
+     * @throws CourseFullException if the course does not have enough free seats
+     */
+    @Transactional
+    public EnrollmentChangeResult addStudentsToCourse(Long courseId, Collection<Long> studentIds) {
+        requireCourse(courseId);
+        Set<Long> requested = new LinkedHashSet<>(studentIds);
+        if (requested.isEmpty()) {
+            return EnrollmentChangeResult.partition(requested, Set.of(), Set.of());
+        }
+
+        Set<Long> existing = new HashSet<>(studentRepository.findExistingIds(requested));
+        Set<Long> enrolled = new HashSet<>(studentRepository.findEnrolledStudentIds(courseId, requested));
+        int inserted = studentRepository.insertEnrollmentsForCourse(courseId, requested);
+        if (inserted > 0 && courseRepository.reserveSeats(courseId, inserted) == 0) {
+            throw new CourseFullException(courseId);
+        }
+        return EnrollmentChangeResult.partition(requested, existing, enrolled);
+    }
+
+    /**
+     * Withdraw many students from a course in one transaction with a single set-based statement.
+     * Each freed seat goes to the next student on the course's waitlist.
+     *
+     * @param courseId the course ID
+     * @param studentIds the student IDs
+     * @return which students were withdrawn, were not enrolled or not found
+     */
+    @Transactional
+    public EnrollmentChangeResult removeStudentsFromCourse(Long courseId, Collection<Long> studentIds) {
+        requireCourse(courseId);
+        Set<Long> requested = new LinkedHashSet<>(studentIds);
+        if (requested.isEmpty()) {
+            return EnrollmentChangeResult.partition(requested, Set.of(), Set.of());
+        }
+
+        Set<Long> existing = new HashSet<>(studentRepository.findExistingIds(requested));
+        Set<Long> notEnrolled = new HashSet<>(existing);
+        notEnrolled.removeAll(studentRepository.findEnrolledStudentIds(courseId, requested));
+        int deleted = studentRepository.deleteEnrollmentsForCourse(courseId, requested);
+        if (deleted > 0) {
+            courseRepository.releaseSeats(courseId, deleted);
+            for (int seat = 0; seat < deleted; seat++) {
+                if (waitlistService.promoteNext(courseId).isEmpty()) {
+                    break;
+                }
+            }
+        }
+        return EnrollmentChangeResult.partition(requested, existing, notEnrolled);
+    }
+
+    // A null capacity is unlimited
+    private static int addedSeats(Integer previousCapacity, Integer capacity) {
+        if (previousCapacity == null) {
+            return 0;
+        }
+        if (capacity == null) {
+            return Integer.MAX_VALUE;
+        }
+        return Math.max(capacity - previousCapacity, 0);
+    }
+
+    private void requireCourse(Long courseId) {
+        if (!courseRepository.existsById(courseId)) {
+            throw new IllegalArgumentException("Course not found with ID: " + courseId);
+        }
+    }
+
+    private void requireStudent(Long studentId) {
+        if (!studentRepository.existsById(studentId)) {
+            throw new IllegalArgumentException("Student not found with ID: " + studentId);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,23 @@
+package com.softserve.academy.service;
+
+/**
+ * Helpers for passing user input to LIKE comparisons.
+ */
+final class LikePatterns {
+
+    private LikePatterns() {
+    }
+
+    /**
+     * Escape the LIKE wildcards in a text so it only matches itself, for queries
+     * declaring {@code ESCAPE '\'}.
+     *
+     * @param text the text to escape
+     * @return the text with backslashes, percent signs and underscores escaped
+     */
+    static String escape(String text) {
+        return text.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,105 @@
+package com.softserve.academy.service;
+
+import com.softserve.academy.config.PaginationProperties;
+import com.softserve.academy.dto.OptionDTO;
+import com.softserve.academy.dto.OptionList;
+import com.softserve.academy.repository.TeacherRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service holding precomputed dropdown option lists.
+ * A list is loaded from the database on first use as lightweight id/label pairs,
+ * capped at the configured option limit, and served from memory until the services
+ * that change the underlying rows invalidate it or the option TTL runs out. Invalidation is
+ * local to this instance, so the TTL bounds how long other instances serve a changed list.
+ * Each reload gets a new version.
+ * Reloads read the primary in a transaction of their own: a list loaded from a lagging read
+ * replica would keep the stale rows until the next invalidation.
+ */
+@Service
+public class OptionListService {
+
+    private final TeacherRepository teacherRepository;
+    private final PaginationProperties paginationProperties;
+    private final TransactionTemplate primaryTransaction;
+
+    private long teacherVersion;
+    private volatile CachedOptions teacherOptions;
+
+    @Autowired
+    public OptionListService(TeacherRepository teacherRepository, PaginationProperties paginationProperties,
+                             PlatformTransactionManager transactionManager) {
+        this.teacherRepository = teacherRepository;
+        this.paginationProperties = paginationProperties;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Get the teacher options for the course forms.
+     *
+     * @return the cached teacher options, loaded if missing
+     */
+    public OptionList getTeacherOptions() {
+        CachedOptions cached = teacherOptions;
+        return cached != null && cached.isFresh() ? cached.options() : loadTeacherOptions();
+    }
+
+    /**
+     * Drop the cached teacher options after a teacher was added, changed or removed.
+     * Inside a transaction the list is dropped once it commits, so it cannot be reloaded
+     * from rows that are about to change.
+     */
+    public void invalidateTeacherOptions() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clearTeacherOptions();
+                }
+            });
+        } else {
+            clearTeacherOptions();
+        }
+    }
+
+    // Loading and clearing share the lock, so a load racing an invalidation cannot publish stale rows
+    private synchronized OptionList loadTeacherOptions() {
+        CachedOptions cached = teacherOptions;
+        if (cached == null || !cached.isFresh()) {
+            int limit = paginationProperties.getOptionLimit();
+            List<OptionDTO> rows = primaryTransaction.execute(status ->
+                    teacherRepository.findOptions(PageRequest.ofSize(limit + 1)));
+            boolean truncated = rows.size() > limit;
+            OptionList options = new OptionList(++teacherVersion,
+                    truncated ? new ArrayList<>(rows.subList(0, limit)) : rows, truncated);
+            cached = new CachedOptions(options, System.nanoTime() + paginationProperties.getOptionTtl().toNanos());
+            teacherOptions = cached;
+        }
+        return cached.options();
+    }
+
+    private synchronized void clearTeacherOptions() {
+        teacherOptions = null;
+    }
+
+    /**
+     * A loaded option list with the {@link System#nanoTime()} at which it expires.
+     */
+    private record CachedOptions(OptionList options, long expiresAt) {
+
+        boolean isFresh() {
+            return System.nanoTime() - expiresAt < 0;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.softserve.academy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.academy.exporter.CsvRecordWriter;
+import com.softserve.academy.exporter.ExportFormat;
+import com.softserve.academy.exporter.ExportType;
+import com.softserve.academy.exporter.NdjsonRecordWriter;
+import com.softserve.academy.exporter.RecordWriter;
+import com.softserve.academy.repository.CourseRepository;
+import com.softserve.academy.repository.StudentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Service for full roster extracts.
+ * Rows are read as flat DTO projections from a forward-only cursor and written to the
+ * output stream as they arrive, so heap use is bounded by the fetch size rather than
+ * by the number of rows exported.
+ */
+@Service
+public class RosterExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RosterExportService.class);
+
+    private final StudentRepository studentRepository;
+    private final CourseRepository courseRepository;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public RosterExportService(StudentRepository studentRepository,
+                               CourseRepository courseRepository,
+                               ObjectMapper objectMapper) {
+        this.studentRepository = studentRepository;
+        this.courseRepository = courseRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Export all rows of a type to a stream. The stream is flushed but not closed.
+     *
+     * @param type the kind of rows to export
+     * @param format the output format
+     * @param output the stream to write to
+     * @return the number of rows written
+     * @throws IOException if the output cannot be written
+     */
+    @Transactional(readOnly = true)
+    public long export(ExportType type, ExportFormat format, OutputStream output) throws IOException {
+        RecordWriter writer = switch (format) {
+            case CSV -> new CsvRecordWriter(output);
+            case NDJSON -> new NdjsonRecordWriter(output, objectMapper);
+        };
+        writer.writeHeader(type.getColumns());
+
+        long count = 0;
+        try (Stream<List<?>> rows = streamRows(type)) {
+            Iterator<List<?>> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.writeRow(iterator.next());
+                count++;
+            }
+        }
+        writer.flush();
+
+        logger.info("Exported {} {} rows as {}", count, type.getPath(), format.getExtension());
+        return count;
+    }
+
+    private Stream<List<?>> streamRows(ExportType type) {
+        return switch (type) {
+            case STUDENTS -> studentRepository.streamAllSummaries()
+                    .map(student -> Arrays.asList(student.getId(), student.getFirstName(),
+                            student.getLastName(), student.getEmail()));
+            case COURSES -> courseRepository.streamAllSummaries()
+                    .map(course -> Arrays.asList(course.getId(), course.getName(), course.getDescription(),
+                            course.getTeacherId(), course.getTeacherName(), course.getEnrollmentCount()));
+            case ENROLLMENTS -> studentRepository.streamAllEnrollments()
+                    .map(enrollment -> Arrays.asList(enrollment.getStudentId(), enrollment.getStudentEmail(),
+                            enrollment.getCourseId(), enrollment.getCourseName()));
+        };
+    }
+}
@@ -0,0 +1,345 @@
+package com.softserve.academy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.academy.config.ImportProperties;
+import com.softserve.academy.dto.CourseDTO;
+import com.softserve.academy.dto.EnrollmentDTO;
+import com.softserve.academy.dto.ImportResult;
+import com.softserve.academy.dto.StudentDTO;
+import com.softserve.academy.dto.TeacherDTO;
+import com.softserve.academy.importer.CsvRecordReader;
+import com.softserve.academy.importer.ImportFormat;
+import com.softserve.academy.importer.ImportRecord;
+import com.softserve.academy.importer.ImportType;
+import com.softserve.academy.importer.NdjsonRecordReader;
+import com.softserve.academy.importer.RecordReader;
+import com.softserve.academy.model.Course;
+import com.softserve.academy.model.Student;
+import com.softserve.academy.model.Teacher;
+import com.softserve.academy.repository.CourseRepository;
+import com.softserve.academy.repository.StudentRepository;
+import com.softserve.academy.repository.TeacherRepository;
+import com.softserve.academy.search.SuggestionIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service for bulk roster imports.
+ * Records are read one at a time from the input stream, validated against the same
+ * constraints as the form DTOs and written in fixed-size chunks, each in its own
+ * transaction. The persistence context is cleared after every chunk, so memory use
+ * does not grow with the size of the file.
+ */
+@Service
+public class RosterImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RosterImportService.class);
+
+    private final StudentRepository studentRepository;
+    private final TeacherRepository teacherRepository;
+    private final CourseRepository courseRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ImportProperties importProperties;
+    private final SuggestionIndex suggestionIndex;
+    private final OptionListService optionListService;
+
+    @Autowired
+    public RosterImportService(StudentRepository studentRepository,
+                               TeacherRepository teacherRepository,
+                               CourseRepository courseRepository,
+                               EntityManager entityManager,
+                               PlatformTransactionManager transactionManager,
+                               Validator validator,
+                               ObjectMapper objectMapper,
+                               ImportProperties importProperties,
+                               SuggestionIndex suggestionIndex,
+                               OptionListService optionListService) {
+        this.studentRepository = studentRepository;
+        this.teacherRepository = teacherRepository;
+        this.courseRepository = courseRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.importProperties = importProperties;
+        this.suggestionIndex = suggestionIndex;
+        this.optionListService = optionListService;
+    }
+
+    /**
+     * Import roster records from a stream.
+     *
+     * @param type the kind of records in the stream
+     * @param format the format of the stream
+     * @param input the stream to read, UTF-8 encoded
+     * @return the import result with row counts and per-row errors
+     * @throws IOException if the stream cannot be read
+     */
+    public ImportResult importRecords(ImportType type, ImportFormat format, InputStream input) throws IOException {
+        ImportResult result = new ImportResult(type.getPath(), importProperties.getMaxErrors());
+        int chunkSize = importProperties.getChunkSize();
+
+        try (RecordReader reader = openReader(format, input)) {
+            List<ImportRecord> chunk = new ArrayList<>(chunkSize);
+            ImportRecord record;
+            while ((record = reader.read()) != null) {
+                result.recordProcessed();
+                if (!record.isValid()) {
+                    result.addError(record.getLine(), record.getError());
+                    continue;
+                }
+                chunk.add(record);
+                if (chunk.size() == chunkSize) {
+                    writeChunk(type, chunk, result);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(type, chunk, result);
+            }
+        }
+
+        logger.info("Imported {}: {} processed, {} imported, {} skipped, {} failed",
+                type.getPath(), result.getProcessed(), result.getImported(), result.getSkipped(), result.getFailed());
+        return result;
+    }
+
+    private RecordReader openReader(ImportFormat format, InputStream input) throws IOException {
+        Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8);
+        return switch (format) {
+            case CSV -> new CsvRecordReader(reader);
+            case NDJSON -> new NdjsonRecordReader(reader, objectMapper);
+        };
+    }
+
+    /**
+     * Validate and write one chunk in its own transaction. If the transaction fails,
+     * every row of the chunk that was about to be written is reported as failed.
+     */
+    private void writeChunk(ImportType type, List<ImportRecord> chunk, ImportResult result) {
+        List<ImportRecord> written = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                switch (type) {
+                    case STUDENTS -> writeStudents(chunk, result, written);
+                    case TEACHERS -> writeTeachers(chunk, result, written);
+                    case COURSES -> writeCourses(chunk, result, written);
+                    case ENROLLMENTS -> writeEnrollments(chunk, result, written);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+            result.addImported(written.size());
+        } catch (DataAccessException | PersistenceException | TransactionException ex) {
+            logger.warn("Import chunk starting at line {} rolled back: {}", chunk.get(0).getLine(), ex.getMessage());
+            entityManager.clear();
+            for (ImportRecord record : written) {
+                result.addError(record.getLine(), "Not imported: the batch containing this row was rolled back");
+            }
+        }
+    }
+
+    private void writeStudents(List<ImportRecord> chunk, ImportResult result, List<ImportRecord> written) {
+        Map<ImportRecord, StudentDTO> valid = validateAll(chunk, result, record ->
+                new StudentDTO(null, record.get("firstName"), record.get("lastName"), record.get("email")));
+        Set<String> taken = new HashSet<>(studentRepository.findExistingEmails(
+                valid.values().stream().map(StudentDTO::getEmail).toList()));
+
+        List<Student> students = new ArrayList<>();
+        valid.forEach((record, dto) -> {
+            if (!taken.add(dto.getEmail())) {
+                result.addError(record.getLine(), "A student with email " + dto.getEmail() + " already exists");
+                return;
+            }
+            students.add(new Student(dto.getFirstName(), dto.getLastName(), dto.getEmail()));
+            written.add(record);
+        });
+        studentRepository.saveAll(students);
+        students.forEach(suggestionIndex::index);
+    }
+
+    private void writeTeachers(List<ImportRecord> chunk, ImportResult result, List<ImportRecord> written) {
+        Map<ImportRecord, TeacherDTO> valid = validateAll(chunk, result, record -> {
+            TeacherDTO dto = new TeacherDTO();
+            dto.setFirstName(record.get("firstName"));
+            dto.setLastName(record.get("lastName"));
+            dto.setEmail(record.get("email"));
+            return dto;
+        });
+        Set<String> taken = new HashSet<>(teacherRepository.findExistingEmails(
+                valid.values().stream().map(TeacherDTO::getEmail).toList()));
+
+        List<Teacher> teachers = new ArrayList<>();
+        valid.forEach((record, dto) -> {
+            if (!taken.add(dto.getEmail())) {
+                result.addError(record.getLine(), "A teacher with email " + dto.getEmail() + " already exists");
+                return;
+            }
+            teachers.add(new Teacher(dto.getFirstName(), dto.getLastName(), dto.getEmail()));
+            written.add(record);
+        });
+        teacherRepository.saveAll(teachers);
+        teachers.forEach(suggestionIndex::index);
+        if (!teachers.isEmpty()) {
+            optionListService.invalidateTeacherOptions();
+        }
+    }
+
+    private void writeCourses(List<ImportRecord> chunk, ImportResult result, List<ImportRecord> written) {
+        Map<ImportRecord, CourseDTO> valid = validateAll(chunk, result, record -> {
+            CourseDTO dto = new CourseDTO();
+            dto.setName(record.get("name"));
+            dto.setDescription(record.get("description"));
+            return dto;
+        });
+        Set<String> taken = new HashSet<>(courseRepository.findExistingNames(
+                valid.values().stream().map(CourseDTO::getName).toList()));
+        Map<String, Teacher> teachersByEmail = teacherRepository.findByEmailIn(
+                        valid.keySet().stream().map(record -> record.get("teacherEmail")).filter(email -> email != null).toList())
+                .stream().collect(Collectors.toMap(Teacher::getEmail, Function.identity()));
+
+        List<Course> courses = new ArrayList<>();
+        valid.forEach((record, dto) -> {
+            String teacherEmail = record.get("teacherEmail");
+            Teacher teacher = teacherEmail != null ? teachersByEmail.get(teacherEmail) : null;
+            if (teacherEmail != null && teacher == null) {
+                result.addError(record.getLine(), "No teacher with email " + teacherEmail);
+                return;
+            }
+            if (!taken.add(dto.getName())) {
+                result.addError(record.getLine(), "A course named " + dto.getName() + " already exists");
+                return;
+            }
+            Course course = new Course(dto.getName(), dto.getDescription());
+            course.setTeacher(teacher);
+            courses.add(course);
+            written.add(record);
+        });
+        courseRepository.saveAll(courses);
+        courses.forEach(suggestionIndex::index);
+    }
+
+    private void writeEnrollments(List<ImportRecord> chunk, ImportResult result, List<ImportRecord> written) {
+        Map<ImportRecord, EnrollmentDTO> valid = validateAll(chunk, result, record -> {
+            EnrollmentDTO dto = new EnrollmentDTO();
+            dto.setStudentEmail(record.get("studentEmail"));
+            dto.setCourseName(record.get("courseName"));
+            return dto;
+        });
+        Map<String, Long> studentIds = studentRepository.findByEmailIn(
+                        valid.values().stream().map(EnrollmentDTO::getStudentEmail).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Student::getEmail, Student::getId));
+        Map<String, Long> courseIds = courseRepository.findByNameIn(
+                        valid.values().stream().map(EnrollmentDTO::getCourseName).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Course::getName, Course::getId, (first, second) -> first));
+
+        Map<Long, Map<Long, ImportRecord>> recordsByCourse = new LinkedHashMap<>();
+        valid.forEach((record, dto) -> {
+            Long studentId = studentIds.get(dto.getStudentEmail());
+            Long courseId = courseIds.get(dto.getCourseName());
+            if (studentId == null) {
+                result.addError(record.getLine(), "No student with email " + dto.getStudentEmail());
+            } else if (courseId == null) {
+                result.addError(record.getLine(), "No course named " + dto.getCourseName());
+            } else if (recordsByCourse.computeIfAbsent(courseId, id -> new LinkedHashMap<>())
+                    .putIfAbsent(studentId, record) != null) {
+                result.addSkipped(1);
+            }
+        });
+        recordsByCourse.forEach((courseId, records) -> writeCourseEnrollments(courseId, records, result, written));
+    }
+
+    /**
+     * Enroll the students of one chunk in a course. The seats are reserved with one conditional
+     * update and the join rows inserted with one statement. Only when the course cannot take
+     * them all is each row reserved and inserted on its own, so the rows that fit are enrolled
+     * in file order.
+     */
+    private void writeCourseEnrollments(Long courseId, Map<Long, ImportRecord> recordsByStudent,
+                                        ImportResult result, List<ImportRecord> written) {
+        Map<Long, ImportRecord> pending = new LinkedHashMap<>(recordsByStudent);
+        List<Long> enrolled = studentRepository.findEnrolledStudentIds(courseId, pending.keySet());
+        pending.keySet().removeAll(enrolled);
+        result.addSkipped(enrolled.size());
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        if (courseRepository.reserveSeats(courseId, pending.size()) == 0) {
+            pending.forEach((studentId, record) -> writeEnrollment(studentId, courseId, record, result, written));
+            return;
+        }
+        int inserted = studentRepository.insertEnrollmentsForCourse(courseId, pending.keySet());
+        if (inserted < pending.size()) {
+            // Some rows were not inserted, e.g. enrolled concurrently since the check above or the
+            // student deleted; report the records whose enrollment is now in place, whoever wrote it
+            courseRepository.releaseSeats(courseId, pending.size() - inserted);
+            Set<Long> nowEnrolled = new HashSet<>(studentRepository.findEnrolledStudentIds(courseId, pending.keySet()));
+            pending.keySet().retainAll(nowEnrolled);
+            result.addSkipped(recordsByStudent.size() - enrolled.size() - pending.size());
+        }
+        written.addAll(pending.values());
+    }
+
+    private void writeEnrollment(Long studentId, Long courseId, ImportRecord record,
+                                 ImportResult result, List<ImportRecord> written) {
+        if (courseRepository.reserveSeats(courseId, 1) == 0) {
+            result.addError(record.getLine(), "Course " + record.get("courseName") + " is full");
+        } else if (studentRepository.insertEnrollment(studentId, courseId) == 0) {
+            courseRepository.releaseSeats(courseId, 1);
+            result.addSkipped(1);
+        } else {
+            written.add(record);
+        }
+    }
+
+    /**
+     * Map each record to its DTO and validate it, reporting violations as row errors.
+     *
+     * @return the valid records with their DTOs, in file order
+     */
+    private <T> Map<ImportRecord, T> validateAll(List<ImportRecord> chunk, ImportResult result,
+                                                 Function<ImportRecord, T> toDto) {
+        Map<ImportRecord, T> valid = new LinkedHashMap<>();
+        for (ImportRecord record : chunk) {
+            T dto = toDto.apply(record);
+            Set<ConstraintViolation<T>> violations = validator.validate(dto);
+            if (violations.isEmpty()) {
+                valid.put(record, dto);
+            } else {
+                result.addError(record.getLine(), violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+            }
+        }
+        return valid;
+    }
+}
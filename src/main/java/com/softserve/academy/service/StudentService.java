@@ -1,15 +1,29 @@
 package com.softserve.academy.service;
 
+import com.softserve.academy.dto.ContentVersion;
+import com.softserve.academy.dto.EnrollmentChangeResult;
+import com.softserve.academy.dto.EnrollmentDTO;
+import com.softserve.academy.dto.KeysetPage;
+import com.softserve.academy.dto.StudentDTO;
+import com.softserve.academy.exception.CourseFullException;
 import com.softserve.academy.model.Course;
 import com.softserve.academy.model.Student;
 import com.softserve.academy.repository.CourseRepository;
 import com.softserve.academy.repository.StudentRepository;
+import com.softserve.academy.repository.TeacherRepository;
+import com.softserve.academy.search.SuggestionIndex;
+import com.softserve.academy.search.SuggestionType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service class for handling Student-related business logic.
@@ -19,11 +33,19 @@ public class StudentService {
 
     private final StudentRepository studentRepository;
     private final CourseRepository courseRepository;
+    private final TeacherRepository teacherRepository;
+    private final WaitlistService waitlistService;
+    private final SuggestionIndex suggestionIndex;
 
     @Autowired
-    public StudentService(StudentRepository studentRepository, CourseRepository courseRepository) {
+    public StudentService(StudentRepository studentRepository, CourseRepository courseRepository,
+                          TeacherRepository teacherRepository, WaitlistService waitlistService,
+                          SuggestionIndex suggestionIndex) {
         this.studentRepository = studentRepository;
         this.courseRepository = courseRepository;
+        this.teacherRepository = teacherRepository;
+        this.waitlistService = waitlistService;
+        this.suggestionIndex = suggestionIndex;
     }
 
     /**
@@ -31,16 +53,102 @@ public class StudentService {
      *
      * @return list of all students
      */
+    @Transactional(readOnly = true)
     public List<Student> getAllStudents() {
         return studentRepository.findAll();
     }
 
+    /**
+     * Get one page of students using keyset pagination on the student ID.
+     * When {@code before} is given the page preceding that cursor is returned,
+     * otherwise the page following {@code after} (or the first page).
+     *
+     * @param after the ID to start after, or null
+     * @param before the ID to end before, or null
+     * @param size the page size
+     * @return the page of students
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<Student> getStudentsPage(Long after, Long before, int size) {
+        PageRequest limit = PageRequest.ofSize(size + 1);
+        if (before != null) {
+            return KeysetPage.backward(studentRepository.findByIdLessThanOrderByIdDesc(before, limit),
+                    before, size, Student::getId);
+        }
+        return KeysetPage.forward(studentRepository.findByIdGreaterThanOrderByIdAsc(after != null ? after : 0L, limit),
+                after, size, Student::getId);
+    }
+
+    /**
+     * Get one page of flat student summaries following a cursor, for the REST API.
+     *
+     * @param after the ID to start after, or null for the first page
+     * @param size the page size
+     * @return the page of student summaries
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<StudentDTO> getStudentSummariesPage(Long after, int size) {
+        return KeysetPage.forward(studentRepository.findSummariesAfter(after != null ? after : 0L, PageRequest.ofSize(size + 1)),
+                after, size, StudentDTO::getId);
+    }
+
+    /**
+     * Get the flat summary of a student, without the enrolled courses.
+     *
+     * @param id the student ID
+     * @return the student summary if found, otherwise empty Optional
+     */
+    @Transactional(readOnly = true)
+    public Optional<StudentDTO> getStudentSummary(Long id) {
+        return studentRepository.findSummaryById(id);
+    }
+
+    /**
+     * Get one page of a student's enrollments following a course ID cursor.
+     *
+     * @param studentId the student ID
+     * @param after the course ID to start after, or null for the first page
+     * @param size the page size
+     * @return the page of enrollments
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<EnrollmentDTO> getEnrollmentsPage(Long studentId, Long after, int size) {
+        requireStudent(studentId);
+        return KeysetPage.forward(studentRepository.findEnrollmentsByStudentAfter(studentId, after != null ? after : 0L,
+                PageRequest.ofSize(size + 1)), after, size, EnrollmentDTO::getCourseId);
+    }
+
+    /**
+     * Get the versions of the data shown on the student list.
+     *
+     * @return the versions to build the list's ETag from
+     */
+    @Transactional(readOnly = true)
+    public List<ContentVersion> getStudentListVersions() {
+        return List.of(studentRepository.findTableVersion());
+    }
+
+    /**
+     * Get the versions of the data shown on a student's details page: the student, the
+     * courses with their enrollments and the teachers named next to them.
+     *
+     * @param id the student ID
+     * @return the versions to build the page's ETag from, empty if the student does not exist
+     */
+    @Transactional(readOnly = true)
+    public List<ContentVersion> getStudentDetailsVersions(Long id) {
+        return studentRepository.findVersionById(id)
+                .map(student -> List.of(student, courseRepository.findTableVersion(), teacherRepository.findTableVersion()))
+                .orElse(List.of());
+    }
+
     /**
      * Get student by ID.
      *
      * @param id the student ID
      * @return the student if found, otherwise empty Optional
      */
+    @Transactional(readOnly = true)
     public Optional<Student> getStudentById(Long id) {
         return studentRepository.findById(id);
     }
@@ -52,16 +160,25 @@ public class StudentService {
      * @return the saved student
      */
     public Student saveStudent(Student student) {
-        return studentRepository.save(student);
+        Student saved = studentRepository.save(student);
+        suggestionIndex.index(saved);
+        return saved;
     }
 
     /**
-     * Delete a student by ID.
+     * Delete a student by ID, handing the seats the student held to the waitlists.
      *
      * @param id the student ID to delete
      */
+    @Transactional
     public void deleteStudent(Long id) {
+        List<Long> courseIds = courseRepository.findIdsByStudentId(id);
+        courseRepository.releaseSeatsHeldBy(id);
         studentRepository.deleteById(id);
+        // The delete cascades to the student's own waitlist entries; flush it before promoting
+        studentRepository.flush();
+        courseIds.forEach(waitlistService::promoteNext);
+        suggestionIndex.remove(SuggestionType.STUDENT, id);
     }
 
     /**
@@ -70,46 +187,68 @@ public class StudentService {
      * @param email the email to search for
      * @return the student if found, otherwise empty Optional
      */
+    @Transactional(readOnly = true)
     public Optional<Student> findByEmail(String email) {
         return studentRepository.findByEmail(email);
     }
 
     /**
      * Enroll a student in a course.
+     * The join row is written directly, so neither the student's courses nor the
+     * course's roster are loaded; the entities are only read when nothing was inserted.
      *
      * @param studentId the student ID
      * @param courseId the course ID
-     * @return the updated student
+     * @return true if the student was enrolled, false if already enrolled
+     * @throws CourseFullException if the course has no free seat
      */
     @Transactional
-    public Student enrollStudentInCourse(Long studentId, Long courseId) {
-        Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new IllegalArgumentException("Student not found with ID: " + studentId));
-        
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new IllegalArgumentException("Course not found with ID: " + courseId));
-        
-        student.enrollInCourse(course);
-        return studentRepository.save(student);
+    public boolean enrollStudentInCourse(Long studentId, Long courseId) {
+        if (studentRepository.insertEnrollment(studentId, courseId) > 0) {
+            if (courseRepository.reserveSeats(courseId, 1) == 0) {
+                throw new CourseFullException(courseId);
+            }
+            return true;
+        }
+        requireStudent(studentId);
+        requireCourse(courseId);
+        return false;
     }
 
     /**
      * Withdraw a student from a course.
+     * The join row is deleted directly without loading either side's collection.
+     * The freed seat goes to the head of the course's waitlist in the same transaction.
      *
      * @param studentId the student ID
      * @param courseId the course ID
-     * @return the updated student
+     * @return true if the student was withdrawn, false if not enrolled
      */
     @Transactional
-    public Student withdrawStudentFromCourse(Long studentId, Long courseId) {
-        Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new IllegalArgumentException("Student not found with ID: " + studentId));
-        
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new IllegalArgumentException("Course not found with ID: " + courseId));
-        
-        student.withdrawFromCourse(course);
-        return studentRepository.save(student);
+    public boolean withdrawStudentFromCourse(Long studentId, Long courseId) {
+        if (studentRepository.deleteEnrollment(studentId, courseId) > 0) {
+            courseRepository.releaseSeats(courseId, 1);
+            waitlistService.promoteNext(courseId);
+            return true;
+        }
+        requireStudent(studentId);
+        requireCourse(courseId);
+        return false;
+    }
+
+    /**
+     * Get students not enrolled in a course, filtered by a name or email prefix.
+     * The set difference is computed by the database and capped at the given limit.
+     *
+     * @param courseId the course ID
+     * @param query the name or email prefix to match, may be null
+     * @param limit the maximum number of students to return
+     * @return list of students not enrolled in the course
+     */
+    @Transactional(readOnly = true)
+    public List<Student> getStudentsNotEnrolledInCourse(Long courseId, String query, int limit) {
+        String prefix = query != null ? LikePatterns.escape(query.trim()) : "";
+        return studentRepository.findNotEnrolledInCourse(courseId, prefix, PageRequest.ofSize(limit));
     }
 
     /**
@@ -118,10 +257,85 @@ public class StudentService {
      * @param studentId the student ID
      * @return list of courses the student is enrolled in
      */
+    @Transactional(readOnly = true)
     public List<Course> getStudentCourses(Long studentId) {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new IllegalArgumentException("Student not found with ID: " + studentId));
         
         return student.getEnrolledCourses().stream().toList();
     }
-}
\ No newline at end of file
+
+    /**
+     * Enroll a student in many courses in one transaction.
+     * Every course keeps its own seat counter, so each new enrollment is written and its
+     * seat taken with one exact statement pair; the whole selection is rejected if any
+     * course is full. Courses the student is already enrolled in or that do not exist are
+     * skipped and reported.
+     *
+     * @param studentId the student ID
+     * @param courseIds the course IDs
+     * @return which courses were added, were already enrolled or not found
+     * @throws CourseFullException if one of the courses has no free seat
+     */
+    @Transactional
+    public EnrollmentChangeResult enrollStudentInCourses(Long studentId, Collection<Long> courseIds) {
+        requireStudent(studentId);
+        Set<Long> requested = new LinkedHashSet<>(courseIds);
+        if (requested.isEmpty()) {
+            return EnrollmentChangeResult.partition(requested, Set.of(), Set.of());
+        }
+
+        Set<Long> existing = new HashSet<>(courseRepository.findExistingIds(requested));
+        Set<Long> enrolled = new HashSet<>(existing);
+        for (Long courseId : existing) {
+            if (studentRepository.insertEnrollment(studentId, courseId) > 0) {
+                if (courseRepository.reserveSeats(courseId, 1) == 0) {
+                    throw new CourseFullException(courseId);
+                }
+                enrolled.remove(courseId);
+            }
+        }
+        return EnrollmentChangeResult.partition(requested, existing, enrolled);
+    }
+
+    /**
+     * Withdraw a student from many courses in one transaction.
+     * Each enrollment is deleted with its own statement so exactly the seats that were
+     * actually freed are given back, even when withdrawals race.
+     *
+     * @param studentId the student ID
+     * @param courseIds the course IDs
+     * @return which courses were removed, were not enrolled or not found
+     */
+    @Transactional
+    public EnrollmentChangeResult withdrawStudentFromCourses(Long studentId, Collection<Long> courseIds) {
+        requireStudent(studentId);
+        Set<Long> requested = new LinkedHashSet<>(courseIds);
+        if (requested.isEmpty()) {
+            return EnrollmentChangeResult.partition(requested, Set.of(), Set.of());
+        }
+
+        Set<Long> existing = new HashSet<>(courseRepository.findExistingIds(requested));
+        Set<Long> notEnrolled = new HashSet<>(existing);
+        for (Long courseId : existing) {
+            if (studentRepository.deleteEnrollment(studentId, courseId) > 0) {
+                courseRepository.releaseSeats(courseId, 1);
+                waitlistService.promoteNext(courseId);
+                notEnrolled.remove(courseId);
+            }
+        }
+        return EnrollmentChangeResult.partition(requested, existing, notEnrolled);
+    }
+
+    private void requireStudent(Long studentId) {
+        if (!studentRepository.existsById(studentId)) {
+            throw new IllegalArgumentException("Student not found with ID: " + studentId);
+        }
+    }
+
+    private void requireCourse(Long courseId) {
+        if (!courseRepository.existsById(courseId)) {
+            throw new IllegalArgumentException("Course not found with ID: " + courseId);
+        }
+    }
+}
@@ -1,14 +1,21 @@
 package com.softserve.academy.service;
 
+import com.softserve.academy.dto.ContentVersion;
+import com.softserve.academy.dto.KeysetPage;
+import com.softserve.academy.dto.TeacherDTO;
 import com.softserve.academy.model.Course;
 import com.softserve.academy.model.Teacher;
 import com.softserve.academy.repository.CourseRepository;
 import com.softserve.academy.repository.TeacherRepository;
+import com.softserve.academy.search.SuggestionIndex;
+import com.softserve.academy.search.SuggestionType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
@@ -19,11 +26,16 @@ public class TeacherService {
 
     private final TeacherRepository teacherRepository;
     private final CourseRepository courseRepository;
+    private final SuggestionIndex suggestionIndex;
+    private final OptionListService optionListService;
 
     @Autowired
-    public TeacherService(TeacherRepository teacherRepository, CourseRepository courseRepository) {
+    public TeacherService(TeacherRepository teacherRepository, CourseRepository courseRepository,
+                          SuggestionIndex suggestionIndex, OptionListService optionListService) {
         this.teacherRepository = teacherRepository;
         this.courseRepository = courseRepository;
+        this.suggestionIndex = suggestionIndex;
+        this.optionListService = optionListService;
     }
 
     /**
@@ -31,16 +43,76 @@ public class TeacherService {
      *
      * @return list of all teachers
      */
+    @Transactional(readOnly = true)
     public List<Teacher> getAllTeachers() {
         return teacherRepository.findAll();
     }
 
+    /**
+     * Get one page of teacher summaries using keyset pagination on the teacher ID.
+     * When {@code before} is given the page preceding that cursor is returned,
+     * otherwise the page following {@code after} (or the first page).
+     * Course counts are aggregated in the same query.
+     *
+     * @param after the ID to start after, or null
+     * @param before the ID to end before, or null
+     * @param size the page size
+     * @return the page of teacher summaries
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<TeacherDTO> getTeachersPage(Long after, Long before, int size) {
+        PageRequest limit = PageRequest.ofSize(size + 1);
+        if (before != null) {
+            return KeysetPage.backward(teacherRepository.findSummariesBefore(before, limit),
+                    before, size, TeacherDTO::getId);
+        }
+        return KeysetPage.forward(teacherRepository.findSummariesAfter(after != null ? after : 0L, limit),
+                after, size, TeacherDTO::getId);
+    }
+
+    /**
+     * Get the summary of a teacher with the number of courses.
+     *
+     * @param id the teacher ID
+     * @return the teacher summary if found, otherwise empty Optional
+     */
+    @Transactional(readOnly = true)
+    public Optional<TeacherDTO> getTeacherSummary(Long id) {
+        return teacherRepository.findSummaryById(id);
+    }
+
+    /**
+     * Get the versions of the data shown on the teacher list: the teachers and the
+     * courses they are counted with.
+     *
+     * @return the versions to build the list's ETag from
+     */
+    @Transactional(readOnly = true)
+    public List<ContentVersion> getTeacherListVersions() {
+        return List.of(teacherRepository.findTableVersion(), courseRepository.findTableVersion());
+    }
+
+    /**
+     * Get the versions of the data shown on a teacher's details page: the teacher, and the
+     * assigned and available courses with the names of their teachers.
+     *
+     * @param id the teacher ID
+     * @return the versions to build the page's ETag from, empty if the teacher does not exist
+     */
+    @Transactional(readOnly = true)
+    public List<ContentVersion> getTeacherDetailsVersions(Long id) {
+        return teacherRepository.findVersionById(id)
+                .map(teacher -> List.of(teacher, courseRepository.findTableVersion(), teacherRepository.findTableVersion()))
+                .orElse(List.of());
+    }
+
     /**
      * Get teacher by ID.
      *
      * @param id the teacher ID
      * @return the teacher if found, otherwise empty Optional
      */
+    @Transactional(readOnly = true)
     public Optional<Teacher> getTeacherById(Long id) {
         return teacherRepository.findById(id);
     }
@@ -52,7 +124,10 @@ public class TeacherService {
      * @return the saved teacher
      */
     public Teacher saveTeacher(Teacher teacher) {
-        return teacherRepository.save(teacher);
+        Teacher saved = teacherRepository.save(teacher);
+        suggestionIndex.index(saved);
+        optionListService.invalidateTeacherOptions();
+        return saved;
     }
 
     /**
@@ -72,6 +147,8 @@ public class TeacherService {
         }
 
         teacherRepository.deleteById(id);
+        suggestionIndex.remove(SuggestionType.TEACHER, id);
+        optionListService.invalidateTeacherOptions();
     }
 
     /**
@@ -80,6 +157,7 @@ public class TeacherService {
      * @param email the email to search for
      * @return the teacher if found, otherwise empty Optional
      */
+    @Transactional(readOnly = true)
     public Optional<Teacher> findByEmail(String email) {
         return teacherRepository.findByEmail(email);
     }
@@ -90,16 +168,41 @@ public class TeacherService {
      * @param name the name to search for
      * @return list of teachers with matching name
      */
+    @Transactional(readOnly = true)
     public List<Teacher> findByName(String name) {
         return teacherRepository.findByNameContainingIgnoreCase(name);
     }
 
+    /**
+     * Find teacher summaries by name, including the number of courses of each teacher.
+     *
+     * @param name the name to search for
+     * @return list of teacher summaries with matching name
+     */
+    @Transactional(readOnly = true)
+    public List<TeacherDTO> findSummariesByName(String name) {
+        return teacherRepository.findSummariesByName(name);
+    }
+
+    /**
+     * Find teacher summaries whose first or last name starts with the given text, ignoring case.
+     * Unlike the substring search this can be answered from the name prefix indexes.
+     *
+     * @param prefix the start of the name to search for
+     * @return list of teacher summaries with matching name
+     */
+    @Transactional(readOnly = true)
+    public List<TeacherDTO> findSummariesByNamePrefix(String prefix) {
+        return teacherRepository.findSummariesByNamePrefix(LikePatterns.escape(prefix.trim().toLowerCase(Locale.ROOT)));
+    }
+
     /**
      * Get courses taught by a teacher.
      *
      * @param teacherId the teacher ID
      * @return list of courses taught by the teacher
      */
+    @Transactional(readOnly = true)
     public List<Course> getTeacherCourses(Long teacherId) {
         return courseRepository.findByTeacherId(teacherId);
     }
@@ -110,6 +213,7 @@ public class TeacherService {
      * @param teacherId the teacher ID
      * @return the number of courses taught by the teacher
      */
+    @Transactional(readOnly = true)
     public Long countCoursesByTeacher(Long teacherId) {
         return teacherRepository.countCoursesByTeacherId(teacherId);
     }
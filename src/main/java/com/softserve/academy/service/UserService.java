@@ -30,11 +30,14 @@ public class UserService {
 
     /**
      * Authenticate a user.
+     * Not read-only, so the account is read from the primary and a user can log in right
+     * after registering even while a read replica is behind.
      *
      * @param username the username
      * @param password the password
      * @return the authenticated user if credentials are valid, otherwise empty Optional
      */
+    @Transactional
     public Optional<User> authenticate(String username, String password) {
         Optional<User> userOpt = userRepository.findByUsername(username);
 
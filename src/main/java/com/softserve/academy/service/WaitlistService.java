@@ -0,0 +1,137 @@
+package com.softserve.academy.service;
+
+import com.softserve.academy.dto.WaitlistJoinResult;
+import com.softserve.academy.model.WaitlistEntry;
+import com.softserve.academy.repository.CourseRepository;
+import com.softserve.academy.repository.StudentRepository;
+import com.softserve.academy.repository.WaitlistEntryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service for per-course FIFO waitlists.
+ * Freed seats are handed to the head of the waitlist inside the transaction that freed them.
+ */
+@Service
+public class WaitlistService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WaitlistService.class);
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final CourseRepository courseRepository;
+    private final StudentRepository studentRepository;
+
+    @Autowired
+    public WaitlistService(WaitlistEntryRepository waitlistEntryRepository,
+                           CourseRepository courseRepository,
+                           StudentRepository studentRepository) {
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.courseRepository = courseRepository;
+        this.studentRepository = studentRepository;
+    }
+
+    /**
+     * Get a course's waitlist in serving order.
+     *
+     * @param courseId the course ID
+     * @return the entries with their students, oldest first
+     */
+    @Transactional(readOnly = true)
+    public List<WaitlistEntry> getWaitlist(Long courseId) {
+        return waitlistEntryRepository.findByCourseIdWithStudent(courseId);
+    }
+
+    /**
+     * Put a student at the end of a course's waitlist, or enroll the student right away
+     * if the course has a free seat, so nobody waits for a seat that is already free.
+     * The course row stays locked until commit: a concurrent withdrawal either commits
+     * first and its seat is taken here, or waits and then promotes from this entry.
+     *
+     * @param courseId the course ID
+     * @param studentId the student ID
+     * @return whether the student is now waiting, was enrolled, or was already enrolled or waiting
+     */
+    @Transactional
+    public WaitlistJoinResult joinWaitlist(Long courseId, Long studentId) {
+        if (!courseRepository.existsById(courseId)) {
+            throw new IllegalArgumentException("Course not found with ID: " + courseId);
+        }
+        if (!studentRepository.existsById(studentId)) {
+            throw new IllegalArgumentException("Student not found with ID: " + studentId);
+        }
+        if (!studentRepository.findEnrolledStudentIds(courseId, List.of(studentId)).isEmpty()
+                || waitlistEntryRepository.existsByCourseIdAndStudentId(courseId, studentId)) {
+            return WaitlistJoinResult.ALREADY_LISTED;
+        }
+
+        courseRepository.touch(courseId);
+        if (courseRepository.reserveSeats(courseId, 1) > 0) {
+            if (studentRepository.insertEnrollment(studentId, courseId) == 0) {
+                // Enrolled concurrently since the check above
+                courseRepository.releaseSeats(courseId, 1);
+                return WaitlistJoinResult.ALREADY_LISTED;
+            }
+            return WaitlistJoinResult.ENROLLED;
+        }
+        waitlistEntryRepository.save(new WaitlistEntry(courseRepository.getReferenceById(courseId),
+                studentRepository.getReferenceById(studentId)));
+        return WaitlistJoinResult.WAITING;
+    }
+
+    /**
+     * Remove a student from a course's waitlist.
+     *
+     * @param courseId the course ID
+     * @param studentId the student ID
+     * @return true if the student was waiting
+     */
+    @Transactional
+    public boolean leaveWaitlist(Long courseId, Long studentId) {
+        if (waitlistEntryRepository.deleteByCourseIdAndStudentId(courseId, studentId) == 0) {
+            return false;
+        }
+        courseRepository.touch(courseId);
+        return true;
+    }
+
+    /**
+     * Hand a freed seat to the head of a course's waitlist.
+     * Must run in the transaction that freed the seat. The seat is taken with the same
+     * conditional update as a regular enrollment, and the head entry is claimed by deleting
+     * it, so concurrent withdrawals never promote the same student twice. In the common case
+     * this costs a fixed four statements however long the waitlist is.
+     *
+     * @param courseId the course ID
+     * @return the ID of the promoted student, or empty if nobody was promoted
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<Long> promoteNext(Long courseId) {
+        Optional<WaitlistEntry> head = waitlistEntryRepository.findFirstByCourseIdOrderByIdAsc(courseId);
+        if (head.isEmpty() || courseRepository.reserveSeats(courseId, 1) == 0) {
+            return Optional.empty();
+        }
+
+        while (head.isPresent()) {
+            Long entryId = head.get().getId();
+            Long studentId = head.get().getStudent().getId();
+            // An entry another promotion claimed first, or a student enrolled directly since
+            // joining, is dropped and the next entry gets the seat
+            if (waitlistEntryRepository.deleteEntry(entryId) > 0
+                    && studentRepository.insertEnrollment(studentId, courseId) > 0) {
+                logger.info("Promoted student {} from the waitlist of course {}", studentId, courseId);
+                return Optional.of(studentId);
+            }
+            head = waitlistEntryRepository.findFirstByCourseIdOrderByIdAsc(courseId);
+        }
+
+        courseRepository.releaseSeats(courseId, 1);
+        return Optional.empty();
+    }
+}
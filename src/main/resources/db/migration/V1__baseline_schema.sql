@@ -0,0 +1,52 @@
+-- Baseline schema for the university manager.
+--
+-- Ids are drawn from sequences with an increment of 50 so Hibernate can use the
+-- pooled-lo optimizer and batch inserts. Statements are idempotent so the script
+-- can also run against databases whose tables were created by Hibernate with
+-- identity columns; the sequences are then moved past the existing ids.
+
+CREATE SEQUENCE IF NOT EXISTS teachers_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS courses_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS students_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS teachers (
+    id         BIGINT       NOT NULL PRIMARY KEY,
+    first_name VARCHAR(255) NOT NULL,
+    last_name  VARCHAR(255) NOT NULL,
+    email      VARCHAR(255) NOT NULL UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS courses (
+    id          BIGINT       NOT NULL PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    description VARCHAR(300),
+    teacher_id  BIGINT REFERENCES teachers (id)
+);
+
+CREATE TABLE IF NOT EXISTS students (
+    id         BIGINT       NOT NULL PRIMARY KEY,
+    first_name VARCHAR(255) NOT NULL,
+    last_name  VARCHAR(255) NOT NULL,
+    email      VARCHAR(255) NOT NULL UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS student_course (
+    student_id BIGINT NOT NULL REFERENCES students (id),
+    course_id  BIGINT NOT NULL REFERENCES courses (id),
+    PRIMARY KEY (student_id, course_id)
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id        BIGINT       NOT NULL PRIMARY KEY,
+    username  VARCHAR(255) NOT NULL UNIQUE,
+    password  VARCHAR(255) NOT NULL,
+    email     VARCHAR(255) NOT NULL UNIQUE,
+    last_name VARCHAR(255),
+    role      VARCHAR(255) NOT NULL CHECK (role IN ('STUDENT', 'TEACHER', 'ADMIN'))
+);
+
+SELECT setval('teachers_seq', COALESCE((SELECT MAX(id) FROM teachers), 0) + 1, false);
+SELECT setval('courses_seq', COALESCE((SELECT MAX(id) FROM courses), 0) + 1, false);
+SELECT setval('students_seq', COALESCE((SELECT MAX(id) FROM students), 0) + 1, false);
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 1, false);
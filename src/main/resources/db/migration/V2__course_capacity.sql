@@ -0,0 +1,11 @@
+-- Per-course capacity with a seat counter.
+--
+-- capacity is NULL for courses without a limit. enrolled_count is only changed by
+-- conditional updates that take or give back seats, so it is backfilled here from
+-- the join table once.
+
+ALTER TABLE courses ADD COLUMN IF NOT EXISTS capacity INTEGER CHECK (capacity IS NULL OR capacity >= 1);
+ALTER TABLE courses ADD COLUMN IF NOT EXISTS enrolled_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE courses c
+SET enrolled_count = (SELECT COUNT(*) FROM student_course sc WHERE sc.course_id = c.id);
@@ -0,0 +1,16 @@
+-- Per-course FIFO waitlists.
+--
+-- Entries are served in id order. The sequence is not pooled (INCREMENT BY 1) so ids
+-- follow the order in which students joined. The (course_id, id) index serves the
+-- head-of-list lookup without scanning the waitlist.
+
+CREATE SEQUENCE IF NOT EXISTS waitlist_entries_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS waitlist_entries (
+    id         BIGINT NOT NULL PRIMARY KEY,
+    course_id  BIGINT NOT NULL REFERENCES courses (id) ON DELETE CASCADE,
+    student_id BIGINT NOT NULL REFERENCES students (id) ON DELETE CASCADE,
+    CONSTRAINT uk_waitlist_course_student UNIQUE (course_id, student_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_waitlist_course_id ON waitlist_entries (course_id, id);
@@ -0,0 +1,10 @@
+-- Trigram indexes for the course search.
+--
+-- The search filters with ILIKE '%text%' on name and description. A b-tree cannot serve
+-- a leading wildcard, but pg_trgm GIN indexes can, and the same extension provides the
+-- word_similarity() function used for ranking.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_courses_name_trgm ON courses USING gin (name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_courses_description_trgm ON courses USING gin (description gin_trgm_ops);
@@ -0,0 +1,16 @@
+-- Indexes for the case-insensitive teacher searches.
+--
+-- The queries compare LOWER(column), so the indexes are built on the same expressions.
+-- The trigram GIN indexes serve the default substring search (LIKE '%text%') and the
+-- course-name lookup. The text_pattern_ops b-tree indexes serve the prefix mode
+-- (LIKE 'text%') with a plain range scan whatever the database collation.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_teachers_first_name_lower_trgm ON teachers USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_teachers_last_name_lower_trgm ON teachers USING gin (lower(last_name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_teachers_first_name_lower_prefix ON teachers (lower(first_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_teachers_last_name_lower_prefix ON teachers (lower(last_name) text_pattern_ops);
+
+CREATE INDEX IF NOT EXISTS idx_courses_name_lower_trgm ON courses USING gin (lower(name) gin_trgm_ops);
@@ -0,0 +1,21 @@
+-- Row versions for optimistic locking and conditional GETs.
+--
+-- version is the Hibernate optimistic lock counter. updated_at records the last change
+-- of a row; for courses the native seat and waitlist updates advance it as well. The
+-- details pages are versioned by the row's version and updated_at. The list pages were
+-- first versioned by COUNT(*) and MAX(updated_at) per table; they now use the change
+-- counters of V8 and V9 together with MAX(updated_at), which the updated_at indexes
+-- answer from the end of the index.
+
+ALTER TABLE teachers ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE teachers ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+ALTER TABLE courses ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE courses ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+ALTER TABLE students ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE students ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_teachers_updated_at ON teachers (updated_at);
+CREATE INDEX IF NOT EXISTS idx_courses_updated_at ON courses (updated_at);
+CREATE INDEX IF NOT EXISTS idx_students_updated_at ON students (updated_at);
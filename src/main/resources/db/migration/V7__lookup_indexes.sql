@@ -0,0 +1,32 @@
+-- Indexes for the foreign keys and lookup paths of the repositories.
+--
+-- PostgreSQL does not index the referencing side of a foreign key. student_course is
+-- keyed by (student_id, course_id), so the enrollments of a course, and the check and
+-- delete of a course's rows on removal, need the reverse index. courses.teacher_id serves
+-- the courses of a teacher and the course counts per teacher, and waitlist_entries.student_id
+-- serves the cascade when a student is deleted (the course side is covered by the unique
+-- constraint and idx_waitlist_course_id).
+--
+-- The name indexes serve the exact lookups (course by name, students by last and first
+-- name) and the option lists ordered by name, with the id as the tie breaker. The
+-- lower-cased text_pattern_ops indexes serve the prefix filters of those option lists,
+-- and the trigram index on the lower-cased description completes the case-insensitive
+-- course search next to idx_courses_name_lower_trgm from V5. Emails and usernames are
+-- already indexed by their unique constraints.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_student_course_course_id ON student_course (course_id, student_id);
+CREATE INDEX IF NOT EXISTS idx_courses_teacher_id ON courses (teacher_id);
+CREATE INDEX IF NOT EXISTS idx_waitlist_student_id ON waitlist_entries (student_id);
+
+CREATE INDEX IF NOT EXISTS idx_courses_name ON courses (name, id);
+CREATE INDEX IF NOT EXISTS idx_students_name ON students (last_name, first_name, id);
+CREATE INDEX IF NOT EXISTS idx_teachers_name ON teachers (last_name, first_name, id);
+
+CREATE INDEX IF NOT EXISTS idx_courses_name_lower_prefix ON courses (lower(name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_students_first_name_lower_prefix ON students (lower(first_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_students_last_name_lower_prefix ON students (lower(last_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_students_email_lower_prefix ON students (lower(email) text_pattern_ops);
+
+CREATE INDEX IF NOT EXISTS idx_courses_description_lower_trgm ON courses USING gin (lower(description) gin_trgm_ops);
@@ -0,0 +1,18 @@
+-- Change counters for the list page ETags.
+--
+-- COUNT(*) and MAX(updated_at) did not version a table reliably: updated_at is taken while
+-- a transaction runs, so a transaction that commits after a newer change was read can add
+-- an older timestamp and leave the maximum unchanged. Every transaction that writes to one
+-- of these tables increments its counter just before it commits; the row lock held until
+-- the commit makes the counters advance in commit order.
+
+CREATE TABLE IF NOT EXISTS table_versions (
+    table_name VARCHAR(64) PRIMARY KEY,
+    revision BIGINT NOT NULL
+);
+
+INSERT INTO table_versions (table_name, revision) VALUES
+    ('courses', 0),
+    ('students', 0),
+    ('teachers', 0)
+ON CONFLICT (table_name) DO NOTHING;
@@ -0,0 +1,17 @@
+-- Shard the change counters of the list page ETags.
+--
+-- A single counter row per table made every write to courses, students or teachers wait
+-- for the previous one to commit, including the seat updates of unrelated courses. Each
+-- transaction now increments one of 64 rows of the table, picked at random, and the
+-- version is the sum of the rows. Every commit still adds to the sum, so it keeps
+-- advancing in commit order.
+
+ALTER TABLE table_versions ADD COLUMN IF NOT EXISTS shard INT NOT NULL DEFAULT 0;
+ALTER TABLE table_versions DROP CONSTRAINT IF EXISTS table_versions_pkey;
+ALTER TABLE table_versions ADD PRIMARY KEY (table_name, shard);
+
+INSERT INTO table_versions (table_name, shard, revision)
+SELECT t.table_name, s.shard, 0
+FROM (VALUES ('courses'), ('students'), ('teachers')) AS t (table_name)
+CROSS JOIN generate_series(0, 63) AS s (shard)
+ON CONFLICT (table_name, shard) DO NOTHING;
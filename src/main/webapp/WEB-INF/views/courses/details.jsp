@@ -1,5 +1,6 @@
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core"%>
+<%@ taglib prefix="fn" uri="http://java.sun.com/jsp/jstl/functions"%>
 <!DOCTYPE html>
 <html>
 <head>
@@ -76,6 +77,14 @@
             </div>
         </c:if>
 
+        <!-- Error Message -->
+        <c:if test="${not empty error}">
+            <div class="alert alert-danger alert-dismissible fade show" role="alert">
+                ${error}
+                <button type="button" class="btn-close" data-bs-dismiss="alert" aria-label="Close"></button>
+            </div>
+        </c:if>
+
         <!-- Course Information -->
         <div class="course-info">
             <div class="row">
@@ -83,6 +92,7 @@
                     <h3>${course.name}</h3>
                     <p><strong>Description:</strong> ${course.description}</p>
                     <p><strong>ID:</strong> ${course.id}</p>
+                    <p><strong>Seats:</strong> ${course.enrolledCount} / ${course.capacity != null ? course.capacity : 'unlimited'}</p>
                     <p><strong>Teacher:</strong> ${course.teacher != null ? course.teacher.firstName.concat(' ').concat(course.teacher.lastName) : 'Not assigned'}</p>
                 </div>
                 <div class="col-md-4 text-md-end">
@@ -126,11 +136,11 @@
                             <label for="teacherId" class="col-form-label">Assign Teacher:</label>
                         </div>
                         <div class="col-md-6">
-                            <select name="teacherId" id="teacherId" class="form-select" required>
+                            <select name="teacherId" id="teacherId" class="form-select" required data-options-version="${teacherOptions.version}">
                                 <option value="">-- Select a teacher --</option>
-                                <c:forEach var="teacher" items="${availableTeachers}">
-                                    <option value="${teacher.id}" ${course.teacher != null && course.teacher.id == teacher.id ? 'selected' : ''}>
-                                        ${teacher.firstName} ${teacher.lastName} (${teacher.email})
+                                <c:forEach var="option" items="${teacherOptions.options}">
+                                    <option value="${option.id}" ${course.teacher != null && course.teacher.id == option.id ? 'selected' : ''}>
+                                        ${option.label}
                                     </option>
                                 </c:forEach>
                             </select>
@@ -160,6 +170,7 @@
                             <table class="table table-striped table-hover">
                                 <thead class="table-dark">
                                     <tr>
+                                        <th></th>
                                         <th>ID</th>
                                         <th>First Name</th>
                                         <th>Last Name</th>
@@ -170,6 +181,7 @@
                                 <tbody>
                                     <c:forEach var="student" items="${enrolledStudents}">
                                         <tr>
+                                            <td><input type="checkbox" class="form-check-input" name="studentIds" value="${student.id}" form="removeStudentsForm"></td>
                                             <td>${student.id}</td>
                                             <td>${student.firstName}</td>
                                             <td>${student.lastName}</td>
@@ -188,6 +200,59 @@
                                 </tbody>
                             </table>
                         </div>
+                        <form id="removeStudentsForm" action="<c:url value='/courses/${course.id}/remove-students'/>" method="post">
+                            <button type="submit" class="btn btn-outline-danger btn-sm"
+                                    onclick="return confirm('Are you sure you want to remove the selected students from the course?')">
+                                <i class="fas fa-user-minus"></i> Remove Selected
+                            </button>
+                        </form>
+                    </c:otherwise>
+                </c:choose>
+            </div>
+        </div>
+
+        <!-- Waitlist -->
+        <div class="card mb-4">
+            <div class="card-header bg-warning">
+                <h5 class="mb-0">Waitlist</h5>
+            </div>
+            <div class="card-body">
+                <c:choose>
+                    <c:when test="${empty waitlist}">
+                        <div class="alert alert-info">Nobody is waiting for a seat in this course.</div>
+                    </c:when>
+                    <c:otherwise>
+                        <div class="table-responsive">
+                            <table class="table table-striped table-hover">
+                                <thead class="table-dark">
+                                    <tr>
+                                        <th>Position</th>
+                                        <th>First Name</th>
+                                        <th>Last Name</th>
+                                        <th>Email</th>
+                                        <th>Actions</th>
+                                    </tr>
+                                </thead>
+                                <tbody>
+                                    <c:forEach var="entry" items="${waitlist}" varStatus="status">
+                                        <tr>
+                                            <td>${status.count}</td>
+                                            <td>${entry.student.firstName}</td>
+                                            <td>${entry.student.lastName}</td>
+                                            <td>${entry.student.email}</td>
+                                            <td>
+                                                <form action="<c:url value='/courses/${course.id}/waitlist/remove'/>" method="post" style="display: inline;">
+                                                    <input type="hidden" name="studentId" value="${entry.student.id}">
+                                                    <button type="submit" class="btn btn-outline-danger btn-sm">
+                                                        <i class="fas fa-user-minus"></i> Remove
+                                                    </button>
+                                                </form>
+                                            </td>
+                                        </tr>
+                                    </c:forEach>
+                                </tbody>
+                            </table>
+                        </div>
                     </c:otherwise>
                 </c:choose>
             </div>
@@ -199,19 +264,33 @@
                 <h5 class="mb-0">Add Students to Course</h5>
             </div>
             <div class="card-body">
+                <form action="<c:url value='/courses/details/${course.id}'/>" method="get" class="mb-3">
+                    <div class="row g-3 align-items-center">
+                        <div class="col-md-6">
+                            <input type="text" name="q" value="<c:out value='${q}'/>" class="form-control" placeholder="Filter by name or email">
+                        </div>
+                        <div class="col-auto">
+                            <button type="submit" class="btn btn-outline-secondary">
+                                <i class="fas fa-filter"></i> Filter
+                            </button>
+                        </div>
+                    </div>
+                </form>
+                <c:if test="${fn:length(availableStudents) >= availableLimit}">
+                    <div class="form-text mb-2">Showing the first ${availableLimit} students. Refine the filter to narrow the list.</div>
+                </c:if>
                 <c:choose>
                     <c:when test="${empty availableStudents}">
                         <div class="alert alert-info">No available students for enrollment.</div>
                     </c:when>
                     <c:otherwise>
-                        <form action="<c:url value='/courses/${course.id}/add-student'/>" method="post" class="mb-3">
+                        <form action="<c:url value='/courses/${course.id}/add-students'/>" method="post" class="mb-3">
                             <div class="row g-3 align-items-center">
                                 <div class="col-auto">
-                                    <label for="studentId" class="col-form-label">Select Student:</label>
+                                    <label for="studentIds" class="col-form-label">Select Students:</label>
                                 </div>
                                 <div class="col-md-6">
-                                    <select name="studentId" id="studentId" class="form-select" required>
-                                        <option value="">-- Select a student --</option>
+                                    <select name="studentIds" id="studentIds" class="form-select" multiple size="8" required>
                                         <c:forEach var="student" items="${availableStudents}">
                                             <option value="${student.id}">${student.firstName} ${student.lastName} (${student.email})</option>
                                         </c:forEach>
@@ -219,11 +298,32 @@
                                 </div>
                                 <div class="col-auto">
                                     <button type="submit" class="btn btn-info">
-                                        <i class="fas fa-user-plus"></i> Add Student
+                                        <i class="fas fa-user-plus"></i> Add Selected
                                     </button>
                                 </div>
                             </div>
                         </form>
+                        <c:if test="${course.capacity != null && course.enrolledCount >= course.capacity}">
+                            <form action="<c:url value='/courses/${course.id}/waitlist'/>" method="post">
+                                <div class="row g-3 align-items-center">
+                                    <div class="col-auto">
+                                        <label for="waitlistStudentId" class="col-form-label">Course is full. Add to waitlist:</label>
+                                    </div>
+                                    <div class="col-md-6">
+                                        <select name="studentId" id="waitlistStudentId" class="form-select" required>
+                                            <c:forEach var="student" items="${availableStudents}">
+                                                <option value="${student.id}">${student.firstName} ${student.lastName} (${student.email})</option>
+                                            </c:forEach>
+                                        </select>
+                                    </div>
+                                    <div class="col-auto">
+                                        <button type="submit" class="btn btn-warning">
+                                            <i class="fas fa-hourglass-half"></i> Join Waitlist
+                                        </button>
+                                    </div>
+                                </div>
+                            </form>
+                        </c:if>
                     </c:otherwise>
                 </c:choose>
             </div>
@@ -1,5 +1,6 @@
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core"%>
+<%@ taglib prefix="fn" uri="http://java.sun.com/jsp/jstl/functions"%>
 <%@ taglib prefix="form" uri="http://www.springframework.org/tags/form"%>
 <!DOCTYPE html>
 <html>
@@ -74,6 +75,7 @@
                     <div class="card-body">
                         <form:form action="/courses/save" method="post" modelAttribute="course">
                             <form:hidden path="id" />
+                            <form:hidden path="version" />
 
                             <div class="mb-3">
                                 <label for="name" class="form-label">Course Name</label>
@@ -87,16 +89,26 @@
                                 <form:errors path="description" cssClass="form-error" />
                             </div>
 
+                            <div class="mb-3">
+                                <label for="capacity" class="form-label">Capacity (Optional)</label>
+                                <form:input path="capacity" type="number" min="1" class="form-control" id="capacity" />
+                                <div class="form-text">Leave empty for no seat limit.</div>
+                                <form:errors path="capacity" cssClass="form-error" />
+                            </div>
+
                             <div class="mb-3">
                                 <label for="teacherId" class="form-label">Teacher (Optional)</label>
-                                <select name="teacherId" id="teacherId" class="form-select">
+                                <select name="teacherId" id="teacherId" class="form-select" data-options-version="${teacherOptions.version}">
                                     <option value="">-- Select a teacher --</option>
-                                    <c:forEach var="teacher" items="${teachers}">
-                                        <option value="${teacher.id}" ${course.teacher != null && course.teacher.id == teacher.id ? 'selected' : ''}>
-                                            ${teacher.firstName} ${teacher.lastName} (${teacher.email})
+                                    <c:forEach var="option" items="${teacherOptions.options}">
+                                        <option value="${option.id}" ${course.teacher != null && course.teacher.id == option.id ? 'selected' : ''}>
+                                            ${option.label}
                                         </option>
                                     </c:forEach>
                                 </select>
+                                <c:if test="${teacherOptions.truncated}">
+                                    <div class="form-text">Only the first ${fn:length(teacherOptions.options)} teachers by name are listed.</div>
+                                </c:if>
                             </div>
 
                             <div class="d-grid gap-2 d-md-flex justify-content-md-end">
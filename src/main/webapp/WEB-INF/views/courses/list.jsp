@@ -84,6 +84,12 @@
                 <a href="<c:url value='/courses/add'/>" class="btn btn-success">
                     <i class="fas fa-plus"></i> Add New Course
                 </a>
+                <a href="<c:url value='/export/courses?gzip=true'/>" class="btn btn-outline-secondary">
+                    <i class="fas fa-file-export"></i> Export CSV
+                </a>
+                <a href="<c:url value='/export/enrollments?gzip=true'/>" class="btn btn-outline-secondary">
+                    <i class="fas fa-file-export"></i> Export Enrollments
+                </a>
             </div>
         </div>
 
@@ -113,8 +119,8 @@
                                             <td>${course.id}</td>
                                             <td>${course.name}</td>
                                             <td>${course.description}</td>
-                                            <td>${course.teacher != null ? course.teacher.firstName.concat(' ').concat(course.teacher.lastName) : 'Not assigned'}</td>
-                                            <td>${course.students.size()}</td>
+                                            <td>${course.teacherName != null ? course.teacherName : 'Not assigned'}</td>
+                                            <td>${course.enrollmentCount}</td>
                                             <td>
                                                 <a href="<c:url value='/courses/details/${course.id}'/>" class="btn btn-info btn-sm">
                                                     <i class="fas fa-info-circle"></i> Details
@@ -134,6 +140,24 @@
                         </div>
                     </c:otherwise>
                 </c:choose>
+
+                <!-- Pagination -->
+                <c:if test="${not empty page}">
+                    <nav aria-label="Courses pages">
+                        <ul class="pagination justify-content-end mb-0">
+                            <li class="page-item ${page.hasPrevious ? '' : 'disabled'}">
+                                <a class="page-link" href="<c:url value='/courses'><c:param name='before' value='${page.prevCursor}'/><c:param name='size' value='${page.size}'/></c:url>">
+                                    <i class="fas fa-chevron-left"></i> Previous
+                                </a>
+                            </li>
+                            <li class="page-item ${page.hasNext ? '' : 'disabled'}">
+                                <a class="page-link" href="<c:url value='/courses'><c:param name='after' value='${page.nextCursor}'/><c:param name='size' value='${page.size}'/></c:url>">
+                                    Next <i class="fas fa-chevron-right"></i>
+                                </a>
+                            </li>
+                        </ul>
+                    </nav>
+                </c:if>
             </div>
         </div>
     </div>
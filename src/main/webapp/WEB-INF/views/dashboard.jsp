@@ -59,6 +59,9 @@
                     <li class="nav-item">
                         <a class="nav-link" href="<c:url value='/teachers'/>">Teachers</a>
                     </li>
+                    <li class="nav-item">
+                        <a class="nav-link" href="<c:url value='/import'/>">Import</a>
+                    </li>
                 </ul>
                 <div class="d-flex">
                     <span class="navbar-text me-3">
@@ -0,0 +1,143 @@
+<%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
+<%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core"%>
+<!DOCTYPE html>
+<html>
+<head>
+    <meta charset="UTF-8">
+    <meta name="viewport" content="width=device-width, initial-scale=1.0">
+    <title>Import Roster - School Management System</title>
+    <!-- Bootstrap CSS -->
+    <link href="https://cdn.jsdelivr.net/npm/bootstrap@5.1.3/dist/css/bootstrap.min.css" rel="stylesheet">
+    <!-- Font Awesome for icons -->
+    <link rel="stylesheet" href="https://cdnjs.cloudflare.com/ajax/libs/font-awesome/6.0.0-beta3/css/all.min.css">
+    <style>
+        body {
+            background-color: #f8f9fa;
+        }
+        .page-header {
+            background-color: #6c757d;
+            color: white;
+            padding: 20px 0;
+            margin-bottom: 20px;
+        }
+    </style>
+</head>
+<body>
+    <!-- Navigation Bar -->
+    <nav class="navbar navbar-expand-lg navbar-dark bg-dark">
+        <div class="container">
+            <a class="navbar-brand" href="<c:url value='/dashboard'/>">School Management System</a>
+            <button class="navbar-toggler" type="button" data-bs-toggle="collapse" data-bs-target="#navbarNav">
+                <span class="navbar-toggler-icon"></span>
+            </button>
+            <div class="collapse navbar-collapse" id="navbarNav">
+                <ul class="navbar-nav me-auto">
+                    <li class="nav-item">
+                        <a class="nav-link" href="<c:url value='/dashboard'/>">Dashboard</a>
+                    </li>
+                    <li class="nav-item">
+                        <a class="nav-link" href="<c:url value='/students'/>">Students</a>
+                    </li>
+                    <li class="nav-item">
+                        <a class="nav-link" href="<c:url value='/courses'/>">Courses</a>
+                    </li>
+                    <li class="nav-item">
+                        <a class="nav-link" href="<c:url value='/teachers'/>">Teachers</a>
+                    </li>
+                    <li class="nav-item">
+                        <a class="nav-link active" href="<c:url value='/import'/>">Import</a>
+                    </li>
+                </ul>
+                <div class="d-flex">
+                    <a href="<c:url value='/logout'/>" class="btn btn-outline-light btn-sm">Logout</a>
+                </div>
+            </div>
+        </div>
+    </nav>
+
+    <!-- Page Header -->
+    <div class="page-header">
+        <div class="container">
+            <h1>Import Roster</h1>
+            <p>Upload CSV (with a header row) or NDJSON files to create records in bulk</p>
+        </div>
+    </div>
+
+    <!-- Main Content -->
+    <div class="container">
+        <c:if test="${not empty error}">
+            <div class="alert alert-danger">${error}</div>
+        </c:if>
+
+        <!-- Import Result -->
+        <c:if test="${not empty result}">
+            <div class="card mb-4">
+                <div class="card-header ${result.failed == 0 ? 'bg-success' : 'bg-warning'} text-white">
+                    <h5 class="mb-0">Import of ${result.type} finished</h5>
+                </div>
+                <div class="card-body">
+                    <p>
+                        ${result.processed} rows processed,
+                        <strong>${result.imported}</strong> imported,
+                        ${result.skipped} already present,
+                        <strong>${result.failed}</strong> rejected.
+                    </p>
+                    <c:if test="${not empty result.errors}">
+                        <table class="table table-sm table-striped">
+                            <thead>
+                                <tr>
+                                    <th>Line</th>
+                                    <th>Error</th>
+                                </tr>
+                            </thead>
+                            <tbody>
+                                <c:forEach var="rowError" items="${result.errors}">
+                                    <tr>
+                                        <td>${rowError.line}</td>
+                                        <td><c:out value="${rowError.message}"/></td>
+                                    </tr>
+                                </c:forEach>
+                            </tbody>
+                        </table>
+                        <c:if test="${result.errorsTruncated}">
+                            <div class="form-text">Only the first ${result.errors.size()} errors are shown.</div>
+                        </c:if>
+                    </c:if>
+                </div>
+            </div>
+        </c:if>
+
+        <!-- Upload Forms -->
+        <div class="row">
+            <c:forEach var="importType" items="${importTypes}">
+                <div class="col-md-6 mb-4">
+                    <div class="card">
+                        <div class="card-body">
+                            <h5 class="card-title text-capitalize">${importType.path}</h5>
+                            <p class="card-text">Columns: <code>${importType.columns}</code></p>
+                            <form action="<c:url value='/import/${importType.path}'/>" method="post" enctype="multipart/form-data">
+                                <div class="input-group">
+                                    <input type="file" name="file" class="form-control" accept=".csv,.ndjson,.jsonl" required>
+                                    <button type="submit" class="btn btn-primary">
+                                        <i class="fas fa-file-import"></i> Import
+                                    </button>
+                                </div>
+                            </form>
+                        </div>
+                    </div>
+                </div>
+            </c:forEach>
+        </div>
+    </div>
+
+    <!-- Footer -->
+    <footer class="bg-dark text-white mt-5 py-3">
+        <div class="container text-center">
+            <p class="mb-0">&copy; 2025 School Management System. All rights reserved.</p>
+        </div>
+    </footer>
+
+    <!-- Bootstrap JS Bundle with Popper -->
+    <script src="https://cdn.jsdelivr.net/npm/bootstrap@5.1.3/dist/js/bootstrap.bundle.min.js"></script>
+</body>
+</html>
@@ -1,5 +1,6 @@
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core"%>
+<%@ taglib prefix="fn" uri="http://java.sun.com/jsp/jstl/functions"%>
 <!DOCTYPE html>
 <html>
 <head>
@@ -76,6 +77,14 @@
             </div>
         </c:if>
 
+        <!-- Error Message -->
+        <c:if test="${not empty error}">
+            <div class="alert alert-danger alert-dismissible fade show" role="alert">
+                ${error}
+                <button type="button" class="btn-close" data-bs-dismiss="alert" aria-label="Close"></button>
+            </div>
+        </c:if>
+
         <!-- Student Information -->
         <div class="student-info">
             <div class="row">
@@ -110,6 +119,7 @@
                             <table class="table table-striped table-hover">
                                 <thead class="table-dark">
                                     <tr>
+                                        <th></th>
                                         <th>ID</th>
                                         <th>Name</th>
                                         <th>Description</th>
@@ -120,6 +130,7 @@
                                 <tbody>
                                     <c:forEach var="course" items="${enrolledCourses}">
                                         <tr>
+                                            <td><input type="checkbox" class="form-check-input" name="courseIds" value="${course.id}" form="withdrawCoursesForm"></td>
                                             <td>${course.id}</td>
                                             <td>${course.name}</td>
                                             <td>${course.description}</td>
@@ -138,6 +149,12 @@
                                 </tbody>
                             </table>
                         </div>
+                        <form id="withdrawCoursesForm" action="<c:url value='/students/${student.id}/withdraw-courses'/>" method="post">
+                            <button type="submit" class="btn btn-outline-danger btn-sm"
+                                    onclick="return confirm('Are you sure you want to withdraw from the selected courses?')">
+                                <i class="fas fa-user-minus"></i> Withdraw Selected
+                            </button>
+                        </form>
                     </c:otherwise>
                 </c:choose>
             </div>
@@ -149,19 +166,33 @@
                 <h5 class="mb-0">Available Courses for Enrollment</h5>
             </div>
             <div class="card-body">
+                <form action="<c:url value='/students/details/${student.id}'/>" method="get" class="mb-3">
+                    <div class="row g-3 align-items-center">
+                        <div class="col-md-6">
+                            <input type="text" name="q" value="<c:out value='${q}'/>" class="form-control" placeholder="Filter by course name">
+                        </div>
+                        <div class="col-auto">
+                            <button type="submit" class="btn btn-outline-secondary">
+                                <i class="fas fa-filter"></i> Filter
+                            </button>
+                        </div>
+                    </div>
+                </form>
+                <c:if test="${fn:length(availableCourses) >= availableLimit}">
+                    <div class="form-text mb-2">Showing the first ${availableLimit} courses. Refine the filter to narrow the list.</div>
+                </c:if>
                 <c:choose>
                     <c:when test="${empty availableCourses}">
                         <div class="alert alert-info">No available courses for enrollment.</div>
                     </c:when>
                     <c:otherwise>
-                        <form action="<c:url value='/students/${student.id}/enroll'/>" method="post" class="mb-3">
+                        <form action="<c:url value='/students/${student.id}/enroll-courses'/>" method="post" class="mb-3">
                             <div class="row g-3 align-items-center">
                                 <div class="col-auto">
-                                    <label for="courseId" class="col-form-label">Select Course:</label>
+                                    <label for="courseIds" class="col-form-label">Select Courses:</label>
                                 </div>
                                 <div class="col-md-6">
-                                    <select name="courseId" id="courseId" class="form-select" required>
-                                        <option value="">-- Select a course --</option>
+                                    <select name="courseIds" id="courseIds" class="form-select" multiple size="8" required>
                                         <c:forEach var="course" items="${availableCourses}">
                                             <option value="${course.id}">${course.name} (${course.teacherName != null ? course.teacherName : 'No teacher'})</option>
                                         </c:forEach>
@@ -75,6 +75,9 @@
             <a href="<c:url value='/students/add'/>" class="btn btn-primary">
                 <i class="fas fa-plus"></i> Add New Student
             </a>
+            <a href="<c:url value='/export/students?gzip=true'/>" class="btn btn-outline-secondary">
+                <i class="fas fa-file-export"></i> Export CSV
+            </a>
         </div>
 
         <!-- Students Table -->
@@ -122,6 +125,24 @@
                         </div>
                     </c:otherwise>
                 </c:choose>
+
+                <!-- Pagination -->
+                <c:if test="${not empty page}">
+                    <nav aria-label="Students pages">
+                        <ul class="pagination justify-content-end mb-0">
+                            <li class="page-item ${page.hasPrevious ? '' : 'disabled'}">
+                                <a class="page-link" href="<c:url value='/students'><c:param name='before' value='${page.prevCursor}'/><c:param name='size' value='${page.size}'/></c:url>">
+                                    <i class="fas fa-chevron-left"></i> Previous
+                                </a>
+                            </li>
+                            <li class="page-item ${page.hasNext ? '' : 'disabled'}">
+                                <a class="page-link" href="<c:url value='/students'><c:param name='after' value='${page.nextCursor}'/><c:param name='size' value='${page.size}'/></c:url>">
+                                    Next <i class="fas fa-chevron-right"></i>
+                                </a>
+                            </li>
+                        </ul>
+                    </nav>
+                </c:if>
             </div>
         </div>
     </div>
@@ -1,5 +1,6 @@
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core"%>
+<%@ taglib prefix="fn" uri="http://java.sun.com/jsp/jstl/functions"%>
 <!DOCTYPE html>
 <html>
 <head>
@@ -153,6 +154,21 @@
                 <h5 class="mb-0">Assign Courses</h5>
             </div>
             <div class="card-body">
+                <form action="<c:url value='/teachers/details/${teacher.id}'/>" method="get" class="mb-3">
+                    <div class="row g-3 align-items-center">
+                        <div class="col-md-6">
+                            <input type="text" name="q" value="<c:out value='${q}'/>" class="form-control" placeholder="Filter by course name">
+                        </div>
+                        <div class="col-auto">
+                            <button type="submit" class="btn btn-outline-secondary">
+                                <i class="fas fa-filter"></i> Filter
+                            </button>
+                        </div>
+                    </div>
+                </form>
+                <c:if test="${fn:length(availableCourses) >= availableLimit}">
+                    <div class="form-text mb-2">Showing the first ${availableLimit} courses. Refine the filter to narrow the list.</div>
+                </c:if>
                 <c:choose>
                     <c:when test="${empty availableCourses}">
                         <div class="alert alert-info">No available courses for assignment.</div>
@@ -167,7 +183,7 @@
                                     <select name="courseId" id="courseId" class="form-select" required>
                                         <option value="">-- Select a course --</option>
                                         <c:forEach var="course" items="${availableCourses}">
-                                            <option value="${course.id}">${course.name} (${course.students.size()} students)</option>
+                                            <option value="${course.id}">${course.name} (${course.enrollmentCount} students)</option>
                                         </c:forEach>
                                     </select>
                                 </div>
@@ -74,6 +74,7 @@
                     <div class="card-body">
                         <form:form action="/teachers/save" method="post" modelAttribute="teacher">
                             <form:hidden path="id" />
+                            <form:hidden path="version" />
 
                             <div class="mb-3">
                                 <label for="firstName" class="form-label">First Name</label>
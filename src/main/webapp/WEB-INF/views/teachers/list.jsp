@@ -75,6 +75,10 @@
             <div class="col-md-6">
                 <form action="<c:url value='/teachers/search'/>" method="get" class="d-flex">
                     <input type="text" name="name" class="form-control me-2" placeholder="Search teachers by name..." value="${searchName}">
+                    <div class="form-check d-flex align-items-center me-2 text-nowrap">
+                        <input type="checkbox" name="prefix" value="true" id="prefix" class="form-check-input me-1" ${searchPrefix ? 'checked' : ''}>
+                        <label for="prefix" class="form-check-label">Starts with</label>
+                    </div>
                     <button type="submit" class="btn btn-outline-danger">
                         <i class="fas fa-search"></i> Search
                     </button>
@@ -114,7 +118,7 @@
                                             <td>${teacher.firstName}</td>
                                             <td>${teacher.lastName}</td>
                                             <td>${teacher.email}</td>
-                                            <td>${teacher.courses.size()}</td>
+                                            <td>${teacher.courseCount}</td>
                                             <td>
                                                 <a href="<c:url value='/teachers/details/${teacher.id}'/>" class="btn btn-info btn-sm">
                                                     <i class="fas fa-info-circle"></i> Details
@@ -134,6 +138,24 @@
                         </div>
                     </c:otherwise>
                 </c:choose>
+
+                <!-- Pagination -->
+                <c:if test="${not empty page}">
+                    <nav aria-label="Teachers pages">
+                        <ul class="pagination justify-content-end mb-0">
+                            <li class="page-item ${page.hasPrevious ? '' : 'disabled'}">
+                                <a class="page-link" href="<c:url value='/teachers'><c:param name='before' value='${page.prevCursor}'/><c:param name='size' value='${page.size}'/></c:url>">
+                                    <i class="fas fa-chevron-left"></i> Previous
+                                </a>
+                            </li>
+                            <li class="page-item ${page.hasNext ? '' : 'disabled'}">
+                                <a class="page-link" href="<c:url value='/teachers'><c:param name='after' value='${page.nextCursor}'/><c:param name='size' value='${page.size}'/></c:url>">
+                                    Next <i class="fas fa-chevron-right"></i>
+                                </a>
+                            </li>
+                        </ul>
+                    </nav>
+                </c:if>
             </div>
         </div>
     </div>
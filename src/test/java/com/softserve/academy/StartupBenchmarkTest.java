@@ -0,0 +1,126 @@
+package com.softserve.academy;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Startup benchmark: time from launching the JVM to the first rendered JSP page (the login view),
+ * for the standard executable jar and for the ahead-of-time processed application with its
+ * class data sharing archive. Both run against an in-memory database with the same arguments as
+ * the training run, alternating, three times each. Needs the output of {@code mvn -Poptimized package}
+ * and is run with {@code mvn test -Pbenchmark -Dtest=StartupBenchmarkTest}.
+ */
+@Tag("benchmark")
+public class StartupBenchmarkTest {
+
+    private static final int RUNS = 3;
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    private static final Path STANDARD_JAR = Path.of("target/UniversityManager-1.0-SNAPSHOT.jar");
+    private static final Path OPTIMIZED_JAR = Path.of("target/optimized/application.jar");
+    private static final Path CDS_ARCHIVE = Path.of("target/optimized/application.jsa");
+
+    private static final List<String> APPLICATION_ARGUMENTS = List.of(
+            "--spring.datasource.url=jdbc:h2:mem:startup;MODE=PostgreSQL",
+            "--spring.datasource.driverClassName=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.flyway.locations=classpath:db/training");
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    @BeforeAll
+    static void requireOptimizedBuild() {
+        assumeTrue(Files.exists(STANDARD_JAR) && Files.exists(OPTIMIZED_JAR) && Files.exists(CDS_ARCHIVE),
+                "Build with mvn -Poptimized package first");
+    }
+
+    @Test
+    public void optimizedBuildShouldServeFirstPageSooner() throws Exception {
+        // given
+        String java = ProcessHandle.current().info().command().orElse("java");
+        long[] standard = new long[RUNS];
+        long[] optimized = new long[RUNS];
+
+        // when
+        for (int i = 0; i < RUNS; i++) {
+            standard[i] = timeToFirstPage(List.of(java, "-jar", STANDARD_JAR.toString()));
+            optimized[i] = timeToFirstPage(List.of(java, "-XX:SharedArchiveFile=" + CDS_ARCHIVE, "-Xlog:cds=error",
+                    "-Dspring.aot.enabled=true", "-jar", OPTIMIZED_JAR.toString()));
+        }
+
+        // then
+        Arrays.sort(standard);
+        Arrays.sort(optimized);
+        System.out.printf("Time to first JSP page (GET /login), median of %d runs:%n", RUNS);
+        System.out.printf("  standard jar:        %d ms %s%n", standard[RUNS / 2], Arrays.toString(standard));
+        System.out.printf("  AOT + CDS archive:   %d ms %s%n", optimized[RUNS / 2], Arrays.toString(optimized));
+        assertThat(optimized[RUNS / 2]).isLessThan(standard[RUNS / 2]);
+    }
+
+    /**
+     * Launch the application and poll the login page until it is rendered.
+     *
+     * @param command the command starting the JVM
+     * @return the milliseconds from launch to the first rendered page
+     */
+    private long timeToFirstPage(List<String> command) throws Exception {
+        int port = freePort();
+        List<String> fullCommand = new ArrayList<>(command);
+        fullCommand.addAll(APPLICATION_ARGUMENTS);
+        fullCommand.add("--server.port=" + port);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/login")).GET().build();
+
+        long begin = System.nanoTime();
+        Process process = new ProcessBuilder(fullCommand)
+                .redirectErrorStream(true)
+                .redirectOutput(new File("target/startup-benchmark.log"))
+                .start();
+        try {
+            while (System.nanoTime() - begin < TIMEOUT.toNanos()) {
+                assertThat(process.isAlive()).as("application exited, see target/startup-benchmark.log").isTrue();
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return (System.nanoTime() - begin) / 1_000_000;
+                    }
+                } catch (IOException e) {
+                    // not listening yet
+                }
+                Thread.sleep(20);
+            }
+            throw new AssertionError("No page within " + TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
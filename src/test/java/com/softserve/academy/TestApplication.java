@@ -7,7 +7,7 @@ import org.springframework.context.annotation.Profile;
 /**
  * Test application class for running tests.
  * This class is a simplified version of the main Application class,
- * without the @PostConstruct method that initializes test data.
+ * without the buffered startup steps. Seed data is not created under the test profile.
  */
 @SpringBootApplication
 @Profile("test")
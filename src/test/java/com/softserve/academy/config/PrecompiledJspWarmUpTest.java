@@ -0,0 +1,165 @@
+package com.softserve.academy.config;
+
+import com.softserve.academy.TestApplication;
+import com.softserve.academy.model.Course;
+import com.softserve.academy.model.Role;
+import com.softserve.academy.model.Student;
+import com.softserve.academy.model.Teacher;
+import com.softserve.academy.model.User;
+import com.softserve.academy.service.CourseService;
+import com.softserve.academy.service.StudentService;
+import com.softserve.academy.service.TeacherService;
+import com.softserve.academy.service.UserService;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletRegistration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.File;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Warm-up test for the JSP views precompiled at build time: every view has a registered servlet,
+ * and rendering every page leaves Jasper's scratch directory, where it writes the views it
+ * compiles at runtime, empty.
+ */
+@SpringBootTest(classes = TestApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.mvc.view.prefix=/WEB-INF/views/",
+        "spring.mvc.view.suffix=.jsp",
+        "spring.datasource.url=jdbc:h2:mem:jsp-warm-up;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"
+})
+public class PrecompiledJspWarmUpTest {
+
+    private static final Path VIEWS = Path.of("src/main/webapp/WEB-INF/views");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Test
+    public void everyViewShouldHavePrecompiledServlet() throws Exception {
+        // given
+        Set<String> viewPaths;
+        try (Stream<Path> files = Files.walk(VIEWS)) {
+            viewPaths = files.filter(file -> file.toString().endsWith(".jsp"))
+                    .map(file -> "/WEB-INF/views/" + VIEWS.relativize(file).toString().replace(File.separatorChar, '/'))
+                    .collect(Collectors.toSet());
+        }
+
+        // when
+        Set<String> mapped = servletContext().getServletRegistrations().values().stream()
+                .flatMap(registration -> registration.getMappings().stream())
+                .collect(Collectors.toSet());
+
+        // then
+        assertThat(viewPaths).isNotEmpty();
+        assertThat(mapped).containsAll(viewPaths);
+    }
+
+    @Test
+    public void warmUpShouldNotCompileAnyJsp() throws Exception {
+        // given
+        Teacher teacher = teacherService.saveTeacher(new Teacher("Warm", "Teacher", "warm.teacher@example.com"));
+        Course course = courseService.saveCourse(new Course("Warm-up Course", "Renders every course view"));
+        courseService.assignTeacherToCourse(course.getId(), teacher.getId());
+        Student student = studentService.saveStudent(new Student("Warm", "Student", "warm.student@example.com"));
+        studentService.enrollStudentInCourse(student.getId(), course.getId());
+        userService.registerUser(new User("warmup", "warmup123", "warmup@example.com", "Warmup", Role.ADMIN));
+
+        HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        Map<String, Integer> pages = new LinkedHashMap<>();
+        pages.put("/login", 200);
+        pages.put("/register", 200);
+        pages.put("/dashboard", 200);
+        pages.put("/courses", 200);
+        pages.put("/courses/add", 200);
+        pages.put("/courses/edit/" + course.getId(), 200);
+        pages.put("/courses/details/" + course.getId(), 200);
+        pages.put("/students", 200);
+        pages.put("/students/add", 200);
+        pages.put("/students/edit/" + student.getId(), 200);
+        pages.put("/students/details/" + student.getId(), 200);
+        pages.put("/teachers", 200);
+        pages.put("/teachers/add", 200);
+        pages.put("/teachers/edit/" + teacher.getId(), 200);
+        pages.put("/teachers/details/" + teacher.getId(), 200);
+        pages.put("/import", 200);
+        pages.put("/test-error/validation", 200);
+        pages.put("/courses/details/999999", 404);
+        pages.put("/test-error/500", 500);
+        pages.put("/error", 200);
+
+        // when
+        HttpResponse<Void> login = client.send(HttpRequest.newBuilder(uri("/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString("username=warmup&password=warmup123"))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        Map<String, Integer> statuses = new LinkedHashMap<>();
+        for (String page : pages.keySet()) {
+            statuses.put(page, client.send(HttpRequest.newBuilder(uri(page)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString()).statusCode());
+        }
+
+        // then
+        assertThat(login.statusCode()).isEqualTo(302);
+        assertThat(statuses).isEqualTo(pages);
+        assertThat(compiledAtRuntime()).isEmpty();
+    }
+
+    /**
+     * List the Java sources and classes Jasper generated in its scratch directory.
+     */
+    private List<Path> compiledAtRuntime() throws Exception {
+        File scratchDir = (File) servletContext().getAttribute(ServletContext.TEMPDIR);
+        try (Stream<Path> files = Files.walk(scratchDir.toPath())) {
+            return files.filter(file -> file.toString().endsWith(".java") || file.toString().endsWith(".class"))
+                    .toList();
+        }
+    }
+
+    private ServletContext servletContext() {
+        return context.getServletContext();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,284 @@
+package com.softserve.academy.config;
+
+import com.softserve.academy.TestApplication;
+import com.softserve.academy.model.Course;
+import com.softserve.academy.model.Role;
+import com.softserve.academy.model.Student;
+import com.softserve.academy.model.Teacher;
+import com.softserve.academy.model.User;
+import com.softserve.academy.repository.CourseRepository;
+import com.softserve.academy.repository.StudentRepository;
+import com.softserve.academy.repository.TeacherRepository;
+import com.softserve.academy.service.StudentService;
+import com.softserve.academy.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load benchmark of the course list and student details pages with platform and with virtual
+ * request threads. Every JDBC statement is delayed by a few milliseconds to stand in for the
+ * round trip to PostgreSQL, so requests spend most of their time blocked on the database as
+ * they do in production. Both modes share the same 20 connection pool. Reports throughput,
+ * latency percentiles and the peak number of platform threads per mode.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@SpringBootTest(classes = {TestApplication.class, ThreadingBenchmarkTest.SlowStatements.class},
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.mvc.view.prefix=/WEB-INF/views/",
+        "spring.mvc.view.suffix=.jsp",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "spring.datasource.hikari.minimum-idle=20",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "logging.level.com.softserve.academy=INFO"
+})
+@Tag("benchmark")
+public class ThreadingBenchmarkTest {
+
+    private static final int CLIENTS = 400;
+    private static final int REQUESTS = 4000;
+    private static final long STATEMENT_LATENCY_MS = 5;
+
+    /**
+     * Delays every statement prepared on a pooled connection by {@link #STATEMENT_LATENCY_MS}.
+     */
+    @TestConfiguration
+    static class SlowStatements {
+
+        @Bean
+        static BeanPostProcessor slowStatementDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return slow(super.getConnection());
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Connection slow(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        if (method.getName().startsWith("prepare")) {
+                            Thread.sleep(STATEMENT_LATENCY_MS);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+
+    abstract static class ThreadMode {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private TeacherRepository teacherRepository;
+
+        @Autowired
+        private CourseRepository courseRepository;
+
+        @Autowired
+        private StudentRepository studentRepository;
+
+        @Autowired
+        private StudentService studentService;
+
+        @Autowired
+        private UserService userService;
+
+        private ExecutorService clientExecutor;
+        private HttpClient client;
+        private Long studentId;
+
+        @BeforeEach
+        void setUp() throws Exception {
+            clientExecutor = Executors.newFixedThreadPool(2);
+            client = HttpClient.newBuilder()
+                    .executor(clientExecutor)
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .cookieHandler(new CookieManager())
+                    .followRedirects(HttpClient.Redirect.NEVER)
+                    .build();
+            if (!userService.usernameExists("bench")) {
+                userService.registerUser(new User("bench", "bench123", "bench@example.com", "Bench", Role.ADMIN));
+            }
+            HttpResponse<Void> login = client.send(HttpRequest.newBuilder(uri("/login"))
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString("username=bench&password=bench123"))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+            assertThat(login.statusCode()).isEqualTo(302);
+
+            studentId = studentService.findByEmail("bench.student@example.com").map(Student::getId).orElse(null);
+            if (studentId == null) {
+                Teacher teacher = teacherRepository.save(Teacher.builder()
+                        .firstName("Bench").lastName("Teacher").email("bench.teacher@example.com").build());
+                List<Course> courses = new ArrayList<>();
+                for (int i = 0; i < 50; i++) {
+                    courses.add(Course.builder().name("Course " + i).description("Benchmark course").teacher(teacher).build());
+                }
+                courseRepository.saveAll(courses);
+                Student student = studentRepository.save(new Student("Bench", "Student", "bench.student@example.com"));
+                for (Course course : courses.subList(0, 10)) {
+                    studentService.enrollStudentInCourse(student.getId(), course.getId());
+                }
+                studentId = student.getId();
+            }
+        }
+
+        @AfterEach
+        void tearDown() {
+            clientExecutor.shutdownNow();
+        }
+
+        @Test
+        public void courseList() throws Exception {
+            run("/courses");
+        }
+
+        @Test
+        public void studentDetails() throws Exception {
+            run("/students/details/" + studentId);
+        }
+
+        private void run(String path) throws Exception {
+            // given
+            for (int i = 0; i < 50; i++) {
+                assertThat(get(path)).isEqualTo(200);
+            }
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            threads.resetPeakThreadCount();
+            long[] latencies = new long[REQUESTS];
+            AtomicInteger next = new AtomicInteger();
+            AtomicInteger failed = new AtomicInteger();
+            CompletableFuture<?>[] clients = new CompletableFuture<?>[CLIENTS];
+
+            // when
+            long begin = System.nanoTime();
+            for (int c = 0; c < CLIENTS; c++) {
+                clients[c] = sendNext(path, next, latencies, failed);
+            }
+            CompletableFuture.allOf(clients).get(5, TimeUnit.MINUTES);
+            long elapsed = System.nanoTime() - begin;
+
+            // then
+            Arrays.sort(latencies);
+            System.out.printf("%s threads, GET %s, %d clients, %d ms per statement:%n",
+                    mode(), path, CLIENTS, STATEMENT_LATENCY_MS);
+            System.out.printf("  %d requests in %d ms (%.0f requests/s), %d failed%n",
+                    REQUESTS, elapsed / 1_000_000, REQUESTS * 1_000_000_000.0 / elapsed, failed.get());
+            System.out.printf("  latency p50=%d ms, p99=%d ms, max=%d ms, peak platform threads=%d%n",
+                    latencies[REQUESTS / 2] / 1_000_000, latencies[REQUESTS * 99 / 100] / 1_000_000,
+                    latencies[REQUESTS - 1] / 1_000_000, threads.getPeakThreadCount());
+            assertThat(failed.get()).isZero();
+        }
+
+        /**
+         * Send the next of the benchmark requests and, once it is answered, the one after that.
+         * The responses are awaited asynchronously, so the load generator needs only a few threads
+         * and does not compete with the server for the CPU.
+         */
+        private CompletableFuture<Void> sendNext(String path, AtomicInteger next, long[] latencies, AtomicInteger failed) {
+            int i = next.getAndIncrement();
+            if (i >= REQUESTS) {
+                return CompletableFuture.completedFuture(null);
+            }
+            long begin = System.nanoTime();
+            return client.sendAsync(request(path), HttpResponse.BodyHandlers.discarding()).thenCompose(response -> {
+                latencies[i] = System.nanoTime() - begin;
+                if (response.statusCode() != 200) {
+                    failed.incrementAndGet();
+                }
+                return sendNext(path, next, latencies, failed);
+            });
+        }
+
+        private int get(String path) throws Exception {
+            return client.send(request(path), HttpResponse.BodyHandlers.discarding()).statusCode();
+        }
+
+        private HttpRequest request(String path) {
+            return HttpRequest.newBuilder(uri(path)).GET().build();
+        }
+
+        private URI uri(String path) {
+            return URI.create("http://localhost:" + port + path);
+        }
+
+        abstract String mode();
+    }
+
+    @Nested
+    @TestPropertySource(properties = {
+            "app.threads.virtual=false",
+            "spring.datasource.url=jdbc:h2:mem:platform-threads;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"
+    })
+    class PlatformThreads extends ThreadMode {
+
+        @Override
+        String mode() {
+            return "Platform";
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = {
+            "app.threads.virtual=true",
+            "spring.datasource.url=jdbc:h2:mem:virtual-threads;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"
+    })
+    class VirtualThreads extends ThreadMode {
+
+        @Override
+        String mode() {
+            return "Virtual";
+        }
+    }
+}
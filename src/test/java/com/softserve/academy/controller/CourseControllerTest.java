@@ -1,25 +1,42 @@
 package com.softserve.academy.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.academy.config.HttpCacheProperties;
+import com.softserve.academy.config.PaginationProperties;
+import com.softserve.academy.dto.ContentVersion;
+import com.softserve.academy.dto.CourseDTO;
+import com.softserve.academy.dto.EnrollmentChangeResult;
+import com.softserve.academy.dto.KeysetPage;
+import com.softserve.academy.dto.OptionDTO;
+import com.softserve.academy.dto.OptionList;
+import com.softserve.academy.dto.WaitlistJoinResult;
 import com.softserve.academy.model.Course;
+import com.softserve.academy.model.Role;
 import com.softserve.academy.model.Student;
 import com.softserve.academy.model.Teacher;
+import com.softserve.academy.security.AuthenticationFilter;
+import com.softserve.academy.security.SessionPrincipal;
 import com.softserve.academy.service.CourseService;
+import com.softserve.academy.service.OptionListService;
 import com.softserve.academy.service.StudentService;
-import com.softserve.academy.service.TeacherService;
+import com.softserve.academy.service.WaitlistService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.servlet.view.InternalResourceViewResolver;
 
+import java.time.Instant;
 import java.util.*;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -33,11 +50,20 @@ public class CourseControllerTest {
     private CourseService courseService;
 
     @Mock
-    private TeacherService teacherService;
+    private OptionListService optionListService;
 
     @Mock
     private StudentService studentService;
 
+    @Mock
+    private WaitlistService waitlistService;
+
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
+
+    @Spy
+    private ConditionalRequests conditionalRequests = new ConditionalRequests(new HttpCacheProperties());
+
     @InjectMocks
     private CourseController courseController;
 
@@ -45,8 +71,9 @@ public class CourseControllerTest {
     private MockHttpSession session;
     private Course course;
     private List<Course> courses;
+    private List<CourseDTO> courseSummaries;
     private Teacher teacher;
-    private List<Teacher> teachers;
+    private OptionList teacherOptions;
     private Student student;
     private Set<Student> students;
     private List<Student> studentList;
@@ -62,12 +89,12 @@ public class CourseControllerTest {
         mockMvc = MockMvcBuilders.standaloneSetup(courseController)
                 .setViewResolvers(viewResolver)
                 .setControllerAdvice(new GlobalExceptionHandler())
+                .addFilter(new AuthenticationFilter(new ObjectMapper()), AuthenticationFilter.URL_PATTERNS)
                 .build();
 
         // Set up authenticated session
         session = new MockHttpSession();
-        session.setAttribute("authenticated", true);
-        session.setAttribute("username", "admin");
+        session.setAttribute(SessionPrincipal.ATTRIBUTE, new SessionPrincipal(1L, "admin", Role.ADMIN));
 
         // Set up test data
         course = new Course("Java Programming", "Introduction to Java programming language");
@@ -77,13 +104,19 @@ public class CourseControllerTest {
         courses.add(course);
         courses.add(new Course("Python Programming", "Introduction to Python programming language"));
 
+        courseSummaries = new ArrayList<>();
+        courseSummaries.add(new CourseDTO(1L, "Java Programming", "Introduction to Java programming language",
+                1L, "John", "Smith", 1L));
+        courseSummaries.add(new CourseDTO(2L, "Python Programming", "Introduction to Python programming language",
+                null, null, null, 0L));
+
         teacher = new Teacher("John", "Smith", "john.smith@example.com");
         teacher.setId(1L);
         course.setTeacher(teacher);
 
-        teachers = new ArrayList<>();
-        teachers.add(teacher);
-        teachers.add(new Teacher("Jane", "Doe", "jane.doe@example.com"));
+        teacherOptions = new OptionList(1L, List.of(
+                new OptionDTO(1L, "John Smith (john.smith@example.com)"),
+                new OptionDTO(2L, "Jane Doe (jane.doe@example.com)")), false);
 
         student = new Student("Alice", "Johnson", "alice.johnson@example.com");
         student.setId(1L);
@@ -99,13 +132,47 @@ public class CourseControllerTest {
     @Test
     void listCourses_whenAuthenticated_shouldReturnCoursesList() throws Exception {
         // given
-        when(courseService.getAllCourses()).thenReturn(courses);
+        KeysetPage<CourseDTO> page = new KeysetPage<>(courseSummaries, 20, null, null);
+        when(courseService.getCoursesPage(null, null, 20)).thenReturn(page);
 
         // when & then
         mockMvc.perform(get("/courses").session(session))
                 .andExpect(status().isOk())
                 .andExpect(view().name("courses/list"))
-                .andExpect(model().attribute("courses", courses));
+                .andExpect(model().attribute("courses", courseSummaries))
+                .andExpect(model().attribute("page", page));
+    }
+
+    @Test
+    void listCourses_withCursorAndSize_shouldRequestThatPage() throws Exception {
+        // given
+        KeysetPage<CourseDTO> page = new KeysetPage<>(courseSummaries, 5, 12L, 6L);
+        when(courseService.getCoursesPage(5L, null, 5)).thenReturn(page);
+
+        // when & then
+        mockMvc.perform(get("/courses").session(session)
+                .param("after", "5")
+                .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("courses/list"))
+                .andExpect(model().attribute("page", page));
+
+        verify(courseService, times(1)).getCoursesPage(5L, null, 5);
+    }
+
+    @Test
+    void listCourses_withOversizedPage_shouldClampToMaxSize() throws Exception {
+        // given
+        KeysetPage<CourseDTO> page = new KeysetPage<>(courseSummaries, 100, null, null);
+        when(courseService.getCoursesPage(null, null, 100)).thenReturn(page);
+
+        // when & then
+        mockMvc.perform(get("/courses").session(session)
+                .param("size", "100000"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("page", page));
+
+        verify(courseService, times(1)).getCoursesPage(null, null, 100);
     }
 
     @Test
@@ -122,28 +189,28 @@ public class CourseControllerTest {
     @Test
     void showAddForm_whenAuthenticated_shouldReturnCourseForm() throws Exception {
         // given
-        when(teacherService.getAllTeachers()).thenReturn(teachers);
+        when(optionListService.getTeacherOptions()).thenReturn(teacherOptions);
 
         // when & then
         mockMvc.perform(get("/courses/add").session(session))
                 .andExpect(status().isOk())
                 .andExpect(view().name("courses/form"))
                 .andExpect(model().attributeExists("course"))
-                .andExpect(model().attribute("teachers", teachers));
+                .andExpect(model().attribute("teacherOptions", teacherOptions));
     }
 
     @Test
     void showEditForm_whenAuthenticated_shouldReturnCourseForm() throws Exception {
         // given
         when(courseService.getCourseById(1L)).thenReturn(Optional.of(course));
-        when(teacherService.getAllTeachers()).thenReturn(teachers);
+        when(optionListService.getTeacherOptions()).thenReturn(teacherOptions);
 
         // when & then
         mockMvc.perform(get("/courses/edit/1").session(session))
                 .andExpect(status().isOk())
                 .andExpect(view().name("courses/form"))
                 .andExpect(model().attribute("course", course))
-                .andExpect(model().attribute("teachers", teachers));
+                .andExpect(model().attribute("teacherOptions", teacherOptions));
     }
 
     @Test
@@ -181,6 +248,22 @@ public class CourseControllerTest {
         verify(courseService, times(1)).assignTeacherToCourse(any(), any());
     }
 
+    @Test
+    void saveCourse_whenValidationFails_shouldReturnFormWithTeacherOptions() throws Exception {
+        // given
+        when(optionListService.getTeacherOptions()).thenReturn(teacherOptions);
+
+        // when & then
+        mockMvc.perform(post("/courses/save").session(session)
+                .param("name", ""))
+                .andExpect(status().isOk())
+                .andExpect(view().name("courses/form"))
+                .andExpect(model().attributeHasFieldErrors("course", "name"))
+                .andExpect(model().attribute("teacherOptions", teacherOptions));
+
+        verify(courseService, never()).saveCourse(any(Course.class));
+    }
+
     @Test
     void saveCourse_withoutTeacher_shouldRedirectToCoursesList() throws Exception {
         // given
@@ -217,8 +300,8 @@ public class CourseControllerTest {
         // given
         when(courseService.getCourseById(1L)).thenReturn(Optional.of(course));
         when(courseService.getEnrolledStudents(1L)).thenReturn(students);
-        when(studentService.getAllStudents()).thenReturn(studentList);
-        when(teacherService.getAllTeachers()).thenReturn(teachers);
+        when(studentService.getStudentsNotEnrolledInCourse(1L, null, 50)).thenReturn(studentList);
+        when(optionListService.getTeacherOptions()).thenReturn(teacherOptions);
 
         // when & then
         mockMvc.perform(get("/courses/details/1").session(session))
@@ -226,8 +309,93 @@ public class CourseControllerTest {
                 .andExpect(view().name("courses/details"))
                 .andExpect(model().attribute("course", course))
                 .andExpect(model().attribute("enrolledStudents", students))
-                .andExpect(model().attributeExists("availableStudents"))
-                .andExpect(model().attribute("availableTeachers", teachers));
+                .andExpect(model().attribute("availableStudents", studentList))
+                .andExpect(model().attribute("teacherOptions", teacherOptions))
+                .andExpect(model().attribute("availableLimit", 50));
+    }
+
+    @Test
+    void listCourses_whenEtagMatches_shouldReturnNotModifiedWithoutLoadingCourses() throws Exception {
+        // given
+        when(courseService.getCourseListVersions()).thenReturn(List.of(
+                new ContentVersion(2L, Instant.parse("2026-09-01T10:00:00Z")),
+                new ContentVersion(1L, Instant.parse("2026-08-01T10:00:00Z"))));
+        when(courseService.getCoursesPage(null, null, 20))
+                .thenReturn(KeysetPage.forward(new ArrayList<>(courseSummaries), null, 20, CourseDTO::getId));
+        String etag = mockMvc.perform(get("/courses").session(session))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/courses").session(session).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+        verify(courseService, times(1)).getCoursesPage(any(), any(), anyInt());
+    }
+
+    @Test
+    void listCourses_whenCoursesChanged_shouldRenderListAgain() throws Exception {
+        // given
+        when(courseService.getCourseListVersions())
+                .thenReturn(List.of(new ContentVersion(2L, Instant.parse("2026-09-01T10:00:00Z"))))
+                .thenReturn(List.of(new ContentVersion(2L, Instant.parse("2026-09-01T10:00:05Z"))));
+        when(courseService.getCoursesPage(null, null, 20))
+                .thenReturn(KeysetPage.forward(new ArrayList<>(courseSummaries), null, 20, CourseDTO::getId));
+        String etag = mockMvc.perform(get("/courses").session(session))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/courses").session(session).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(view().name("courses/list"));
+        verify(courseService, times(2)).getCoursesPage(any(), any(), anyInt());
+    }
+
+    @Test
+    void listCourses_withFlashMessage_shouldRenderWithoutEtag() throws Exception {
+        // given
+        when(courseService.getCourseListVersions())
+                .thenReturn(List.of(new ContentVersion(2L, Instant.parse("2026-09-01T10:00:00Z"))));
+        when(courseService.getCoursesPage(null, null, 20))
+                .thenReturn(KeysetPage.forward(new ArrayList<>(courseSummaries), null, 20, CourseDTO::getId));
+
+        // when & then
+        mockMvc.perform(get("/courses").session(session).flashAttr("success", "Course saved successfully!"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
+    @Test
+    void showCourseDetails_whenEtagMatches_shouldReturnNotModifiedWithoutLoadingCourse() throws Exception {
+        // given
+        when(courseService.getCourseDetailsVersions(1L)).thenReturn(List.of(
+                new ContentVersion(3L, Instant.parse("2026-09-01T10:00:00Z")),
+                new ContentVersion(40L, Instant.parse("2026-08-01T10:00:00Z")),
+                new ContentVersion(5L, Instant.parse("2026-07-01T10:00:00Z"))));
+
+        // when & then
+        mockMvc.perform(get("/courses/details/1").session(session)
+                        .header("If-None-Match", "W/\"1-3.1788256800000000-40.1785578400000000-5.1782900000000000\""))
+                .andExpect(status().isNotModified());
+        verify(courseService, never()).getCourseById(anyLong());
+        verify(courseService, never()).getEnrolledStudents(anyLong());
+        verifyNoInteractions(studentService, optionListService, waitlistService);
+    }
+
+    @Test
+    void showCourseDetails_withFilter_shouldPassFilterToService() throws Exception {
+        // given
+        when(courseService.getCourseById(1L)).thenReturn(Optional.of(course));
+        when(courseService.getEnrolledStudents(1L)).thenReturn(students);
+        when(studentService.getStudentsNotEnrolledInCourse(1L, "smi", 50)).thenReturn(studentList);
+        when(optionListService.getTeacherOptions()).thenReturn(teacherOptions);
+
+        // when & then
+        mockMvc.perform(get("/courses/details/1").param("q", "smi").session(session))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("availableStudents", studentList))
+                .andExpect(model().attribute("q", "smi"));
     }
 
     @Test
@@ -248,7 +416,7 @@ public class CourseControllerTest {
     @Test
     void addStudent_shouldRedirectToCourseDetails() throws Exception {
         // given
-        when(courseService.addStudentToCourse(1L, 1L)).thenReturn(course);
+        when(courseService.addStudentToCourse(1L, 1L)).thenReturn(true);
 
         // when & then
         mockMvc.perform(post("/courses/1/add-student").session(session)
@@ -263,7 +431,7 @@ public class CourseControllerTest {
     @Test
     void removeStudent_shouldRedirectToCourseDetails() throws Exception {
         // given
-        when(courseService.removeStudentFromCourse(1L, 1L)).thenReturn(course);
+        when(courseService.removeStudentFromCourse(1L, 1L)).thenReturn(true);
 
         // when & then
         mockMvc.perform(post("/courses/1/remove-student").session(session)
@@ -275,19 +443,111 @@ public class CourseControllerTest {
         verify(courseService, times(1)).removeStudentFromCourse(1L, 1L);
     }
 
+    @Test
+    void removeStudent_whenNotEnrolled_shouldSetErrorFlash() throws Exception {
+        // given
+        when(courseService.removeStudentFromCourse(1L, 1L)).thenReturn(false);
+
+        // when & then
+        mockMvc.perform(post("/courses/1/remove-student").session(session)
+                .param("studentId", "1"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/courses/details/1"))
+                .andExpect(flash().attribute("error", "Student is not enrolled in this course."));
+    }
+
     @Test
     void searchCourses_shouldReturnCoursesList() throws Exception {
         // given
-        when(courseService.searchCourses("Java")).thenReturn(courses);
+        when(courseService.searchCourseSummaries("Java")).thenReturn(courseSummaries);
 
         // when & then
         mockMvc.perform(get("/courses/search").session(session)
                 .param("searchText", "Java"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("courses/list"))
-                .andExpect(model().attribute("courses", courses))
+                .andExpect(model().attribute("courses", courseSummaries))
                 .andExpect(model().attribute("searchText", "Java"));
 
-        verify(courseService, times(1)).searchCourses("Java");
+        verify(courseService, times(1)).searchCourseSummaries("Java");
+    }
+
+    @Test
+    void addStudents_shouldEnrollSelectedStudentsAndReportOutcome() throws Exception {
+        // given
+        when(courseService.addStudentsToCourse(1L, List.of(1L, 2L, 3L)))
+                .thenReturn(new EnrollmentChangeResult(List.of(1L), List.of(2L), List.of(3L)));
+
+        // when & then
+        mockMvc.perform(post("/courses/1/add-students").session(session)
+                .param("studentIds", "1", "2", "3"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/courses/details/1"))
+                .andExpect(flash().attribute("success", "1 student(s) added to course, 1 already enrolled, 1 not found."));
+    }
+
+    @Test
+    void addStudents_withoutSelection_shouldRedirectWithError() throws Exception {
+        // when & then
+        mockMvc.perform(post("/courses/1/add-students").session(session))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/courses/details/1"))
+                .andExpect(flash().attribute("error", "Please select at least one student."));
+
+        verifyNoInteractions(courseService);
+    }
+
+    @Test
+    void removeStudents_shouldWithdrawSelectedStudents() throws Exception {
+        // given
+        when(courseService.removeStudentsFromCourse(1L, List.of(1L, 2L)))
+                .thenReturn(new EnrollmentChangeResult(List.of(1L, 2L), List.of(), List.of()));
+
+        // when & then
+        mockMvc.perform(post("/courses/1/remove-students").session(session)
+                .param("studentIds", "1", "2"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(flash().attribute("success", "2 student(s) removed from course, 0 were not enrolled, 0 not found."));
+    }
+
+    @Test
+    void joinWaitlist_shouldRedirectToCourseDetails() throws Exception {
+        // given
+        when(waitlistService.joinWaitlist(1L, 2L)).thenReturn(WaitlistJoinResult.WAITING);
+
+        // when & then
+        mockMvc.perform(post("/courses/1/waitlist").session(session)
+                .param("studentId", "2"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/courses/details/1"))
+                .andExpect(flash().attribute("success", "Student added to the waitlist successfully!"));
+
+        verify(waitlistService, times(1)).joinWaitlist(1L, 2L);
+    }
+
+    @Test
+    void joinWaitlist_whenSeatIsFree_shouldReportEnrollment() throws Exception {
+        // given
+        when(waitlistService.joinWaitlist(1L, 2L)).thenReturn(WaitlistJoinResult.ENROLLED);
+
+        // when & then
+        mockMvc.perform(post("/courses/1/waitlist").session(session)
+                .param("studentId", "2"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/courses/details/1"))
+                .andExpect(flash().attribute("success", "The course had a free seat, so the student was added to the course!"));
+    }
+
+    @Test
+    void leaveWaitlist_whenNotWaiting_shouldSetErrorFlash() throws Exception {
+        // given
+        when(waitlistService.leaveWaitlist(1L, 2L)).thenReturn(false);
+
+        // when & then
+        mockMvc.perform(post("/courses/1/waitlist/remove").session(session)
+                .param("studentId", "2"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/courses/details/1"))
+                .andExpect(flash().attribute("error", "Student is not on the waitlist."));
     }
 }
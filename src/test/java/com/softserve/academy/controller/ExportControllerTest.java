@@ -0,0 +1,122 @@
+package com.softserve.academy.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.academy.exporter.ExportFormat;
+import com.softserve.academy.exporter.ExportType;
+import com.softserve.academy.model.Role;
+import com.softserve.academy.security.AuthenticationFilter;
+import com.softserve.academy.security.SessionPrincipal;
+import com.softserve.academy.service.RosterExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.view.InternalResourceViewResolver;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportControllerTest {
+
+    @Mock
+    private RosterExportService rosterExportService;
+
+    @InjectMocks
+    private ExportController exportController;
+
+    private MockMvc mockMvc;
+    private MockHttpSession session;
+
+    @BeforeEach
+    void setUp() {
+        // Set up view resolver
+        InternalResourceViewResolver viewResolver = new InternalResourceViewResolver();
+        viewResolver.setPrefix("/WEB-INF/views/");
+        viewResolver.setSuffix(".jsp");
+
+        // Set up MockMvc with GlobalExceptionHandler
+        mockMvc = MockMvcBuilders.standaloneSetup(exportController)
+                .setViewResolvers(viewResolver)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .addFilter(new AuthenticationFilter(new ObjectMapper()), AuthenticationFilter.URL_PATTERNS)
+                .build();
+
+        // Set up authenticated session
+        session = new MockHttpSession();
+        session.setAttribute(SessionPrincipal.ATTRIBUTE, new SessionPrincipal(1L, "admin", Role.ADMIN));
+    }
+
+    @Test
+    void exportRecords_asCsv_shouldStreamAttachment() throws Exception {
+        // given
+        when(rosterExportService.export(eq(ExportType.STUDENTS), eq(ExportFormat.CSV), any())).thenAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(2);
+            output.write("id,firstName,lastName,email\n".getBytes(StandardCharsets.UTF_8));
+            return 0L;
+        });
+
+        // when & then
+        mockMvc.perform(get("/export/students").session(session))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"students.csv\""))
+                .andExpect(content().string("id,firstName,lastName,email\n"));
+    }
+
+    @Test
+    void exportRecords_withGzip_shouldCompressBody() throws Exception {
+        // given
+        when(rosterExportService.export(eq(ExportType.ENROLLMENTS), eq(ExportFormat.NDJSON), any())).thenAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(2);
+            output.write("{\"studentId\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        // when
+        MvcResult result = mockMvc.perform(get("/export/enrollments")
+                        .param("format", "ndjson").param("gzip", "true").session(session))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/gzip"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"enrollments.ndjson.gz\""))
+                .andReturn();
+
+        // then
+        byte[] body = result.getResponse().getContentAsByteArray();
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(input.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("{\"studentId\":1}\n");
+        }
+    }
+
+    @Test
+    void exportRecords_whenNotAuthenticated_shouldRedirectToLogin() throws Exception {
+        // when & then
+        mockMvc.perform(get("/export/students"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/login"));
+
+        verifyNoInteractions(rosterExportService);
+    }
+
+    @Test
+    void exportRecords_withUnknownType_shouldReturnNotFound() throws Exception {
+        // when & then
+        mockMvc.perform(get("/export/grades").session(session))
+                .andExpect(status().isNotFound());
+    }
+}
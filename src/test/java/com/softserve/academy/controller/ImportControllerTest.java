@@ -0,0 +1,117 @@
+package com.softserve.academy.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.academy.dto.ImportResult;
+import com.softserve.academy.importer.ImportFormat;
+import com.softserve.academy.importer.ImportType;
+import com.softserve.academy.model.Role;
+import com.softserve.academy.security.AuthenticationFilter;
+import com.softserve.academy.security.SessionPrincipal;
+import com.softserve.academy.service.RosterImportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.view.InternalResourceViewResolver;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportControllerTest {
+
+    @Mock
+    private RosterImportService rosterImportService;
+
+    @InjectMocks
+    private ImportController importController;
+
+    private MockMvc mockMvc;
+    private MockHttpSession session;
+
+    @BeforeEach
+    void setUp() {
+        // Set up view resolver
+        InternalResourceViewResolver viewResolver = new InternalResourceViewResolver();
+        viewResolver.setPrefix("/WEB-INF/views/");
+        viewResolver.setSuffix(".jsp");
+
+        // Set up MockMvc with GlobalExceptionHandler
+        mockMvc = MockMvcBuilders.standaloneSetup(importController)
+                .setViewResolvers(viewResolver)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .addFilter(new AuthenticationFilter(new ObjectMapper()), AuthenticationFilter.URL_PATTERNS)
+                .build();
+
+        // Set up authenticated session
+        session = new MockHttpSession();
+        session.setAttribute(SessionPrincipal.ATTRIBUTE, new SessionPrincipal(1L, "admin", Role.ADMIN));
+    }
+
+    @Test
+    void showImportForm_whenAuthenticated_shouldReturnImportView() throws Exception {
+        // when & then
+        mockMvc.perform(get("/import").session(session))
+                .andExpect(status().isOk())
+                .andExpect(view().name("import/form"))
+                .andExpect(model().attribute("importTypes", ImportType.values()));
+    }
+
+    @Test
+    void showImportForm_whenNotAuthenticated_shouldRedirectToLogin() throws Exception {
+        // when & then
+        mockMvc.perform(get("/import"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/login"));
+    }
+
+    @Test
+    void importFile_withCsvFile_shouldImportAndShowResult() throws Exception {
+        // given
+        MockMultipartFile file = new MockMultipartFile("file", "students.csv", "text/csv",
+                "firstName,lastName,email\nJohn,Doe,john.doe@example.com\n".getBytes());
+        ImportResult result = new ImportResult("students", 10);
+        when(rosterImportService.importRecords(eq(ImportType.STUDENTS), eq(ImportFormat.CSV), any()))
+                .thenReturn(result);
+
+        // when & then
+        mockMvc.perform(multipart("/import/students").file(file).session(session))
+                .andExpect(status().isOk())
+                .andExpect(view().name("import/form"))
+                .andExpect(model().attribute("result", result));
+    }
+
+    @Test
+    void importFile_withUnknownExtension_shouldShowError() throws Exception {
+        // given
+        MockMultipartFile file = new MockMultipartFile("file", "students.xlsx", "application/octet-stream",
+                new byte[]{1, 2, 3});
+
+        // when & then
+        mockMvc.perform(multipart("/import/students").file(file).session(session))
+                .andExpect(status().isOk())
+                .andExpect(model().attributeExists("error"));
+
+        verifyNoInteractions(rosterImportService);
+    }
+
+    @Test
+    void importFile_withUnknownType_shouldReturnNotFound() throws Exception {
+        // given
+        MockMultipartFile file = new MockMultipartFile("file", "grades.csv", "text/csv", "a\n1\n".getBytes());
+
+        // when & then
+        mockMvc.perform(multipart("/import/grades").file(file).session(session))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -1,7 +1,10 @@
 package com.softserve.academy.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.softserve.academy.model.Role;
 import com.softserve.academy.model.User;
+import com.softserve.academy.security.AuthenticationFilter;
+import com.softserve.academy.security.SessionPrincipal;
 import com.softserve.academy.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +19,8 @@ import org.springframework.web.servlet.view.InternalResourceViewResolver;
 
 import java.util.Optional;
 
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasProperty;
 import static org.mockito.Mockito.lenient;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -34,9 +39,6 @@ public class LoginControllerTest {
 
     @BeforeEach
     void setUp() {
-        // Mock userService.usernameExists to return true for "admin" to skip admin creation
-        lenient().when(userService.usernameExists("admin")).thenReturn(true);
-
         // Mock userService.authenticate to return a User for valid credentials
         User adminUser = new User("admin", "admin123", "admin@example.com", Role.ADMIN);
         adminUser.setId(1L);
@@ -51,6 +53,7 @@ public class LoginControllerTest {
 
         mockMvc = MockMvcBuilders.standaloneSetup(loginController)
                 .setViewResolvers(viewResolver)
+                .addFilter(new AuthenticationFilter(new ObjectMapper()), AuthenticationFilter.URL_PATTERNS)
                 .build();
     }
 
@@ -71,6 +74,22 @@ public class LoginControllerTest {
                 .andExpect(flash().attributeCount(0));
     }
 
+    @Test
+    void processLogin_withValidCredentials_shouldStorePrincipalUnderNewSessionId() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        String sessionId = session.getId();
+
+        mockMvc.perform(post("/login")
+                .session(session)
+                .param("username", "admin")
+                .param("password", "admin123"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(request().sessionAttribute(SessionPrincipal.ATTRIBUTE,
+                        hasProperty("username", equalTo("admin"))));
+
+        assert !session.getId().equals(sessionId);
+    }
+
     @Test
     void processLogin_withInvalidCredentials_shouldRedirectToLoginWithError() throws Exception {
         mockMvc.perform(post("/login")
@@ -85,8 +104,7 @@ public class LoginControllerTest {
     void showDashboard_whenAuthenticated_shouldReturnDashboardView() throws Exception {
         // Create a session with authenticated user
         MockHttpSession session = new MockHttpSession();
-        session.setAttribute("authenticated", true);
-        session.setAttribute("username", "admin");
+        session.setAttribute(SessionPrincipal.ATTRIBUTE, new SessionPrincipal(1L, "admin", Role.ADMIN));
 
         mockMvc.perform(get("/dashboard").session(session))
                 .andExpect(status().isOk())
@@ -108,8 +126,7 @@ public class LoginControllerTest {
     void logout_shouldInvalidateSessionAndRedirectToLogin() throws Exception {
         // Create a session with authenticated user
         MockHttpSession session = new MockHttpSession();
-        session.setAttribute("authenticated", true);
-        session.setAttribute("username", "admin");
+        session.setAttribute(SessionPrincipal.ATTRIBUTE, new SessionPrincipal(1L, "admin", Role.ADMIN));
 
         mockMvc.perform(get("/logout").session(session))
                 .andExpect(status().is3xxRedirection())
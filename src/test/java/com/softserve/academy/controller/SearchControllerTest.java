@@ -0,0 +1,92 @@
+package com.softserve.academy.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.academy.config.SearchProperties;
+import com.softserve.academy.model.Role;
+import com.softserve.academy.search.Suggestion;
+import com.softserve.academy.search.SuggestionIndex;
+import com.softserve.academy.search.SuggestionType;
+import com.softserve.academy.security.AuthenticationFilter;
+import com.softserve.academy.security.SessionPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchControllerTest {
+
+    @Mock
+    private SuggestionIndex suggestionIndex;
+
+    @Spy
+    private SearchProperties searchProperties = new SearchProperties();
+
+    @InjectMocks
+    private SearchController searchController;
+
+    private MockMvc mockMvc;
+    private MockHttpSession session;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(searchController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .addFilter(new AuthenticationFilter(new ObjectMapper()), AuthenticationFilter.URL_PATTERNS)
+                .build();
+
+        // Set up authenticated session
+        session = new MockHttpSession();
+        session.setAttribute(SessionPrincipal.ATTRIBUTE, new SessionPrincipal(1L, "admin", Role.ADMIN));
+    }
+
+    @Test
+    void suggest_shouldReturnSuggestionsAsJson() throws Exception {
+        // given
+        when(suggestionIndex.suggest("jo", 10)).thenReturn(List.of(
+                new Suggestion(SuggestionType.STUDENT, 1L, "John Doe", "john.doe@example.com"),
+                new Suggestion(SuggestionType.COURSE, 2L, "Journalism", null)));
+
+        // when & then
+        mockMvc.perform(get("/search/suggest").param("q", "jo").session(session))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/json"))
+                .andExpect(jsonPath("$[0].type").value("STUDENT"))
+                .andExpect(jsonPath("$[0].label").value("John Doe"))
+                .andExpect(jsonPath("$[0].url").value("/students/details/1"))
+                .andExpect(jsonPath("$[1].type").value("COURSE"))
+                .andExpect(jsonPath("$[1].url").value("/courses/details/2"));
+    }
+
+    @Test
+    void suggest_shouldCapRequestedLimit() throws Exception {
+        // given
+        when(suggestionIndex.suggest("jo", 10)).thenReturn(List.of());
+
+        // when & then
+        mockMvc.perform(get("/search/suggest").param("q", "jo").param("limit", "500").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+        verify(suggestionIndex, times(1)).suggest("jo", 10);
+    }
+
+    @Test
+    void suggest_whenNotAuthenticated_shouldReturnUnauthorized() throws Exception {
+        // when & then
+        mockMvc.perform(get("/search/suggest").param("q", "jo"))
+                .andExpect(status().isUnauthorized());
+        verifyNoInteractions(suggestionIndex);
+    }
+}
@@ -1,11 +1,19 @@
 package com.softserve.academy.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.academy.config.HttpCacheProperties;
+import com.softserve.academy.config.PaginationProperties;
 import com.softserve.academy.dto.CourseDTO;
+import com.softserve.academy.dto.EnrollmentChangeResult;
+import com.softserve.academy.dto.KeysetPage;
 import com.softserve.academy.dto.StudentDTO;
 import com.softserve.academy.mapper.CourseMapper;
 import com.softserve.academy.mapper.StudentMapper;
 import com.softserve.academy.model.Course;
+import com.softserve.academy.model.Role;
 import com.softserve.academy.model.Student;
+import com.softserve.academy.security.AuthenticationFilter;
+import com.softserve.academy.security.SessionPrincipal;
 import com.softserve.academy.service.CourseService;
 import com.softserve.academy.service.StudentService;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.web.servlet.MockMvc;
@@ -44,6 +53,12 @@ public class StudentControllerTest {
     @Mock
     private CourseMapper courseMapper;
 
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
+
+    @Spy
+    private ConditionalRequests conditionalRequests = new ConditionalRequests(new HttpCacheProperties());
+
     @InjectMocks
     private StudentController studentController;
 
@@ -69,12 +84,12 @@ public class StudentControllerTest {
         mockMvc = MockMvcBuilders.standaloneSetup(studentController)
                 .setViewResolvers(viewResolver)
                 .setControllerAdvice(new GlobalExceptionHandler())
+                .addFilter(new AuthenticationFilter(new ObjectMapper()), AuthenticationFilter.URL_PATTERNS)
                 .build();
 
         // Set up authenticated session
         session = new MockHttpSession();
-        session.setAttribute("authenticated", true);
-        session.setAttribute("username", "admin");
+        session.setAttribute(SessionPrincipal.ATTRIBUTE, new SessionPrincipal(1L, "admin", Role.ADMIN));
 
         // Set up test data
         student = new Student("John", "Doe", "john.doe@example.com");
@@ -117,14 +132,33 @@ public class StudentControllerTest {
     @Test
     void listStudents_whenAuthenticated_shouldReturnStudentsList() throws Exception {
         // given
-        when(studentService.getAllStudents()).thenReturn(students);
+        KeysetPage<Student> page = new KeysetPage<>(students, 20, null, null);
+        when(studentService.getStudentsPage(null, null, 20)).thenReturn(page);
         when(studentMapper.toDTOList(students)).thenReturn(studentDTOs);
 
         // when & then
         mockMvc.perform(get("/students").session(session))
                 .andExpect(status().isOk())
                 .andExpect(view().name("students/list"))
-                .andExpect(model().attribute("students", studentDTOs));
+                .andExpect(model().attribute("students", studentDTOs))
+                .andExpect(model().attribute("page", page));
+    }
+
+    @Test
+    void listStudents_withBeforeCursor_shouldRequestPreviousPage() throws Exception {
+        // given
+        KeysetPage<Student> page = new KeysetPage<>(students, 20, 2L, null);
+        when(studentService.getStudentsPage(null, 3L, 20)).thenReturn(page);
+        when(studentMapper.toDTOList(students)).thenReturn(studentDTOs);
+
+        // when & then
+        mockMvc.perform(get("/students").session(session)
+                .param("before", "3"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("students/list"))
+                .andExpect(model().attribute("page", page));
+
+        verify(studentService, times(1)).getStudentsPage(null, 3L, 20);
     }
 
     @Test
@@ -213,10 +247,7 @@ public class StudentControllerTest {
         when(studentMapper.toDTO(student)).thenReturn(studentDTO);
         when(studentService.getStudentCourses(1L)).thenReturn(courses);
         when(courseMapper.toDTOList(courses)).thenReturn(courseDTOs);
-        when(courseService.getAllCourses()).thenReturn(new ArrayList<>());
-
-        // Important: Be more specific with the matcher to avoid ambiguity
-        when(courseMapper.toDTOList(argThat(list -> list != courses))).thenReturn(new ArrayList<>());
+        when(courseService.getCoursesNotEnrolledByStudent(1L, null, 50)).thenReturn(new ArrayList<>());
 
         // when & then
         mockMvc.perform(get("/students/details/1").session(session))
@@ -230,7 +261,7 @@ public class StudentControllerTest {
     @Test
     void enrollInCourse_shouldRedirectToStudentDetails() throws Exception {
         // given
-        when(studentService.enrollStudentInCourse(1L, 1L)).thenReturn(student);
+        when(studentService.enrollStudentInCourse(1L, 1L)).thenReturn(true);
 
         // when & then
         mockMvc.perform(post("/students/1/enroll").session(session)
@@ -242,10 +273,23 @@ public class StudentControllerTest {
         verify(studentService, times(1)).enrollStudentInCourse(1L, 1L);
     }
 
+    @Test
+    void enrollInCourse_whenAlreadyEnrolled_shouldSetErrorFlash() throws Exception {
+        // given
+        when(studentService.enrollStudentInCourse(1L, 1L)).thenReturn(false);
+
+        // when & then
+        mockMvc.perform(post("/students/1/enroll").session(session)
+                .param("courseId", "1"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/students/details/1"))
+                .andExpect(flash().attribute("error", "Student is already enrolled in this course."));
+    }
+
     @Test
     void withdrawFromCourse_shouldRedirectToStudentDetails() throws Exception {
         // given
-        when(studentService.withdrawStudentFromCourse(1L, 1L)).thenReturn(student);
+        when(studentService.withdrawStudentFromCourse(1L, 1L)).thenReturn(true);
 
         // when & then
         mockMvc.perform(post("/students/1/withdraw").session(session)
@@ -256,4 +300,31 @@ public class StudentControllerTest {
 
         verify(studentService, times(1)).withdrawStudentFromCourse(1L, 1L);
     }
+
+    @Test
+    void enrollInCourses_shouldEnrollInSelectedCoursesAndReportOutcome() throws Exception {
+        // given
+        when(studentService.enrollStudentInCourses(1L, List.of(1L, 2L)))
+                .thenReturn(new EnrollmentChangeResult(List.of(1L), List.of(2L), List.of()));
+
+        // when & then
+        mockMvc.perform(post("/students/1/enroll-courses").session(session)
+                .param("courseIds", "1", "2"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/students/details/1"))
+                .andExpect(flash().attribute("success", "Student enrolled in 1 course(s), 1 already enrolled, 0 not found."));
+    }
+
+    @Test
+    void withdrawFromCourses_shouldWithdrawFromSelectedCourses() throws Exception {
+        // given
+        when(studentService.withdrawStudentFromCourses(1L, List.of(1L)))
+                .thenReturn(new EnrollmentChangeResult(List.of(1L), List.of(), List.of()));
+
+        // when & then
+        mockMvc.perform(post("/students/1/withdraw-courses").session(session)
+                .param("courseIds", "1"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(flash().attribute("success", "Student withdrawn from 1 course(s), 0 were not enrolled, 0 not found."));
+    }
 }
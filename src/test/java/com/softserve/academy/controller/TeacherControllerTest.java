@@ -1,7 +1,15 @@
 package com.softserve.academy.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.academy.config.HttpCacheProperties;
+import com.softserve.academy.config.PaginationProperties;
+import com.softserve.academy.dto.KeysetPage;
+import com.softserve.academy.dto.TeacherDTO;
 import com.softserve.academy.model.Course;
+import com.softserve.academy.model.Role;
 import com.softserve.academy.model.Teacher;
+import com.softserve.academy.security.AuthenticationFilter;
+import com.softserve.academy.security.SessionPrincipal;
 import com.softserve.academy.service.CourseService;
 import com.softserve.academy.service.TeacherService;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.mock.web.MockHttpSession;
@@ -36,6 +45,12 @@ public class TeacherControllerTest {
     @Mock
     private CourseService courseService;
 
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
+
+    @Spy
+    private ConditionalRequests conditionalRequests = new ConditionalRequests(new HttpCacheProperties());
+
     @InjectMocks
     private TeacherController teacherController;
 
@@ -43,6 +58,7 @@ public class TeacherControllerTest {
     private MockHttpSession session;
     private Teacher teacher;
     private List<Teacher> teachers;
+    private List<TeacherDTO> teacherSummaries;
     private Course course;
     private List<Course> courses;
 
@@ -57,12 +73,12 @@ public class TeacherControllerTest {
         mockMvc = MockMvcBuilders.standaloneSetup(teacherController)
                 .setViewResolvers(viewResolver)
                 .setControllerAdvice(new GlobalExceptionHandler())
+                .addFilter(new AuthenticationFilter(new ObjectMapper()), AuthenticationFilter.URL_PATTERNS)
                 .build();
 
         // Set up authenticated session
         session = new MockHttpSession();
-        session.setAttribute("authenticated", true);
-        session.setAttribute("username", "admin");
+        session.setAttribute(SessionPrincipal.ATTRIBUTE, new SessionPrincipal(1L, "admin", Role.ADMIN));
 
         // Set up test data
         teacher = new Teacher("John", "Smith", "john.smith@example.com");
@@ -72,6 +88,10 @@ public class TeacherControllerTest {
         teachers.add(teacher);
         teachers.add(new Teacher("Jane", "Doe", "jane.doe@example.com"));
 
+        teacherSummaries = new ArrayList<>();
+        teacherSummaries.add(new TeacherDTO(1L, "John", "Smith", "john.smith@example.com", 1L));
+        teacherSummaries.add(new TeacherDTO(2L, "Jane", "Doe", "jane.doe@example.com", 0L));
+
         course = new Course("Java Programming", "Introduction to Java programming language");
         course.setId(1L);
 
@@ -82,13 +102,15 @@ public class TeacherControllerTest {
     @Test
     void listTeachers_whenAuthenticated_shouldReturnTeachersList() throws Exception {
         // given
-        when(teacherService.getAllTeachers()).thenReturn(teachers);
+        KeysetPage<TeacherDTO> page = new KeysetPage<>(teacherSummaries, 20, null, null);
+        when(teacherService.getTeachersPage(null, null, 20)).thenReturn(page);
 
         // when & then
         mockMvc.perform(get("/teachers").session(session))
                 .andExpect(status().isOk())
                 .andExpect(view().name("teachers/list"))
-                .andExpect(model().attribute("teachers", teachers));
+                .andExpect(model().attribute("teachers", teacherSummaries))
+                .andExpect(model().attribute("page", page));
     }
 
     @Test
@@ -173,7 +195,7 @@ public class TeacherControllerTest {
         // given
         when(teacherService.getTeacherById(1L)).thenReturn(Optional.of(teacher));
         when(teacherService.getTeacherCourses(1L)).thenReturn(courses);
-        when(courseService.getAllCourses()).thenReturn(new ArrayList<>());
+        when(courseService.getCoursesNotTaughtBy(1L, null, 50)).thenReturn(new ArrayList<>());
         when(teacherService.countCoursesByTeacher(1L)).thenReturn(1L);
 
         // when & then
@@ -219,17 +241,34 @@ public class TeacherControllerTest {
     @Test
     void searchTeachers_shouldReturnTeachersList() throws Exception {
         // given
-        when(teacherService.findByName("Smith")).thenReturn(teachers);
+        when(teacherService.findSummariesByName("Smith")).thenReturn(teacherSummaries);
 
         // when & then
         mockMvc.perform(get("/teachers/search").session(session)
                 .param("name", "Smith"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("teachers/list"))
-                .andExpect(model().attribute("teachers", teachers))
+                .andExpect(model().attribute("teachers", teacherSummaries))
                 .andExpect(model().attribute("searchName", "Smith"));
 
-        verify(teacherService, times(1)).findByName("Smith");
+        verify(teacherService, times(1)).findSummariesByName("Smith");
+    }
+
+    @Test
+    void searchTeachers_withPrefix_shouldUsePrefixSearch() throws Exception {
+        // given
+        when(teacherService.findSummariesByNamePrefix("Smi")).thenReturn(teacherSummaries);
+
+        // when & then
+        mockMvc.perform(get("/teachers/search").session(session)
+                .param("name", "Smi")
+                .param("prefix", "true"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("teachers/list"))
+                .andExpect(model().attribute("teachers", teacherSummaries))
+                .andExpect(model().attribute("searchPrefix", true));
+
+        verify(teacherService, never()).findSummariesByName(anyString());
     }
 
     @Test
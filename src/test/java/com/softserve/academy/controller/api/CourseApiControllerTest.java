@@ -0,0 +1,146 @@
+package com.softserve.academy.controller.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.academy.config.PaginationProperties;
+import com.softserve.academy.controller.GlobalExceptionHandler;
+import com.softserve.academy.dto.CourseDTO;
+import com.softserve.academy.dto.KeysetPage;
+import com.softserve.academy.model.Role;
+import com.softserve.academy.security.AuthenticationFilter;
+import com.softserve.academy.security.SessionPrincipal;
+import com.softserve.academy.service.CourseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CourseApiControllerTest {
+
+    @Mock
+    private CourseService courseService;
+
+    @Spy
+    private FieldSelector fieldSelector = new FieldSelector(new ObjectMapper());
+
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
+
+    @InjectMocks
+    private CourseApiController courseApiController;
+
+    private MockMvc mockMvc;
+    private MockHttpSession session;
+    private List<CourseDTO> courseSummaries;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(courseApiController)
+                .setControllerAdvice(new GlobalExceptionHandler(), new ApiExceptionHandler())
+                .addFilter(new AuthenticationFilter(new ObjectMapper()), AuthenticationFilter.URL_PATTERNS)
+                .build();
+
+        // Set up authenticated session
+        session = new MockHttpSession();
+        session.setAttribute(SessionPrincipal.ATTRIBUTE, new SessionPrincipal(1L, "admin", Role.ADMIN));
+
+        courseSummaries = new ArrayList<>();
+        courseSummaries.add(new CourseDTO(1L, "Java Programming", "Introduction to Java programming language",
+                1L, "John", "Smith", 3L));
+        courseSummaries.add(new CourseDTO(2L, "Python Programming", "Introduction to Python programming language",
+                null, null, null, 0L));
+        courseSummaries.add(new CourseDTO(3L, "C# Programming", "Introduction to C# programming language",
+                null, null, null, 0L));
+    }
+
+    @Test
+    void listCourses_shouldReturnPageOfSummaries() throws Exception {
+        // given
+        when(courseService.getCoursesPage(null, null, 2))
+                .thenReturn(KeysetPage.forward(courseSummaries, null, 2, CourseDTO::getId));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/courses").param("size", "2").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].name").value("Java Programming"))
+                .andExpect(jsonPath("$.content[0].teacherName").value("John Smith"))
+                .andExpect(jsonPath("$.content[0].enrollmentCount").value(3))
+                .andExpect(jsonPath("$.content[0].studentIds").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    void listCourses_withFields_shouldReturnOnlyThoseFields() throws Exception {
+        // given
+        when(courseService.getCoursesPage(1L, null, 20))
+                .thenReturn(KeysetPage.forward(new ArrayList<>(courseSummaries.subList(1, 3)), 1L, 20, CourseDTO::getId));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/courses").param("after", "1").param("fields", "id, name").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(2))
+                .andExpect(jsonPath("$.content[0].name").value("Python Programming"))
+                .andExpect(jsonPath("$.content[0].description").doesNotExist())
+                .andExpect(jsonPath("$.content[0].enrollmentCount").doesNotExist())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void listCourses_withUnknownField_shouldReturnBadRequestWithoutQuerying() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/courses").param("fields", "id,studentIds").session(session))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value(containsString("studentIds")));
+        verifyNoInteractions(courseService);
+    }
+
+    @Test
+    void listCourses_whenNotAuthenticated_shouldReturnUnauthorized() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/courses").session(new MockHttpSession()))
+                .andExpect(status().isUnauthorized());
+        verifyNoInteractions(courseService);
+    }
+
+    @Test
+    void getCourse_shouldReturnSummary() throws Exception {
+        // given
+        when(courseService.getCourseSummary(1L)).thenReturn(Optional.of(courseSummaries.get(0)));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/courses/1").param("fields", "name,teacherId").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Java Programming"))
+                .andExpect(jsonPath("$.teacherId").value(1))
+                .andExpect(jsonPath("$.id").doesNotExist());
+    }
+
+    @Test
+    void getCourse_withInvalidId_shouldReturnNotFoundProblem() throws Exception {
+        // given
+        when(courseService.getCourseSummary(99L)).thenReturn(Optional.empty());
+
+        // when & then
+        mockMvc.perform(get("/api/v1/courses/99").session(session))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.detail").value("Invalid course ID: 99"));
+    }
+}
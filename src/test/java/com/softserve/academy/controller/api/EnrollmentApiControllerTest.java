@@ -0,0 +1,149 @@
+package com.softserve.academy.controller.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.academy.config.PaginationProperties;
+import com.softserve.academy.controller.GlobalExceptionHandler;
+import com.softserve.academy.dto.EnrollmentDTO;
+import com.softserve.academy.dto.KeysetPage;
+import com.softserve.academy.exception.CourseFullException;
+import com.softserve.academy.model.Role;
+import com.softserve.academy.security.AuthenticationFilter;
+import com.softserve.academy.security.SessionPrincipal;
+import com.softserve.academy.service.CourseService;
+import com.softserve.academy.service.StudentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EnrollmentApiControllerTest {
+
+    @Mock
+    private CourseService courseService;
+
+    @Mock
+    private StudentService studentService;
+
+    @Spy
+    private FieldSelector fieldSelector = new FieldSelector(new ObjectMapper());
+
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
+
+    @InjectMocks
+    private EnrollmentApiController enrollmentApiController;
+
+    private MockMvc mockMvc;
+    private MockHttpSession session;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(enrollmentApiController)
+                .setControllerAdvice(new GlobalExceptionHandler(), new ApiExceptionHandler())
+                .addFilter(new AuthenticationFilter(new ObjectMapper()), AuthenticationFilter.URL_PATTERNS)
+                .build();
+
+        // Set up authenticated session
+        session = new MockHttpSession();
+        session.setAttribute(SessionPrincipal.ATTRIBUTE, new SessionPrincipal(1L, "admin", Role.ADMIN));
+    }
+
+    @Test
+    void listEnrollments_byCourse_shouldReturnPageOfStudents() throws Exception {
+        // given
+        List<EnrollmentDTO> enrollments = new ArrayList<>(List.of(
+                new EnrollmentDTO(4L, "alice.johnson@example.com", 1L, "Java Programming"),
+                new EnrollmentDTO(7L, "bob.brown@example.com", 1L, "Java Programming")));
+        when(courseService.getEnrollmentsPage(1L, null, 20))
+                .thenReturn(KeysetPage.forward(enrollments, null, 20, EnrollmentDTO::getStudentId));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/enrollments").param("courseId", "1").param("fields", "studentId,studentEmail")
+                        .session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[1].studentId").value(7))
+                .andExpect(jsonPath("$.content[1].studentEmail").value("bob.brown@example.com"))
+                .andExpect(jsonPath("$.content[1].courseName").doesNotExist());
+        verifyNoInteractions(studentService);
+    }
+
+    @Test
+    void listEnrollments_byStudent_shouldReturnPageOfCourses() throws Exception {
+        // given
+        List<EnrollmentDTO> enrollments = new ArrayList<>(List.of(
+                new EnrollmentDTO(4L, "alice.johnson@example.com", 2L, "Python Programming")));
+        when(studentService.getEnrollmentsPage(4L, 1L, 20))
+                .thenReturn(KeysetPage.forward(enrollments, 1L, 20, EnrollmentDTO::getCourseId));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/enrollments").param("studentId", "4").param("after", "1").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].courseName").value("Python Programming"))
+                .andExpect(jsonPath("$.prevCursor").value(2));
+    }
+
+    @Test
+    void listEnrollments_withBothOrNeitherFilter_shouldReturnBadRequest() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/enrollments").session(session))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/enrollments").param("courseId", "1").param("studentId", "4").session(session))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(courseService, studentService);
+    }
+
+    @Test
+    void enroll_shouldReturnCreatedOrOkWhenAlreadyEnrolled() throws Exception {
+        // given
+        when(courseService.addStudentToCourse(1L, 4L)).thenReturn(true).thenReturn(false);
+
+        // when & then
+        mockMvc.perform(post("/api/v1/enrollments").session(session)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"courseId\":1,\"studentId\":4}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/v1/enrollments").session(session)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"courseId\":1,\"studentId\":4}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void enroll_whenCourseFull_shouldReturnConflictProblem() throws Exception {
+        // given
+        when(courseService.addStudentToCourse(1L, 4L)).thenThrow(new CourseFullException(1L));
+
+        // when & then
+        mockMvc.perform(post("/api/v1/enrollments").session(session)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"courseId\":1,\"studentId\":4}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.detail").value("The course has no free seats left."));
+    }
+
+    @Test
+    void withdraw_shouldReturnNoContentOrNotFound() throws Exception {
+        // given
+        when(courseService.removeStudentFromCourse(1L, 4L)).thenReturn(true).thenReturn(false);
+
+        // when & then
+        mockMvc.perform(delete("/api/v1/enrollments").param("courseId", "1").param("studentId", "4").session(session))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/v1/enrollments").param("courseId", "1").param("studentId", "4").session(session))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,100 @@
+package com.softserve.academy.controller.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.academy.config.PaginationProperties;
+import com.softserve.academy.controller.GlobalExceptionHandler;
+import com.softserve.academy.dto.KeysetPage;
+import com.softserve.academy.dto.StudentDTO;
+import com.softserve.academy.model.Role;
+import com.softserve.academy.security.AuthenticationFilter;
+import com.softserve.academy.security.SessionPrincipal;
+import com.softserve.academy.service.StudentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StudentApiControllerTest {
+
+    @Mock
+    private StudentService studentService;
+
+    @Spy
+    private FieldSelector fieldSelector = new FieldSelector(new ObjectMapper());
+
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
+
+    @InjectMocks
+    private StudentApiController studentApiController;
+
+    private MockMvc mockMvc;
+    private MockHttpSession session;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(studentApiController)
+                .setControllerAdvice(new GlobalExceptionHandler(), new ApiExceptionHandler())
+                .addFilter(new AuthenticationFilter(new ObjectMapper()), AuthenticationFilter.URL_PATTERNS)
+                .build();
+
+        // Set up authenticated session
+        session = new MockHttpSession();
+        session.setAttribute(SessionPrincipal.ATTRIBUTE, new SessionPrincipal(1L, "admin", Role.ADMIN));
+    }
+
+    @Test
+    void listStudents_shouldReturnFlatSummaries() throws Exception {
+        // given
+        List<StudentDTO> students = new ArrayList<>(List.of(
+                new StudentDTO(1L, "Alice", "Johnson", "alice.johnson@example.com"),
+                new StudentDTO(2L, "Bob", "Brown", "bob.brown@example.com")));
+        when(studentService.getStudentSummariesPage(null, 20))
+                .thenReturn(KeysetPage.forward(students, null, 20, StudentDTO::getId));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/students").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[1].email").value("bob.brown@example.com"))
+                .andExpect(jsonPath("$.content[1].enrolledCourseIds").doesNotExist())
+                .andExpect(jsonPath("$.content[1].version").doesNotExist())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void getStudent_withFields_shouldReturnOnlyThoseFields() throws Exception {
+        // given
+        when(studentService.getStudentSummary(1L))
+                .thenReturn(Optional.of(new StudentDTO(1L, "Alice", "Johnson", "alice.johnson@example.com")));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/students/1").param("fields", "email").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("alice.johnson@example.com"))
+                .andExpect(jsonPath("$.firstName").doesNotExist());
+    }
+
+    @Test
+    void getStudent_whenNotAuthenticated_shouldReturnUnauthorized() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/students/1").session(new MockHttpSession()))
+                .andExpect(status().isUnauthorized());
+        verifyNoInteractions(studentService);
+    }
+}
@@ -0,0 +1,90 @@
+package com.softserve.academy.controller.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.academy.config.PaginationProperties;
+import com.softserve.academy.controller.GlobalExceptionHandler;
+import com.softserve.academy.dto.KeysetPage;
+import com.softserve.academy.dto.TeacherDTO;
+import com.softserve.academy.model.Role;
+import com.softserve.academy.security.AuthenticationFilter;
+import com.softserve.academy.security.SessionPrincipal;
+import com.softserve.academy.service.TeacherService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TeacherApiControllerTest {
+
+    @Mock
+    private TeacherService teacherService;
+
+    @Spy
+    private FieldSelector fieldSelector = new FieldSelector(new ObjectMapper());
+
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
+
+    @InjectMocks
+    private TeacherApiController teacherApiController;
+
+    private MockMvc mockMvc;
+    private MockHttpSession session;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(teacherApiController)
+                .setControllerAdvice(new GlobalExceptionHandler(), new ApiExceptionHandler())
+                .addFilter(new AuthenticationFilter(new ObjectMapper()), AuthenticationFilter.URL_PATTERNS)
+                .build();
+
+        // Set up authenticated session
+        session = new MockHttpSession();
+        session.setAttribute(SessionPrincipal.ATTRIBUTE, new SessionPrincipal(1L, "admin", Role.ADMIN));
+    }
+
+    @Test
+    void listTeachers_shouldReturnSummariesWithCourseCount() throws Exception {
+        // given
+        List<TeacherDTO> teachers = new ArrayList<>(List.of(
+                new TeacherDTO(1L, "John", "Smith", "john.smith@example.com", 2L),
+                new TeacherDTO(2L, "Jane", "Doe", "jane.doe@example.com", 0L)));
+        when(teacherService.getTeachersPage(null, null, 1))
+                .thenReturn(KeysetPage.forward(teachers, null, 1, TeacherDTO::getId));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/teachers").param("size", "1").param("fields", "name,courseCount").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].name").value("John Smith"))
+                .andExpect(jsonPath("$.content[0].courseCount").value(2))
+                .andExpect(jsonPath("$.content[0].courseIds").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value(1));
+    }
+
+    @Test
+    void getTeacher_withInvalidId_shouldReturnNotFoundProblem() throws Exception {
+        // given
+        when(teacherService.getTeacherSummary(99L)).thenReturn(Optional.empty());
+
+        // when & then
+        mockMvc.perform(get("/api/v1/teachers/99").session(session))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.detail").value("Invalid teacher ID: 99"));
+    }
+}
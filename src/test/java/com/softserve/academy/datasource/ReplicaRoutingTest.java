@@ -0,0 +1,337 @@
+package com.softserve.academy.datasource;
+
+import com.softserve.academy.TestApplication;
+import com.softserve.academy.model.Course;
+import com.softserve.academy.model.Student;
+import com.softserve.academy.repository.CourseRepository;
+import com.softserve.academy.service.CourseService;
+import com.softserve.academy.service.StudentService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the read replica routing against two in-memory databases. The replica is not
+ * replicated; {@link #replicate()} copies the primary into it, so anything written after the
+ * last copy shows which database a read went to. The lag query reads a table on the replica
+ * that the tests set, and the checks are run by hand. The second-level cache is switched on as
+ * in production, since rows read from the replica must not be cached.
+ */
+@SpringBootTest(classes = TestApplication.class)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.pool-name=academy",
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.url=" + ReplicaRoutingTest.REPLICA_URL,
+        "app.datasource.replica.username=sa",
+        "app.datasource.replica.password=",
+        "app.datasource.replica.max-lag=5s",
+        "app.datasource.replica.check-interval=1h",
+        "app.datasource.replica.lag-query=SELECT lag_seconds FROM replica_status",
+        "app.datasource.replica.hikari.pool-name=academy-replica",
+        "app.datasource.replica.hikari.connection-timeout=250",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=org.ehcache.jsr107.EhcacheCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.uri=ehcache.xml",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class ReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        entityManagerFactory.getCache().evictAll();
+        replicate();
+        setLag(0);
+    }
+
+    @Test
+    public void readOnlyTransactionsShouldReadFromReplica() {
+        // given
+        Student student = studentService.saveStudent(new Student("Rita", "Replica", "rita.replica@example.com"));
+        long replicaConnections = routingDataSource.getConnectionCount(ReplicaRoutingDataSource.Pool.REPLICA);
+
+        // when
+        boolean foundBeforeReplication = studentService.getStudentById(student.getId()).isPresent();
+        replicate();
+        boolean foundAfterReplication = studentService.getStudentById(student.getId()).isPresent();
+
+        // then
+        assertThat(foundBeforeReplication).isFalse();
+        assertThat(foundAfterReplication).isTrue();
+        assertThat(primaryCount("rita.replica@example.com")).isEqualTo(1);
+        assertThat(routingDataSource.getConnectionCount(ReplicaRoutingDataSource.Pool.REPLICA))
+                .isGreaterThanOrEqualTo(replicaConnections + 2);
+    }
+
+    @Test
+    public void readsShouldFallBackToPrimaryWhileReplicaLags() {
+        // given
+        Student student = studentService.saveStudent(new Student("Lara", "Lag", "lara.lag@example.com"));
+        long fallbacks = routingDataSource.getFallbackCount();
+
+        // when
+        setLag(60);
+        boolean foundWhileLagging = studentService.getStudentById(student.getId()).isPresent();
+        setLag(0);
+        boolean foundAfterCatchingUp = studentService.getStudentById(student.getId()).isPresent();
+
+        // then
+        assertThat(foundWhileLagging).isTrue();
+        assertThat(foundAfterCatchingUp).isFalse();
+        assertThat(routingDataSource.getFallbackCount()).isEqualTo(fallbacks + 1);
+    }
+
+    @Test
+    public void readsShouldFallBackToPrimaryWhileLagIsUnknown() {
+        // given
+        Student student = studentService.saveStudent(new Student("Uma", "Unknown", "uma.unknown@example.com"));
+        replica.execute("DROP TABLE replica_status");
+
+        // when
+        lagMonitor.check();
+        boolean found = studentService.getStudentById(student.getId()).isPresent();
+
+        // then
+        assertThat(lagMonitor.isAvailable()).isFalse();
+        assertThat(lagMonitor.getLagSeconds()).isNaN();
+        assertThat(found).isTrue();
+    }
+
+    @Test
+    public void writesAfterReadInSameSessionShouldGoToPrimary() {
+        // given (one entity manager for both calls, as open-in-view holds it for the whole request)
+        Student student = studentService.saveStudent(new Student("Sam", "Session", "sam.session@example.com"));
+        replicate();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory,
+                new EntityManagerHolder(entityManagerFactory.createEntityManager()));
+
+        // when
+        try {
+            studentService.getStudentById(student.getId());
+            studentService.saveStudent(new Student("Sue", "Session", "sue.session@example.com"));
+        } finally {
+            ((EntityManagerHolder) TransactionSynchronizationManager.unbindResource(entityManagerFactory))
+                    .getEntityManager().close();
+        }
+
+        // then
+        assertThat(primaryCount("sue.session@example.com")).isEqualTo(1);
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM students WHERE email = ?", Integer.class,
+                "sue.session@example.com")).isZero();
+    }
+
+    @Test
+    public void replicaReadsShouldNotCacheRowsOlderThanPrimary() {
+        // given (a native seat update on the primary evicts the course, the replica still has the old row)
+        Course course = courseService.saveCourse(new Course("Cache Course", "Read through the replica"));
+        replicate();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                courseRepository.reserveSeats(course.getId(), 1));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        int seatsWhileLagging = courseService.getCourseById(course.getId()).orElseThrow().getEnrolledCount();
+        courseService.getAllCourses();
+        replicate();
+        int seatsAfterCatchingUp = courseService.getCourseById(course.getId()).orElseThrow().getEnrolledCount();
+
+        // then
+        assertThat(seatsWhileLagging).isZero();
+        assertThat(seatsAfterCatchingUp).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCachePutCount()).isZero();
+        assertThat(statistics.getQueryCachePutCount()).isZero();
+        assertThat(entityManagerFactory.getCache().contains(Course.class, course.getId())).isFalse();
+    }
+
+    @Test
+    public void primaryReadsWhileReplicaLagsShouldUseCaches() {
+        // given
+        Course course = courseService.saveCourse(new Course("Fallback Course", "Read through the primary"));
+        setLag(60);
+        entityManagerFactory.getCache().evictAll();
+        courseService.getAllCourses();
+        courseService.getCourseById(course.getId());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<Course> courses = courseService.getAllCourses();
+        Course found = courseService.getCourseById(course.getId()).orElseThrow();
+
+        // then
+        assertThat(courses).extracting(Course::getId).contains(course.getId());
+        assertThat(found.getName()).isEqualTo("Fallback Course");
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    public void readOnlyTransactionShouldKeepItsPoolWhenReplicaStateChanges() {
+        // given (the transaction begins while the replica is available, then the replica starts lagging)
+        Course course = courseService.saveCourse(new Course("Pinned Course", "Written after the last copy"));
+        entityManagerFactory.getCache().evictAll();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // when
+        boolean found = Boolean.TRUE.equals(readOnly.execute(status -> {
+            setLag(60);
+            return courseRepository.findById(course.getId()).isPresent();
+        }));
+
+        // then
+        assertThat(found).isFalse();
+        assertThat(entityManagerFactory.getCache().contains(Course.class, course.getId())).isFalse();
+    }
+
+    @Test
+    public void readWriteTransactionsShouldStillFillCache() {
+        // given
+        Course course = courseService.saveCourse(new Course("Primary Course", "Read through the primary"));
+        entityManagerFactory.getCache().evictAll();
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                courseRepository.findById(course.getId()));
+
+        // then
+        assertThat(entityManagerFactory.getCache().contains(Course.class, course.getId())).isTrue();
+    }
+
+    @Test
+    public void routingShouldBePublishedPerPool() {
+        // given
+        studentService.getAllStudents();
+
+        // when
+        double replicaConnections = meterRegistry.get("datasource.routing.connections")
+                .tag("pool", "replica").functionCounter().count();
+
+        // then
+        assertThat(replicaConnections).isGreaterThan(0);
+        assertThat(meterRegistry.get("datasource.replica.available").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("datasource.replica.lag").gauge().value()).isZero();
+        assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", "academy").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", "academy-replica").gauge()).isNotNull();
+    }
+
+    @Test
+    public void readsShouldFallBackToPrimaryWhenReplicaRefusesConnections() throws InterruptedException {
+        // given (the replica rejects new connections and the pool holds none)
+        Student student = studentService.saveStudent(new Student("Dora", "Down", "dora.down@example.com"));
+        replicaDataSource.setPassword("wrong");
+        replicaDataSource.getHikariPoolMXBean().softEvictConnections();
+
+        // when
+        boolean found;
+        try {
+            found = studentService.getStudentById(student.getId()).isPresent();
+        } finally {
+            replicaDataSource.setPassword("");
+        }
+        boolean unavailable = !lagMonitor.isAvailable();
+        awaitReplica();
+
+        // then
+        assertThat(found).isTrue();
+        assertThat(unavailable).isTrue();
+    }
+
+    /**
+     * Replace the replica with a copy of the primary.
+     */
+    private void replicate() {
+        List<String> script = primary.queryForList("SCRIPT", String.class);
+        replica.execute("DROP ALL OBJECTS");
+        script.forEach(replica::execute);
+        replica.execute("CREATE TABLE replica_status (lag_seconds DOUBLE PRECISION)");
+        replica.update("INSERT INTO replica_status VALUES (0)");
+    }
+
+    /**
+     * Wait until the replica pool hands out connections again, as it backs off after failed
+     * attempts to connect.
+     */
+    private void awaitReplica() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        lagMonitor.check();
+        while (!lagMonitor.isAvailable() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            lagMonitor.check();
+        }
+    }
+
+    private void setLag(double seconds) {
+        replica.update("UPDATE replica_status SET lag_seconds = ?", seconds);
+        lagMonitor.check();
+    }
+
+    private int primaryCount(String email) {
+        return primary.queryForObject("SELECT COUNT(*) FROM students WHERE email = ?", Integer.class, email);
+    }
+}
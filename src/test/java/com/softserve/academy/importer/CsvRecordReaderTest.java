@@ -0,0 +1,104 @@
+package com.softserve.academy.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void read_shouldMapFieldsByNormalizedHeader() throws IOException {
+        // given
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(
+                "\uFEFFfirst_name,Last Name,email\r\nJohn,Doe,john.doe@example.com\r\n"));
+
+        // when
+        ImportRecord record = reader.read();
+
+        // then
+        assertThat(record.isValid()).isTrue();
+        assertThat(record.getLine()).isEqualTo(2);
+        assertThat(record.get("firstName")).isEqualTo("John");
+        assertThat(record.get("lastName")).isEqualTo("Doe");
+        assertThat(record.get("email")).isEqualTo("john.doe@example.com");
+        assertThat(reader.read()).isNull();
+    }
+
+    @Test
+    void read_shouldHandleQuotedFieldsWithCommasQuotesAndLineBreaks() throws IOException {
+        // given
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(
+                "name,description\n\"Java, Advanced\",\"Covers \"\"streams\"\"\nand more\"\nPython,Basics\n"));
+
+        // when
+        ImportRecord first = reader.read();
+        ImportRecord second = reader.read();
+
+        // then
+        assertThat(first.get("name")).isEqualTo("Java, Advanced");
+        assertThat(first.get("description")).isEqualTo("Covers \"streams\"\nand more");
+        assertThat(second.getLine()).isEqualTo(4);
+        assertThat(second.get("name")).isEqualTo("Python");
+    }
+
+    @Test
+    void read_shouldSkipBlankLinesAndReportColumnMismatch() throws IOException {
+        // given
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(
+                "firstName,lastName,email\n\nJohn,Doe\n"));
+
+        // when
+        ImportRecord record = reader.read();
+
+        // then
+        assertThat(record.isValid()).isFalse();
+        assertThat(record.getLine()).isEqualTo(3);
+        assertThat(record.getError()).isEqualTo("Expected 3 columns but found 2");
+    }
+
+    @Test
+    void read_shouldRejectOverlongFields() throws IOException {
+        // given
+        String longValue = "x".repeat(CsvRecordReader.MAX_FIELD_LENGTH + 1);
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("name\n" + longValue + "\nok\n"));
+
+        // when
+        ImportRecord tooLong = reader.read();
+        ImportRecord next = reader.read();
+
+        // then
+        assertThat(tooLong.isValid()).isFalse();
+        assertThat(next.get("name")).isEqualTo("ok");
+    }
+
+    @Test
+    void read_shouldRejectRecordsWithTooManyFields() throws IOException {
+        // given
+        String manyFields = ",".repeat(CsvRecordReader.MAX_FIELDS);
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("name\n" + manyFields + "\nok\n"));
+
+        // when
+        ImportRecord tooMany = reader.read();
+        ImportRecord next = reader.read();
+
+        // then
+        assertThat(tooMany.getError()).isEqualTo("Record exceeds " + CsvRecordReader.MAX_FIELDS + " fields");
+        assertThat(next.get("name")).isEqualTo("ok");
+    }
+
+    @Test
+    void read_shouldReportUnterminatedQuote() throws IOException {
+        // given
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("name\n\"unterminated\n"));
+
+        // when
+        ImportRecord record = reader.read();
+
+        // then
+        assertThat(record.getError()).isEqualTo("Unterminated quoted field");
+        assertThat(reader.read()).isNull();
+    }
+}
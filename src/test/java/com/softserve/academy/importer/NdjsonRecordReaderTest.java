@@ -0,0 +1,70 @@
+package com.softserve.academy.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NdjsonRecordReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void read_shouldParseOneObjectPerLine() throws IOException {
+        // given
+        NdjsonRecordReader reader = new NdjsonRecordReader(new StringReader(
+                "{\"firstName\":\"John\",\"last_name\":\"Doe\",\"email\":\"john.doe@example.com\"}\n" +
+                "\n" +
+                "{\"studentEmail\":\"jane@example.com\",\"courseName\":\"Java\"}\n"), objectMapper);
+
+        // when
+        ImportRecord first = reader.read();
+        ImportRecord second = reader.read();
+
+        // then
+        assertThat(first.get("firstName")).isEqualTo("John");
+        assertThat(first.get("lastName")).isEqualTo("Doe");
+        assertThat(second.getLine()).isEqualTo(3);
+        assertThat(second.get("courseName")).isEqualTo("Java");
+        assertThat(reader.read()).isNull();
+    }
+
+    @Test
+    void read_shouldReportMalformedLinesAndContinue() throws IOException {
+        // given
+        NdjsonRecordReader reader = new NdjsonRecordReader(new StringReader(
+                "{\"name\": \n[1, 2]\n{\"name\":\"Java\"}\n"), objectMapper);
+
+        // when
+        ImportRecord malformed = reader.read();
+        ImportRecord notAnObject = reader.read();
+        ImportRecord valid = reader.read();
+
+        // then
+        assertThat(malformed.isValid()).isFalse();
+        assertThat(malformed.getError()).startsWith("Malformed JSON");
+        assertThat(notAnObject.getError()).isEqualTo("Expected a JSON object");
+        assertThat(valid.get("name")).isEqualTo("Java");
+    }
+
+    @Test
+    void read_shouldRejectOverlongLines() throws IOException {
+        // given
+        String longValue = "x".repeat(NdjsonRecordReader.MAX_LINE_LENGTH);
+        NdjsonRecordReader reader = new NdjsonRecordReader(new StringReader(
+                "{\"name\":\"" + longValue + "\"}\r\n{\"name\":\"ok\"}\r\n"), objectMapper);
+
+        // when
+        ImportRecord tooLong = reader.read();
+        ImportRecord next = reader.read();
+
+        // then
+        assertThat(tooLong.getError()).isEqualTo("Line exceeds " + NdjsonRecordReader.MAX_LINE_LENGTH + " characters");
+        assertThat(next.getLine()).isEqualTo(2);
+        assertThat(next.get("name")).isEqualTo("ok");
+        assertThat(reader.read()).isNull();
+    }
+}
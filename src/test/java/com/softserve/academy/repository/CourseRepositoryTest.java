@@ -1,12 +1,19 @@
 package com.softserve.academy.repository;
 
 import com.softserve.academy.TestApplication;
+import com.softserve.academy.dto.ContentVersion;
+import com.softserve.academy.dto.CourseDTO;
 import com.softserve.academy.model.Course;
+import com.softserve.academy.model.Student;
+import com.softserve.academy.model.TableVersion;
 import com.softserve.academy.model.Teacher;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 
@@ -126,4 +133,249 @@ public class CourseRepositoryTest {
         assertThat(foundCourse.get().getName()).isEqualTo(course.getName());
         assertThat(foundCourse.get().getDescription()).isEqualTo(course.getDescription());
     }
+
+    @Test
+    public void whenFindSummariesAfter_thenReturnTeacherNameAndEnrollmentCount() {
+        // given
+        Teacher teacher = entityManager.persist(new Teacher("John", "Smith", "john.smith@example.com"));
+        Course course1 = new Course("Java Programming", "Introduction to Java programming language");
+        course1.setTeacher(teacher);
+        entityManager.persist(course1);
+        Course course2 = entityManager.persist(new Course("Python Programming", "Introduction to Python programming language"));
+
+        Student student1 = new Student("Jane", "Doe", "jane.doe@example.com");
+        Student student2 = new Student("Bob", "Brown", "bob.brown@example.com");
+        student1.getEnrolledCourses().add(course1);
+        student2.getEnrolledCourses().add(course1);
+        entityManager.persist(student1);
+        entityManager.persist(student2);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<CourseDTO> summaries = courseRepository.findSummariesAfter(0L, PageRequest.ofSize(10));
+
+        // then
+        assertThat(summaries).extracting(CourseDTO::getId).containsExactly(course1.getId(), course2.getId());
+        assertThat(summaries.get(0).getTeacherName()).isEqualTo("John Smith");
+        assertThat(summaries.get(0).getEnrollmentCount()).isEqualTo(2L);
+        assertThat(summaries.get(1).getTeacherName()).isNull();
+        assertThat(summaries.get(1).getEnrollmentCount()).isZero();
+    }
+
+    @Test
+    public void whenFindSummaries_thenRunSingleStatementRegardlessOfRowCount() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            Teacher teacher = entityManager.persist(new Teacher("Teacher" + i, "Smith", "teacher" + i + "@example.com"));
+            Course course = new Course("Course " + i, "Description " + i);
+            course.setTeacher(teacher);
+            entityManager.persist(course);
+            Student student = new Student("Student" + i, "Doe", "student" + i + "@example.com");
+            student.getEnrolledCourses().add(course);
+            entityManager.persist(student);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        List<CourseDTO> summaries = courseRepository.findSummariesAfter(0L, PageRequest.ofSize(10));
+        summaries.forEach(summary -> {
+            summary.getTeacherName();
+            summary.getEnrollmentCount();
+        });
+
+        // then
+        assertThat(summaries).hasSize(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void whenFindSummariesBefore_thenReturnPreviousRowsInDescendingIdOrder() {
+        // given
+        Course course1 = entityManager.persist(new Course("Java Programming", "Introduction to Java programming language"));
+        Course course2 = entityManager.persist(new Course("Python Programming", "Introduction to Python programming language"));
+        Course course3 = entityManager.persist(new Course("C# Programming", "Introduction to C# programming language"));
+        entityManager.flush();
+
+        // when
+        List<CourseDTO> summaries = courseRepository.findSummariesBefore(course3.getId(), PageRequest.ofSize(5));
+
+        // then
+        assertThat(summaries).extracting(CourseDTO::getId).containsExactly(course2.getId(), course1.getId());
+    }
+
+    @Test
+    public void whenFindSummariesNotEnrolledByStudent_thenReturnOtherCoursesWithCounts() {
+        // given
+        Course course1 = entityManager.persist(new Course("Java Programming", "Introduction to Java programming language"));
+        Course course2 = entityManager.persist(new Course("Python Programming", "Introduction to Python programming language"));
+        Course course3 = entityManager.persist(new Course("C# Programming", "Introduction to C# programming language"));
+
+        Student student = new Student("Jane", "Doe", "jane.doe@example.com");
+        student.getEnrolledCourses().add(course1);
+        entityManager.persist(student);
+        Student other = new Student("Bob", "Brown", "bob.brown@example.com");
+        other.getEnrolledCourses().add(course2);
+        entityManager.persist(other);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<CourseDTO> summaries = courseRepository.findSummariesNotEnrolledByStudent(student.getId(), "", PageRequest.ofSize(10));
+
+        // then
+        assertThat(summaries).extracting(CourseDTO::getId).containsExactly(course3.getId(), course2.getId());
+        assertThat(summaries.get(1).getEnrollmentCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void whenFindSummariesNotTaughtBy_thenReturnUnassignedAndOtherTeachersCourses() {
+        // given
+        Teacher teacher = entityManager.persist(new Teacher("John", "Smith", "john.smith@example.com"));
+        Teacher otherTeacher = entityManager.persist(new Teacher("Mary", "Jones", "mary.jones@example.com"));
+
+        Course taught = new Course("Java Programming", "Introduction to Java programming language");
+        taught.setTeacher(teacher);
+        entityManager.persist(taught);
+        Course otherTaught = new Course("Python Programming", "Introduction to Python programming language");
+        otherTaught.setTeacher(otherTeacher);
+        entityManager.persist(otherTaught);
+        Course unassigned = entityManager.persist(new Course("C# Programming", "Introduction to C# programming language"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<CourseDTO> summaries = courseRepository.findSummariesNotTaughtBy(teacher.getId(), "", PageRequest.ofSize(10));
+        List<CourseDTO> filtered = courseRepository.findSummariesNotTaughtBy(teacher.getId(), "py", PageRequest.ofSize(10));
+
+        // then
+        assertThat(summaries).extracting(CourseDTO::getId).containsExactly(unassigned.getId(), otherTaught.getId());
+        assertThat(filtered).extracting(CourseDTO::getId).containsExactly(otherTaught.getId());
+    }
+
+    @Test
+    public void whenFindSummariesWithEscapedWildcards_thenMatchThemLiterally() {
+        // given
+        Teacher teacher = entityManager.persist(new Teacher("John", "Smith", "john.smith@example.com"));
+        Student student = entityManager.persist(new Student("Jane", "Doe", "jane.doe@example.com"));
+        Course literal = entityManager.persist(new Course("100% Java", "Everything about Java"));
+        entityManager.persist(new Course("1000 Exercises", "Practice problems"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<CourseDTO> notEnrolled = courseRepository.findSummariesNotEnrolledByStudent(student.getId(), "100\\%", PageRequest.ofSize(10));
+        List<CourseDTO> notTaught = courseRepository.findSummariesNotTaughtBy(teacher.getId(), "100\\%", PageRequest.ofSize(10));
+
+        // then
+        assertThat(notEnrolled).extracting(CourseDTO::getId).containsExactly(literal.getId());
+        assertThat(notTaught).extracting(CourseDTO::getId).containsExactly(literal.getId());
+    }
+
+    @Test
+    public void whenSearchRankedIds_thenRankNamePrefixMatchesFirstAndApplyLimit() {
+        // given
+        Course description = entityManager.persist(new Course("Concurrency", "Threads and locks in Java"));
+        Course contains = entityManager.persist(new Course("Advanced Java", "Advanced topics"));
+        Course prefix = entityManager.persist(new Course("Java Programming", "Introduction"));
+        entityManager.persist(new Course("Python Programming", "Introduction to Python programming language"));
+        entityManager.flush();
+
+        // when
+        List<Long> ids = courseRepository.searchRankedIds("java", PageRequest.ofSize(10));
+        List<Long> limited = courseRepository.searchRankedIds("java", PageRequest.ofSize(2));
+
+        // then
+        assertThat(ids).containsExactly(prefix.getId(), contains.getId(), description.getId());
+        assertThat(limited).containsExactly(prefix.getId(), contains.getId());
+    }
+
+    @Test
+    public void whenSearchRankedIdsWithEscapedWildcards_thenMatchThemLiterally() {
+        // given
+        Course literal = entityManager.persist(new Course("100% Java", "Everything about Java"));
+        entityManager.persist(new Course("1000 Exercises", "Practice problems"));
+        entityManager.persist(new Course("Snake case", "Names like a_b"));
+        entityManager.flush();
+
+        // when
+        List<Long> percent = courseRepository.searchRankedIds("100\\%", PageRequest.ofSize(10));
+        List<Long> underscore = courseRepository.searchRankedIds("0\\_", PageRequest.ofSize(10));
+
+        // then
+        assertThat(percent).containsExactly(literal.getId());
+        assertThat(underscore).isEmpty();
+    }
+
+    @Test
+    public void whenFindSummariesByIdIn_thenReturnOnlyTheGivenCourses() {
+        // given
+        Course course1 = entityManager.persist(new Course("Java Programming", "Introduction to Java programming language"));
+        Course course2 = entityManager.persist(new Course("Python Programming", "Introduction to Python programming language"));
+        entityManager.persist(new Course("C# Programming", "Introduction to C# programming language"));
+        entityManager.flush();
+
+        // when
+        List<CourseDTO> summaries = courseRepository.findSummariesByIdIn(List.of(course1.getId(), course2.getId()));
+
+        // then
+        assertThat(summaries).extracting(CourseDTO::getName).containsExactlyInAnyOrder("Java Programming", "Python Programming");
+    }
+
+    @Test
+    public void whenFindTableVersion_thenReadChangeCounterAndReportLatestChange() {
+        // given
+        Course java = entityManager.persist(new Course("Java Programming", "Introduction to Java programming language"));
+        Course python = entityManager.persist(new Course("Python Programming", "Introduction to Python programming language"));
+        entityManager.persist(new TableVersion("courses", 0, 4));
+        entityManager.persist(new TableVersion("courses", 5, 3));
+        entityManager.persist(new TableVersion("students", 0, 9));
+        entityManager.flush();
+
+        // when
+        ContentVersion version = courseRepository.findTableVersion();
+
+        // then
+        assertThat(version.getRevision()).isEqualTo(7);
+        assertThat(version.getLastModified()).isEqualTo(
+                java.getUpdatedAt().isAfter(python.getUpdatedAt()) ? java.getUpdatedAt() : python.getUpdatedAt());
+    }
+
+    @Test
+    public void whenCourseUpdated_thenVersionIncrements() {
+        // given
+        Course course = entityManager.persistFlushFind(new Course("Java Programming", "Introduction to Java programming language"));
+        ContentVersion before = courseRepository.findVersionById(course.getId()).orElseThrow();
+
+        // when
+        course.setDescription("Java 21 from the ground up");
+        entityManager.flush();
+
+        // then
+        ContentVersion after = courseRepository.findVersionById(course.getId()).orElseThrow();
+        assertThat(after.getRevision()).isEqualTo(before.getRevision() + 1);
+        assertThat(courseRepository.findVersionById(-1L)).isEmpty();
+    }
+
+    @Test
+    public void whenSeatsReservedOrCourseTouched_thenLatestChangeMovesWithoutVersionIncrement() {
+        // given
+        Course course = entityManager.persistFlushFind(new Course("Java Programming", "Introduction to Java programming language"));
+        ContentVersion created = courseRepository.findVersionById(course.getId()).orElseThrow();
+
+        // when
+        courseRepository.reserveSeats(course.getId(), 1);
+
+        // then
+        ContentVersion enrolled = courseRepository.findVersionById(course.getId()).orElseThrow();
+        assertThat(enrolled.getLastModified()).isNotEqualTo(created.getLastModified());
+        assertThat(enrolled.getRevision()).isEqualTo(created.getRevision());
+        assertThat(courseRepository.touch(course.getId())).isEqualTo(1);
+    }
 }
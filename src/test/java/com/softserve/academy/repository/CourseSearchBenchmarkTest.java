@@ -0,0 +1,107 @@
+package com.softserve.academy.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Course search benchmark on 1M courses comparing the LIKE scan with the pg_trgm query.
+ * Needs a PostgreSQL database where the pg_trgm extension can be created; all tables live
+ * in a scratch schema that is dropped afterwards. Run with
+ * {@code mvn test -Pbenchmark -Dbenchmark.postgres.url=jdbc:postgresql://localhost:5432/schooldb
+ * -Dbenchmark.postgres.username=postgres -Dbenchmark.postgres.password=root}.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark.postgres.url", matches = ".+")
+public class CourseSearchBenchmarkTest {
+
+    private static final int COURSES = 1_000_000;
+    private static final int RUNS = 20;
+    private static final String SCHEMA = "course_search_benchmark";
+
+    private static final String LIKE_QUERY = "SELECT c.id FROM courses c " +
+            "WHERE LOWER(c.name) LIKE LOWER(CONCAT('%', ?, '%')) OR LOWER(c.description) LIKE LOWER(CONCAT('%', ?, '%'))";
+
+    // Same statement as CourseRepository.searchRankedIdsByTrigram
+    private static final String TRIGRAM_QUERY = "SELECT c.id FROM courses c " +
+            "WHERE c.name ILIKE ('%' || ? || '%') ESCAPE '\\' OR c.description ILIKE ('%' || ? || '%') ESCAPE '\\' " +
+            "ORDER BY word_similarity(?, c.name) DESC, word_similarity(?, COALESCE(c.description, '')) DESC, c.id " +
+            "LIMIT 50";
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void createDataset() {
+        // One connection throughout, so the search_path set below applies to every statement
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                System.getProperty("benchmark.postgres.url"),
+                System.getProperty("benchmark.postgres.username", "postgres"),
+                System.getProperty("benchmark.postgres.password", ""), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm SCHEMA public");
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        jdbcTemplate.execute("SET search_path TO " + SCHEMA + ", public");
+        jdbcTemplate.execute("CREATE TABLE courses (id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL, description VARCHAR(300))");
+        jdbcTemplate.execute("INSERT INTO courses (id, name, description) " +
+                "SELECT i, " +
+                "(ARRAY['Intro to','Advanced','Applied','Modern','Practical'])[1 + i % 5] || ' ' || " +
+                "(ARRAY['Java','Python','Databases','Networks','Calculus','History','Biology','Statistics','Physics','Design'])[1 + (i / 5) % 10] || ' ' || i, " +
+                "'Course number ' || i || ' covering ' || " +
+                "(ARRAY['fundamentals','algorithms','case studies','lab work','theory'])[1 + (i / 50) % 5] " +
+                "FROM generate_series(1, " + COURSES + ") AS i");
+        jdbcTemplate.execute("ANALYZE courses");
+    }
+
+    @AfterAll
+    static void dropDataset() {
+        if (jdbcTemplate != null) {
+            jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            ((SingleConnectionDataSource) jdbcTemplate.getDataSource()).destroy();
+        }
+    }
+
+    @Test
+    public void trigramSearchShouldBeFasterThanLikeScan() {
+        // given
+        List<String> terms = List.of("calcul", "424242", "netw");
+
+        // when
+        double likeMillis = averageMillis(LIKE_QUERY, terms, 2);
+        jdbcTemplate.execute("CREATE INDEX idx_courses_name_trgm ON courses USING gin (name gin_trgm_ops)");
+        jdbcTemplate.execute("CREATE INDEX idx_courses_description_trgm ON courses USING gin (description gin_trgm_ops)");
+        jdbcTemplate.execute("ANALYZE courses");
+        double trigramMillis = averageMillis(TRIGRAM_QUERY, terms, 4);
+
+        // then
+        System.out.printf("Course search over %d courses, average of %d runs per term %s:%n", COURSES, RUNS, terms);
+        System.out.printf("  LOWER(..) LIKE '%%x%%' scan      : %8.2f ms%n", likeMillis);
+        System.out.printf("  pg_trgm GIN, ranked, limit 50 : %8.2f ms%n", trigramMillis);
+        assertThat(trigramMillis).isLessThan(likeMillis);
+    }
+
+    private double averageMillis(String sql, List<String> terms, int parameterCount) {
+        long total = 0;
+        for (String term : terms) {
+            Object[] parameters = new Object[parameterCount];
+            Arrays.fill(parameters, term);
+            jdbcTemplate.queryForList(sql, Long.class, parameters);
+            long start = System.nanoTime();
+            for (int run = 0; run < RUNS; run++) {
+                jdbcTemplate.queryForList(sql, Long.class, parameters);
+            }
+            total += System.nanoTime() - start;
+        }
+        return total / 1_000_000.0 / (RUNS * terms.size());
+    }
+}
@@ -0,0 +1,175 @@
+package com.softserve.academy.repository;
+
+import com.softserve.academy.TestApplication;
+import com.softserve.academy.model.Course;
+import com.softserve.academy.model.Student;
+import com.softserve.academy.model.Teacher;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the second-level cache configuration used in production: cached reads, the query
+ * cache and that native updates evict only the regions backed by the tables they write.
+ * The cache is only switched on here, as its regions are shared by every context in the JVM.
+ * Each step commits on its own, since entities inserted by an open transaction are not cached.
+ */
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.cache.auto_evict_collection_cache=true",
+        "spring.jpa.properties.hibernate.javax.cache.provider=org.ehcache.jsr107.EhcacheCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.uri=ehcache.xml",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SecondLevelCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    private Statistics statistics;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        cache = entityManagerFactory.getCache();
+        cache.evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "student_course", "students", "courses", "teachers");
+        cache.evictAll();
+    }
+
+    @Test
+    public void whenTeacherLoadedTwice_thenSecondLoadHitsCache() {
+        // given
+        Teacher teacher = teacherRepository.save(new Teacher("John", "Smith", "john.smith@example.com"));
+        cache.evictAll();
+        teacherRepository.findById(teacher.getId());
+        statistics.clear();
+
+        // when
+        Teacher found = teacherRepository.findById(teacher.getId()).orElseThrow();
+
+        // then
+        assertThat(found.getEmail()).isEqualTo("john.smith@example.com");
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    public void whenFindAllRepeated_thenServedFromQueryCache() {
+        // given
+        teacherRepository.save(new Teacher("John", "Smith", "john.smith@example.com"));
+        teacherRepository.save(new Teacher("Jane", "Doe", "jane.doe@example.com"));
+        teacherRepository.findAll();
+        statistics.clear();
+
+        // when
+        List<Teacher> teachers = teacherRepository.findAll();
+
+        // then
+        assertThat(teachers).hasSize(2);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    public void whenReadOnlyTransactionsRepeatQueries_thenServedFromCaches() {
+        // given (no replica is configured, so read-only transactions read the primary and fill the caches)
+        Teacher teacher = teacherRepository.save(new Teacher("John", "Smith", "john.smith@example.com"));
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        cache.evictAll();
+        readOnly.executeWithoutResult(status -> {
+            teacherRepository.findAll();
+            teacherRepository.findById(teacher.getId());
+        });
+        statistics.clear();
+
+        // when
+        List<Teacher> teachers = readOnly.execute(status -> {
+            teacherRepository.findById(teacher.getId());
+            return teacherRepository.findAll();
+        });
+
+        // then
+        assertThat(teachers).hasSize(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    public void whenEnrollmentWritten_thenOnlyCourseRegionsAreEvicted() {
+        // given
+        Teacher teacher = teacherRepository.save(new Teacher("John", "Smith", "john.smith@example.com"));
+        Course course = new Course("Java Programming", "Introduction to Java programming language");
+        course.setTeacher(teacher);
+        courseRepository.save(course);
+        Student student = studentRepository.save(new Student("Alice", "Doe", "alice.doe@example.com"));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        teacherRepository.findById(teacher.getId());
+        courseRepository.findById(course.getId());
+        assertThat(cache.contains(Teacher.class, teacher.getId())).isTrue();
+        assertThat(cache.contains(Course.class, course.getId())).isTrue();
+
+        // when
+        transaction.executeWithoutResult(status -> studentRepository.insertEnrollment(student.getId(), course.getId()));
+
+        // then
+        assertThat(cache.contains(Teacher.class, teacher.getId())).isTrue();
+        assertThat(cache.contains(Course.class, course.getId())).isTrue();
+
+        // when
+        transaction.executeWithoutResult(status -> courseRepository.reserveSeats(course.getId(), 1));
+
+        // then
+        assertThat(cache.contains(Teacher.class, teacher.getId())).isTrue();
+        assertThat(cache.contains(Course.class, course.getId())).isFalse();
+        assertThat(courseRepository.findById(course.getId()).orElseThrow().getEnrolledCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,80 @@
+package com.softserve.academy.repository;
+
+import com.softserve.academy.TestApplication;
+import com.softserve.academy.model.Student;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bulk import benchmark comparing one round trip per row with JDBC batching.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@Tag("benchmark")
+public class StudentBatchInsertBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    public void batchedImportShouldUseFewerStatementsThanRowByRowImport() {
+        // given
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        importStudents("warmup", 1_000, 50, statistics);
+
+        // when
+        ImportResult rowByRow = importStudents("single", ROWS, 1, statistics);
+        ImportResult batched = importStudents("batched", ROWS, 50, statistics);
+
+        // then
+        System.out.printf("Bulk import of %d students:%n", ROWS);
+        System.out.printf("  batch_size=1  : %6d statements, %8.0f rows/s%n", rowByRow.statements(), rowByRow.rowsPerSecond());
+        System.out.printf("  batch_size=50 : %6d statements, %8.0f rows/s%n", batched.statements(), batched.rowsPerSecond());
+        assertThat(batched.statements()).isLessThan(rowByRow.statements() / 10);
+    }
+
+    private ImportResult importStudents(String prefix, int rows, int batchSize, Statistics statistics) {
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+        session.setJdbcBatchSize(batchSize);
+        statistics.clear();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < rows; i++) {
+            entityManager.persist(new Student("First" + i, "Last" + i, prefix + i + "@example.com"));
+            if ((i + 1) % CHUNK_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        long elapsed = System.nanoTime() - start;
+
+        return new ImportResult(statistics.getPrepareStatementCount(), rows * 1_000_000_000.0 / elapsed);
+    }
+
+    private record ImportResult(long statements, double rowsPerSecond) {
+    }
+}
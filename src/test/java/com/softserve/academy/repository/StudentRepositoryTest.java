@@ -1,11 +1,17 @@
 package com.softserve.academy.repository;
 
 import com.softserve.academy.TestApplication;
+import com.softserve.academy.dto.EnrollmentDTO;
+import com.softserve.academy.dto.StudentDTO;
+import com.softserve.academy.model.Course;
 import com.softserve.academy.model.Student;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 
@@ -97,4 +103,164 @@ public class StudentRepositoryTest {
         assertThat(foundStudent.get().getLastName()).isEqualTo(student.getLastName());
         assertThat(foundStudent.get().getEmail()).isEqualTo(student.getEmail());
     }
+
+    @Test
+    public void whenFindNotEnrolledInCourse_thenReturnOnlyStudentsOutsideTheCourse() {
+        // given
+        Course course = entityManager.persist(new Course("Java Programming", "Introduction to Java programming language"));
+        Student enrolled = new Student("John", "Doe", "john.doe@example.com");
+        enrolled.getEnrolledCourses().add(course);
+        entityManager.persist(enrolled);
+        Student available1 = entityManager.persist(new Student("Jane", "Smith", "jane.smith@example.com"));
+        Student available2 = entityManager.persist(new Student("Bob", "Brown", "bob.brown@example.com"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Student> found = studentRepository.findNotEnrolledInCourse(course.getId(), "", PageRequest.ofSize(10));
+
+        // then
+        assertThat(found).extracting(Student::getId).containsExactly(available2.getId(), available1.getId());
+    }
+
+    @Test
+    public void whenFindNotEnrolledInCourseWithPrefixAndLimit_thenReturnFilteredAndCappedRows() {
+        // given
+        Course course = entityManager.persist(new Course("Java Programming", "Introduction to Java programming language"));
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(new Student("Student" + i, "Smith", "student" + i + "@example.com"));
+        }
+        entityManager.persist(new Student("Jane", "Doe", "jane.doe@example.com"));
+        entityManager.flush();
+
+        // when
+        List<Student> found = studentRepository.findNotEnrolledInCourse(course.getId(), "sMi", PageRequest.ofSize(3));
+
+        // then
+        assertThat(found).hasSize(3);
+        assertThat(found).extracting(Student::getLastName).containsOnly("Smith");
+    }
+
+    @Test
+    public void whenFindNotEnrolledInCourseWithEscapedWildcards_thenMatchThemLiterally() {
+        // given
+        Course course = entityManager.persist(new Course("Java Programming", "Introduction to Java programming language"));
+        Student literal = entityManager.persist(new Student("Ann", "O_Neil", "ann.oneil@example.com"));
+        entityManager.persist(new Student("Otto", "Oxley", "otto.oxley@example.com"));
+        entityManager.persist(new Student("Pat", "100 Percent", "pat@example.com"));
+        entityManager.flush();
+
+        // when
+        List<Student> underscore = studentRepository.findNotEnrolledInCourse(course.getId(), "o\\_", PageRequest.ofSize(10));
+        List<Student> percent = studentRepository.findNotEnrolledInCourse(course.getId(), "\\%", PageRequest.ofSize(10));
+
+        // then
+        assertThat(underscore).extracting(Student::getId).containsExactly(literal.getId());
+        assertThat(percent).isEmpty();
+    }
+
+    @Test
+    public void whenInsertEnrollmentsForCourse_thenSkipDuplicatesAndUnknownIdsInOneStatement() {
+        // given
+        Course course = entityManager.persist(new Course("Java Programming", "Introduction to Java programming language"));
+        Student enrolled = new Student("John", "Doe", "john.doe@example.com");
+        enrolled.getEnrolledCourses().add(course);
+        entityManager.persist(enrolled);
+        Student student1 = entityManager.persist(new Student("Jane", "Doe", "jane.doe@example.com"));
+        Student student2 = entityManager.persist(new Student("Jim", "Smith", "jim.smith@example.com"));
+        entityManager.flush();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        int inserted = studentRepository.insertEnrollmentsForCourse(course.getId(),
+                List.of(enrolled.getId(), student1.getId(), student2.getId(), -1L));
+
+        // then
+        assertThat(inserted).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(studentRepository.findEnrolledStudentIds(course.getId(),
+                List.of(enrolled.getId(), student1.getId(), student2.getId())))
+                .containsExactlyInAnyOrder(enrolled.getId(), student1.getId(), student2.getId());
+        assertThat(studentRepository.insertEnrollmentsForCourse(course.getId(), List.of(student1.getId()))).isZero();
+    }
+
+    @Test
+    public void whenDeleteEnrollmentsForCourse_thenRemoveOnlyTheGivenStudents() {
+        // given
+        Course course = entityManager.persist(new Course("Java Programming", "Introduction to Java programming language"));
+        Student student1 = entityManager.persist(new Student("John", "Doe", "john.doe@example.com"));
+        Student student2 = entityManager.persist(new Student("Jane", "Doe", "jane.doe@example.com"));
+        Student student3 = entityManager.persist(new Student("Jim", "Smith", "jim.smith@example.com"));
+        entityManager.flush();
+        studentRepository.insertEnrollmentsForCourse(course.getId(), List.of(student1.getId(), student2.getId(), student3.getId()));
+
+        // when
+        int deleted = studentRepository.deleteEnrollmentsForCourse(course.getId(), List.of(student1.getId(), student2.getId()));
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(studentRepository.findEnrolledStudentIds(course.getId(),
+                List.of(student1.getId(), student2.getId(), student3.getId())))
+                .containsExactly(student3.getId());
+    }
+
+    @Test
+    public void whenInsertEnrollment_thenWriteJoinRowOnlyWhenBothSidesExist() {
+        // given
+        Course course = entityManager.persist(new Course("Java Programming", "Introduction to Java programming language"));
+        Student student = entityManager.persist(new Student("Jane", "Doe", "jane.doe@example.com"));
+        entityManager.flush();
+
+        // when & then
+        assertThat(studentRepository.insertEnrollment(student.getId(), course.getId())).isEqualTo(1);
+        assertThat(studentRepository.insertEnrollment(student.getId(), course.getId())).isZero();
+        assertThat(studentRepository.insertEnrollment(-1L, course.getId())).isZero();
+        assertThat(studentRepository.insertEnrollment(student.getId(), -1L)).isZero();
+        assertThat(studentRepository.deleteEnrollment(student.getId(), course.getId())).isEqualTo(1);
+        assertThat(studentRepository.deleteEnrollment(student.getId(), course.getId())).isZero();
+    }
+
+    @Test
+    public void whenFindSummariesAfter_thenReturnFlatRowsFollowingTheCursor() {
+        // given
+        Student first = entityManager.persist(new Student("John", "Doe", "john.doe@example.com"));
+        Student second = entityManager.persist(new Student("Jane", "Smith", "jane.smith@example.com"));
+        Student third = entityManager.persist(new Student("Bob", "Brown", "bob.brown@example.com"));
+        entityManager.flush();
+
+        // when
+        List<StudentDTO> found = studentRepository.findSummariesAfter(first.getId(), PageRequest.ofSize(10));
+
+        // then
+        assertThat(found).extracting(StudentDTO::getId).containsExactly(second.getId(), third.getId());
+        assertThat(found.get(0).getEmail()).isEqualTo("jane.smith@example.com");
+        assertThat(studentRepository.findSummaryById(third.getId())).get()
+                .extracting(StudentDTO::getLastName).isEqualTo("Brown");
+        assertThat(studentRepository.findSummaryById(-1L)).isEmpty();
+    }
+
+    @Test
+    public void whenFindEnrollmentsByCourseOrStudent_thenReturnOneSideOrderedByTheOther() {
+        // given
+        Course java = entityManager.persist(new Course("Java Programming", "Introduction to Java programming language"));
+        Course python = entityManager.persist(new Course("Python Programming", "Introduction to Python programming language"));
+        Student john = entityManager.persist(new Student("John", "Doe", "john.doe@example.com"));
+        Student jane = entityManager.persist(new Student("Jane", "Smith", "jane.smith@example.com"));
+        entityManager.flush();
+        studentRepository.insertEnrollmentsForCourse(java.getId(), List.of(john.getId(), jane.getId()));
+        studentRepository.insertEnrollment(john.getId(), python.getId());
+
+        // when
+        List<EnrollmentDTO> byCourse = studentRepository.findEnrollmentsByCourseAfter(java.getId(), 0L, PageRequest.ofSize(10));
+        List<EnrollmentDTO> byStudent = studentRepository.findEnrollmentsByStudentAfter(john.getId(), java.getId(), PageRequest.ofSize(10));
+
+        // then
+        assertThat(byCourse).extracting(EnrollmentDTO::getStudentEmail)
+                .containsExactly("john.doe@example.com", "jane.smith@example.com");
+        assertThat(byStudent).extracting(EnrollmentDTO::getCourseName).containsExactly("Python Programming");
+    }
 }
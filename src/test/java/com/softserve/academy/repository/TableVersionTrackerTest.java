@@ -0,0 +1,129 @@
+package com.softserve.academy.repository;
+
+import com.softserve.academy.TestApplication;
+import com.softserve.academy.config.HttpCacheProperties;
+import com.softserve.academy.config.TableVersionConfig;
+import com.softserve.academy.model.Course;
+import com.softserve.academy.model.Student;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that committed writes advance the table change counters, each in its own
+ * transaction, as the counters are only incremented on commit.
+ */
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TableVersionConfig.class, HttpCacheProperties.class})
+public class TableVersionTrackerTest {
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "student_course", "students", "courses", "table_versions");
+    }
+
+    @Test
+    public void whenEntitiesChange_thenCountOneChangePerTransaction() {
+        // given
+        long before = courseRepository.findTableVersion().getRevision();
+
+        // when
+        courseRepository.saveAll(List.of(new Course("Java", "Intro"), new Course("Python", "Intro")));
+        long afterInsert = courseRepository.findTableVersion().getRevision();
+        Course java = courseRepository.findByName("Java").orElseThrow();
+        java.setDescription("Advanced");
+        java = courseRepository.save(java);
+        long afterUpdate = courseRepository.findTableVersion().getRevision();
+        courseRepository.delete(java);
+        long afterDelete = courseRepository.findTableVersion().getRevision();
+
+        // then
+        assertThat(afterInsert).isEqualTo(before + 1);
+        assertThat(afterUpdate).isEqualTo(before + 2);
+        assertThat(afterDelete).isEqualTo(before + 3);
+        assertThat(studentRepository.findTableVersion().getRevision()).isZero();
+    }
+
+    @Test
+    public void whenNativeUpdateCommits_thenCountChangeToItsTable() {
+        // given
+        Course course = courseRepository.save(new Course("Java", "Intro"));
+        Student student = studentRepository.save(new Student("John", "Doe", "john.doe@example.com"));
+        long courses = courseRepository.findTableVersion().getRevision();
+        long students = studentRepository.findTableVersion().getRevision();
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            studentRepository.insertEnrollment(student.getId(), course.getId());
+            courseRepository.reserveSeats(course.getId(), 1);
+            courseRepository.touch(course.getId());
+        });
+
+        // then
+        assertThat(courseRepository.findTableVersion().getRevision()).isEqualTo(courses + 1);
+        assertThat(studentRepository.findTableVersion().getRevision()).isEqualTo(students);
+    }
+
+    @Test
+    public void whenManyTransactionsCommit_thenSpreadThemOverShardsAndCountEach() {
+        // given
+        Course course = courseRepository.save(new Course("Java", "Intro"));
+        long before = courseRepository.findTableVersion().getRevision();
+
+        // when
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (int i = 0; i < 50; i++) {
+            transaction.executeWithoutResult(status -> courseRepository.touch(course.getId()));
+        }
+
+        // then
+        assertThat(courseRepository.findTableVersion().getRevision()).isEqualTo(before + 50);
+        assertThat(JdbcTestUtils.countRowsInTableWhere(jdbcTemplate, "table_versions", "table_name = 'courses'"))
+                .isGreaterThan(1);
+    }
+
+    @Test
+    public void whenTransactionRollsBack_thenCountNothing() {
+        // given
+        Course course = courseRepository.save(new Course("Java", "Intro"));
+        long before = courseRepository.findTableVersion().getRevision();
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            courseRepository.reserveSeats(course.getId(), 1);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(courseRepository.findTableVersion().getRevision()).isEqualTo(before);
+    }
+}
@@ -1,12 +1,15 @@
 package com.softserve.academy.repository;
 
 import com.softserve.academy.TestApplication;
+import com.softserve.academy.dto.OptionDTO;
+import com.softserve.academy.dto.TeacherDTO;
 import com.softserve.academy.model.Course;
 import com.softserve.academy.model.Teacher;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 
@@ -127,4 +130,80 @@ public class TeacherRepositoryTest {
         assertThat(foundTeacher.get().getName()).isEqualTo(teacher.getName());
         assertThat(foundTeacher.get().getEmail()).isEqualTo(teacher.getEmail());
     }
+
+    @Test
+    public void whenFindSummariesAfter_thenReturnCourseCountPerTeacher() {
+        // given
+        Teacher teacher1 = entityManager.persist(new Teacher("John", "Smith", "john.smith@example.com"));
+        Teacher teacher2 = entityManager.persist(new Teacher("Jane", "Doe", "jane.doe@example.com"));
+
+        Course course1 = new Course("Java Programming", "Introduction to Java programming language");
+        course1.setTeacher(teacher1);
+        Course course2 = new Course("Python Programming", "Introduction to Python programming language");
+        course2.setTeacher(teacher1);
+        entityManager.persist(course1);
+        entityManager.persist(course2);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<TeacherDTO> summaries = teacherRepository.findSummariesAfter(0L, PageRequest.ofSize(10));
+
+        // then
+        assertThat(summaries).extracting(TeacherDTO::getId).containsExactly(teacher1.getId(), teacher2.getId());
+        assertThat(summaries).extracting(TeacherDTO::getCourseCount).containsExactly(2L, 0L);
+    }
+
+    @Test
+    public void whenFindSummariesByName_thenReturnMatchingTeachersWithCourseCount() {
+        // given
+        Teacher teacher1 = entityManager.persist(new Teacher("John", "Smith", "john.smith@example.com"));
+        entityManager.persist(new Teacher("Jane", "Doe", "jane.doe@example.com"));
+
+        Course course = new Course("Java Programming", "Introduction to Java programming language");
+        course.setTeacher(teacher1);
+        entityManager.persist(course);
+        entityManager.flush();
+
+        // when
+        List<TeacherDTO> summaries = teacherRepository.findSummariesByName("smi");
+
+        // then
+        assertThat(summaries).hasSize(1);
+        assertThat(summaries.get(0).getName()).isEqualTo("John Smith");
+        assertThat(summaries.get(0).getCourseCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void whenFindSummariesByNamePrefix_thenMatchOnlyNameStarts() {
+        // given
+        Teacher teacher1 = entityManager.persist(new Teacher("John", "Smith", "john.smith@example.com"));
+        Teacher teacher2 = entityManager.persist(new Teacher("Smita", "Rao", "smita.rao@example.com"));
+        entityManager.persist(new Teacher("Anna", "Goldsmith", "anna.goldsmith@example.com"));
+        entityManager.persist(new Teacher("Per%cy", "Jones", "percy.jones@example.com"));
+        entityManager.flush();
+
+        // when
+        List<TeacherDTO> summaries = teacherRepository.findSummariesByNamePrefix("smi");
+        List<TeacherDTO> wildcard = teacherRepository.findSummariesByNamePrefix("\\%");
+
+        // then
+        assertThat(summaries).extracting(TeacherDTO::getId).containsExactly(teacher1.getId(), teacher2.getId());
+        assertThat(wildcard).isEmpty();
+    }
+
+    @Test
+    public void whenFindOptions_thenReturnLabelsOrderedByName() {
+        // given
+        Teacher smith = entityManager.persist(new Teacher("John", "Smith", "john.smith@example.com"));
+        Teacher doe = entityManager.persist(new Teacher("Jane", "Doe", "jane.doe@example.com"));
+        entityManager.flush();
+
+        // when
+        List<OptionDTO> options = teacherRepository.findOptions(PageRequest.ofSize(10));
+
+        // then
+        assertThat(options).extracting(OptionDTO::getId).containsExactly(doe.getId(), smith.getId());
+        assertThat(options.get(0).getLabel()).isEqualTo("Jane Doe (jane.doe@example.com)");
+    }
 }
@@ -0,0 +1,251 @@
+package com.softserve.academy.search;
+
+import com.softserve.academy.dto.CourseDTO;
+import com.softserve.academy.dto.StudentDTO;
+import com.softserve.academy.dto.TeacherDTO;
+import com.softserve.academy.model.Course;
+import com.softserve.academy.model.Student;
+import com.softserve.academy.model.Teacher;
+import com.softserve.academy.repository.CourseRepository;
+import com.softserve.academy.repository.StudentRepository;
+import com.softserve.academy.repository.TeacherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SuggestionIndexTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private TeacherRepository teacherRepository;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SuggestionIndex suggestionIndex;
+
+    @BeforeEach
+    void setUp() {
+        suggestionIndex = new SuggestionIndex(studentRepository, teacherRepository, courseRepository, transactionManager);
+    }
+
+    @Test
+    void rebuild_shouldIndexAllTables() {
+        // given
+        when(studentRepository.streamAllSummaries()).thenReturn(Stream.of(
+                new StudentDTO(1L, "John", "Doe", "john.doe@example.com")));
+        when(teacherRepository.streamAllSummaries()).thenReturn(Stream.of(
+                new TeacherDTO(2L, "Jane", "Smith", "jane.smith@example.com")));
+        when(courseRepository.streamAllSummaries()).thenReturn(Stream.of(
+                new CourseDTO(3L, "Java Programming", "Intro", null, null, null, 0L)));
+
+        // when
+        suggestionIndex.rebuild();
+
+        // then
+        assertThat(suggestionIndex.size()).isEqualTo(3);
+        assertThat(suggestionIndex.suggest("j", 10))
+                .extracting(Suggestion::getType)
+                .containsExactlyInAnyOrder(SuggestionType.STUDENT, SuggestionType.TEACHER, SuggestionType.COURSE);
+    }
+
+    @Test
+    void rebuild_shouldServeCurrentIndexAndReplayWritesMadeDuringScan() {
+        // given
+        suggestionIndex.index(student(7L, "Priya", "Prior", "priya@example.com"));
+        List<List<Suggestion>> duringScan = new ArrayList<>();
+        when(studentRepository.streamAllSummaries()).thenAnswer(invocation -> Stream.of(
+                new StudentDTO(1L, "John", "Doe", "john.doe@example.com")).peek(row -> {
+            duringScan.add(suggestionIndex.suggest("prior", 10));
+            suggestionIndex.index(student(2L, "Lena", "Late", "lena@example.com"));
+            suggestionIndex.remove(SuggestionType.STUDENT, 1L);
+        }));
+        when(teacherRepository.streamAllSummaries()).thenReturn(Stream.empty());
+        when(courseRepository.streamAllSummaries()).thenReturn(Stream.empty());
+
+        // when
+        suggestionIndex.rebuild();
+
+        // then
+        assertThat(duringScan).singleElement().satisfies(found ->
+                assertThat(found).extracting(Suggestion::getId).containsExactly(7L));
+        assertThat(suggestionIndex.suggest("prior", 10)).isEmpty();
+        assertThat(suggestionIndex.suggest("john", 10)).isEmpty();
+        assertThat(suggestionIndex.suggest("late", 10)).extracting(Suggestion::getId).containsExactly(2L);
+        assertThat(suggestionIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    void rebuild_shouldKeepCurrentIndexWhenScanFails() {
+        // given
+        suggestionIndex.index(student(1L, "John", "Doe", "jdoe@example.com"));
+        when(studentRepository.streamAllSummaries()).thenThrow(new IllegalStateException("connection lost"));
+
+        // when
+        suggestionIndex.rebuild();
+        suggestionIndex.index(student(2L, "Jack", "Roe", "jroe@example.com"));
+
+        // then
+        assertThat(suggestionIndex.suggest("j", 10)).extracting(Suggestion::getId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void suggest_shouldMatchWordPrefixesCaseInsensitively() {
+        // given
+        suggestionIndex.index(student(1L, "John", "Doe", "jdoe@example.com"));
+        suggestionIndex.index(student(2L, "Johanna", "Moe", "jmoe@example.com"));
+        suggestionIndex.index(course(3L, "Advanced Java"));
+
+        // when & then
+        assertThat(suggestionIndex.suggest("JOH", 10)).extracting(Suggestion::getId).containsExactly(2L, 1L);
+        assertThat(suggestionIndex.suggest("ja", 10)).extracting(Suggestion::getLabel).containsExactly("Advanced Java");
+        assertThat(suggestionIndex.suggest("jdoe", 10)).extracting(Suggestion::getId).containsExactly(1L);
+        assertThat(suggestionIndex.suggest("example", 10)).isEmpty();
+    }
+
+    @Test
+    void suggest_shouldRequireEveryQueryWord() {
+        // given
+        suggestionIndex.index(student(1L, "John", "Doe", "jdoe@example.com"));
+        suggestionIndex.index(student(2L, "John", "Smith", "jsmith@example.com"));
+
+        // when
+        List<Suggestion> result = suggestionIndex.suggest("john sm", 10);
+
+        // then
+        assertThat(result).extracting(Suggestion::getId).containsExactly(2L);
+    }
+
+    @Test
+    void suggest_shouldStopAtLimit() {
+        // given
+        for (long id = 1; id <= 20; id++) {
+            suggestionIndex.index(student(id, "Sam", "Student" + id, "sam" + id + "@example.com"));
+        }
+
+        // when & then
+        assertThat(suggestionIndex.suggest("sam", 5)).hasSize(5);
+        assertThat(suggestionIndex.suggest("  ", 5)).isEmpty();
+    }
+
+    @Test
+    void index_shouldReplaceTokensOfUpdatedRecord() {
+        // given
+        Teacher teacher = new Teacher("Jane", "Smith", "jane@example.com");
+        teacher.setId(1L);
+        suggestionIndex.index(teacher);
+
+        // when
+        teacher.setLastName("Brown");
+        suggestionIndex.index(teacher);
+
+        // then
+        assertThat(suggestionIndex.suggest("smith", 10)).isEmpty();
+        assertThat(suggestionIndex.suggest("brown", 10)).extracting(Suggestion::getLabel).containsExactly("Jane Brown");
+        assertThat(suggestionIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    void remove_shouldDropRecordAndUnusedTokens() {
+        // given
+        suggestionIndex.index(course(1L, "Java Programming"));
+        suggestionIndex.index(course(2L, "Java Basics"));
+        int tokensBefore = suggestionIndex.tokenCount();
+
+        // when
+        suggestionIndex.remove(SuggestionType.COURSE, 1L);
+
+        // then
+        assertThat(suggestionIndex.suggest("java", 10)).extracting(Suggestion::getId).containsExactly(2L);
+        assertThat(suggestionIndex.tokenCount()).isEqualTo(tokensBefore - 1);
+    }
+
+    @Test
+    void index_insideTransaction_shouldApplyOnlyAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            suggestionIndex.index(course(1L, "Java Programming"));
+
+            // then
+            assertThat(suggestionIndex.size()).isZero();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(suggestionIndex.size()).isEqualTo(1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void estimatedBytes_shouldGrowWithEntries() {
+        // given
+        long empty = suggestionIndex.estimatedBytes();
+
+        // when
+        suggestionIndex.index(student(1L, "John", "Doe", "jdoe@example.com"));
+
+        // then
+        assertThat(empty).isZero();
+        assertThat(suggestionIndex.estimatedBytes()).isPositive();
+    }
+
+    @Test
+    void estimatedBytes_shouldFollowUpdatesRemovalsAndRebuilds() {
+        // given
+        suggestionIndex.index(student(1L, "John", "Doe", "jdoe@example.com"));
+        long john = suggestionIndex.estimatedBytes();
+        suggestionIndex.index(student(2L, "Jane", "Doe", "jane@example.com"));
+        long both = suggestionIndex.estimatedBytes();
+        when(studentRepository.streamAllSummaries()).thenReturn(Stream.of(
+                new StudentDTO(1L, "John", "Doe", "jdoe@example.com")));
+        when(teacherRepository.streamAllSummaries()).thenReturn(Stream.empty());
+        when(courseRepository.streamAllSummaries()).thenReturn(Stream.empty());
+
+        // when
+        suggestionIndex.index(student(2L, "Jane", "Doe", "jane@example.com"));
+        long reindexed = suggestionIndex.estimatedBytes();
+        suggestionIndex.remove(SuggestionType.STUDENT, 2L);
+        long removed = suggestionIndex.estimatedBytes();
+        suggestionIndex.rebuild();
+        long rebuilt = suggestionIndex.estimatedBytes();
+        suggestionIndex.remove(SuggestionType.STUDENT, 1L);
+
+        // then
+        assertThat(both).isGreaterThan(john);
+        assertThat(reindexed).isEqualTo(both);
+        assertThat(removed).isEqualTo(john);
+        assertThat(rebuilt).isEqualTo(john);
+        assertThat(suggestionIndex.estimatedBytes()).isZero();
+    }
+
+    private static Student student(Long id, String firstName, String lastName, String email) {
+        Student student = new Student(firstName, lastName, email);
+        student.setId(id);
+        return student;
+    }
+
+    private static Course course(Long id, String name) {
+        Course course = new Course(name, "Description");
+        course.setId(id);
+        return course;
+    }
+}
@@ -0,0 +1,139 @@
+package com.softserve.academy.security;
+
+import com.softserve.academy.TestApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unauthenticated flood benchmark: 200 clients without a session hammer a page, a form
+ * submission and an API call through a real Tomcat. Reports the latency of the rejections and
+ * checks that every request was turned away without a session being created for it.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@SpringBootTest(classes = TestApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.softserve.academy=INFO"
+})
+@Tag("benchmark")
+public class AuthenticationFilterBenchmarkTest {
+
+    private static final int CLIENTS = 200;
+    private static final int REQUESTS = 20_000;
+
+    @LocalServerPort
+    private int port;
+
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() {
+        clientExecutor = Executors.newFixedThreadPool(2);
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clientExecutor.shutdownNow();
+    }
+
+    @Test
+    public void coursePage() throws Exception {
+        flood("GET /courses", HttpRequest.newBuilder(uri("/courses")).GET().build(), 302);
+    }
+
+    @Test
+    public void courseFormSubmission() throws Exception {
+        flood("POST /courses/save", HttpRequest.newBuilder(uri("/courses/save"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString("name=Flood&description=" + "x".repeat(2000) + "&teacherId=1"))
+                .build(), 302);
+    }
+
+    @Test
+    public void enrollmentApi() throws Exception {
+        flood("POST /api/v1/enrollments", HttpRequest.newBuilder(uri("/api/v1/enrollments"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"courseId\":1,\"studentId\":1}"))
+                .build(), 401);
+    }
+
+    private void flood(String name, HttpRequest request, int expectedStatus) throws Exception {
+        // given
+        for (int i = 0; i < 500; i++) {
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+        }
+        long[] latencies = new long[REQUESTS];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+        AtomicInteger sessions = new AtomicInteger();
+        CompletableFuture<?>[] clients = new CompletableFuture<?>[CLIENTS];
+
+        // when
+        long begin = System.nanoTime();
+        for (int c = 0; c < CLIENTS; c++) {
+            clients[c] = sendNext(request, expectedStatus, next, latencies, unexpected, sessions);
+        }
+        CompletableFuture.allOf(clients).get(5, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - begin;
+
+        // then
+        Arrays.sort(latencies);
+        System.out.printf("Unauthenticated flood, %s, %d clients:%n", name, CLIENTS);
+        System.out.printf("  %d rejected in %d ms (%.0f requests/s)%n",
+                REQUESTS, elapsed / 1_000_000, REQUESTS * 1_000_000_000.0 / elapsed);
+        System.out.printf("  latency p50=%d us, p99=%d us, max=%d us, sessions created=%d%n",
+                latencies[REQUESTS / 2] / 1_000, latencies[REQUESTS * 99 / 100] / 1_000,
+                latencies[REQUESTS - 1] / 1_000, sessions.get());
+        assertThat(unexpected.get()).isZero();
+        assertThat(sessions.get()).isZero();
+    }
+
+    private CompletableFuture<Void> sendNext(HttpRequest request, int expectedStatus, AtomicInteger next,
+                                             long[] latencies, AtomicInteger unexpected, AtomicInteger sessions) {
+        int i = next.getAndIncrement();
+        if (i >= REQUESTS) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long begin = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).thenCompose(response -> {
+            latencies[i] = System.nanoTime() - begin;
+            if (response.statusCode() != expectedStatus) {
+                unexpected.incrementAndGet();
+            }
+            if (response.headers().firstValue("Set-Cookie").isPresent()) {
+                sessions.incrementAndGet();
+            }
+            return sendNext(request, expectedStatus, next, latencies, unexpected, sessions);
+        });
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,82 @@
+package com.softserve.academy.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.academy.model.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AuthenticationFilterTest {
+
+    private final AuthenticationFilter filter = new AuthenticationFilter(new ObjectMapper());
+
+    @Test
+    void pageRequest_withoutSession_shouldRedirectToLoginWithoutCreatingSession() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/courses/save");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertThat(response.getRedirectedUrl()).isEqualTo("/login");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(request.getSession(false)).isNull();
+    }
+
+    @Test
+    void apiRequest_withoutPrincipal_shouldReturnUnauthorizedProblem() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/courses");
+        request.setSession(new MockHttpSession());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        assertThat(response.getContentAsString()).contains("\"status\":401");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void searchRequest_withoutSession_shouldReturnUnauthorized() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/search/suggest");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    void request_withPrincipal_shouldPassThrough() throws Exception {
+        // given
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(SessionPrincipal.ATTRIBUTE, new SessionPrincipal(1L, "admin", Role.ADMIN));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/courses");
+        request.setSession(session);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+}
@@ -0,0 +1,137 @@
+package com.softserve.academy.seed;
+
+import com.softserve.academy.model.Course;
+import com.softserve.academy.model.Role;
+import com.softserve.academy.model.Student;
+import com.softserve.academy.model.Teacher;
+import com.softserve.academy.model.User;
+import com.softserve.academy.service.CourseService;
+import com.softserve.academy.service.StudentService;
+import com.softserve.academy.service.TeacherService;
+import com.softserve.academy.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.metrics.ApplicationStartup;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DataSeederTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private TeacherService teacherService;
+
+    @Mock
+    private CourseService courseService;
+
+    @Mock
+    private StudentService studentService;
+
+    @Spy
+    private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
+    @InjectMocks
+    private DataSeeder dataSeeder;
+
+    @Test
+    void seed_onEmptyDatabase_shouldCreateAdminAndDemoData() {
+        // given
+        Teacher teacher = new Teacher("John", "Smith", "john.smith@example.com");
+        teacher.setId(1L);
+        Course course = new Course("Java Programming", "Introduction to Java programming language");
+        course.setId(2L);
+        Student student = new Student("Jane", "Doe", "jane.doe@example.com");
+        student.setId(3L);
+        when(userService.usernameExists("admin")).thenReturn(false);
+        when(teacherService.findByEmail("john.smith@example.com")).thenReturn(Optional.empty());
+        when(teacherService.saveTeacher(any(Teacher.class))).thenReturn(teacher);
+        when(courseService.findByName("Java Programming")).thenReturn(Optional.empty());
+        when(courseService.saveCourse(any(Course.class))).thenReturn(course);
+        when(studentService.findByEmail("jane.doe@example.com")).thenReturn(Optional.empty());
+        when(studentService.saveStudent(any(Student.class))).thenReturn(student);
+        when(studentService.enrollStudentInCourse(3L, 2L)).thenReturn(true);
+
+        // when
+        dataSeeder.seed();
+
+        // then
+        verify(userService).registerUser(any(User.class));
+        verify(courseService).assignTeacherToCourse(2L, 1L);
+        verify(studentService).enrollStudentInCourse(3L, 2L);
+        verify(applicationStartup).start("app.seed");
+    }
+
+    @Test
+    void seed_onSeededDatabase_shouldCreateNothing() {
+        // given
+        Teacher teacher = new Teacher("John", "Smith", "john.smith@example.com");
+        teacher.setId(1L);
+        Course course = new Course("Java Programming", "Introduction to Java programming language");
+        course.setId(2L);
+        course.setTeacher(teacher);
+        Student student = new Student("Jane", "Doe", "jane.doe@example.com");
+        student.setId(3L);
+        when(userService.usernameExists("admin")).thenReturn(true);
+        when(teacherService.findByEmail("john.smith@example.com")).thenReturn(Optional.of(teacher));
+        when(courseService.findByName("Java Programming")).thenReturn(Optional.of(course));
+        when(studentService.findByEmail("jane.doe@example.com")).thenReturn(Optional.of(student));
+        when(studentService.enrollStudentInCourse(3L, 2L)).thenReturn(false);
+
+        // when
+        dataSeeder.seed();
+
+        // then
+        verify(userService, never()).registerUser(any(User.class));
+        verify(userService, never()).registerUser(any(User.class), any(Role.class));
+        verify(teacherService, never()).saveTeacher(any());
+        verify(courseService, never()).saveCourse(any());
+        verify(courseService, never()).assignTeacherToCourse(anyLong(), anyLong());
+        verify(studentService, never()).saveStudent(any());
+    }
+
+    @Test
+    void seeder_shouldOnlyBeCreatedWhenEnabled() {
+        // given
+        ApplicationContextRunner runner = new ApplicationContextRunner()
+                .withBean(UserService.class, () -> userService)
+                .withBean(TeacherService.class, () -> teacherService)
+                .withBean(CourseService.class, () -> courseService)
+                .withBean(StudentService.class, () -> studentService)
+                .withBean(ApplicationStartup.class, () -> applicationStartup)
+                .withUserConfiguration(DataSeeder.class);
+
+        // when & then
+        runner.run(context -> assertThat(context).doesNotHaveBean(DataSeeder.class));
+        runner.withPropertyValues("app.seed.enabled=true")
+                .run(context -> assertThat(context).hasSingleBean(DataSeeder.class));
+        runner.withPropertyValues("app.seed.enabled=true", "spring.profiles.active=prod")
+                .run(context -> assertThat(context).doesNotHaveBean(DataSeeder.class));
+    }
+
+    @Test
+    void seed_whenDatabaseFails_shouldNotThrow() {
+        // given
+        when(userService.usernameExists("admin")).thenThrow(new IllegalStateException("database down"));
+
+        // when
+        dataSeeder.seed();
+
+        // then
+        verify(teacherService, never()).findByEmail(any());
+    }
+}
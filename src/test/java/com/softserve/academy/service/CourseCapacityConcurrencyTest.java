@@ -0,0 +1,225 @@
+package com.softserve.academy.service;
+
+import com.softserve.academy.TestApplication;
+import com.softserve.academy.exception.CourseFullException;
+import com.softserve.academy.model.Course;
+import com.softserve.academy.model.Student;
+import com.softserve.academy.repository.CourseRepository;
+import com.softserve.academy.repository.StudentRepository;
+import com.softserve.academy.search.SuggestionIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Enrolls many students into one course from parallel threads, each in its own
+ * transaction against a shared database, and checks the course is never oversubscribed.
+ */
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:capacity;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.hikari.maximum-pool-size=16",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({StudentService.class, WaitlistService.class, SuggestionIndex.class})
+public class CourseCapacityConcurrencyTest {
+
+    private static final int ENROLLERS = 100;
+    private static final int CAPACITY = 10;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "waitlist_entries", "student_course", "students", "courses");
+    }
+
+    @Test
+    void enrollStudentInCourse_whenEnrollersRace_shouldFillCourseExactlyToCapacity() throws Exception {
+        // given
+        Course course = new Course("Java Programming", "Introduction to Java programming language");
+        course.setCapacity(CAPACITY);
+        Long courseId = courseRepository.save(course).getId();
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < ENROLLERS; i++) {
+            students.add(new Student("Student", "No" + i, "student" + i + "@example.com"));
+        }
+        studentRepository.saveAll(students);
+
+        AtomicInteger enrolled = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (Student student : students) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    studentService.enrollStudentInCourse(student.getId(), courseId);
+                    enrolled.incrementAndGet();
+                } catch (CourseFullException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(enrolled.get()).isEqualTo(CAPACITY);
+        assertThat(rejected.get()).isEqualTo(ENROLLERS - CAPACITY);
+        assertThat(JdbcTestUtils.countRowsInTableWhere(jdbcTemplate, "student_course", "course_id = " + courseId))
+                .isEqualTo(CAPACITY);
+        assertThat(courseRepository.findById(courseId).orElseThrow().getEnrolledCount()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void enrollStudentInCourse_whenSameStudentEnrollsConcurrently_shouldEnrollOnceAndReportTheRestAsExisting() throws Exception {
+        // given
+        Long courseId = courseRepository.save(new Course("Go Programming", "Introduction to Go")).getId();
+        Long studentId = studentRepository.save(new Student("John", "Doe", "john.doe@example.com")).getId();
+        int attempts = 16;
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger existing = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < attempts; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                (studentService.enrollStudentInCourse(studentId, courseId) ? created : existing).incrementAndGet();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(created.get()).isEqualTo(1);
+        assertThat(existing.get()).isEqualTo(attempts - 1);
+        assertThat(JdbcTestUtils.countRowsInTableWhere(jdbcTemplate, "student_course", "course_id = " + courseId))
+                .isEqualTo(1);
+        assertThat(courseRepository.findById(courseId).orElseThrow().getEnrolledCount()).isEqualTo(1);
+    }
+
+    @Test
+    void withdrawStudentFromCourse_shouldFreeSeatForNextEnroller() {
+        // given
+        Course course = new Course("Python Programming", "Introduction to Python programming language");
+        course.setCapacity(1);
+        Long courseId = courseRepository.save(course).getId();
+        Long first = studentRepository.save(new Student("John", "Doe", "john.doe@example.com")).getId();
+        Long second = studentRepository.save(new Student("Jane", "Doe", "jane.doe@example.com")).getId();
+        studentService.enrollStudentInCourse(first, courseId);
+
+        // when
+        boolean rejectedWhileFull = false;
+        try {
+            studentService.enrollStudentInCourse(second, courseId);
+        } catch (CourseFullException e) {
+            rejectedWhileFull = true;
+        }
+        studentService.withdrawStudentFromCourse(first, courseId);
+        boolean enrolledAfterWithdrawal = studentService.enrollStudentInCourse(second, courseId);
+
+        // then
+        assertThat(rejectedWhileFull).isTrue();
+        assertThat(enrolledAfterWithdrawal).isTrue();
+        assertThat(courseRepository.findById(courseId).orElseThrow().getEnrolledCount()).isEqualTo(1);
+        assertThat(JdbcTestUtils.countRowsInTableWhere(jdbcTemplate, "student_course", "course_id = " + courseId))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void withdrawStudentFromCourse_whenWithdrawalsRace_shouldPromoteEachWaitingStudentOnce() throws Exception {
+        // given
+        Course course = new Course("C# Programming", "Introduction to C# programming language");
+        course.setCapacity(CAPACITY);
+        Long courseId = courseRepository.save(course).getId();
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < CAPACITY * 3; i++) {
+            students.add(new Student("Student", "No" + i, "student" + i + "@example.com"));
+        }
+        studentRepository.saveAll(students);
+        List<Student> enrolledStudents = students.subList(0, CAPACITY);
+        List<Student> waitingStudents = students.subList(CAPACITY, students.size());
+        enrolledStudents.forEach(student -> studentService.enrollStudentInCourse(student.getId(), courseId));
+        waitingStudents.forEach(student -> waitlistService.joinWaitlist(courseId, student.getId()));
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CAPACITY);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (Student student : enrolledStudents) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                studentService.withdrawStudentFromCourse(student.getId(), courseId);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        List<Long> promoted = jdbcTemplate.queryForList(
+                "SELECT student_id FROM student_course WHERE course_id = ? ORDER BY student_id", Long.class, courseId);
+        assertThat(promoted).containsExactlyElementsOf(
+                waitingStudents.subList(0, CAPACITY).stream().map(Student::getId).toList());
+        assertThat(courseRepository.findById(courseId).orElseThrow().getEnrolledCount()).isEqualTo(CAPACITY);
+        assertThat(JdbcTestUtils.countRowsInTable(jdbcTemplate, "waitlist_entries")).isEqualTo(CAPACITY);
+    }
+}
@@ -0,0 +1,128 @@
+package com.softserve.academy.service;
+
+import com.softserve.academy.TestApplication;
+import com.softserve.academy.exception.CourseFullException;
+import com.softserve.academy.model.Course;
+import com.softserve.academy.model.Student;
+import com.softserve.academy.repository.CourseRepository;
+import com.softserve.academy.repository.StudentRepository;
+import com.softserve.academy.search.SuggestionIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Registration-opening benchmark: 500 students enroll into one popular course at once.
+ * Reports throughput and checks that the seat counter and the join table agree.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:contention;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000",
+        "spring.datasource.hikari.maximum-pool-size=32",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({StudentService.class, WaitlistService.class, SuggestionIndex.class})
+@Tag("benchmark")
+public class CourseEnrollmentContentionBenchmarkTest {
+
+    private static final int ENROLLERS = 500;
+    private static final int CAPACITY = 200;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "student_course", "students", "courses");
+    }
+
+    @Test
+    public void concurrentEnrollersShouldNeverOversubscribeCourse() throws Exception {
+        // given
+        Course course = new Course("Popular Course", "Everybody wants in");
+        course.setCapacity(CAPACITY);
+        Long courseId = courseRepository.save(course).getId();
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < ENROLLERS; i++) {
+            students.add(new Student("Student", "No" + i, "student" + i + "@example.com"));
+        }
+        studentRepository.saveAll(students);
+
+        AtomicInteger enrolled = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        long elapsed;
+        try (ExecutorService executor = Executors.newFixedThreadPool(ENROLLERS)) {
+            for (Student student : students) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        studentService.enrollStudentInCourse(student.getId(), courseId);
+                        enrolled.incrementAndGet();
+                    } catch (CourseFullException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            elapsed = System.nanoTime() - begin;
+        }
+
+        // then
+        int rows = JdbcTestUtils.countRowsInTableWhere(jdbcTemplate, "student_course", "course_id = " + courseId);
+        int counter = courseRepository.findById(courseId).orElseThrow().getEnrolledCount();
+        System.out.printf("%d concurrent enrollers, capacity %d:%n", ENROLLERS, CAPACITY);
+        System.out.printf("  %d enrolled, %d rejected in %d ms (%.0f requests/s)%n",
+                enrolled.get(), rejected.get(), elapsed / 1_000_000, ENROLLERS * 1_000_000_000.0 / elapsed);
+        System.out.printf("  join rows=%d, seat counter=%d, oversubscribed=%b%n", rows, counter, rows > CAPACITY);
+        assertThat(enrolled.get()).isEqualTo(CAPACITY);
+        assertThat(rejected.get()).isEqualTo(ENROLLERS - CAPACITY);
+        assertThat(rows).isEqualTo(CAPACITY);
+        assertThat(counter).isEqualTo(CAPACITY);
+    }
+}
@@ -1,23 +1,34 @@
 package com.softserve.academy.service;
 
+import com.softserve.academy.config.SearchProperties;
+import com.softserve.academy.dto.CourseDTO;
+import com.softserve.academy.dto.EnrollmentChangeResult;
+import com.softserve.academy.dto.KeysetPage;
+import com.softserve.academy.exception.CourseFullException;
 import com.softserve.academy.model.Course;
 import com.softserve.academy.model.Student;
 import com.softserve.academy.model.Teacher;
 import com.softserve.academy.repository.CourseRepository;
 import com.softserve.academy.repository.StudentRepository;
 import com.softserve.academy.repository.TeacherRepository;
+import com.softserve.academy.search.SuggestionIndex;
+import com.softserve.academy.search.SuggestionType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +43,15 @@ public class CourseServiceTest {
     @Mock
     private StudentRepository studentRepository;
 
+    @Mock
+    private WaitlistService waitlistService;
+
+    @Mock
+    private SuggestionIndex suggestionIndex;
+
+    @Spy
+    private SearchProperties searchProperties = new SearchProperties();
+
     @InjectMocks
     private CourseService courseService;
 
@@ -106,6 +126,7 @@ public class CourseServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getName()).isEqualTo("Java Programming");
         verify(courseRepository, times(1)).save(course);
+        verify(suggestionIndex, times(1)).index(course);
     }
 
     @Test
@@ -118,6 +139,7 @@ public class CourseServiceTest {
 
         // then
         verify(courseRepository, times(1)).deleteById(1L);
+        verify(suggestionIndex, times(1)).remove(SuggestionType.COURSE, 1L);
     }
 
     @Test
@@ -215,40 +237,218 @@ public class CourseServiceTest {
     }
 
     @Test
-    void addStudentToCourse_whenCourseAndStudentExist_shouldAddAndReturnCourse() {
+    void addStudentToCourse_whenNotEnrolled_shouldInsertJoinRowWithoutLoadingRoster() {
         // given
-        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
-        when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
-        when(courseRepository.save(any(Course.class))).thenReturn(course);
+        when(studentRepository.insertEnrollment(1L, 1L)).thenReturn(1);
+        when(courseRepository.reserveSeats(1L, 1)).thenReturn(1);
 
         // when
-        Course result = courseService.addStudentToCourse(1L, 1L);
+        boolean result = courseService.addStudentToCourse(1L, 1L);
 
         // then
-        assertThat(result).isNotNull();
-        verify(courseRepository, times(1)).findById(1L);
-        verify(studentRepository, times(1)).findById(1L);
-        verify(courseRepository, times(1)).save(course);
+        assertThat(result).isTrue();
+        verify(studentRepository, times(1)).insertEnrollment(1L, 1L);
+        verify(courseRepository, never()).findById(anyLong());
+        verify(courseRepository, never()).save(any(Course.class));
     }
 
     @Test
-    void removeStudentFromCourse_whenCourseAndStudentExist_shouldRemoveAndReturnCourse() {
+    void addStudentToCourse_whenCourseDoesNotExist_shouldThrowException() {
         // given
-        course.setStudents(new HashSet<>());
-        course.getStudents().add(student);
-        student.getEnrolledCourses().add(course);
+        when(studentRepository.insertEnrollment(1L, 99L)).thenReturn(0);
+        when(courseRepository.existsById(99L)).thenReturn(false);
 
-        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
-        when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
-        when(courseRepository.save(any(Course.class))).thenReturn(course);
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> courseService.addStudentToCourse(99L, 1L));
+        verify(studentRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void removeStudentFromCourse_whenNotEnrolled_shouldReturnFalse() {
+        // given
+        when(studentRepository.deleteEnrollment(1L, 1L)).thenReturn(0);
+        when(courseRepository.existsById(1L)).thenReturn(true);
+        when(studentRepository.existsById(1L)).thenReturn(true);
 
         // when
-        Course result = courseService.removeStudentFromCourse(1L, 1L);
+        boolean result = courseService.removeStudentFromCourse(1L, 1L);
 
         // then
-        assertThat(result).isNotNull();
-        verify(courseRepository, times(1)).findById(1L);
-        verify(studentRepository, times(1)).findById(1L);
-        verify(courseRepository, times(1)).save(course);
+        assertThat(result).isFalse();
+        verify(courseRepository, never()).save(any(Course.class));
+    }
+
+    @Test
+    void getCoursesPage_whenMoreRowsThanPageSize_shouldReturnPageWithNextCursor() {
+        // given
+        CourseDTO summary1 = new CourseDTO(1L, "Java Programming", null, null, null, null, 0L);
+        CourseDTO summary2 = new CourseDTO(2L, "Python Programming", null, null, null, null, 0L);
+        CourseDTO summary3 = new CourseDTO(3L, "C# Programming", null, null, null, null, 0L);
+        when(courseRepository.findSummariesAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(new ArrayList<>(List.of(summary1, summary2, summary3)));
+
+        // when
+        KeysetPage<CourseDTO> result = courseService.getCoursesPage(null, null, 2);
+
+        // then
+        assertThat(result.getContent()).containsExactly(summary1, summary2);
+        assertThat(result.getNextCursor()).isEqualTo(2L);
+        assertThat(result.isHasPrevious()).isFalse();
+        verify(courseRepository, times(1)).findSummariesAfter(0L, PageRequest.ofSize(3));
+    }
+
+    @Test
+    void getCoursesPage_whenAfterLastRow_shouldReturnLastPageWithoutNextCursor() {
+        // given
+        CourseDTO summary2 = new CourseDTO(2L, "Python Programming", null, null, null, null, 0L);
+        when(courseRepository.findSummariesAfter(eq(1L), any(Pageable.class)))
+                .thenReturn(new ArrayList<>(List.of(summary2)));
+
+        // when
+        KeysetPage<CourseDTO> result = courseService.getCoursesPage(1L, null, 2);
+
+        // then
+        assertThat(result.getContent()).containsExactly(summary2);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getPrevCursor()).isEqualTo(2L);
+    }
+
+    @Test
+    void getCoursesPage_withBeforeCursor_shouldReturnPreviousPageInAscendingOrder() {
+        // given
+        CourseDTO summary1 = new CourseDTO(1L, "Java Programming", null, null, null, null, 0L);
+        CourseDTO summary2 = new CourseDTO(2L, "Python Programming", null, null, null, null, 0L);
+        CourseDTO summary3 = new CourseDTO(3L, "C# Programming", null, null, null, null, 0L);
+        when(courseRepository.findSummariesBefore(eq(4L), any(Pageable.class)))
+                .thenReturn(new ArrayList<>(List.of(summary3, summary2, summary1)));
+
+        // when
+        KeysetPage<CourseDTO> result = courseService.getCoursesPage(null, 4L, 2);
+
+        // then
+        assertThat(result.getContent()).containsExactly(summary2, summary3);
+        assertThat(result.getPrevCursor()).isEqualTo(2L);
+        assertThat(result.getNextCursor()).isEqualTo(3L);
+    }
+
+    @Test
+    void searchCourseSummaries_shouldReturnSummariesInRankOrder() {
+        // given
+        CourseDTO first = new CourseDTO(2L, "Java Programming", "Introduction to Java", null, null, null, 0L);
+        CourseDTO second = new CourseDTO(1L, "Advanced Java", "Streams and concurrency", null, null, null, 3L);
+        when(courseRepository.searchRankedIds("Java", PageRequest.ofSize(50))).thenReturn(List.of(2L, 1L));
+        when(courseRepository.findSummariesByIdIn(List.of(2L, 1L))).thenReturn(List.of(second, first));
+
+        // when
+        List<CourseDTO> result = courseService.searchCourseSummaries("  Java ");
+
+        // then
+        assertThat(result).containsExactly(first, second);
+        verify(courseRepository, never()).searchRankedIdsByTrigram(any(), any(), anyInt());
+    }
+
+    @Test
+    void searchCourseSummaries_whenTrigramEnabled_shouldUseTrigramQuery() {
+        // given
+        searchProperties.setTrigram(true);
+        when(courseRepository.searchRankedIdsByTrigram("java", "java", 50)).thenReturn(List.of());
+
+        // when
+        List<CourseDTO> result = courseService.searchCourseSummaries("java");
+
+        // then
+        assertThat(result).isEmpty();
+        verify(courseRepository, never()).findSummariesByIdIn(any());
+    }
+
+    @Test
+    void searchCourseSummaries_shouldEscapeWildcardsAndRankByTypedText() {
+        // given
+        searchProperties.setTrigram(true);
+        when(courseRepository.searchRankedIdsByTrigram("100\\%\\_", "100%_", 50)).thenReturn(List.of());
+
+        // when
+        List<CourseDTO> trigram = courseService.searchCourseSummaries("100%_");
+        searchProperties.setTrigram(false);
+        courseService.searchCourseSummaries("100%_");
+
+        // then
+        assertThat(trigram).isEmpty();
+        verify(courseRepository).searchRankedIds("100\\%\\_", PageRequest.ofSize(50));
+    }
+
+    @Test
+    void searchCourseSummaries_whenTextBlank_shouldNotQuery() {
+        // when
+        List<CourseDTO> blank = courseService.searchCourseSummaries("   ");
+        List<CourseDTO> missing = courseService.searchCourseSummaries(null);
+
+        // then
+        assertThat(blank).isEmpty();
+        assertThat(missing).isEmpty();
+        verifyNoInteractions(courseRepository);
+    }
+
+    @Test
+    void addStudentsToCourse_shouldInsertInOneStatementAndReportOutcome() {
+        // given
+        List<Long> studentIds = List.of(1L, 2L, 3L, 2L);
+        when(courseRepository.existsById(1L)).thenReturn(true);
+        when(studentRepository.findExistingIds(Set.of(1L, 2L, 3L))).thenReturn(List.of(1L, 2L));
+        when(studentRepository.findEnrolledStudentIds(1L, Set.of(1L, 2L, 3L))).thenReturn(List.of(2L));
+        when(studentRepository.insertEnrollmentsForCourse(1L, Set.of(1L, 2L, 3L))).thenReturn(1);
+        when(courseRepository.reserveSeats(1L, 1)).thenReturn(1);
+
+        // when
+        EnrollmentChangeResult result = courseService.addStudentsToCourse(1L, studentIds);
+
+        // then
+        assertThat(result.getChanged()).containsExactly(1L);
+        assertThat(result.getUnchanged()).containsExactly(2L);
+        assertThat(result.getNotFound()).containsExactly(3L);
+        verify(studentRepository, times(1)).insertEnrollmentsForCourse(1L, Set.of(1L, 2L, 3L));
+        verify(studentRepository, never()).save(any());
+    }
+
+    @Test
+    void removeStudentsFromCourse_shouldReportStudentsThatWereNotEnrolled() {
+        // given
+        when(courseRepository.existsById(1L)).thenReturn(true);
+        when(studentRepository.findExistingIds(Set.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+        when(studentRepository.findEnrolledStudentIds(1L, Set.of(1L, 2L))).thenReturn(List.of(1L));
+        when(studentRepository.deleteEnrollmentsForCourse(1L, Set.of(1L, 2L))).thenReturn(1);
+
+        // when
+        EnrollmentChangeResult result = courseService.removeStudentsFromCourse(1L, List.of(1L, 2L));
+
+        // then
+        assertThat(result.getChanged()).containsExactly(1L);
+        assertThat(result.getUnchanged()).containsExactly(2L);
+        assertThat(result.getNotFound()).isEmpty();
+        verify(courseRepository, times(1)).releaseSeats(1L, 1);
+        verify(waitlistService, times(1)).promoteNext(1L);
+    }
+
+    @Test
+    void addStudentsToCourse_whenNotEnoughSeats_shouldThrowCourseFullException() {
+        // given
+        when(courseRepository.existsById(1L)).thenReturn(true);
+        when(studentRepository.findExistingIds(Set.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+        when(studentRepository.findEnrolledStudentIds(1L, Set.of(1L, 2L))).thenReturn(List.of());
+        when(studentRepository.insertEnrollmentsForCourse(1L, Set.of(1L, 2L))).thenReturn(2);
+        when(courseRepository.reserveSeats(1L, 2)).thenReturn(0);
+
+        // when & then
+        assertThrows(CourseFullException.class, () -> courseService.addStudentsToCourse(1L, List.of(1L, 2L)));
+    }
+
+    @Test
+    void addStudentsToCourse_whenCourseDoesNotExist_shouldThrowException() {
+        // given
+        when(courseRepository.existsById(99L)).thenReturn(false);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> courseService.addStudentsToCourse(99L, List.of(1L)));
+        verifyNoInteractions(studentRepository);
     }
 }
@@ -0,0 +1,165 @@
+package com.softserve.academy.service;
+
+import com.softserve.academy.TestApplication;
+import com.softserve.academy.config.HttpCacheProperties;
+import com.softserve.academy.config.TableVersionConfig;
+import com.softserve.academy.model.Course;
+import com.softserve.academy.model.Student;
+import com.softserve.academy.repository.CourseRepository;
+import com.softserve.academy.repository.StudentRepository;
+import com.softserve.academy.search.SuggestionIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestClassOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Enrollment throughput across many courses, without the list page change counters, with
+ * one counter row per table and with the counters spread over shards. Enrollments in
+ * different courses should not wait for each other because of the counters.
+ * Run with {@code mvn test -Pbenchmark -Dtest=CrossCourseEnrollmentBenchmarkTest}.
+ */
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:${random.uuid};MODE=PostgreSQL;LOCK_TIMEOUT=30000",
+        "spring.datasource.hikari.maximum-pool-size=32",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({StudentService.class, WaitlistService.class, SuggestionIndex.class})
+@TestClassOrder(ClassOrderer.OrderAnnotation.class)
+@Tag("benchmark")
+public class CrossCourseEnrollmentBenchmarkTest {
+
+    private static final int COURSES = 50;
+    private static final int STUDENTS = 40;
+    private static final int THREADS = 32;
+
+    private static double baseline;
+
+    abstract class Workload {
+
+        @Autowired
+        private StudentService studentService;
+
+        @Autowired
+        private StudentRepository studentRepository;
+
+        @Autowired
+        private CourseRepository courseRepository;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @AfterEach
+        void tearDown() {
+            JdbcTestUtils.deleteFromTables(jdbcTemplate, "student_course", "students", "courses");
+        }
+
+        /**
+         * Enroll every student in every course from parallel threads, twice, and report the
+         * throughput of the second round, after the first has warmed up the code paths.
+         */
+        double measure(String label) throws Exception {
+            enrollEveryone();
+            tearDown();
+            double throughput = enrollEveryone();
+            System.out.printf("%s: %d enrollments in %d courses, %.0f enrollments/s%n",
+                    label, COURSES * STUDENTS, COURSES, throughput);
+            return throughput;
+        }
+
+        private double enrollEveryone() throws Exception {
+            List<Long> courseIds = new ArrayList<>();
+            for (int i = 0; i < COURSES; i++) {
+                courseIds.add(courseRepository.save(new Course("Course " + i, "Benchmark course")).getId());
+            }
+            List<Long> studentIds = new ArrayList<>();
+            for (int i = 0; i < STUDENTS; i++) {
+                studentIds.add(studentRepository.save(new Student("Student", "No" + i, "student" + i + "@example.com")).getId());
+            }
+
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            long elapsed;
+            try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+                for (Long studentId : studentIds) {
+                    for (Long courseId : courseIds) {
+                        futures.add(executor.submit(() -> {
+                            start.await();
+                            return studentService.enrollStudentInCourse(studentId, courseId);
+                        }));
+                    }
+                }
+                long begin = System.nanoTime();
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(120, TimeUnit.SECONDS);
+                }
+                elapsed = System.nanoTime() - begin;
+            }
+            assertThat(JdbcTestUtils.countRowsInTable(jdbcTemplate, "student_course")).isEqualTo(COURSES * STUDENTS);
+            return COURSES * STUDENTS * 1_000_000_000.0 / elapsed;
+        }
+    }
+
+    @Nested
+    @Order(1)
+    class WithoutChangeCounters extends Workload {
+
+        @Test
+        void enrollAcrossCourses() throws Exception {
+            baseline = measure("Without change counters");
+        }
+    }
+
+    @Nested
+    @Order(2)
+    @ContextConfiguration(classes = {TableVersionConfig.class, HttpCacheProperties.class})
+    @TestPropertySource(properties = "app.http-cache.change-counter-shards=1")
+    class WithOneCounterRow extends Workload {
+
+        @Test
+        void enrollAcrossCourses() throws Exception {
+            measure("With one counter row per table");
+        }
+    }
+
+    @Nested
+    @Order(3)
+    @ContextConfiguration(classes = {TableVersionConfig.class, HttpCacheProperties.class})
+    class WithShardedCounters extends Workload {
+
+        @Test
+        void enrollAcrossCourses() throws Exception {
+            double throughput = measure("With sharded change counters");
+            assertThat(throughput).isGreaterThan(baseline * 0.8);
+        }
+    }
+}
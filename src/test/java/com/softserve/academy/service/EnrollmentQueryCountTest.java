@@ -0,0 +1,120 @@
+package com.softserve.academy.service;
+
+import com.softserve.academy.TestApplication;
+import com.softserve.academy.config.SearchProperties;
+import com.softserve.academy.model.Course;
+import com.softserve.academy.model.Student;
+import com.softserve.academy.search.SuggestionIndex;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@ActiveProfiles("test")
+@Import({StudentService.class, CourseService.class, WaitlistService.class, SearchProperties.class, SuggestionIndex.class})
+public class EnrollmentQueryCountTest {
+
+    private static final int ROSTER_SIZE = 200;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+    private Course course;
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        course = entityManager.persist(new Course("Java Programming", "Introduction to Java programming language"));
+        for (int i = 0; i < ROSTER_SIZE; i++) {
+            Student enrolled = new Student("Student", "No" + i, "student" + i + "@example.com");
+            enrolled.getEnrolledCourses().add(course);
+            entityManager.persist(enrolled);
+        }
+        student = entityManager.persist(new Student("Jane", "Doe", "jane.doe@example.com"));
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    void enrollStudentInCourse_shouldIssueConstantStatementsRegardlessOfRosterSize() {
+        // when
+        boolean enrolled = studentService.enrollStudentInCourse(student.getId(), course.getId());
+
+        // then
+        assertThat(enrolled).isTrue();
+        // join row insert and seat counter update
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(courseService.getEnrolledStudents(course.getId())).hasSize(ROSTER_SIZE + 1);
+    }
+
+    @Test
+    void addStudentToCourse_whenAlreadyEnrolled_shouldOnlyCheckExistence() {
+        // given
+        courseService.addStudentToCourse(course.getId(), student.getId());
+        statistics.clear();
+
+        // when
+        boolean added = courseService.addStudentToCourse(course.getId(), student.getId());
+
+        // then
+        assertThat(added).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    void removeStudentFromCourse_shouldIssueConstantStatements() {
+        // given
+        courseService.addStudentToCourse(course.getId(), student.getId());
+        statistics.clear();
+
+        // when
+        boolean removed = courseService.removeStudentFromCourse(course.getId(), student.getId());
+
+        // then
+        assertThat(removed).isTrue();
+        // join row delete, seat counter update and waitlist head lookup
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(courseService.getEnrolledStudents(course.getId())).hasSize(ROSTER_SIZE);
+    }
+
+    @Test
+    void enrollInCourse_whenRosterNotLoaded_shouldLeaveRosterUninitialized() {
+        // given
+        Student loaded = entityManager.find(Student.class, student.getId());
+        Course loadedCourse = entityManager.find(Course.class, course.getId());
+
+        // when
+        loaded.enrollInCourse(loadedCourse);
+        entityManager.flush();
+
+        // then
+        assertThat(Hibernate.isInitialized(loadedCourse.getStudents())).isFalse();
+        entityManager.clear();
+        assertThat(entityManager.find(Course.class, course.getId()).getStudents()).hasSize(ROSTER_SIZE + 1);
+    }
+}
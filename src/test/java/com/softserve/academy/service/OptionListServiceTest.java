@@ -0,0 +1,145 @@
+package com.softserve.academy.service;
+
+import com.softserve.academy.config.PaginationProperties;
+import com.softserve.academy.dto.OptionDTO;
+import com.softserve.academy.dto.OptionList;
+import com.softserve.academy.repository.TeacherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OptionListServiceTest {
+
+    @Mock
+    private TeacherRepository teacherRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
+
+    @InjectMocks
+    private OptionListService optionListService;
+
+    private List<OptionDTO> teacherOptions;
+
+    @BeforeEach
+    void setUp() {
+        teacherOptions = new ArrayList<>();
+        teacherOptions.add(new OptionDTO(2L, "Jane Doe (jane.doe@example.com)"));
+        teacherOptions.add(new OptionDTO(1L, "John Smith (john.smith@example.com)"));
+    }
+
+    @Test
+    void getTeacherOptions_shouldLoadOnceAndServeFromMemory() {
+        // given
+        when(teacherRepository.findOptions(PageRequest.ofSize(1001))).thenReturn(teacherOptions);
+
+        // when
+        OptionList first = optionListService.getTeacherOptions();
+        OptionList second = optionListService.getTeacherOptions();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getOptions()).extracting(OptionDTO::getId).containsExactly(2L, 1L);
+        assertThat(first.isTruncated()).isFalse();
+        verify(teacherRepository, times(1)).findOptions(any());
+    }
+
+    @Test
+    void getTeacherOptions_shouldLoadInReadWriteTransactionOnlyWhenMissing() {
+        // given
+        when(teacherRepository.findOptions(any())).thenReturn(teacherOptions);
+
+        // when
+        optionListService.getTeacherOptions();
+        optionListService.getTeacherOptions();
+
+        // then
+        verify(transactionManager, times(1)).getTransaction(argThat(definition -> !definition.isReadOnly()
+                && definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    void getTeacherOptions_whenMoreRowsThanLimit_shouldTruncate() {
+        // given
+        paginationProperties.setOptionLimit(1);
+        when(teacherRepository.findOptions(PageRequest.ofSize(2))).thenReturn(teacherOptions);
+
+        // when
+        OptionList options = optionListService.getTeacherOptions();
+
+        // then
+        assertThat(options.getOptions()).extracting(OptionDTO::getId).containsExactly(2L);
+        assertThat(options.isTruncated()).isTrue();
+    }
+
+    @Test
+    void invalidateTeacherOptions_shouldReloadWithNewVersion() {
+        // given
+        when(teacherRepository.findOptions(any())).thenReturn(teacherOptions);
+        OptionList before = optionListService.getTeacherOptions();
+
+        // when
+        optionListService.invalidateTeacherOptions();
+        OptionList after = optionListService.getTeacherOptions();
+
+        // then
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+        verify(teacherRepository, times(2)).findOptions(any());
+    }
+
+    @Test
+    void getTeacherOptions_whenTtlRunsOut_shouldReloadWithNewVersion() {
+        // given (changes made through another instance are not invalidated here)
+        paginationProperties.setOptionTtl(Duration.ZERO);
+        when(teacherRepository.findOptions(any())).thenReturn(teacherOptions);
+        OptionList before = optionListService.getTeacherOptions();
+
+        // when
+        OptionList after = optionListService.getTeacherOptions();
+
+        // then
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+        verify(teacherRepository, times(2)).findOptions(any());
+    }
+
+    @Test
+    void invalidateTeacherOptions_insideTransaction_shouldWaitForCommit() {
+        // given
+        when(teacherRepository.findOptions(any())).thenReturn(teacherOptions);
+        OptionList before = optionListService.getTeacherOptions();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            optionListService.invalidateTeacherOptions();
+
+            // then
+            assertThat(optionListService.getTeacherOptions()).isSameAs(before);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(optionListService.getTeacherOptions()).isNotSameAs(before);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
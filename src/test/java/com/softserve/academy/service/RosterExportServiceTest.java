@@ -0,0 +1,98 @@
+package com.softserve.academy.service;
+
+import com.softserve.academy.TestApplication;
+import com.softserve.academy.exporter.ExportFormat;
+import com.softserve.academy.exporter.ExportType;
+import com.softserve.academy.model.Course;
+import com.softserve.academy.model.Student;
+import com.softserve.academy.model.Teacher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@ActiveProfiles("test")
+@Import(RosterExportService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+public class RosterExportServiceTest {
+
+    @Autowired
+    private RosterExportService rosterExportService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Student student;
+    private Course java;
+    private Course python;
+
+    @BeforeEach
+    void setUp() {
+        Teacher teacher = entityManager.persist(new Teacher("John", "Smith", "john.smith@example.com"));
+        java = new Course("Java", "Intro, with \"quotes\"");
+        java.setTeacher(teacher);
+        entityManager.persist(java);
+        python = entityManager.persist(new Course("Python", null));
+        student = new Student("Jane", "Doe", "jane.doe@example.com");
+        student.getEnrolledCourses().add(java);
+        student.getEnrolledCourses().add(python);
+        entityManager.persist(student);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private String export(ExportType type, ExportFormat format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        rosterExportService.export(type, format, output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void exportStudents_asCsv_shouldWriteHeaderAndRows() throws IOException {
+        // when
+        String csv = export(ExportType.STUDENTS, ExportFormat.CSV);
+
+        // then
+        assertThat(csv).isEqualTo("id,firstName,lastName,email\n" +
+                student.getId() + ",Jane,Doe,jane.doe@example.com\n");
+    }
+
+    @Test
+    void exportCourses_asCsv_shouldQuoteSpecialCharactersAndIncludeCounts() throws IOException {
+        // when
+        String csv = export(ExportType.COURSES, ExportFormat.CSV);
+
+        // then
+        assertThat(csv.split("\n")).containsExactly(
+                "id,name,description,teacherId,teacherName,enrollmentCount",
+                java.getId() + ",Java,\"Intro, with \"\"quotes\"\"\"," + java.getTeacher().getId() + ",John Smith,1",
+                python.getId() + ",Python,,,,1");
+    }
+
+    @Test
+    void exportEnrollments_asNdjson_shouldWriteOneObjectPerLine() throws IOException {
+        // when
+        String ndjson = export(ExportType.ENROLLMENTS, ExportFormat.NDJSON);
+
+        // then
+        assertThat(ndjson.split("\n")).containsExactly(
+                "{\"studentId\":" + student.getId() + ",\"studentEmail\":\"jane.doe@example.com\",\"courseId\":"
+                        + java.getId() + ",\"courseName\":\"Java\"}",
+                "{\"studentId\":" + student.getId() + ",\"studentEmail\":\"jane.doe@example.com\",\"courseId\":"
+                        + python.getId() + ",\"courseName\":\"Python\"}");
+    }
+}
@@ -0,0 +1,244 @@
+package com.softserve.academy.service;
+
+import com.softserve.academy.TestApplication;
+import com.softserve.academy.config.ImportProperties;
+import com.softserve.academy.config.PaginationProperties;
+import com.softserve.academy.dto.ImportResult;
+import com.softserve.academy.importer.ImportFormat;
+import com.softserve.academy.importer.ImportType;
+import com.softserve.academy.model.Course;
+import com.softserve.academy.model.Student;
+import com.softserve.academy.model.Teacher;
+import com.softserve.academy.repository.CourseRepository;
+import com.softserve.academy.repository.StudentRepository;
+import com.softserve.academy.repository.TeacherRepository;
+import com.softserve.academy.search.SuggestionIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@ActiveProfiles("test")
+@Import({RosterImportService.class, ImportProperties.class, SuggestionIndex.class,
+        OptionListService.class, PaginationProperties.class})
+@ImportAutoConfiguration({ValidationAutoConfiguration.class, JacksonAutoConfiguration.class})
+public class RosterImportServiceTest {
+
+    @Autowired
+    private RosterImportService rosterImportService;
+
+    @Autowired
+    private ImportProperties importProperties;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private EntityManager sharedEntityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+
+    @Autowired
+    private OptionListService optionListService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        importProperties.setChunkSize(2);
+        importProperties.setMaxErrors(2);
+    }
+
+    private ImportResult importText(ImportType type, ImportFormat format, String text) throws IOException {
+        return rosterImportService.importRecords(type, format,
+                new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void importStudents_fromCsv_shouldWriteValidRowsAndReportInvalidOnes() throws IOException {
+        // given
+        entityManager.persist(new Student("Existing", "Student", "existing@example.com"));
+        entityManager.flush();
+        String csv = "firstName,lastName,email\n" +
+                "John,Doe,john.doe@example.com\n" +
+                "Jane,Doe,not-an-email\n" +
+                "Jim,Smith,jim.smith@example.com\n" +
+                "Again,Student,existing@example.com\n" +
+                "Dup,Row,john.doe@example.com\n";
+
+        // when
+        ImportResult result = importText(ImportType.STUDENTS, ImportFormat.CSV, csv);
+
+        // then
+        assertThat(result.getProcessed()).isEqualTo(5);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getErrors()).hasSize(2);
+        assertThat(result.isErrorsTruncated()).isTrue();
+        assertThat(result.getErrors().get(0).getLine()).isEqualTo(3);
+        assertThat(result.getErrors().get(0).getMessage()).isEqualTo("Email should be valid");
+        assertThat(result.getErrors().get(1).getLine()).isEqualTo(5);
+        assertThat(studentRepository.findByEmail("jim.smith@example.com")).isPresent();
+        assertThat(studentRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void importCourses_fromNdjson_shouldResolveTeachersByEmail() throws IOException {
+        // given
+        entityManager.persist(new Teacher("John", "Smith", "john.smith@example.com"));
+        entityManager.flush();
+        String ndjson = "{\"name\":\"Java\",\"description\":\"Intro\",\"teacherEmail\":\"john.smith@example.com\"}\n" +
+                "{\"name\":\"Python\"}\n" +
+                "{\"name\":\"Go\",\"teacherEmail\":\"nobody@example.com\"}\n";
+
+        // when
+        ImportResult result = importText(ImportType.COURSES, ImportFormat.NDJSON, ndjson);
+
+        // then
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ImportResult.RowError::getMessage)
+                .containsExactly("No teacher with email nobody@example.com");
+        Course java = courseRepository.findByName("Java").orElseThrow();
+        assertThat(java.getTeacher().getEmail()).isEqualTo("john.smith@example.com");
+        assertThat(courseRepository.findByName("Python").orElseThrow().getTeacher()).isNull();
+    }
+
+    @Test
+    void importEnrollments_shouldInsertNewAndSkipExistingEnrollments() throws IOException {
+        // given
+        Course course = entityManager.persist(new Course("Java", "Intro"));
+        Student enrolled = new Student("John", "Doe", "john.doe@example.com");
+        enrolled.getEnrolledCourses().add(course);
+        entityManager.persist(enrolled);
+        Student student = entityManager.persist(new Student("Jane", "Doe", "jane.doe@example.com"));
+        entityManager.flush();
+        String csv = "studentEmail,courseName\n" +
+                "john.doe@example.com,Java\n" +
+                "jane.doe@example.com,Java\n" +
+                "jane.doe@example.com,Unknown\n";
+
+        // when
+        ImportResult result = importText(ImportType.ENROLLMENTS, ImportFormat.CSV, csv);
+
+        // then
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(ImportResult.RowError::getMessage)
+                .containsExactly("No course named Unknown");
+        entityManager.clear();
+        assertThat(studentRepository.findById(student.getId()).orElseThrow().getEnrolledCourses())
+                .extracting(Course::getName).containsExactly("Java");
+    }
+
+    @Test
+    void importEnrollments_whenCourseCannotTakeAllRows_shouldEnrollRowsThatFit() throws IOException {
+        // given
+        importProperties.setChunkSize(5);
+        Course small = new Course("Small", "Two seats");
+        small.setCapacity(2);
+        entityManager.persist(small);
+        Course open = entityManager.persist(new Course("Open", "No limit"));
+        for (String name : new String[]{"ann", "bob", "cid"}) {
+            entityManager.persist(new Student(name, "Student", name + "@example.com"));
+        }
+        entityManager.flush();
+        String csv = "studentEmail,courseName\n" +
+                "ann@example.com,Small\n" +
+                "bob@example.com,Small\n" +
+                "ann@example.com,Small\n" +
+                "cid@example.com,Small\n" +
+                "cid@example.com,Open\n";
+
+        // when
+        ImportResult result = importText(ImportType.ENROLLMENTS, ImportFormat.CSV, csv);
+
+        // then
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(ImportResult.RowError::getMessage)
+                .containsExactly("Course Small is full");
+        entityManager.clear();
+        assertThat(courseRepository.findById(small.getId()).orElseThrow().getEnrolledCount()).isEqualTo(2);
+        assertThat(courseRepository.findById(open.getId()).orElseThrow().getEnrolledCount()).isEqualTo(1);
+    }
+
+    @Test
+    void importEnrollments_whenRowsAreNotInserted_shouldReportTheRowsWritten() throws IOException {
+        // given (Jane is deleted just before the enrollments are inserted, then a later write fails)
+        importProperties.setChunkSize(5);
+        Course java = entityManager.persist(new Course("Java", "Java course"));
+        Course other = entityManager.persist(new Course("Other", "Other course"));
+        Student jane = entityManager.persist(new Student("Jane", "Doe", "jane.doe@example.com"));
+        entityManager.persist(new Student("John", "Doe", "john.doe@example.com"));
+        entityManager.flush();
+        StudentRepository repository = mock(StudentRepository.class, delegatesTo(studentRepository));
+        doAnswer(invocation -> {
+            jdbcTemplate.update("DELETE FROM students WHERE id = ?", jane.getId());
+            return studentRepository.insertEnrollmentsForCourse(invocation.getArgument(0), invocation.getArgument(1));
+        }).when(repository).insertEnrollmentsForCourse(eq(java.getId()), any());
+        doThrow(new DataIntegrityViolationException("Enrollment failed"))
+                .when(repository).findEnrolledStudentIds(eq(other.getId()), any());
+        RosterImportService service = new RosterImportService(repository, teacherRepository, courseRepository,
+                sharedEntityManager, transactionManager, validator, objectMapper, importProperties,
+                suggestionIndex, optionListService);
+        String csv = "studentEmail,courseName\n" +
+                "jane.doe@example.com,Java\n" +
+                "john.doe@example.com,Java\n" +
+                "john.doe@example.com,Other\n";
+
+        // when
+        ImportResult result = service.importRecords(ImportType.ENROLLMENTS, ImportFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(ImportResult.RowError::getLine).containsExactly(3L);
+    }
+}
@@ -1,20 +1,26 @@
 package com.softserve.academy.service;
 
+import com.softserve.academy.dto.EnrollmentChangeResult;
+import com.softserve.academy.exception.CourseFullException;
 import com.softserve.academy.model.Course;
 import com.softserve.academy.model.Student;
 import com.softserve.academy.repository.CourseRepository;
 import com.softserve.academy.repository.StudentRepository;
+import com.softserve.academy.search.SuggestionIndex;
+import com.softserve.academy.search.SuggestionType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -30,6 +36,12 @@ public class StudentServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private WaitlistService waitlistService;
+
+    @Mock
+    private SuggestionIndex suggestionIndex;
+
     @InjectMocks
     private StudentService studentService;
 
@@ -100,6 +112,7 @@ public class StudentServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getFirstName()).isEqualTo("John");
         verify(studentRepository, times(1)).save(student);
+        verify(suggestionIndex, times(1)).index(student);
     }
 
     @Test
@@ -111,7 +124,9 @@ public class StudentServiceTest {
         studentService.deleteStudent(1L);
 
         // then
+        verify(courseRepository, times(1)).releaseSeatsHeldBy(1L);
         verify(studentRepository, times(1)).deleteById(1L);
+        verify(suggestionIndex, times(1)).remove(SuggestionType.STUDENT, 1L);
     }
 
     @Test
@@ -129,54 +144,87 @@ public class StudentServiceTest {
     }
 
     @Test
-    void enrollStudentInCourse_whenStudentAndCourseExist_shouldEnrollAndReturnStudent() {
+    void enrollStudentInCourse_whenNotEnrolled_shouldInsertJoinRowWithoutLoadingEntities() {
         // given
-        when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
-        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
-        when(studentRepository.save(any(Student.class))).thenReturn(student);
+        when(studentRepository.insertEnrollment(1L, 1L)).thenReturn(1);
+        when(courseRepository.reserveSeats(1L, 1)).thenReturn(1);
 
         // when
-        Student result = studentService.enrollStudentInCourse(1L, 1L);
+        boolean result = studentService.enrollStudentInCourse(1L, 1L);
 
         // then
-        assertThat(result).isNotNull();
-        verify(studentRepository, times(1)).findById(1L);
-        verify(courseRepository, times(1)).findById(1L);
-        verify(studentRepository, times(1)).save(student);
+        assertThat(result).isTrue();
+        verify(studentRepository, times(1)).insertEnrollment(1L, 1L);
+        verify(studentRepository, never()).findById(anyLong());
+        verify(courseRepository, never()).findById(anyLong());
+        verify(studentRepository, never()).save(any(Student.class));
+    }
+
+    @Test
+    void enrollStudentInCourse_whenCourseIsFull_shouldThrowCourseFullException() {
+        // given
+        when(studentRepository.insertEnrollment(1L, 1L)).thenReturn(1);
+        when(courseRepository.reserveSeats(1L, 1)).thenReturn(0);
+
+        // when & then
+        assertThrows(CourseFullException.class, () -> studentService.enrollStudentInCourse(1L, 1L));
+    }
+
+    @Test
+    void enrollStudentInCourse_whenAlreadyEnrolled_shouldReturnFalse() {
+        // given
+        when(studentRepository.insertEnrollment(1L, 1L)).thenReturn(0);
+        when(studentRepository.existsById(1L)).thenReturn(true);
+        when(courseRepository.existsById(1L)).thenReturn(true);
+
+        // when
+        boolean result = studentService.enrollStudentInCourse(1L, 1L);
+
+        // then
+        assertThat(result).isFalse();
     }
 
     @Test
     void enrollStudentInCourse_whenStudentDoesNotExist_shouldThrowException() {
         // given
-        when(studentRepository.findById(99L)).thenReturn(Optional.empty());
+        when(studentRepository.insertEnrollment(99L, 1L)).thenReturn(0);
+        when(studentRepository.existsById(99L)).thenReturn(false);
 
         // when & then
         assertThrows(IllegalArgumentException.class, () -> {
             studentService.enrollStudentInCourse(99L, 1L);
         });
-        verify(studentRepository, times(1)).findById(99L);
-        verify(courseRepository, never()).findById(anyLong());
+        verify(courseRepository, never()).existsById(anyLong());
     }
 
     @Test
-    void withdrawStudentFromCourse_whenStudentAndCourseExist_shouldWithdrawAndReturnStudent() {
+    void withdrawStudentFromCourse_whenEnrolled_shouldDeleteJoinRow() {
         // given
-        student.setEnrolledCourses(new HashSet<>());
-        student.getEnrolledCourses().add(course);
-        course.getStudents().add(student);
-        
-        when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
-        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
-        when(studentRepository.save(any(Student.class))).thenReturn(student);
+        when(studentRepository.deleteEnrollment(1L, 1L)).thenReturn(1);
 
         // when
-        Student result = studentService.withdrawStudentFromCourse(1L, 1L);
+        boolean result = studentService.withdrawStudentFromCourse(1L, 1L);
 
         // then
-        assertThat(result).isNotNull();
-        verify(studentRepository, times(1)).findById(1L);
-        verify(courseRepository, times(1)).findById(1L);
-        verify(studentRepository, times(1)).save(student);
+        assertThat(result).isTrue();
+        verify(studentRepository, times(1)).deleteEnrollment(1L, 1L);
+        verify(courseRepository, times(1)).releaseSeats(1L, 1);
+        verify(waitlistService, times(1)).promoteNext(1L);
+        verify(studentRepository, never()).findById(anyLong());
+        verify(courseRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void withdrawStudentFromCourse_whenCourseDoesNotExist_shouldThrowException() {
+        // given
+        when(studentRepository.deleteEnrollment(1L, 99L)).thenReturn(0);
+        when(studentRepository.existsById(1L)).thenReturn(true);
+        when(courseRepository.existsById(99L)).thenReturn(false);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> {
+            studentService.withdrawStudentFromCourse(1L, 99L);
+        });
     }
 
     @Test
@@ -195,4 +243,101 @@ public class StudentServiceTest {
         assertThat(result.get(0).getName()).isEqualTo("Java Programming");
         verify(studentRepository, times(1)).findById(1L);
     }
+
+    @Test
+    void getStudentsNotEnrolledInCourse_shouldTrimQueryAndApplyLimit() {
+        // given
+        when(studentRepository.findNotEnrolledInCourse(1L, "doe", PageRequest.ofSize(25))).thenReturn(List.of(student));
+
+        // when
+        List<Student> result = studentService.getStudentsNotEnrolledInCourse(1L, "  doe ", 25);
+
+        // then
+        assertThat(result).containsExactly(student);
+    }
+
+    @Test
+    void getStudentsNotEnrolledInCourse_shouldEscapeLikeWildcards() {
+        // given
+        when(studentRepository.findNotEnrolledInCourse(1L, "o\\_n\\%\\\\", PageRequest.ofSize(25))).thenReturn(List.of(student));
+
+        // when
+        List<Student> result = studentService.getStudentsNotEnrolledInCourse(1L, "o_n%\\", 25);
+
+        // then
+        assertThat(result).containsExactly(student);
+    }
+
+    @Test
+    void getStudentsNotEnrolledInCourse_whenQueryIsNull_shouldMatchAll() {
+        // given
+        when(studentRepository.findNotEnrolledInCourse(1L, "", PageRequest.ofSize(25))).thenReturn(List.of());
+
+        // when
+        List<Student> result = studentService.getStudentsNotEnrolledInCourse(1L, null, 25);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void enrollStudentInCourses_shouldTakeOneSeatPerNewEnrollmentAndReportOutcome() {
+        // given
+        when(studentRepository.existsById(1L)).thenReturn(true);
+        when(courseRepository.findExistingIds(Set.of(1L, 2L, 3L))).thenReturn(List.of(1L, 2L));
+        when(studentRepository.insertEnrollment(1L, 1L)).thenReturn(0);
+        when(studentRepository.insertEnrollment(1L, 2L)).thenReturn(1);
+        when(courseRepository.reserveSeats(2L, 1)).thenReturn(1);
+
+        // when
+        EnrollmentChangeResult result = studentService.enrollStudentInCourses(1L, List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(result.getChanged()).containsExactly(2L);
+        assertThat(result.getUnchanged()).containsExactly(1L);
+        assertThat(result.getNotFound()).containsExactly(3L);
+        verify(courseRepository, never()).reserveSeats(1L, 1);
+    }
+
+    @Test
+    void enrollStudentInCourses_whenOneCourseIsFull_shouldThrowCourseFullException() {
+        // given
+        when(studentRepository.existsById(1L)).thenReturn(true);
+        when(courseRepository.findExistingIds(Set.of(2L))).thenReturn(List.of(2L));
+        when(studentRepository.insertEnrollment(1L, 2L)).thenReturn(1);
+        when(courseRepository.reserveSeats(2L, 1)).thenReturn(0);
+
+        // when & then
+        assertThrows(CourseFullException.class, () -> studentService.enrollStudentInCourses(1L, List.of(2L)));
+    }
+
+    @Test
+    void withdrawStudentFromCourses_shouldGiveBackOnlyFreedSeats() {
+        // given
+        when(studentRepository.existsById(1L)).thenReturn(true);
+        when(courseRepository.findExistingIds(Set.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+        when(studentRepository.deleteEnrollment(1L, 1L)).thenReturn(1);
+        when(studentRepository.deleteEnrollment(1L, 2L)).thenReturn(0);
+
+        // when
+        EnrollmentChangeResult result = studentService.withdrawStudentFromCourses(1L, List.of(1L, 2L));
+
+        // then
+        assertThat(result.getChanged()).containsExactly(1L);
+        assertThat(result.getUnchanged()).containsExactly(2L);
+        verify(courseRepository, times(1)).releaseSeats(1L, 1);
+        verify(courseRepository, never()).releaseSeats(2L, 1);
+        verify(waitlistService, times(1)).promoteNext(1L);
+        verify(waitlistService, never()).promoteNext(2L);
+    }
+
+    @Test
+    void withdrawStudentFromCourses_whenStudentDoesNotExist_shouldThrowException() {
+        // given
+        when(studentRepository.existsById(99L)).thenReturn(false);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> studentService.withdrawStudentFromCourses(99L, List.of(1L)));
+        verify(studentRepository, never()).deleteEnrollment(any(), any());
+    }
 }
\ No newline at end of file
@@ -1,15 +1,20 @@
 package com.softserve.academy.service;
 
+import com.softserve.academy.dto.KeysetPage;
+import com.softserve.academy.dto.TeacherDTO;
 import com.softserve.academy.model.Course;
 import com.softserve.academy.model.Teacher;
 import com.softserve.academy.repository.CourseRepository;
 import com.softserve.academy.repository.TeacherRepository;
+import com.softserve.academy.search.SuggestionIndex;
+import com.softserve.academy.search.SuggestionType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -18,6 +23,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +36,12 @@ public class TeacherServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private SuggestionIndex suggestionIndex;
+
+    @Mock
+    private OptionListService optionListService;
+
     @InjectMocks
     private TeacherService teacherService;
 
@@ -99,6 +112,8 @@ public class TeacherServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getName()).isEqualTo("John Smith");
         verify(teacherRepository, times(1)).save(teacher);
+        verify(suggestionIndex, times(1)).index(teacher);
+        verify(optionListService, times(1)).invalidateTeacherOptions();
     }
 
     @Test
@@ -119,6 +134,8 @@ public class TeacherServiceTest {
         verify(teacherRepository, times(1)).findById(1L);
         verify(courseRepository, times(1)).save(course);
         verify(teacherRepository, times(1)).deleteById(1L);
+        verify(suggestionIndex, times(1)).remove(SuggestionType.TEACHER, 1L);
+        verify(optionListService, times(1)).invalidateTeacherOptions();
     }
 
     @Test
@@ -132,6 +149,7 @@ public class TeacherServiceTest {
         });
         verify(teacherRepository, times(1)).findById(99L);
         verify(teacherRepository, never()).deleteById(anyLong());
+        verifyNoInteractions(suggestionIndex);
     }
 
     @Test
@@ -164,6 +182,38 @@ public class TeacherServiceTest {
         verify(teacherRepository, times(1)).findByNameContainingIgnoreCase("Smith");
     }
 
+    @Test
+    void findSummariesByName_shouldReturnMatchingSummaries() {
+        // given
+        TeacherDTO summary = new TeacherDTO(1L, "John", "Smith", "john.smith@example.com", 2L);
+        when(teacherRepository.findSummariesByName("Smith")).thenReturn(List.of(summary));
+
+        // when
+        List<TeacherDTO> result = teacherService.findSummariesByName("Smith");
+
+        // then
+        assertThat(result).containsExactly(summary);
+        assertThat(result.get(0).getCourseCount()).isEqualTo(2L);
+        verify(teacherRepository, times(1)).findSummariesByName("Smith");
+    }
+
+    @Test
+    void getTeachersPage_whenMoreRowsThanPageSize_shouldReturnPageWithNextCursor() {
+        // given
+        TeacherDTO summary1 = new TeacherDTO(1L, "John", "Smith", "john.smith@example.com", 2L);
+        TeacherDTO summary2 = new TeacherDTO(2L, "Jane", "Doe", "jane.doe@example.com", 0L);
+        when(teacherRepository.findSummariesAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(new ArrayList<>(List.of(summary1, summary2)));
+
+        // when
+        KeysetPage<TeacherDTO> result = teacherService.getTeachersPage(null, null, 1);
+
+        // then
+        assertThat(result.getContent()).containsExactly(summary1);
+        assertThat(result.getNextCursor()).isEqualTo(1L);
+        verify(teacherRepository, never()).countCoursesByTeacherId(anyLong());
+    }
+
     @Test
     void getTeacherCourses_shouldReturnCourses() {
         // given
@@ -243,4 +293,17 @@ public class TeacherServiceTest {
         verify(courseRepository, times(1)).findById(1L);
         verify(teacherRepository, times(1)).save(teacher);
     }
+
+    @Test
+    void findSummariesByNamePrefix_shouldLowerCaseAndEscapeWildcards() {
+        // given
+        when(teacherRepository.findSummariesByNamePrefix("o\\_b\\%")).thenReturn(List.of());
+
+        // when
+        List<TeacherDTO> result = teacherService.findSummariesByNamePrefix(" O_B% ");
+
+        // then
+        assertThat(result).isEmpty();
+        verify(teacherRepository, times(1)).findSummariesByNamePrefix("o\\_b\\%");
+    }
 }
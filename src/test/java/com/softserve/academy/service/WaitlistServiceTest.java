@@ -0,0 +1,221 @@
+package com.softserve.academy.service;
+
+import com.softserve.academy.TestApplication;
+import com.softserve.academy.config.SearchProperties;
+import com.softserve.academy.dto.WaitlistJoinResult;
+import com.softserve.academy.model.Course;
+import com.softserve.academy.model.Student;
+import com.softserve.academy.search.SuggestionIndex;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@ActiveProfiles("test")
+@Import({WaitlistService.class, StudentService.class, CourseService.class, SearchProperties.class, SuggestionIndex.class})
+public class WaitlistServiceTest {
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Course course;
+    private Student enrolled;
+
+    @BeforeEach
+    void setUp() {
+        course = new Course("Java Programming", "Introduction to Java programming language");
+        course.setCapacity(1);
+        entityManager.persist(course);
+        enrolled = entityManager.persist(new Student("John", "Doe", "john.doe@example.com"));
+        entityManager.flush();
+        studentService.enrollStudentInCourse(enrolled.getId(), course.getId());
+    }
+
+    private List<Student> persistStudents(int count) {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            students.add(entityManager.persist(new Student("Student", "No" + i, "student" + i + "@example.com")));
+        }
+        entityManager.flush();
+        return students;
+    }
+
+    private List<Long> waitingStudentIds() {
+        return waitlistService.getWaitlist(course.getId()).stream()
+                .map(entry -> entry.getStudent().getId())
+                .toList();
+    }
+
+    @Test
+    void joinWaitlist_shouldRejectEnrolledAndAlreadyWaitingStudents() {
+        // given
+        Student student = persistStudents(1).get(0);
+
+        // when & then
+        assertThat(waitlistService.joinWaitlist(course.getId(), student.getId())).isEqualTo(WaitlistJoinResult.WAITING);
+        assertThat(waitlistService.joinWaitlist(course.getId(), student.getId())).isEqualTo(WaitlistJoinResult.ALREADY_LISTED);
+        assertThat(waitlistService.joinWaitlist(course.getId(), enrolled.getId())).isEqualTo(WaitlistJoinResult.ALREADY_LISTED);
+        assertThat(waitingStudentIds()).containsExactly(student.getId());
+    }
+
+    @Test
+    void joinWaitlist_whenSeatIsFree_shouldEnrollInsteadOfWaiting() {
+        // given
+        Student student = persistStudents(1).get(0);
+        courseService.removeStudentFromCourse(course.getId(), enrolled.getId());
+
+        // when
+        WaitlistJoinResult result = waitlistService.joinWaitlist(course.getId(), student.getId());
+
+        // then
+        assertThat(result).isEqualTo(WaitlistJoinResult.ENROLLED);
+        assertThat(courseService.getEnrolledStudents(course.getId()))
+                .extracting(Student::getId).containsExactly(student.getId());
+        assertThat(entityManager.find(Course.class, course.getId()).getEnrolledCount()).isEqualTo(1);
+        assertThat(waitingStudentIds()).isEmpty();
+    }
+
+    @Test
+    void saveCourse_whenCapacityIsRaised_shouldPromoteIntoNewSeats() {
+        // given
+        List<Student> waiting = persistStudents(3);
+        waiting.forEach(student -> waitlistService.joinWaitlist(course.getId(), student.getId()));
+        entityManager.flush();
+        entityManager.clear();
+        Course edited = entityManager.find(Course.class, course.getId());
+        entityManager.detach(edited);
+        edited.setCapacity(3);
+
+        // when
+        courseService.saveCourse(edited);
+
+        // then
+        assertThat(entityManager.find(Course.class, course.getId()).getEnrolledCount()).isEqualTo(3);
+        assertThat(courseService.getEnrolledStudents(course.getId())).extracting(Student::getId)
+                .containsExactlyInAnyOrder(enrolled.getId(), waiting.get(0).getId(), waiting.get(1).getId());
+        assertThat(waitingStudentIds()).containsExactly(waiting.get(2).getId());
+    }
+
+    @Test
+    void saveCourse_whenCapacityIsRemoved_shouldPromoteWholeWaitlist() {
+        // given
+        List<Student> waiting = persistStudents(2);
+        waiting.forEach(student -> waitlistService.joinWaitlist(course.getId(), student.getId()));
+        entityManager.flush();
+        entityManager.clear();
+        Course edited = entityManager.find(Course.class, course.getId());
+        entityManager.detach(edited);
+        edited.setCapacity(null);
+
+        // when
+        courseService.saveCourse(edited);
+
+        // then
+        assertThat(entityManager.find(Course.class, course.getId()).getEnrolledCount()).isEqualTo(3);
+        assertThat(waitingStudentIds()).isEmpty();
+    }
+
+    @Test
+    void withdrawStudentFromCourse_shouldPromoteHeadOfWaitlistInJoinOrder() {
+        // given
+        List<Student> waiting = persistStudents(3);
+        waiting.forEach(student -> waitlistService.joinWaitlist(course.getId(), student.getId()));
+
+        // when
+        studentService.withdrawStudentFromCourse(enrolled.getId(), course.getId());
+
+        // then
+        assertThat(entityManager.find(Course.class, course.getId()).getEnrolledCount()).isEqualTo(1);
+        assertThat(courseService.getEnrolledStudents(course.getId()))
+                .extracting(Student::getId).containsExactly(waiting.get(0).getId());
+        assertThat(waitingStudentIds()).containsExactly(waiting.get(1).getId(), waiting.get(2).getId());
+    }
+
+    @Test
+    void removeStudentFromCourse_whenHeadIsAlreadyEnrolled_shouldDropItAndPromoteNext() {
+        // given
+        List<Student> waiting = persistStudents(2);
+        waiting.forEach(student -> waitlistService.joinWaitlist(course.getId(), student.getId()));
+        // the head was enrolled directly after joining the waitlist
+        entityManager.getEntityManager()
+                .createNativeQuery("INSERT INTO student_course (student_id, course_id) VALUES (?1, ?2)")
+                .setParameter(1, waiting.get(0).getId()).setParameter(2, course.getId())
+                .executeUpdate();
+
+        // when
+        courseService.removeStudentFromCourse(course.getId(), enrolled.getId());
+
+        // then
+        assertThat(courseService.getEnrolledStudents(course.getId()))
+                .extracting(Student::getId).containsExactlyInAnyOrder(waiting.get(0).getId(), waiting.get(1).getId());
+        assertThat(waitingStudentIds()).isEmpty();
+    }
+
+    @Test
+    void withdrawStudentFromCourse_whenWaitlistIsEmpty_shouldLeaveSeatFree() {
+        // when
+        studentService.withdrawStudentFromCourse(enrolled.getId(), course.getId());
+
+        // then
+        assertThat(entityManager.find(Course.class, course.getId()).getEnrolledCount()).isZero();
+    }
+
+    @Test
+    void promoteNext_shouldIssueConstantStatementsRegardlessOfWaitlistLength() {
+        // given
+        persistStudents(200).forEach(student -> waitlistService.joinWaitlist(course.getId(), student.getId()));
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        studentService.withdrawStudentFromCourse(enrolled.getId(), course.getId());
+
+        // then
+        // withdrawal: join row delete and seat release;
+        // promotion: head lookup, seat reservation, entry claim and join row insert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+        assertThat(waitlistService.getWaitlist(course.getId())).hasSize(199);
+    }
+
+    @Test
+    void deleteStudent_shouldPromoteIntoFreedSeat() {
+        // given
+        Student waiting = persistStudents(1).get(0);
+        waitlistService.joinWaitlist(course.getId(), waiting.getId());
+
+        // when
+        studentService.deleteStudent(enrolled.getId());
+
+        // then
+        assertThat(courseService.getEnrolledStudents(course.getId()))
+                .extracting(Student::getId).containsExactly(waiting.getId());
+        assertThat(entityManager.find(Course.class, course.getId()).getEnrolledCount()).isEqualTo(1);
+        assertThat(waitlistService.getWaitlist(course.getId())).isEmpty();
+    }
+}